@@ -0,0 +1,201 @@
+                                // Run the <jasmin> Ant task in a
+                                // project of its own, and check that
+                                // it assembles the files of srcdir
+                                // into the packages of destdir, that
+                                // a second run leaves the class files
+                                // that are up to date alone, that a
+                                // file changed since is assembled
+                                // again on its own, and that a file
+                                // with errors fails the build, or
+                                // only is logged with
+                                // failonerror="false", and leaves no
+                                // class behind. Needs lib/ant.jar.
+
+import jasmin.JasminTask;
+
+import java.io.*;
+import org.apache.tools.ant.*;
+
+public class anttask
+{
+  static final String FILES[][] = {
+    { "p/A.j",
+      ".class public p/A\n"
+      + ".super java/lang/Object\n"
+      + ".method public static value()I\n"
+      + "  .limit stack 1\n"
+      + "  bipush 40\n"
+      + "  ireturn\n"
+      + ".end method\n" },
+    { "B.j",
+      ".bytecode 50.0\n"
+      + ".class public B ; calls p/A\n"
+      + ".super java/lang/Object\n"
+      + ".method public static run(I)I\n"
+      + "  .limit stack 2\n"
+      + "  .limit locals 1\n"
+      + "  invokestatic p/A/value()I\n"
+      + "  iload_0\n"
+      + "  ifeq Done\n"
+      + "  iconst_2\n"
+      + "  iadd\n"
+      + "Done:\n"
+      + "  ireturn\n"
+      + ".end method\n" },
+    { "I.j",
+      ".interface public abstract I\n"
+      + ".super java/lang/Object\n"
+      + ".method public abstract run()V\n"
+      + ".end method\n" },
+  };
+
+  static final String CLASSES[] = { "p/A.class", "B.class", "I.class" };
+
+                                // what the project logged, at every
+                                // level
+  static class Log implements BuildListener
+  {
+    StringBuffer text = new StringBuffer();
+
+    public void messageLogged(BuildEvent e)
+    { text.append(e.getMessage()).append('\n'); }
+
+    public void buildStarted(BuildEvent e) { }
+    public void buildFinished(BuildEvent e) { }
+    public void targetStarted(BuildEvent e) { }
+    public void targetFinished(BuildEvent e) { }
+    public void taskStarted(BuildEvent e) { }
+    public void taskFinished(BuildEvent e) { }
+  }
+
+  static File src, dest;
+
+  static void write(String name, String text)
+    throws IOException
+  {
+    File f = new File(src, name);
+    f.getParentFile().mkdirs();
+    Writer w = new OutputStreamWriter(new FileOutputStream(f), "UTF-8");
+    w.write(text);
+    w.close();
+  }
+
+                                // what the task logged; failed holds
+                                // the build's failure, if any
+  static String failed;
+
+  static String run(boolean failonerror)
+  {
+    Project p = new Project();
+    p.init();
+    Log log = new Log();
+    p.addBuildListener(log);
+    JasminTask t = new JasminTask();
+    t.setProject(p);
+    t.setTaskName("jasmin");
+    t.setSrcdir(src);
+    t.setDestdir(dest);
+    t.setThreads(2);
+    t.setFrames(true);
+    t.setFailonerror(failonerror);
+    failed = null;
+    try
+      { t.execute(); }
+    catch (BuildException e)
+      { failed = e.getMessage(); }
+    return log.text.toString();
+  }
+
+  static long[] times()
+  {
+    long t[] = new long[CLASSES.length];
+    for (int i = 0; i < t.length; i++)
+      t[i] = new File(dest, CLASSES[i]).lastModified();
+    return t;
+  }
+
+  static byte[] read(String name)
+    throws IOException
+  {
+    File f = new File(dest, name);
+    byte b[] = new byte[(int)f.length()];
+    DataInputStream in = new DataInputStream(new FileInputStream(f));
+    in.readFully(b);
+    in.close();
+    return b;
+  }
+
+  public static void main(String args[])
+    throws Exception
+  {
+    src = File.createTempFile("src", "");
+    dest = File.createTempFile("dest", "");
+    src.delete();
+    dest.delete();
+    src.mkdirs();
+                                // sources an hour old, so that the
+                                // classes are newer whatever the
+                                // clock's resolution
+    long old = System.currentTimeMillis() - 3600 * 1000;
+    for (int i = 0; i < FILES.length; i++)
+      {
+        write(FILES[i][0], FILES[i][1]);
+        new File(src, FILES[i][0]).setLastModified(old);
+      }
+
+    String log = run(true);
+    long first[] = times();
+    roundtrip.check(failed == null && log.indexOf("Assembling 3 files") >= 0
+                    && first[0] > 0 && first[1] > 0 && first[2] > 0,
+                    "three files assembled:\n" + log + failed);
+    roundtrip.Loader l = new roundtrip.Loader();
+    for (int i = 0; i < CLASSES.length; i++)
+      l.put(CLASSES[i].substring(0, CLASSES[i].length() - 6),
+            read(CLASSES[i]));
+    java.lang.reflect.Method m =
+      l.load("B").getMethod("run", new Class[] { int.class });
+    roundtrip.check(new Integer(40).equals(m.invoke(null, new Object[] {
+                                                      new Integer(0) }))
+                    && new Integer(42).equals(m.invoke(null, new Object[] {
+                                                         new Integer(1) }))
+                    && l.load("I").isInterface(),
+                    "assembled classes run");
+
+    for (int i = 0; i < CLASSES.length; i++)
+      new File(dest, CLASSES[i]).setLastModified(old + 1000);
+    first = times();
+    log = run(true);
+    roundtrip.check(failed == null && log.indexOf("3 files up to date") >= 0
+                    && log.indexOf("Assembling") < 0
+                    && java.util.Arrays.equals(times(), first),
+                    "up to date classes left alone:\n" + log);
+
+    new File(src, "B.j").setLastModified(old + 2000);
+    log = run(true);
+    long now[] = times();
+    roundtrip.check(failed == null
+                    && log.indexOf("Assembling 1 file to") >= 0
+                    && log.indexOf("(2 up to date)") >= 0
+                    && now[0] == first[0] && now[1] != first[1]
+                    && now[2] == first[2],
+                    "the changed file assembled again:\n" + log);
+
+    write("Bad.j", ".class public Bad\n"
+          + ".super java/lang/Object\n"
+          + ".method public static run()V\n"
+          + "  nosuchinsn\n"
+          + ".end method\n");
+    log = run(true);
+    roundtrip.check(failed != null
+                    && failed.indexOf("1 file failed to assemble") >= 0
+                    && log.indexOf("Bad.j") >= 0
+                    && !new File(dest, "Bad.class").exists(),
+                    "a file with errors fails the build:\n" + log + failed);
+    log = run(false);
+    roundtrip.check(failed == null
+                    && log.indexOf("1 file failed to assemble") >= 0
+                    && !new File(dest, "Bad.class").exists(),
+                    "or is only logged:\n" + log + failed);
+    roundtrip.done("the task assembles what isn't up to date");
+  }
+}
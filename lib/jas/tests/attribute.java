@@ -0,0 +1,146 @@
+                                // Assemble a class with .attribute's
+                                // whose contents come from files, one
+                                // of them several megabytes, on the
+                                // class, a field, a method and its
+                                // code. Checks that each comes out
+                                // byte for byte, also with -stream and
+                                // -parallel, that the class verifies,
+                                // and that a file that changes size
+                                // before the class is written is an
+                                // error rather than a broken class.
+
+import jas.ClassReader;
+import jasmin.ClassFile;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+
+public class attribute
+{
+  static File file(String name, int size)
+    throws IOException
+  {
+    File f = File.createTempFile(name, ".bin");
+    f.deleteOnExit();
+    byte b[] = new byte[size];
+    new Random(size).nextBytes(b);
+    OutputStream out = new FileOutputStream(f);
+    out.write(b);
+    out.close();
+    return f;
+  }
+
+  static byte[] contents(File f)
+    throws IOException
+  {
+    byte b[] = new byte[(int)f.length()];
+    DataInputStream in = new DataInputStream(new FileInputStream(f));
+    in.readFully(b);
+    in.close();
+    return b;
+  }
+
+  static String quoted(File f)
+  {
+    return "\"" + f.getPath().replace("\\", "\\\\") + "\"";
+  }
+
+  static File big, field, method, code;
+
+  static String source()
+  {
+    return ".bytecode 52.0\n"
+      + ".class public Payload\n"
+      + ".super java/lang/Object\n"
+      + ".attribute BigPayload " + quoted(big) + "\n"
+      + ".field public static x I\n"
+      + "  .attribute FieldPayload " + quoted(field) + "\n"
+      + ".end field\n"
+      + ".method public static run()I\n"
+      + "  .attribute MethodPayload " + quoted(method) + "\n"
+      + "  .limit stack 1\n"
+      + "  bipush 42\n"
+      + "  ireturn\n"
+      + "  .attribute CodePayload " + quoted(code) + "\n"
+      + ".end method\n";
+  }
+
+  static boolean has(ClassReader r, int attrs, String name, File f)
+    throws IOException
+  {
+    int info = r.findAttribute(attrs, name);
+    return info >= 0 && r.attributeLength(info) == f.length()
+      && Arrays.equals(r.bytes(info, (int)f.length()), contents(f));
+  }
+
+                                // every payload where it was put
+  static void check(byte b[], String how)
+    throws Exception
+  {
+    ClassReader r = new ClassReader(ByteBuffer.wrap(b));
+    int m = r.getMethod(0);
+    int c = r.findAttribute(r.memberAttributes(m), "Code");
+    roundtrip.check(has(r, r.getAttributes(), "BigPayload", big)
+                    && has(r, r.memberAttributes(r.getField(0)),
+                           "FieldPayload", field)
+                    && has(r, r.memberAttributes(m), "MethodPayload", method)
+                    && c >= 0 && has(r, r.codeAttributes(c), "CodePayload", code),
+                    "payloads " + how);
+    roundtrip.Loader l = new roundtrip.Loader();
+    l.put("Payload", b);
+    Object v = l.load("Payload").getMethod("run", new Class[0])
+      .invoke(null, new Object[0]);
+    roundtrip.check(new Integer(42).equals(v), "class with payloads " + how);
+  }
+
+  static void changed()
+    throws Exception
+  {
+    File f = file("Changing", 1000);
+    ClassFile cf = new ClassFile();
+    cf.readJasmin(new StringReader(".class public Changing\n"
+                                   + ".super java/lang/Object\n"
+                                   + ".attribute Payload " + quoted(f) + "\n"),
+                  "Changing.j", false);
+    OutputStream grow = new FileOutputStream(f, true);
+    grow.write(new byte[10]);
+    grow.close();
+    boolean refused = false;
+    try
+      {
+        cf.write(new ByteArrayOutputStream());
+        refused = cf.errorCount() > 0;
+      }
+    catch (Exception e)
+      { refused = true; }
+    roundtrip.check(refused, "a file that changed size");
+  }
+
+  public static void main(String args[])
+    throws Exception
+  {
+    big = file("BigPayload", 6 << 20);
+    field = file("FieldPayload", 3);
+    method = file("MethodPayload", 0);
+    code = file("CodePayload", 70000);
+    String text = source();
+
+    byte plain[] = roundtrip.assemble(new ClassFile(), text);
+    check(plain, "");
+    ClassFile cf = new ClassFile();
+    cf.setStreamMethods(true);
+    check(roundtrip.assemble(cf, text), "with -stream");
+    ForkJoinPool pool = new ForkJoinPool(4);
+    cf = new ClassFile();
+    cf.setWritePool(pool);
+    byte b[] = roundtrip.assemble(cf, text);
+    pool.shutdown();
+    check(b, "with -parallel");
+    roundtrip.check(Arrays.equals(b, plain), "same bytes with -parallel");
+
+    changed();
+    roundtrip.done(".attribute payloads come out as they went in");
+  }
+}
@@ -0,0 +1,198 @@
+                                // Assemble files with jasmin -cache
+                                // twice, and check that a method
+                                // changed in between is assembled
+                                // again while the others are kept,
+                                // that the classes of some jars come
+                                // out the same from the cache and
+                                // verify, and that -cache with an
+                                // option it can't be used with stops
+                                // jasmin with an error and no class.
+
+import jasmin.Main;
+
+import java.io.*;
+import java.util.*;
+
+public class cache
+{
+  static File dir(String name)
+    throws IOException
+  {
+    File d = File.createTempFile(name, "");
+    d.delete();
+    d.mkdirs();
+    return d;
+  }
+
+  static void write(File f, String text)
+    throws IOException
+  {
+    Writer w = new OutputStreamWriter(new FileOutputStream(f), "UTF-8");
+    w.write(text);
+    w.close();
+  }
+
+  static byte[] read(File f)
+    throws IOException
+  {
+    byte b[] = new byte[(int)f.length()];
+    DataInputStream in = new DataInputStream(new FileInputStream(f));
+    in.readFully(b);
+    in.close();
+    return b;
+  }
+
+                                // what jasmin prints
+  static String jasmin(String args[])
+  {
+    PrintStream out = System.out;
+    ByteArrayOutputStream b = new ByteArrayOutputStream();
+    System.setOut(new PrintStream(b, true));
+    try
+      { new Main().run(args); }
+    finally
+      { System.setOut(out); }
+    return b.toString();
+  }
+
+  static String source(int changed)
+  {
+    StringBuffer b = new StringBuffer();
+    b.append(".class public Many\n"
+             + ".super java/lang/Object\n");
+    for (int i = 0; i < 30; i++)
+      b.append(".method public static m" + i + "()I\n"
+               + "  .limit stack 1\n"
+               + "  sipush " + (i == changed ? 1000 + i : i) + "\n"
+               + "  ireturn\n"
+               + ".end method\n");
+    return b.toString();
+  }
+
+  static void many()
+    throws Exception
+  {
+    File src = dir("src"), out = dir("out"), cached = dir("cache");
+    File f = new File(src, "Many.j");
+    String args[] = { "-d", out.getPath(), "-cache", cached.getPath(),
+                      f.getPath() };
+    write(f, source(-1));
+    String first = jasmin(args);
+    write(f, source(5));
+    String second = jasmin(args);
+    roundtrip.check(first.indexOf("kept") < 0
+                    && second.indexOf("(29 methods kept)") >= 0,
+                    "one method assembled again: " + first + second);
+    roundtrip.Loader l = new roundtrip.Loader();
+    l.put("Many", read(new File(out, "Many.class")));
+    Class c = l.load("Many");
+    boolean ok = true;
+    for (int i = 0; i < 30; i++)
+      ok &= new Integer(i == 5 ? 1005 : i).equals(
+              c.getMethod("m" + i, new Class[0]).invoke(null, new Object[0]));
+    roundtrip.check(ok, "kept and changed methods run");
+  }
+
+                                // the options -cache can't be used
+                                // with, in a jasmin of its own as it
+                                // exits
+  static void conflicts()
+    throws Exception
+  {
+    String others[][] = { { "-patch", "Many.class" }, { "-inline" },
+                          { "-report-jit", "jit.json" }, { "-small" } };
+    for (int i = 0; i < others.length; i++)
+      {
+        File src = dir("src"), out = dir("out"), cached = dir("cache");
+        File f = new File(src, "Many.j");
+        write(f, source(-1));
+        List cmd = new ArrayList(Arrays.asList(new String[] {
+          new File(System.getProperty("java.home"), "bin/java").getPath(),
+          "-cp", System.getProperty("java.class.path"), "jasmin.Main",
+          "-d", out.getPath(), "-cache", cached.getPath() }));
+        for (int j = 0; j < others[i].length; j++)
+          cmd.add(others[i][j]);
+        cmd.add(f.getPath());
+        Process p = new ProcessBuilder(cmd).redirectErrorStream(true).start();
+        ByteArrayOutputStream b = new ByteArrayOutputStream();
+        InputStream in = p.getInputStream();
+        for (int n; (n = in.read()) >= 0; )
+          b.write(n);
+        int status = p.waitFor();
+        String msg = b.toString();
+        roundtrip.check(status != 0
+                        && msg.indexOf("-cache can't be used with "
+                                       + others[i][0]) >= 0
+                        && out.list().length == 0,
+                        "-cache refused with " + others[i][0] + ": " + msg);
+      }
+  }
+
+  static void jar(String path)
+    throws Exception
+  {
+    Hashtable texts = roundtrip.texts(path);
+    roundtrip.Loader l = new roundtrip.Loader();
+    File src = dir("src"), out = dir("out"), cached = dir("cache");
+    int bad = 0, kept = 0;
+    for (Enumeration en = texts.keys(); en.hasMoreElements(); )
+      {
+        String name = (String)en.nextElement();
+        File f = new File(src, name.replace('/', '_') + ".j");
+        File c = new File(out, name);
+        String args[] = { "-d", out.getPath(), "-cache", cached.getPath(),
+                          f.getPath() };
+        String text = (String)texts.get(name);
+        write(f, text);
+        String msg = jasmin(args);
+        if (!c.exists())
+          {
+            if (bad++ < 5)
+              System.err.println(name + ": " + msg);
+            continue;
+          }
+        String first = roundtrip.text(read(c));
+                                // a method is added the second time,
+                                // an abstract one to an interface
+        if (text.indexOf("\n.interface ") >= 0)
+          write(f, text + ".method public abstract jas_cache_test()V\n"
+                  + ".end method\n");
+        else
+          write(f, text + ".method public static jas_cache_test()V\n"
+                  + "  .limit stack 0\n"
+                  + "  nop\n"
+                  + "  return\n"
+                  + ".end method\n");
+        msg = jasmin(args);
+        if (msg.indexOf(" methods kept)") >= 0)
+          kept++;
+        byte b[] = read(c);
+        String second = roundtrip.text(b);
+        int i = second.lastIndexOf("\n.method ",
+                                   second.indexOf(" jas_cache_test()V"));
+        if (i < 0 || !streaming.normal(first.trim()).equals(
+                        streaming.normal(second.substring(0, i).trim())))
+          {
+            if (bad++ < 5)
+              System.err.println(name + ": kept methods differ");
+            continue;
+          }
+        l.put(name.substring(0, name.length() - 6), b);
+      }
+    roundtrip.check(bad == 0, path + ": " + bad + " classes differ");
+    roundtrip.check(kept > 0, path + ": methods kept");
+    int n = l.linkAll(path);
+    System.out.println(path + ": " + n + " classes verified, " + kept
+                       + " with methods kept");
+  }
+
+  public static void main(String args[])
+    throws Exception
+  {
+    many();
+    conflicts();
+    for (int i = 0; i < args.length; i++)
+      jar(args[i]);
+    roundtrip.done("methods kept by -cache are the same");
+  }
+}
@@ -0,0 +1,115 @@
+                                // Assemble classes with their code
+                                // encoded as it is read, into a code
+                                // buffer, and kept as instructions
+                                // until the class is written, and
+                                // check that both give the same bytes:
+                                // for a method whose ldc's have to
+                                // grow after the fact, moving a switch
+                                // and a branch over it, and for every
+                                // class of some jars, which must also
+                                // verify.
+
+import jasmin.ClassFile;
+
+import java.util.*;
+
+public class codebuffer
+{
+  static ClassFile buffered(boolean use)
+  {
+    ClassFile cf = new ClassFile();
+    cf.setCodeBuffer(use);
+    return cf;
+  }
+
+                                // more than 256 strings are ldc'd,
+                                // so some ldc's only turn out to need
+                                // an ldc_w once the pool is laid out,
+                                // after their code was encoded
+  static String source()
+  {
+    StringBuffer b = new StringBuffer();
+    b.append(".class public Grow\n"
+             + ".super java/lang/Object\n"
+             + ".method public static strings()V\n"
+             + "  .limit stack 1\n");
+    for (int i = 0; i < 300; i++)
+      b.append("  ldc \"s" + i + "\"\n  pop\n");
+    b.append("  return\n"
+             + ".end method\n"
+             + ".method public static run(I)Ljava/lang/String;\n"
+             + "  .limit stack 1\n"
+             + "  .limit locals 1\n"
+             + "  iload_0\n"
+             + "  ifeq Switch\n"
+             + "  ldc \"late\"\n"
+             + "  areturn\n"
+             + "Switch:\n"
+             + "  iload_0\n"
+             + "  tableswitch 0\n"
+             + "    Zero\n"
+             + "    default : Other\n"
+             + "Zero:\n"
+             + "  ldc \"zero\"\n"
+             + "  areturn\n"
+             + "Other:\n"
+             + "  ldc \"other\"\n"
+             + "  areturn\n"
+             + ".end method\n");
+    return b.toString();
+  }
+
+  static void method()
+    throws Exception
+  {
+    String text = source();
+    byte b[] = roundtrip.assemble(buffered(true), text);
+    roundtrip.check(Arrays.equals(b, roundtrip.assemble(buffered(false), text)),
+                    "grown ldc's: same bytes with and without the buffer");
+    roundtrip.check(roundtrip.text(b).indexOf("ldc_w \"late\"") >= 0,
+                    "ldc past index 255 made ldc_w");
+    roundtrip.Loader l = new roundtrip.Loader();
+    l.put("Grow", b);
+    java.lang.reflect.Method run = l.load("Grow")
+      .getMethod("run", new Class[] { int.class });
+    roundtrip.check("zero".equals(run.invoke(null, new Object[] { new Integer(0) }))
+                    && "late".equals(run.invoke(null, new Object[] { new Integer(1) })),
+                    "grown ldc's: results");
+  }
+
+  static void jar(String path)
+    throws Exception
+  {
+    Hashtable texts = roundtrip.texts(path);
+    roundtrip.Loader l = new roundtrip.Loader();
+    int bad = 0;
+    for (Enumeration en = texts.keys(); en.hasMoreElements(); )
+      {
+        String name = (String)en.nextElement();
+        String text = (String)texts.get(name);
+        ClassFile cf = buffered(true);
+        try
+          {
+            byte b[] = roundtrip.assemble(cf, text);
+            l.put(cf.getClassName(), b);
+            if (!Arrays.equals(b, roundtrip.assemble(buffered(false), text))
+                && bad++ < 5)
+              System.err.println(name + ": buffered code differs");
+          }
+        catch (Exception e)
+          { roundtrip.check(false, path + ": " + name + ": " + e.getMessage()); }
+      }
+    roundtrip.check(bad == 0, path + ": " + bad + " classes differ");
+    int n = l.linkAll(path);
+    System.out.println(path + ": " + n + " classes verified");
+  }
+
+  public static void main(String args[])
+    throws Exception
+  {
+    method();
+    for (int i = 0; i < args.length; i++)
+      jar(args[i]);
+    roundtrip.done("buffered code is the same as code kept as instructions");
+  }
+}
@@ -0,0 +1,117 @@
+                                // Assemble a class that loads
+                                // dynamically computed constants, of
+                                // an int, a long and a string, one of
+                                // them an argument of another, and
+                                // check their values, that each is
+                                // computed once however often it is
+                                // loaded, that the same constant gets
+                                // one bootstrap entry, and that the
+                                // class comes out the same when its
+                                // text is assembled again. Needs a
+                                // JVM of version 11 or later.
+
+import jasmin.ClassFile;
+
+import java.lang.invoke.*;
+import java.util.*;
+
+public class condy
+{
+  static Hashtable calls = new Hashtable();
+
+                                // the sum of the numbers it is given,
+                                // or the name and its arguments for a
+                                // string; counts its calls by name
+  public static Object make(MethodHandles.Lookup lookup, String name,
+                            Class type, Object... args)
+  {
+    Integer n = (Integer)calls.get(name);
+    calls.put(name, new Integer(n == null ? 1 : n.intValue() + 1));
+    if (type == String.class)
+      return name + Arrays.asList(args);
+    long sum = 0;
+    for (int i = 0; i < args.length; i++)
+      sum += ((Number)args[i]).longValue();
+    if (type == long.class)
+      return new Long(sum);
+    return new Integer((int)sum);
+  }
+
+  static final String BSM =
+    "invokestatic condy/make(Ljava/lang/invoke/MethodHandles$Lookup;"
+    + "Ljava/lang/String;Ljava/lang/Class;[Ljava/lang/Object;)"
+    + "Ljava/lang/Object;";
+
+                                // sum and twice load the same
+                                // constant
+  static final String CONSTANTS =
+    ".bytecode 55.0\n"
+    + ".class public Constants\n"
+    + ".super java/lang/Object\n"
+    + ".method public static sum()I\n"
+    + "  .limit stack 1\n"
+    + "  ldc dynamic sum I " + BSM + " 40 2\n"
+    + "  ireturn\n"
+    + ".end method\n"
+    + ".method public static twice()I\n"
+    + "  .limit stack 2\n"
+    + "  ldc dynamic sum I " + BSM + " 40 2\n"
+    + "  ldc dynamic sum I " + BSM + " 40 2\n"
+    + "  iadd\n"
+    + "  ireturn\n"
+    + ".end method\n"
+    + ".method public static big()J\n"
+    + "  .limit stack 2\n"
+    + "  ldc2_w dynamic big J " + BSM + " 1000000000000L 5L\n"
+    + "  lreturn\n"
+    + ".end method\n"
+    + ".method public static text()Ljava/lang/String;\n"
+    + "  .limit stack 1\n"
+    + "  ldc dynamic text Ljava/lang/String; " + BSM
+    + " \"a\" dynamic three I " + BSM + " 1 2\n"
+    + "  areturn\n"
+    + ".end method\n";
+
+  static Object call(Class c, String name)
+    throws Exception
+  {
+    return c.getMethod(name, new Class[0]).invoke(null, new Object[0]);
+  }
+
+  static void run(byte b[], String how)
+    throws Exception
+  {
+    calls.clear();
+    roundtrip.Loader l = new roundtrip.Loader(condy.class.getClassLoader());
+    l.put("Constants", b);
+    Class c = l.load("Constants");
+    roundtrip.check(new Integer(42).equals(call(c, "sum"))
+                    && new Integer(42).equals(call(c, "sum"))
+                    && new Integer(84).equals(call(c, "twice"))
+                    && new Long(1000000000005L).equals(call(c, "big"))
+                    && "text[a, 3]".equals(call(c, "text")),
+                    "constant values" + how);
+    roundtrip.check(new Integer(1).equals(calls.get("sum"))
+                    && new Integer(1).equals(calls.get("three")),
+                    "computed once" + how + ": " + calls);
+  }
+
+  public static void main(String args[])
+    throws Exception
+  {
+    byte b[] = roundtrip.assemble(new ClassFile(), CONSTANTS);
+                                // sum, big, three and text
+    roundtrip.check(indy.bootstraps(b) == 4,
+                    "bootstrap entries: " + indy.bootstraps(b));
+    run(b, "");
+    String text = roundtrip.text(b);
+    roundtrip.check(text.indexOf("ldc2_w dynamic big J") >= 0
+                    && text.indexOf(" dynamic three I") >= 0,
+                    "constants disassembled:\n" + text);
+    byte again[] = roundtrip.assemble(new ClassFile(), text);
+    roundtrip.check(Arrays.equals(again, b) || roundtrip.text(again).equals(text),
+                    "text assembled again");
+    run(again, " assembled again");
+    roundtrip.done("dynamic constants are computed once, as written");
+  }
+}
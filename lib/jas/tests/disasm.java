@@ -0,0 +1,187 @@
+                                // Disassemble every class of some
+                                // jars, first on one thread and then
+                                // on all of them, and time both.
+                                // Then assemble each class again,
+                                // disassemble that, and check that
+                                // the text comes out the same.
+
+import jas.ClassReader;
+import jasmin.ClassFile;
+import jasmin.Disassembler;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.zip.*;
+
+public class disasm
+{
+  static String text(byte b[])
+    throws Exception
+  {
+    StringWriter w = new StringWriter(b.length * 4);
+    new Disassembler(new ClassReader(ByteBuffer.wrap(b))).write(w);
+    return w.toString();
+  }
+
+                                // the text, or null if the class
+                                // can't be disassembled
+  static String tryText(byte b[], String why[], int i)
+  {
+    try
+      { return text(b); }
+    catch (Exception e)
+      {
+        why[i] = e.getMessage();
+        return null;
+      }
+  }
+
+                                // the text without the comments for
+                                // attributes that were left out,
+                                // which assembly can't bring back
+  static String kept(String text)
+  {
+    StringBuffer b = new StringBuffer(text.length());
+    for (int i = 0, end; i < text.length(); i = end)
+      {
+        end = text.indexOf('\n', i) + 1;
+        if (!text.substring(i, end).trim().startsWith("; skipped attribute "))
+          b.append(text, i, end);
+      }
+    return b.toString();
+  }
+
+  static byte[] assemble(String text, String name)
+    throws Exception
+  {
+    ClassFile cf = new ClassFile();
+    cf.readJasmin(new StringReader(text), name, false);
+    if (cf.errorCount() > 0)
+      throw new Exception(cf.errorCount() + " errors");
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    cf.write(out);
+    return out.toByteArray();
+  }
+
+  public static void main(String args[])
+    throws Exception
+  {
+    if (args.length == 0)
+      {
+        System.err.println("usage: java disasm <jar> ...");
+        System.exit(1);
+      }
+    boolean ok = true;
+    for (int a = 0; a < args.length; a++)
+      ok &= jar(args[a]);
+    System.exit(ok ? 0 : 1);
+  }
+
+  static boolean jar(String path)
+    throws Exception
+  {
+    ZipFile zip = new ZipFile(path);
+    Vector names = new Vector();
+    Vector bytes = new Vector();
+    for (Enumeration en = zip.entries(); en.hasMoreElements(); )
+      {
+        ZipEntry e = (ZipEntry)en.nextElement();
+        if (e.getName().endsWith(".class")
+            && !e.getName().endsWith("module-info.class"))
+          {
+            names.addElement(e.getName());
+            bytes.addElement(Disassembler.readEntry(zip, e));
+          }
+      }
+    zip.close();
+    final int n = names.size();
+    final byte classes[][] = new byte[n][];
+    bytes.copyInto(classes);
+
+    final String seq[] = new String[n];
+    final String why[] = new String[n];
+    long t0 = System.nanoTime();
+    for (int i = 0; i < n; i++)
+      seq[i] = tryText(classes[i], why, i);
+    long t1 = System.nanoTime();
+
+    final String par[] = new String[n];
+    final String why2[] = new String[n];
+    ForkJoinPool pool = new ForkJoinPool();
+    Vector tasks = new Vector();
+    for (int i = 0; i < n; i++)
+      {
+        final int k = i;
+        tasks.addElement(new Callable()
+          {
+            public Object call()
+            {
+              par[k] = tryText(classes[k], why2, k);
+              return null;
+            }
+          });
+      }
+    long t2 = System.nanoTime();
+    pool.invokeAll(tasks);
+    long t3 = System.nanoTime();
+    pool.shutdown();
+
+    int done = 0, same = 0, bad = 0, mismatched = 0;
+    long chars = 0;
+    Hashtable reasons = new Hashtable();
+    for (int i = 0; i < n; i++)
+      {
+        if (seq[i] == null ? par[i] != null : !seq[i].equals(par[i]))
+          {
+            System.out.println(names.elementAt(i)
+                               + ": parallel output differs");
+            mismatched++;
+          }
+        if (seq[i] == null)
+          {
+            String key = why[i];    // counted without the offset
+            if (key != null && key.indexOf(" (") > 0)
+              key = key.substring(0, key.indexOf(" ("));
+            Integer c = (Integer)reasons.get(key);
+            reasons.put(key, new Integer(c == null ? 1 : c.intValue() + 1));
+            continue;
+          }
+        done++;
+        chars += seq[i].length();
+        try
+          {
+            String again = text(assemble(seq[i], (String)names.elementAt(i)));
+            if (again.equals(kept(seq[i])))
+              same++;
+            else
+              {
+                if (bad++ < 5)
+                  System.out.println(names.elementAt(i)
+                                     + ": text differs after assembly");
+              }
+          }
+        catch (Exception e)
+          {
+            if (bad++ < 5)
+              System.out.println(names.elementAt(i) + ": " + e.getMessage());
+          }
+      }
+
+    System.out.println(path + ": " + n + " classes, " + done
+                       + " disassembled (" + chars / 1024 + "K chars)");
+    System.out.println("  sequential " + (t1 - t0) / 1000000 + " ms, parallel "
+                       + (t3 - t2) / 1000000 + " ms on "
+                       + pool.getParallelism() + " threads");
+    System.out.println("  " + same + " of " + done
+                       + " give the same text after assembly");
+    for (Enumeration en = reasons.keys(); en.hasMoreElements(); )
+      {
+        String why1 = (String)en.nextElement();
+        System.out.println("  not disassembled: " + reasons.get(why1)
+                           + " x " + why1);
+      }
+    return mismatched == 0 && bad == 0;
+  }
+}
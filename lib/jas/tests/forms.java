@@ -0,0 +1,381 @@
+                                // Assemble small pieces of Jasmin and
+                                // check what they turn into: how an
+                                // instruction is encoded, the flags
+                                // of a class, or what it does once
+                                // it is loaded and verified.
+
+import jasmin.ClassFile;
+
+import java.io.*;
+import java.lang.annotation.Target;
+import java.lang.reflect.*;
+import java.util.Hashtable;
+
+public class forms
+{
+  static final String CHECKS[] = {
+    "iinc", "interfaceFlags", "entryFrame", "interfaceMethod", "empty",
+    "fieldTypes", "infinity", "innerFlags", "largePool", "loneReturn"
+  };
+
+  static int failures = 0;
+  static Hashtable classes = new Hashtable();
+
+  static byte[] assemble(String text)
+    throws Exception
+  {
+    return assemble(new ClassFile(), text);
+  }
+
+  static byte[] assemble(ClassFile cf, String text)
+    throws Exception
+  {
+    cf.readJasmin(new StringReader(text), "forms.j", false);
+    if (cf.errorCount() > 0)
+      throw new Exception(cf.errorCount() + " errors in\n" + text);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    cf.write(out);
+    classes.put(cf.getClassName().replace('/', '.'), out.toByteArray());
+    return out.toByteArray();
+  }
+
+                                // classes are looked up among those
+                                // assembled, and verified when they
+                                // are linked
+  static ClassLoader loader = new ClassLoader(null)
+    {
+      protected Class findClass(String name)
+        throws ClassNotFoundException
+      {
+        byte b[] = (byte[])classes.get(name);
+        if (b == null)
+          throw new ClassNotFoundException(name);
+        return defineClass(name, b, 0, b.length);
+      }
+    };
+
+  static Class load(String name)
+    throws Exception
+  {
+    Class c = Class.forName(name, false, loader);
+    c.getDeclaredMethods();     // links it
+    return c;
+  }
+
+  static Object call(String name, String method)
+    throws Exception
+  {
+    return load(name).getMethod(method, new Class[0])
+      .invoke(null, new Object[0]);
+  }
+
+  static void check(boolean ok, String what)
+  {
+    if (!ok)
+      {
+        System.err.println("failed: " + what);
+        failures++;
+      }
+  }
+
+  static boolean contains(byte b[], int what[])
+  {
+    for (int i = 0; i + what.length <= b.length; i++)
+      {
+        int j = 0;
+        while (j < what.length && (b[i + j] & 0xff) == what[j])
+          j++;
+        if (j == what.length)
+          return true;
+      }
+    return false;
+  }
+
+                                // the access flags of a class file
+  static int flags(byte b[])
+  {
+    DataInputStream in = new DataInputStream(new ByteArrayInputStream(b));
+    try
+      {
+        in.skipBytes(8);
+        int count = in.readUnsignedShort();
+        for (int i = 1; i < count; i++)
+          {
+            int tag = in.readUnsignedByte();
+            switch (tag)
+              {
+              case 1: in.skipBytes(in.readUnsignedShort()); break;
+              case 5: case 6: in.skipBytes(8); i++; break;
+              case 7: case 8: case 16: case 19: case 20:
+                in.skipBytes(2); break;
+              case 15: in.skipBytes(3); break;
+              default: in.skipBytes(4); break;
+              }
+          }
+        return in.readUnsignedShort();
+      }
+    catch (IOException e)
+      { return -1; }
+  }
+
+  static String header(String name)
+  {
+    return ".class public forms/" + name + "\n"
+      + ".super java/lang/Object\n";
+  }
+
+                                // iinc only goes wide when its
+                                // operands don't fit in a byte
+  static void iinc()
+    throws Exception
+  {
+    byte b[] = assemble(header("Iinc")
+      + ".method public static run()I\n"
+      + "  .limit stack 1\n"
+      + "  .limit locals 1\n"
+      + "  iconst_0\n"
+      + "  istore_0\n"
+      + "  iinc 0 1\n"
+      + "  iinc 0 -128\n"
+      + "  iinc 0 127\n"
+      + "  iinc 0 128\n"
+      + "  iload_0\n"
+      + "  ireturn\n"
+      + ".end method\n");
+    check(contains(b, new int[] { 0x84, 0, 1, 0x84, 0, 0x80, 0x84, 0, 0x7f,
+                                  0xc4, 0x84, 0, 0, 0, 0x80 }),
+          "iinc encodings");
+    check(new Integer(128).equals(call("forms.Iinc", "run")), "iinc result");
+  }
+
+                                // an interface has no ACC_SUPER, which
+                                // is refused from version 52 on
+  static void interfaceFlags()
+    throws Exception
+  {
+    byte b[] = assemble(".bytecode 52.0\n"
+      + ".interface public abstract forms/Iface\n"
+      + ".super java/lang/Object\n");
+    check((flags(b) & 0x20) == 0, "ACC_SUPER on an interface");
+    check(load("forms.Iface").isInterface(), "interface loads");
+  }
+
+                                // the first frame given by hand is
+                                // written against the frame the
+                                // method starts with
+  static void entryFrame()
+    throws Exception
+  {
+    assemble(".bytecode 51.0\n" + header("Entry")
+      + ".method public static run(I)I\n"
+      + "  .limit stack 1\n"
+      + "  .limit locals 1\n"
+      + "  iload_0\n"
+      + "  ifeq Zero\n"
+      + "  iconst_1\n"
+      + "  ireturn\n"
+      + "Zero:\n"
+      + "  .stack\n"
+      + "    locals Integer\n"
+      + "  .end stack\n"
+      + "  iconst_0\n"
+      + "  ireturn\n"
+      + ".end method\n"
+      + ".method public static run()I\n"
+      + "  .limit stack 1\n"
+      + "  .limit locals 1\n"
+      + "  iconst_3\n"
+      + "  invokestatic forms/Entry/run(I)I\n"
+      + "  ireturn\n"
+      + ".end method\n");
+    check(new Integer(1).equals(call("forms.Entry", "run")),
+          "first frame against the entry frame");
+  }
+
+                                // a static method of an interface is
+                                // called through an InterfaceMethodref
+  static void interfaceMethod()
+    throws Exception
+  {
+    assemble(".bytecode 52.0\n"
+      + ".interface public abstract forms/Statics\n"
+      + ".super java/lang/Object\n"
+      + ".method public static answer()I\n"
+      + "  .limit stack 1\n"
+      + "  bipush 42\n"
+      + "  ireturn\n"
+      + ".end method\n");
+    assemble(".bytecode 52.0\n" + header("Caller")
+      + ".method public static run()I\n"
+      + "  .limit stack 1\n"
+      + "  invokestatic interface forms/Statics/answer()I\n"
+      + "  ireturn\n"
+      + ".end method\n");
+    check(new Integer(42).equals(call("forms.Caller", "run")),
+          "invokestatic interface");
+  }
+
+                                // a lookupswitch with nothing but a
+                                // default, and an annotation array
+                                // with no values
+  static void empty()
+    throws Exception
+  {
+    assemble(header("Switch")
+      + ".method public static run()I\n"
+      + "  .limit stack 1\n"
+      + "  iconst_1\n"
+      + "  lookupswitch\n"
+      + "    default : Out\n"
+      + "Out:\n"
+      + "  iconst_5\n"
+      + "  ireturn\n"
+      + ".end method\n");
+    check(new Integer(5).equals(call("forms.Switch", "run")),
+          "empty lookupswitch");
+    assemble(".bytecode 52.0\n"
+      + ".interface public abstract annotation forms/Nowhere\n"
+      + ".super java/lang/Object\n"
+      + ".implements java/lang/annotation/Annotation\n"
+      + ".annotation visible Ljava/lang/annotation/Target;\n"
+      + "  value [e Ljava/lang/annotation/ElementType; =\n"
+      + ".end annotation\n");
+    Target t = (Target)load("forms.Nowhere").getAnnotation(Target.class);
+    check(t != null && t.value().length == 0, "empty annotation array");
+  }
+
+                                // a field constant takes the type of
+                                // the field
+  static void fieldTypes()
+    throws Exception
+  {
+    assemble(header("Constants")
+      + ".field public static final big J = 5\n"
+      + ".field public static final low F = -2\n"
+      + ".field public static final half D = 3\n");
+    Class c = load("forms.Constants");
+    check(c.getField("big").getLong(null) == 5, "long constant");
+    check(c.getField("low").getFloat(null) == -2f, "float constant");
+    check(c.getField("half").getDouble(null) == 3d, "double constant");
+  }
+
+                                // +Infinity, -Infinity and +NaN, as
+                                // field constants and annotation
+                                // values
+  static void infinity()
+    throws Exception
+  {
+    assemble(".bytecode 52.0\n"
+      + ".interface public abstract annotation forms/Bound\n"
+      + ".super java/lang/Object\n"
+      + ".implements java/lang/annotation/Annotation\n"
+      + ".annotation visible Ljava/lang/annotation/Retention;\n"
+      + "  value e Ljava/lang/annotation/RetentionPolicy; = \"RUNTIME\"\n"
+      + ".end annotation\n"
+      + ".method public abstract value()F\n"
+      + ".end method\n");
+    assemble(".bytecode 52.0\n" + header("Limits")
+      + ".annotation visible Lforms/Bound;\n"
+      + "  value F = -Infinity\n"
+      + ".end annotation\n"
+      + ".field public static final top D = +Infinity\n"
+      + ".field public static final bottom D = -Infinity\n"
+      + ".field public static final none D = +NaN\n");
+    Class c = load("forms.Limits");
+    check(c.getField("top").getDouble(null) == Double.POSITIVE_INFINITY,
+          "+Infinity");
+    check(c.getField("bottom").getDouble(null) == Double.NEGATIVE_INFINITY,
+          "-Infinity");
+    check(Double.isNaN(c.getField("none").getDouble(null)), "+NaN");
+    Class bound = load("forms.Bound");
+    Object a = c.getAnnotation(bound);
+    check(a != null && ((Float)bound.getMethod("value", new Class[0])
+                        .invoke(a, new Object[0])).floatValue()
+                       == Float.NEGATIVE_INFINITY,
+          "-Infinity as a float annotation value");
+  }
+
+                                // an inner class with flags and no
+                                // name of its own
+  static void innerFlags()
+    throws Exception
+  {
+    String inner = ".inner class static inner forms/Outer$Nested"
+      + " outer forms/Outer\n";
+    assemble(header("Outer") + inner);
+    assemble(header("Outer$Nested") + inner);
+    check(Modifier.isStatic(load("forms.Outer$Nested").getModifiers()),
+          "static inner class");
+  }
+
+                                // a pool index from 32768 on came
+                                // back negative, so an ldc of such a
+                                // constant in a streamed method was
+                                // never made an ldc_w
+  static void largePool()
+    throws Exception
+  {
+    StringBuffer b = new StringBuffer(header("Large"));
+    for (int m = 0; m < 4; m++)
+      {
+        b.append(".method public static fill" + m + "()V\n"
+                 + "  .limit stack 1\n");
+        for (int i = 0; i < 5000; i++)
+          b.append("  ldc \"s" + (m * 5000 + i) + "\"\n  pop\n");
+        b.append("  return\n.end method\n");
+      }
+    b.append(".method public static run()Ljava/lang/String;\n"
+             + "  .limit stack 1\n"
+             + "  ldc \"last\"\n"
+             + "  areturn\n"
+             + ".end method\n");
+    ClassFile cf = new ClassFile();
+    cf.setStreamMethods(true);
+    assemble(cf, b.toString());
+    check("last".equals(call("forms.Large", "run")),
+          "ldc of a constant past 32767");
+  }
+
+                                // an instruction with no operands
+                                // didn't start the code of a method,
+                                // so a method that was only that got
+                                // no Code attribute, and the next
+                                // method got the instruction
+  static void loneReturn()
+    throws Exception
+  {
+    assemble(header("Lone")
+             + ".method public static none()V\n"
+             + "  return\n"
+             + ".end method\n"
+             + ".method public static run()I\n"
+             + "  .limit stack 1\n"
+             + "  iconst_3\n"
+             + "  ireturn\n"
+             + ".end method\n");
+    load("forms.Lone").getMethod("none", new Class[0]).invoke(null, new Object[0]);
+    check(new Integer(3).equals(call("forms.Lone", "run")),
+          "method of a lone return");
+  }
+
+  public static void main(String args[])
+    throws Exception
+  {
+    for (int i = 0; i < CHECKS.length; i++)
+      {
+        try
+          {
+            forms.class.getDeclaredMethod(CHECKS[i], new Class[0])
+              .invoke(null, new Object[0]);
+          }
+        catch (InvocationTargetException e)
+          { check(false, CHECKS[i] + ": " + e.getCause()); }
+      }
+    if (failures > 0)
+      {
+        System.err.println(failures + " checks failed");
+        System.exit(1);
+      }
+    System.out.println("all forms assembled as expected");
+  }
+}
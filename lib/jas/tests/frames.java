@@ -0,0 +1,139 @@
+                                // Assemble classes with their frames
+                                // worked out by jasmin (-frames),
+                                // check some methods that are hard to
+                                // get right, and that every class of
+                                // some jars verifies with the frames
+                                // given by hand taken out.
+
+import jasmin.ClassFile;
+
+import java.lang.reflect.Method;
+
+public class frames
+{
+  static ClassFile inferring()
+  {
+    ClassFile cf = new ClassFile();
+    cf.setAutoFrames(true);
+    return cf;
+  }
+
+                                // the handler is only reached through
+                                // its range, and the code after the
+                                // goto not at all
+  static final String HANDLER =
+    ".bytecode 52.0\n"
+    + ".class public Handler\n"
+    + ".super java/lang/Object\n"
+    + ".method public static run(I)I\n"
+    + "  .limit stack 2\n"
+    + "  .limit locals 2\n"
+    + "  .catch java/lang/ArithmeticException from Try to End using Caught\n"
+    + "Try:\n"
+    + "  bipush 10\n"
+    + "  iload_0\n"
+    + "  idiv\n"
+    + "  istore_1\n"
+    + "End:\n"
+    + "  goto Out\n"
+    + "  iconst_5\n"
+    + "  istore_1\n"
+    + "Out:\n"
+    + "  iload_1\n"
+    + "  ireturn\n"
+    + "Caught:\n"
+    + "  astore_1\n"
+    + "  iconst_m1\n"
+    + "  ireturn\n"
+    + ".end method\n";
+
+                                // merging two branches that push
+                                // different classes gives their
+                                // common superclass
+  static final String MERGE =
+    ".bytecode 52.0\n"
+    + ".class public Merge\n"
+    + ".super java/lang/Object\n"
+    + ".method public static run(I)Ljava/lang/String;\n"
+    + "  .limit stack 2\n"
+    + "  .limit locals 1\n"
+    + "  iload_0\n"
+    + "  ifeq Short\n"
+    + "  new java/lang/StringBuilder\n"
+    + "  dup\n"
+    + "  invokespecial java/lang/StringBuilder/<init>()V\n"
+    + "  goto Join\n"
+    + "Short:\n"
+    + "  new java/lang/StringBuffer\n"
+    + "  dup\n"
+    + "  invokespecial java/lang/StringBuffer/<init>()V\n"
+    + "Join:\n"
+    + "  invokevirtual java/lang/Object/getClass()Ljava/lang/Class;\n"
+    + "  invokevirtual java/lang/Class/getName()Ljava/lang/String;\n"
+    + "  areturn\n"
+    + ".end method\n";
+
+  static Method method(String name, String text, Class arg)
+    throws Exception
+  {
+    roundtrip.Loader l = new roundtrip.Loader();
+    l.put(name, roundtrip.assemble(inferring(), text));
+    return l.load(name).getMethod("run", new Class[] { arg });
+  }
+
+  static void methods()
+    throws Exception
+  {
+    Method run = method("Handler", HANDLER, int.class);
+    roundtrip.check(new Integer(5).equals(run.invoke(null, new Object[] { new Integer(2) }))
+                    && new Integer(-1).equals(run.invoke(null, new Object[] { new Integer(0) })),
+                    "handler reached only through its range");
+    run = method("Merge", MERGE, int.class);
+    roundtrip.check("java.lang.StringBuilder".equals(run.invoke(null, new Object[] { new Integer(1) }))
+                    && "java.lang.StringBuffer".equals(run.invoke(null, new Object[] { new Integer(0) })),
+                    "merged references");
+  }
+
+                                // the text without its .stack blocks
+  static String unframed(String text)
+  {
+    StringBuffer b = new StringBuffer(text.length());
+    boolean in = false;
+    for (int i = 0, end; i < text.length(); i = end)
+      {
+        end = text.indexOf('\n', i) + 1;
+        String line = text.substring(i, end).trim();
+        if (line.startsWith(".stack"))
+          in = true;
+        if (!in)
+          b.append(text, i, end);
+        if (line.equals(".end stack"))
+          in = false;
+      }
+    return b.toString();
+  }
+
+  static void jar(String path)
+    throws Exception
+  {
+    roundtrip.Loader l = roundtrip.reassemble(path, new roundtrip.Maker()
+      {
+        ClassFile make()
+        { return inferring(); }
+
+        String edit(String text)
+        { return unframed(text); }
+      });
+    int n = l.linkAll(path);
+    System.out.println(path + ": " + n + " classes verified");
+  }
+
+  public static void main(String args[])
+    throws Exception
+  {
+    methods();
+    for (int i = 0; i < args.length; i++)
+      jar(args[i]);
+    roundtrip.done("worked out frames verify");
+  }
+}
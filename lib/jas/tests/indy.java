@@ -0,0 +1,160 @@
+                                // Assemble classes with invokedynamic
+                                // call sites, and check that a
+                                // bootstrap method gets static
+                                // arguments of every kind as they
+                                // were written, that call sites with
+                                // the same bootstrap method and
+                                // arguments share its entry, and that
+                                // the classes of some jars keep their
+                                // call sites and bootstrap methods
+                                // when assembled again, and verify.
+
+import jas.ClassReader;
+import jasmin.ClassFile;
+import jasmin.Disassembler;
+
+import java.lang.invoke.*;
+import java.nio.ByteBuffer;
+import java.util.*;
+import java.util.zip.*;
+
+public class indy
+{
+                                // links a call site to a constant
+                                // that tells what it was linked with
+  public static CallSite describe(MethodHandles.Lookup lookup, String name,
+                                  MethodType type, Object... args)
+  {
+    return new ConstantCallSite(MethodHandles.constant(
+             String.class, name + Arrays.asList(args)));
+  }
+
+  static final String BSM =
+    "invokestatic indy/describe(Ljava/lang/invoke/MethodHandles$Lookup;"
+    + "Ljava/lang/String;Ljava/lang/invoke/MethodType;[Ljava/lang/Object;)"
+    + "Ljava/lang/invoke/CallSite;";
+
+                                // all and again have the same
+                                // arguments, other has its own
+  static final String SITES =
+    ".bytecode 52.0\n"
+    + ".class public Sites\n"
+    + ".super java/lang/Object\n"
+    + ".field public static f I\n"
+    + ".method public static multiply(II)I\n"
+    + "  .limit stack 2\n"
+    + "  .limit locals 2\n"
+    + "  iload_0\n"
+    + "  iload_1\n"
+    + "  imul\n"
+    + "  ireturn\n"
+    + ".end method\n"
+    + ".method public static all()Ljava/lang/String;\n"
+    + "  .limit stack 1\n"
+    + "  invokedynamic all()Ljava/lang/String; " + BSM
+    + " 42 7L 1.5f 2.5 \"s\" java/lang/String (I)V"
+    + " invokestatic Sites/multiply(II)I getstatic Sites/f I\n"
+    + "  areturn\n"
+    + ".end method\n"
+    + ".method public static again()Ljava/lang/String;\n"
+    + "  .limit stack 1\n"
+    + "  invokedynamic again()Ljava/lang/String; " + BSM
+    + " 42 7L 1.5f 2.5 \"s\" java/lang/String (I)V"
+    + " invokestatic Sites/multiply(II)I getstatic Sites/f I\n"
+    + "  areturn\n"
+    + ".end method\n"
+    + ".method public static other()Ljava/lang/String;\n"
+    + "  .limit stack 1\n"
+    + "  invokedynamic other()Ljava/lang/String; " + BSM + " 43\n"
+    + "  areturn\n"
+    + ".end method\n";
+
+                                // the entries of the BootstrapMethods
+                                // attribute, -1 if there is none
+  static int bootstraps(byte b[])
+    throws Exception
+  {
+    ClassReader r = new ClassReader(ByteBuffer.wrap(b));
+    int info = r.findAttribute(r.getAttributes(), "BootstrapMethods");
+    if (info < 0)
+      return -1;
+    byte n[] = r.bytes(info, 2);
+    return ((n[0] & 0xff) << 8) | (n[1] & 0xff);
+  }
+
+  static Object call(Class c, String name)
+    throws Exception
+  {
+    return c.getMethod(name, new Class[0]).invoke(null, new Object[0]);
+  }
+
+  static void sites()
+    throws Exception
+  {
+    byte b[] = roundtrip.assemble(new ClassFile(), SITES);
+    roundtrip.check(bootstraps(b) == 2, "call sites share an entry: "
+                    + bootstraps(b));
+    roundtrip.Loader l = new roundtrip.Loader(indy.class.getClassLoader());
+    l.put("Sites", b);
+    Class c = l.load("Sites");
+    String args = "[42, 7, 1.5, 2.5, s, class java.lang.String, (int)void,"
+      + " MethodHandle(int,int)int, MethodHandle()int]";
+    roundtrip.check(("all" + args).equals(call(c, "all"))
+                    && ("again" + args).equals(call(c, "again")),
+                    "static arguments: " + call(c, "all"));
+    roundtrip.check("other[43]".equals(call(c, "other")), "own arguments");
+  }
+
+  static int count(String text, String what)
+  {
+    int n = 0;
+    for (int i = text.indexOf(what); i >= 0; i = text.indexOf(what, i + 1))
+      n++;
+    return n;
+  }
+
+  static void jar(String path)
+    throws Exception
+  {
+    Hashtable texts = roundtrip.texts(path);
+    ZipFile zip = new ZipFile(path);
+    roundtrip.Loader l = new roundtrip.Loader();
+    int bad = 0, sites = 0;
+    for (Enumeration en = texts.keys(); en.hasMoreElements(); )
+      {
+        String name = (String)en.nextElement();
+        String text = (String)texts.get(name);
+        ClassFile cf = new ClassFile();
+        try
+          {
+            byte b[] = roundtrip.assemble(cf, text);
+            l.put(cf.getClassName(), b);
+            int n = count(text, "invokedynamic ");
+            sites += n;
+            if (n > 0
+                && (bootstraps(b) != bootstraps(Disassembler.readEntry(
+                                                  zip, zip.getEntry(name)))
+                    || !streaming.normal(roundtrip.text(b))
+                         .equals(streaming.normal(text)))
+                && bad++ < 5)
+              System.err.println(name + ": call sites differ");
+          }
+        catch (Exception e)
+          { roundtrip.check(false, path + ": " + name + ": " + e.getMessage()); }
+      }
+    zip.close();
+    roundtrip.check(bad == 0, path + ": " + bad + " classes differ");
+    int n = l.linkAll(path);
+    System.out.println(path + ": " + n + " classes verified, " + sites
+                       + " call sites");
+  }
+
+  public static void main(String args[])
+    throws Exception
+  {
+    sites();
+    for (int i = 0; i < args.length; i++)
+      jar(args[i]);
+    roundtrip.done("call sites are linked with what was written");
+  }
+}
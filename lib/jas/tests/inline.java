@@ -0,0 +1,200 @@
+                                // Assemble classes with calls to their
+                                // own small methods replaced by the
+                                // code of those methods (jasmin
+                                // -inline), and check a straight one,
+                                // one with jumps and a private one
+                                // with a handler, with and without
+                                // computed frames and in a class
+                                // that needs none, then that the
+                                // classes of some jars have fewer
+                                // calls to themselves and verify.
+
+import jasmin.ClassFile;
+
+import java.lang.reflect.*;
+import java.util.*;
+import java.util.regex.*;
+
+public class inline
+{
+  static ClassFile inlining(boolean frames)
+  {
+    ClassFile cf = new ClassFile();
+    cf.setInline(35);
+    cf.setAutoFrames(frames);
+    return cf;
+  }
+
+                                // add is inlined with more than its
+                                // arguments on the stack, abs has
+                                // jumps, and div a handler, so it is
+                                // inlined where only its arguments
+                                // are on the stack
+  static final String CALLS =
+    ".bytecode 52.0\n"
+    + ".class public Calls\n"
+    + ".super java/lang/Object\n"
+    + ".field private k I\n"
+    + ".method public <init>()V\n"
+    + "  .limit stack 2\n"
+    + "  aload_0\n"
+    + "  invokespecial java/lang/Object/<init>()V\n"
+    + "  aload_0\n"
+    + "  bipush 100\n"
+    + "  putfield Calls/k I\n"
+    + "  return\n"
+    + ".end method\n"
+    + ".method private static add(II)I\n"
+    + "  .limit stack 2\n"
+    + "  .limit locals 2\n"
+    + "  iload_0\n"
+    + "  iload_1\n"
+    + "  iadd\n"
+    + "  ireturn\n"
+    + ".end method\n"
+    + ".method private static abs(I)I\n"
+    + "  .limit stack 1\n"
+    + "  iload_0\n"
+    + "  ifge Pos\n"
+    + "  iload_0\n"
+    + "  ineg\n"
+    + "  ireturn\n"
+    + "Pos:\n"
+    + "  iload_0\n"
+    + "  ireturn\n"
+    + ".end method\n"
+    + ".method private div(I)I\n"
+    + "  .limit stack 2\n"
+    + "  .limit locals 2\n"
+    + "  .catch java/lang/ArithmeticException from Start to End using Zero\n"
+    + "Start:\n"
+    + "  aload_0\n"
+    + "  getfield Calls/k I\n"
+    + "  iload_1\n"
+    + "  idiv\n"
+    + "End:\n"
+    + "  ireturn\n"
+    + "Zero:\n"
+    + "  pop\n"
+    + "  iconst_m1\n"
+    + "  ireturn\n"
+    + ".end method\n"
+    + ".method public static run(LCalls;II)I\n"
+    + "  .limit stack 3\n"
+    + "  .limit locals 3\n"
+    + "  iconst_1\n"
+    + "  iload_1\n"
+    + "  iload_2\n"
+    + "  invokestatic Calls/add(II)I\n"
+    + "  iadd\n"
+    + "  invokestatic Calls/abs(I)I\n"
+    + "  istore_1\n"
+    + "  aload_0\n"
+    + "  iload_1\n"
+    + "  invokespecial Calls/div(I)I\n"
+    + "  ireturn\n"
+    + ".end method\n";
+
+  static int count(String text, String what)
+  {
+    int n = 0;
+    for (int i = text.indexOf(what); i >= 0; i = text.indexOf(what, i + 1))
+      n++;
+    return n;
+  }
+
+                                // the text of run only
+  static String run(String text)
+  {
+    int i = text.indexOf(".method public static run");
+    return text.substring(i, text.indexOf(".end method", i));
+  }
+
+  static Object call(Method run, Object obj, int a, int b)
+    throws Exception
+  {
+    try
+      { return run.invoke(null, new Object[] { obj, new Integer(a), new Integer(b) }); }
+    catch (InvocationTargetException e)
+      { return e.getTargetException().getClass().getName(); }
+  }
+
+                                // in a version 50 class without
+                                // frames, only add, which has no
+                                // jumps and no handlers, is inlined,
+                                // and the class can't be loaded as
+                                // div has no frames of its own
+  static void calls(String version, boolean frames)
+    throws Exception
+  {
+    String how = " in version " + version + (frames ? " with -frames" : "");
+    boolean all = frames || version.startsWith("49");
+    byte b[] = roundtrip.assemble(inlining(frames),
+                                  CALLS.replace("52.0", version));
+    String text = run(roundtrip.text(b));
+    roundtrip.check(count(text, "Calls/add") == 0
+                    && count(text, "Calls/abs") == (all ? 0 : 1)
+                    && count(text, "Calls/div") == (all ? 0 : 1)
+                    && count(text, ".catch") == (all ? 1 : 0)
+                    && count(text, "getClass") == (all ? 1 : 0),
+                    "calls inlined" + how + ":\n" + text);
+    if (!all)
+      return;
+    roundtrip.Loader l = new roundtrip.Loader();
+    l.put("Calls", b);
+    Class c = l.load("Calls");
+    roundtrip.check(c.getDeclaredMethods().length == 4, "callees kept" + how);
+    Method run = c.getMethod("run", new Class[] { c, int.class, int.class });
+    Object obj = c.newInstance();
+    roundtrip.check(new Integer(20).equals(call(run, obj, 3, -9))
+                    && new Integer(-1).equals(call(run, obj, -1, 0))
+                    && "java.lang.NullPointerException".equals(call(run, null, 1, 1)),
+                    "inlined code runs as called code" + how);
+  }
+
+                                // calls a class makes to itself
+  static int selfCalls(String text)
+  {
+    Matcher m = Pattern.compile("(?m)^\\.(class|interface) .*?(\\S+)$")
+      .matcher(text);
+    m.find();
+    String name = m.group(2);
+    return count(text, "invokestatic " + name + "/")
+      + count(text, "invokespecial " + name + "/")
+      - count(text, "invokespecial " + name + "/<init>");
+  }
+
+  static void jar(String path)
+    throws Exception
+  {
+    final int calls[] = new int[2];
+    roundtrip.Loader l = roundtrip.reassemble(path, new roundtrip.Maker()
+      {
+        ClassFile make()
+        { return inlining(true); }
+
+        String edit(String text)
+        {
+          calls[0] += selfCalls(text);
+          return frames.unframed(text);
+        }
+      });
+    for (Enumeration en = l.classes.elements(); en.hasMoreElements(); )
+      calls[1] += selfCalls(roundtrip.text((byte[])en.nextElement()));
+    roundtrip.check(calls[1] < calls[0], path + ": calls inlined");
+    int n = l.linkAll(path);
+    System.out.println(path + ": " + n + " classes verified, " + calls[1]
+                       + " calls to their own methods left of " + calls[0]);
+  }
+
+  public static void main(String args[])
+    throws Exception
+  {
+    calls("52.0", false);
+    calls("52.0", true);
+    calls("49.0", false);
+    for (int i = 0; i < args.length; i++)
+      jar(args[i]);
+    roundtrip.done("inlined calls run as the calls did");
+  }
+}
@@ -0,0 +1,119 @@
+                                // Assemble classes with counters put
+                                // in (jasmin -instrument), check that
+                                // they count what they should, and
+                                // that every class of some jars still
+                                // verifies once its frames, given by
+                                // hand, have the counters to fit.
+
+import jas.Counters;
+import jasmin.ClassFile;
+
+import java.lang.reflect.Method;
+
+public class instrument
+{
+  static ClassFile counting()
+  {
+    ClassFile cf = new ClassFile();
+    cf.setInstrument(true);
+    return cf;
+  }
+
+                                // New is where the branch goes and
+                                // also the new that the frames at
+                                // Empty and Make name, so the counter
+                                // goes between New and the new and
+                                // the frames have to follow the new
+  static final String SOURCE =
+    ".bytecode 52.0\n"
+    + ".source Make.j\n"
+    + ".class public Make\n"
+    + ".super java/lang/Object\n"
+    + ".method public static run(I)Ljava/lang/String;\n"
+    + "  .limit stack 3\n"
+    + "  .limit locals 1\n"
+    + "  iload_0\n"
+    + "  ifge New\n"
+    + "  iconst_0\n"
+    + "  istore_0\n"
+    + "New:\n"
+    + "  .stack\n"
+    + "    locals Integer\n"
+    + "  .end stack\n"
+    + "  new java/lang/StringBuilder\n"
+    + "  dup\n"
+    + "  iload_0\n"
+    + "  ifeq Empty\n"
+    + "  ldc \"yes\"\n"
+    + "  goto Make\n"
+    + "Empty:\n"
+    + "  .stack\n"
+    + "    locals Integer\n"
+    + "    stack Uninitialized New\n"
+    + "    stack Uninitialized New\n"
+    + "  .end stack\n"
+    + "  ldc \"no\"\n"
+    + "Make:\n"
+    + "  .stack\n"
+    + "    locals Integer\n"
+    + "    stack Uninitialized New\n"
+    + "    stack Uninitialized New\n"
+    + "    stack Object java/lang/String\n"
+    + "  .end stack\n"
+    + "  invokespecial java/lang/StringBuilder/<init>(Ljava/lang/String;)V\n"
+    + "  invokevirtual java/lang/StringBuilder/toString()Ljava/lang/String;\n"
+    + "  areturn\n"
+    + ".end method\n";
+
+  static void uninitialized()
+    throws Exception
+  {
+                                // jas.Counters is the one on the
+                                // class path
+    roundtrip.Loader l =
+      new roundtrip.Loader(instrument.class.getClassLoader());
+    l.put("Make", roundtrip.assemble(counting(), SOURCE));
+    Method run;
+    try
+      { run = l.load("Make").getMethod("run", new Class[] { int.class }); }
+    catch (LinkageError e)
+      {
+        roundtrip.check(false, "branch to a new: " + e);
+        return;
+      }
+    Counters.reset();
+    roundtrip.check("no".equals(run.invoke(null, new Object[] { new Integer(-1) }))
+                    && "yes".equals(run.invoke(null, new Object[] { new Integer(1) })),
+                    "branch to a new: results");
+    String where = "Make.j Make.run(I)Ljava/lang/String; ";
+    roundtrip.check(Counters.count(where + "entry") == 2,
+                    "branch to a new: entry count");
+    roundtrip.check(Counters.count(where + "branch New") == 2
+                    && Counters.count(where + "branch Empty") == 1,
+                    "branch to a new: branch counts");
+    Counters.reset();           // nothing to print at exit
+  }
+
+                                // the frames of a jar that has them
+                                // are given by hand in its text
+  static void jar(String path)
+    throws Exception
+  {
+    roundtrip.Loader l = roundtrip.reassemble(path, new roundtrip.Maker()
+      {
+        ClassFile make()
+        { return counting(); }
+      });
+    int n = l.linkAll(path);
+    System.out.println(path + ": " + n + " instrumented classes verified");
+  }
+
+  public static void main(String args[])
+    throws Exception
+  {
+    uninitialized();
+    for (int i = 0; i < args.length; i++)
+      jar(args[i]);
+    roundtrip.done("instrumented classes count and verify");
+  }
+}
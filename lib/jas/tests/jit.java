@@ -0,0 +1,168 @@
+                                // Assemble classes with a report of
+                                // the size and shape of their methods
+                                // (jasmin -report-jit), and check what
+                                // it says of a method with a loop and
+                                // a switch, that a patch reports its
+                                // own methods, and that every method
+                                // with code of the classes of some
+                                // jars is reported once, also with
+                                // -stream and -parallel.
+
+import jas.ClassReader;
+import jas.JitReport;
+import jasmin.ClassFile;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+
+public class jit
+{
+  static ForkJoinPool pool = new ForkJoinPool(4);
+
+  static final int PLAIN = 0, STREAM = 1, PARALLEL = 2;
+
+  static ClassFile reporting(JitReport report, int mode)
+  {
+    ClassFile cf = new ClassFile();
+    cf.setJitReport(report);
+    cf.setStreamMethods(mode == STREAM);
+    if (mode == PARALLEL)
+      cf.setWritePool(pool);
+    return cf;
+  }
+
+  static String json(JitReport report)
+    throws IOException
+  {
+    StringWriter w = new StringWriter();
+    report.write(w);
+    return w.toString();
+  }
+
+                                // a loop around a switch of three
+                                // cases, with enough nop's to go
+                                // over MaxInlineSize
+  static final String LOOP =
+    ".class public Loop\n"
+    + ".super java/lang/Object\n"
+    + ".method public static run(I)V\n"
+    + "  .limit stack 1\n"
+    + "  .limit locals 1\n"
+    + "Top:\n"
+    + "  iload_0\n"
+    + "  tableswitch 0\n"
+    + "    A\n"
+    + "    B\n"
+    + "    C\n"
+    + "    default : Out\n"
+    + "A:\n"
+    + "B:\n"
+    + "C:\n"
+    + "  nop\n  nop\n  nop\n  nop\n  nop\n"
+    + "  iinc 0 -1\n"
+    + "  goto Top\n"
+    + "Out:\n"
+    + "  return\n"
+    + ".end method\n"
+    + ".method public static small()V\n"
+    + "  nop\n"
+    + "  return\n"
+    + ".end method\n"
+    + ".method public abstract none()V\n"
+    + ".end method\n";
+
+  static void loop()
+    throws Exception
+  {
+    JitReport report = new JitReport();
+    roundtrip.assemble(reporting(report, PLAIN), LOOP);
+    String s = json(report);
+    roundtrip.check(report.size() == 2, "methods with code reported: " + s);
+    roundtrip.check(s.indexOf("\"method\": \"run\", \"descriptor\": \"(I)V\","
+                              + " \"code_size\": 40, \"max_stack\": 1,"
+                              + " \"max_locals\": 1, \"back_edges\": 1,"
+                              + " \"switches\": [3],"
+                              + " \"exceeds\": [\"MaxInlineSize\"]") >= 0,
+                    "loop and switch reported: " + s);
+  }
+
+                                // replacing one method of a class
+                                // reports that method only
+  static void patch()
+    throws Exception
+  {
+    byte orig[] = roundtrip.assemble(new ClassFile(), LOOP);
+    JitReport report = new JitReport();
+    ClassFile cf = reporting(report, PLAIN);
+    cf.setPatch(new ClassReader(ByteBuffer.wrap(orig)));
+    roundtrip.assemble(cf, ".class public Loop\n"
+                       + ".super java/lang/Object\n"
+                       + ".method public static small()V\n"
+                       + "  nop\n"
+                       + "  return\n"
+                       + ".end method\n");
+    String s = json(report);
+    roundtrip.check(report.size() == 1
+                    && s.indexOf("\"method\": \"small\"") >= 0,
+                    "patched method reported: " + s);
+  }
+
+  static int count(String text, String what)
+  {
+    int n = 0;
+    for (int i = text.indexOf(what); i >= 0; i = text.indexOf(what, i + 1))
+      n++;
+    return n;
+  }
+
+  static void jar(String path)
+    throws Exception
+  {
+    Hashtable texts = roundtrip.texts(path);
+    JitReport reports[] = { new JitReport(), new JitReport(),
+                            new JitReport() };
+    String modes[] = { "", " -stream", " -parallel" };
+    int methods = 0;
+    roundtrip.Loader l = new roundtrip.Loader();
+    for (Enumeration en = texts.keys(); en.hasMoreElements(); )
+      {
+        String name = (String)en.nextElement();
+        String text = (String)texts.get(name);
+        methods += count(text, "\n    .limit stack ");
+        for (int mode = PLAIN; mode <= PARALLEL; mode++)
+          {
+            ClassFile cf = reporting(reports[mode], mode);
+            try
+              {
+                byte b[] = roundtrip.assemble(cf, text);
+                if (mode == PLAIN)
+                  l.put(cf.getClassName(), b);
+              }
+            catch (Exception e)
+              { roundtrip.check(false, path + ": " + name + ": " + e.getMessage()); }
+          }
+      }
+    for (int mode = PLAIN; mode <= PARALLEL; mode++)
+      roundtrip.check(reports[mode].size() == methods,
+                      path + modes[mode] + ": " + reports[mode].size()
+                      + " of " + methods + " methods reported");
+    roundtrip.check(json(reports[PARALLEL]).equals(json(reports[PLAIN])),
+                    path + ": -parallel reports the same");
+    int n = l.linkAll(path);
+    System.out.println(path + ": " + n + " classes verified, " + methods
+                       + " methods reported");
+  }
+
+  public static void main(String args[])
+    throws Exception
+  {
+    loop();
+    patch();
+    for (int i = 0; i < args.length; i++)
+      jar(args[i]);
+    pool.shutdown();
+    roundtrip.done("every method with code is reported");
+  }
+}
@@ -0,0 +1,176 @@
+                                // Assemble old code with subroutines
+                                // into version 52 classes, with each
+                                // jsr given its own copy of the
+                                // subroutine (jasmin -nojsr) and the
+                                // frames computed, and check that a
+                                // finally block with a subroutine of
+                                // its own runs as it did with jsr and
+                                // ret, that a subroutine that calls
+                                // itself is an error, and that the
+                                // classes of some jars have no jsr or
+                                // ret left and verify.
+
+import jasmin.ClassFile;
+
+import java.lang.reflect.*;
+import java.util.*;
+import java.util.regex.*;
+
+public class jsr
+{
+  static ClassFile inlining(boolean nojsr)
+  {
+    ClassFile cf = new ClassFile();
+    cf.setInlineSubroutines(nojsr);
+    cf.setAutoFrames(nojsr);
+    return cf;
+  }
+
+                                // Fin, the finally block, is called
+                                // from the two returns and the
+                                // handler, and calls Inner; count
+                                // goes up by 11 each time
+  static final String FINALLY =
+    ".bytecode 49.0\n"
+    + ".class public Finally\n"
+    + ".super java/lang/Object\n"
+    + ".field public static count I\n"
+    + ".method public static run(I)I\n"
+    + "  .limit stack 3\n"
+    + "  .limit locals 4\n"
+    + "  .catch all from Try to EndTry using Handler\n"
+    + "Try:\n"
+    + "  iload_0\n"
+    + "  ifne Divide\n"
+    + "  jsr Fin\n"
+    + "  iconst_0\n"
+    + "  ireturn\n"
+    + "Divide:\n"
+    + "  bipush 100\n"
+    + "  iload_0\n"
+    + "  iconst_1\n"
+    + "  isub\n"
+    + "  idiv\n"
+    + "  istore_1\n"
+    + "  jsr Fin\n"
+    + "  iload_1\n"
+    + "  ireturn\n"
+    + "EndTry:\n"
+    + "Handler:\n"
+    + "  astore_1\n"
+    + "  jsr Fin\n"
+    + "  aload_1\n"
+    + "  athrow\n"
+    + "Fin:\n"
+    + "  astore_2\n"
+    + "  getstatic Finally/count I\n"
+    + "  iconst_1\n"
+    + "  iadd\n"
+    + "  putstatic Finally/count I\n"
+    + "  jsr Inner\n"
+    + "  ret 2\n"
+    + "Inner:\n"
+    + "  astore_3\n"
+    + "  getstatic Finally/count I\n"
+    + "  bipush 10\n"
+    + "  iadd\n"
+    + "  putstatic Finally/count I\n"
+    + "  ret 3\n"
+    + ".end method\n";
+
+  static final String SELF =
+    ".bytecode 49.0\n"
+    + ".class public Self\n"
+    + ".super java/lang/Object\n"
+    + ".method public static run()V\n"
+    + "  .limit stack 1\n"
+    + "  .limit locals 1\n"
+    + "  jsr Sub\n"
+    + "  return\n"
+    + "Sub:\n"
+    + "  astore_0\n"
+    + "  jsr Sub\n"
+    + "  ret 0\n"
+    + ".end method\n";
+
+  static Pattern SUBROUTINES = Pattern.compile("(?m)^\\s*(jsr|jsr_w|ret)\\b");
+
+  static String results(byte b[])
+    throws Exception
+  {
+    roundtrip.Loader l = new roundtrip.Loader();
+    l.put("Finally", b);
+    Class c = l.load("Finally");
+    Method run = c.getMethod("run", new Class[] { int.class });
+    StringBuffer res = new StringBuffer();
+    int args[] = { 0, 3, 1 };
+    for (int i = 0; i < args.length; i++)
+      {
+        try
+          { res.append(run.invoke(null, new Object[] { new Integer(args[i]) })); }
+        catch (InvocationTargetException e)
+          { res.append(e.getTargetException().getClass().getName()); }
+        res.append(' ');
+      }
+    return res.append(c.getField("count").get(null)).toString();
+  }
+
+  static void methods()
+    throws Exception
+  {
+    String old = results(roundtrip.assemble(inlining(false), FINALLY));
+    byte b[] = roundtrip.assemble(inlining(true),
+                                  roundtrip.version52(FINALLY));
+    String text = roundtrip.text(b);
+    roundtrip.check(!SUBROUTINES.matcher(text).find()
+                    && text.indexOf(".stack") >= 0,
+                    "subroutines copied, frames computed:\n" + text);
+    roundtrip.check(old.equals("0 50 java.lang.ArithmeticException 33")
+                    && results(b).equals(old),
+                    "copies run as the subroutines did: " + old + ", "
+                    + results(b));
+
+    String msg = null;
+    try
+      { roundtrip.assemble(inlining(true), roundtrip.version52(SELF)); }
+    catch (Exception e)
+      { msg = e.getMessage(); }
+    roundtrip.check(msg != null && msg.indexOf("calls itself") >= 0,
+                    "a subroutine that calls itself: " + msg);
+  }
+
+  static void jar(String path)
+    throws Exception
+  {
+    final int subs[] = new int[1];
+    roundtrip.Loader l = roundtrip.reassemble(path, new roundtrip.Maker()
+      {
+        ClassFile make()
+        { return inlining(true); }
+
+        String edit(String text)
+        {
+          for (Matcher m = SUBROUTINES.matcher(text); m.find(); )
+            subs[0]++;
+          return roundtrip.version52(frames.unframed(text));
+        }
+      });
+    int left = 0;
+    for (Enumeration en = l.classes.elements(); en.hasMoreElements(); )
+      if (SUBROUTINES.matcher(roundtrip.text((byte[])en.nextElement())).find())
+        left++;
+    roundtrip.check(left == 0, path + ": " + left + " classes with jsr or ret");
+    int n = l.linkAll(path);
+    System.out.println(path + ": " + n + " classes verified as version 52, "
+                       + subs[0] + " jsr's and ret's copied away");
+  }
+
+  public static void main(String args[])
+    throws Exception
+  {
+    methods();
+    for (int i = 0; i < args.length; i++)
+      jar(args[i]);
+    roundtrip.done("subroutines are copied and run as they did");
+  }
+}
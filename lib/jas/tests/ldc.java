@@ -0,0 +1,103 @@
+                                // Assemble classes with more than 256
+                                // constants and check that the ones
+                                // ldc loads get the low pool indices,
+                                // so that ldc doesn't have to become
+                                // ldc_w: for a class whose ldc'd
+                                // strings come last, and for the
+                                // classes of some jars with every
+                                // ldc_w written as ldc, which must
+                                // need no more ldc_w's than javac
+                                // gave them, and verify.
+
+import jasmin.ClassFile;
+
+import java.util.*;
+
+public class ldc
+{
+                                // 300 field references before the
+                                // 200 strings that are ldc'd
+  static String source()
+  {
+    StringBuffer b = new StringBuffer();
+    b.append(".class public Late\n"
+             + ".super java/lang/Object\n"
+             + ".method public static refs()V\n"
+             + "  .limit stack 1\n");
+    for (int i = 0; i < 300; i++)
+      b.append("  getstatic Late/f" + i + " I\n  pop\n");
+    b.append("  return\n"
+             + ".end method\n"
+             + ".method public static run()Ljava/lang/String;\n"
+             + "  .limit stack 1\n");
+    for (int i = 0; i < 200; i++)
+      b.append("  ldc \"s" + i + "\"\n  pop\n");
+    b.append("  ldc \"last\"\n"
+             + "  areturn\n"
+             + ".end method\n");
+    return b.toString();
+  }
+
+  static int count(String text, String what)
+  {
+    int n = 0;
+    for (int i = text.indexOf(what); i >= 0; i = text.indexOf(what, i + 1))
+      n++;
+    return n;
+  }
+
+  static void late()
+    throws Exception
+  {
+    byte b[] = roundtrip.assemble(new ClassFile(), source());
+    String text = roundtrip.text(b);
+    roundtrip.check(count(text, "ldc_w ") == 0, "ldc'd strings numbered first");
+    roundtrip.Loader l = new roundtrip.Loader();
+    l.put("Late", b);
+    Object v = l.load("Late").getMethod("run", new Class[0])
+      .invoke(null, new Object[0]);
+    roundtrip.check("last".equals(v), "last string");
+  }
+
+  static void jar(String path)
+    throws Exception
+  {
+    Hashtable texts = roundtrip.texts(path);
+    roundtrip.Loader l = new roundtrip.Loader();
+    int bad = 0, javac = 0, ours = 0;
+    for (Enumeration en = texts.keys(); en.hasMoreElements(); )
+      {
+        String name = (String)en.nextElement();
+        String text = (String)texts.get(name);
+        ClassFile cf = new ClassFile();
+        try
+          {
+            byte b[] = roundtrip.assemble(cf, text.replaceAll("\\bldc_w ",
+                                                              "ldc "));
+            l.put(cf.getClassName(), b);
+            int was = count(text, "ldc_w "), now = count(roundtrip.text(b),
+                                                          "ldc_w ");
+            javac += was;
+            ours += now;
+            if (now > was && bad++ < 5)
+              System.err.println(name + ": " + now + " ldc_w's, javac had "
+                                 + was);
+          }
+        catch (Exception e)
+          { roundtrip.check(false, path + ": " + name + ": " + e.getMessage()); }
+      }
+    roundtrip.check(bad == 0, path + ": " + bad + " classes with more ldc_w's");
+    int n = l.linkAll(path);
+    System.out.println(path + ": " + n + " classes verified, " + ours
+                       + " ldc_w's where javac had " + javac);
+  }
+
+  public static void main(String args[])
+    throws Exception
+  {
+    late();
+    for (int i = 0; i < args.length; i++)
+      jar(args[i]);
+    roundtrip.done("ldc'd constants get the low indices");
+  }
+}
@@ -0,0 +1,142 @@
+                                // Assemble classes with their limits
+                                // worked out by jasmin (-limits),
+                                // check the limits of some methods,
+                                // and that every class of some jars
+                                // verifies with its .limit lines taken
+                                // out, the limits coming out no
+                                // larger than javac made them.
+
+import jasmin.ClassFile;
+
+import java.util.*;
+
+public class limits
+{
+  static ClassFile computing()
+  {
+    ClassFile cf = new ClassFile();
+    cf.setAutoLimits(true);
+    return cf;
+  }
+
+                                // longs and doubles take two words,
+                                // on the stack and in the locals, and
+                                // an argument counts as a local even
+                                // if it is never loaded
+  static final String WIDE =
+    ".class public Wide\n"
+    + ".super java/lang/Object\n"
+    + ".method public static run(JI)D\n"
+    + "  lload_0\n"
+    + "  l2d\n"
+    + "  dup2\n"
+    + "  dup2\n"
+    + "  dadd\n"
+    + "  dadd\n"
+    + "  dstore 4\n"
+    + "  dload 4\n"
+    + "  dreturn\n"
+    + ".end method\n"
+    + ".method public run()V\n"
+    + "  nop\n"
+    + "  return\n"
+    + ".end method\n";
+
+                                // the .limit lines of a text, in order
+  static Vector limitLines(String text)
+  {
+    Vector res = new Vector();
+    for (int i = 0, end; i < text.length(); i = end)
+      {
+        end = text.indexOf('\n', i) + 1;
+        String line = text.substring(i, end).trim();
+        if (line.startsWith(".limit "))
+          res.addElement(line);
+      }
+    return res;
+  }
+
+  static String unlimited(String text)
+  {
+    StringBuffer b = new StringBuffer(text.length());
+    for (int i = 0, end; i < text.length(); i = end)
+      {
+        end = text.indexOf('\n', i) + 1;
+        if (!text.substring(i, end).trim().startsWith(".limit "))
+          b.append(text, i, end);
+      }
+    return b.toString();
+  }
+
+  static void methods()
+    throws Exception
+  {
+    byte b[] = roundtrip.assemble(computing(), WIDE);
+    Vector got = limitLines(roundtrip.text(b));
+    roundtrip.check(got.equals(Arrays.asList(new String[] {
+                      ".limit stack 6", ".limit locals 6",
+                      ".limit stack 0", ".limit locals 1" })),
+                    "limits of Wide: " + got);
+    roundtrip.Loader l = new roundtrip.Loader();
+    l.put("Wide", b);
+    Object r = l.load("Wide")
+      .getMethod("run", new Class[] { long.class, int.class })
+      .invoke(null, new Object[] { new Long(2), new Integer(0) });
+    roundtrip.check(new Double(6).equals(r), "Wide.run");
+  }
+
+                                // a computed limit is never larger
+                                // than the one javac gave
+  static int larger(String orig, String text)
+  {
+    Vector was = limitLines(orig), now = limitLines(text);
+    if (was.size() != now.size())
+      return 1;
+    int n = 0;
+    for (int i = 0; i < was.size(); i++)
+      {
+        String a = (String)was.elementAt(i), b = (String)now.elementAt(i);
+        int sp = a.lastIndexOf(' ');
+        if (!a.regionMatches(0, b, 0, sp)
+            || Integer.parseInt(b.substring(sp + 1))
+               > Integer.parseInt(a.substring(sp + 1)))
+          n++;
+      }
+    return n;
+  }
+
+  static void jar(String path)
+    throws Exception
+  {
+    Hashtable texts = roundtrip.texts(path);
+    roundtrip.Loader l = new roundtrip.Loader();
+    int bad = 0;
+    for (Enumeration en = texts.keys(); en.hasMoreElements(); )
+      {
+        String name = (String)en.nextElement();
+        String text = (String)texts.get(name);
+        ClassFile cf = computing();
+        try
+          {
+            byte b[] = roundtrip.assemble(cf, unlimited(text));
+            l.put(cf.getClassName(), b);
+            if (larger(text, roundtrip.text(b)) > 0 && bad++ < 5)
+              System.err.println(name + ": limits larger than javac's");
+          }
+        catch (Exception e)
+          { roundtrip.check(false, path + ": " + name + ": " + e.getMessage()); }
+      }
+    roundtrip.check(bad == 0, path + ": " + bad + " classes with larger limits");
+    int n = l.linkAll(path);
+    System.out.println(path + ": " + n + " classes verified");
+  }
+
+  public static void main(String args[])
+    throws Exception
+  {
+    methods();
+    for (int i = 0; i < args.length; i++)
+      jar(args[i]);
+    roundtrip.done("computed limits verify");
+  }
+}
@@ -0,0 +1,151 @@
+                                // Assemble classes with jasmin -g and
+                                // check that the line table gives
+                                // each instruction the line of the
+                                // source it was on: in a stack trace,
+                                // and for every instruction of the
+                                // classes of some jars, which must
+                                // also still verify.
+
+import jasmin.ClassFile;
+
+import java.io.*;
+import java.util.*;
+
+public class lines
+{
+  static byte[] numbered(String text)
+    throws Exception
+  {
+    ClassFile cf = new ClassFile();
+    cf.readJasmin(new StringReader(text), "Lines.j", true);
+    if (cf.errorCount() > 0)
+      throw new Exception(cf.errorCount() + " errors");
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    cf.write(out);
+    return out.toByteArray();
+  }
+
+                                // the exception comes from line 14;
+                                // labels, blank lines and directives
+                                // have no code of their own
+  static final String THROWS =
+    ".class public Lines\n"
+    + ".super java/lang/Object\n"
+    + ".method public static run(I)I\n"
+    + "  .limit stack 2\n"
+    + "  .limit locals 1\n"
+    + "  iload_0\n"
+    + "  ifeq Zero\n"
+    + "  iconst_1\n"
+    + "  ireturn\n"
+    + "Zero:\n"
+    + "\n"
+    + "  iconst_1\n"
+    + "  iload_0\n"
+    + "  idiv\n"
+    + "  ireturn\n"
+    + ".end method\n";
+
+  static void trace()
+    throws Exception
+  {
+    roundtrip.Loader l = new roundtrip.Loader();
+    l.put("Lines", numbered(THROWS));
+    int line = -1;
+    try
+      {
+        l.load("Lines").getMethod("run", new Class[] { int.class })
+          .invoke(null, new Object[] { new Integer(0) });
+      }
+    catch (java.lang.reflect.InvocationTargetException e)
+      {
+        StackTraceElement at = e.getCause().getStackTrace()[0];
+        if (at.getClassName().equals("Lines"))
+          line = at.getLineNumber();
+      }
+    roundtrip.check(line == 14, "line in a stack trace: " + line);
+  }
+
+  static String[] split(String text)
+  {
+    return text.split("\n", -1);
+  }
+
+  static String word(String line)
+  {
+    String s = line.trim();
+    int sp = s.indexOf(' ');
+    return (sp < 0) ? s : s.substring(0, sp);
+  }
+
+                                // the text without its own .line
+                                // directives
+  static String unnumbered(String text)
+  {
+    StringBuffer b = new StringBuffer(text.length());
+    String l[] = split(text);
+    for (int i = 0; i < l.length - 1; i++)
+      if (!l[i].trim().startsWith(".line "))
+        b.append(l[i]).append('\n');
+    return b.toString();
+  }
+
+  static int checked = 0;      // .line's looked at in a jar
+
+                                // lines of the source whose
+                                // instruction is not the one the line
+                                // table of the result gives them
+  static int wrong(String source, String result)
+  {
+    String src[] = split(source), res[] = split(result);
+    int bad = 0;
+    for (int i = 0; i + 1 < res.length; i++)
+      {
+        String s = res[i].trim();
+        if (!s.startsWith(".line "))
+          continue;
+        int n = Integer.parseInt(s.substring(6).trim());
+        checked++;
+        if (n < 1 || n > src.length
+            || !word(src[n - 1]).equals(word(res[i + 1])))
+          bad++;
+      }
+    return bad;
+  }
+
+  static void jar(String path)
+    throws Exception
+  {
+    Hashtable texts = roundtrip.texts(path);
+    roundtrip.Loader l = new roundtrip.Loader();
+    int bad = 0;
+    for (Enumeration en = texts.keys(); en.hasMoreElements(); )
+      {
+        String name = (String)en.nextElement();
+        String text = unnumbered((String)texts.get(name));
+        try
+          {
+            byte b[] = numbered(text);
+            l.put(name.substring(0, name.length() - 6), b);
+            if (wrong(text, roundtrip.text(b)) > 0 && bad++ < 5)
+              System.err.println(name + ": instructions on the wrong line");
+          }
+        catch (Exception e)
+          { roundtrip.check(false, path + ": " + name + ": " + e.getMessage()); }
+      }
+    roundtrip.check(bad == 0, path + ": " + bad + " classes with wrong lines");
+    int n = l.linkAll(path);
+    System.out.println(path + ": " + n + " classes verified, " + checked
+                       + " lines checked");
+    checked = 0;
+  }
+
+  public static void main(String args[])
+    throws Exception
+  {
+    trace();
+    for (int i = 0; i < args.length; i++)
+      jar(args[i]);
+    roundtrip.done("line numbers are where the instructions are");
+  }
+}
@@ -0,0 +1,186 @@
+                                // Assemble a nest whose host and
+                                // member call each other's private
+                                // methods, and check that they run
+                                // and that the JVM sees the nest, that
+                                // the ways a nest can be written
+                                // wrong are errors, and that the nest
+                                // javac made of this class and its
+                                // own nested class comes out the same
+                                // when assembled again. Needs a JVM
+                                // of version 11 or later.
+
+import jasmin.ClassFile;
+
+import java.io.*;
+import java.util.*;
+
+public class nests
+{
+                                // the host calls a private method of
+                                // its member, which calls a private
+                                // static and a private instance
+                                // method of its host
+  static final String HOST =
+    ".bytecode 55.0\n"
+    + ".class public p/Outer\n"
+    + ".super java/lang/Object\n"
+    + ".nestmember p/Outer$In\n"
+    + ".method public <init>()V\n"
+    + "  .limit stack 1\n"
+    + "  aload_0\n"
+    + "  invokespecial java/lang/Object/<init>()V\n"
+    + "  return\n"
+    + ".end method\n"
+    + ".method private static secret()I\n"
+    + "  .limit stack 1\n"
+    + "  bipush 20\n"
+    + "  ireturn\n"
+    + ".end method\n"
+    + ".method private twice(I)I\n"
+    + "  .limit stack 2\n"
+    + "  .limit locals 2\n"
+    + "  iload_1\n"
+    + "  iload_1\n"
+    + "  iadd\n"
+    + "  ireturn\n"
+    + ".end method\n"
+    + ".method public static run()I\n"
+    + "  .limit stack 1\n"
+    + "  invokestatic p/Outer$In/hidden()I\n"
+    + "  ireturn\n"
+    + ".end method\n";
+
+  static final String MEMBER =
+    ".bytecode 55.0\n"
+    + ".class p/Outer$In\n"
+    + ".super java/lang/Object\n"
+    + ".nesthost p/Outer\n"
+    + ".method private static hidden()I\n"
+    + "  .limit stack 3\n"
+    + "  new p/Outer\n"
+    + "  dup\n"
+    + "  invokespecial p/Outer/<init>()V\n"
+    + "  invokestatic p/Outer/secret()I\n"
+    + "  invokevirtual p/Outer/twice(I)I\n"
+    + "  iconst_2\n"
+    + "  iadd\n"
+    + "  ireturn\n"
+    + ".end method\n";
+
+  static Object reflect(Class c, String name)
+    throws Exception
+  {
+    return Class.class.getMethod(name, new Class[0]).invoke(c, new Object[0]);
+  }
+
+  static void nest()
+    throws Exception
+  {
+    roundtrip.Loader l = new roundtrip.Loader();
+    l.put("p/Outer", roundtrip.assemble(new ClassFile(), HOST));
+    l.put("p/Outer$In", roundtrip.assemble(new ClassFile(), MEMBER));
+    Class host = l.load("p/Outer"), member = l.load("p/Outer$In");
+    roundtrip.check(new Integer(42).equals(host.getMethod("run", new Class[0])
+                                           .invoke(null, new Object[0])),
+                    "private methods called across the nest");
+    Object members[] = (Object[])reflect(host, "getNestMembers");
+    roundtrip.check(reflect(member, "getNestHost") == host
+                    && members.length == 2 && members[1] == member,
+                    "the JVM sees the nest");
+  }
+
+  static final String WRONG[][] = {
+    { ".nestmember p/B\n.nesthost p/C\n", "can't have a nest host" },
+    { ".nesthost p/C\n.nestmember p/B\n", "can't have nest members" },
+    { ".nesthost p/C\n.nesthost p/D\n", "already has a nest host" },
+    { ".nestmember p/B\n.nestmember p/B\n", "already a nest member" },
+    { ".nestmember p/A\n", "its own nestmate" },
+    { ".nesthost q/C\n", "not in the package" },
+  };
+
+  static void wrong()
+    throws Exception
+  {
+    for (int i = 0; i <= WRONG.length; i++)
+      {
+        String text, what;
+        if (i < WRONG.length)
+          {
+            text = ".bytecode 55.0\n.class p/A\n.super java/lang/Object\n"
+              + WRONG[i][0];
+            what = WRONG[i][1];
+          }
+        else
+          {
+            text = ".bytecode 52.0\n.class p/A\n.super java/lang/Object\n"
+              + ".nesthost p/C\n";
+            what = "version 55";
+          }
+        String msg = null;
+        try
+          { roundtrip.assemble(new ClassFile(), text); }
+        catch (Exception e)
+          { msg = e.getMessage(); }
+        roundtrip.check(msg != null && msg.indexOf(what) >= 0,
+                        "error for " + text.substring(text.indexOf(".super"))
+                        + ": " + msg);
+      }
+  }
+
+                                // a nest javac made
+  static class Pair
+  {
+    private int first, second;
+
+    private int sum()
+    { return first + second; }
+  }
+
+  static int pair()
+  {
+    Pair p = new Pair();
+    p.first = 40;
+    p.second = 2;
+    return p.sum();
+  }
+
+  static byte[] bytes(String name)
+    throws IOException
+  {
+    InputStream in = nests.class.getResourceAsStream(name + ".class");
+    ByteArrayOutputStream b = new ByteArrayOutputStream();
+    for (int n; (n = in.read()) >= 0; )
+      b.write(n);
+    in.close();
+    return b.toByteArray();
+  }
+
+  static void javac()
+    throws Exception
+  {
+    String names[] = { "nests", "nests$Pair" };
+    String dirs[] = { ".nestmember nests$Pair", ".nesthost nests" };
+    for (int i = 0; i < names.length; i++)
+      {
+        String text = roundtrip.text(bytes(names[i]));
+        if (text.indexOf(dirs[i]) < 0)
+          {
+            System.out.println(names[i] + ": not compiled for version 55");
+            continue;
+          }
+        String again = roundtrip.text(roundtrip.assemble(new ClassFile(), text));
+        roundtrip.check(streaming.normal(again).equals(streaming.normal(text)),
+                        names[i] + " assembled again");
+      }
+    roundtrip.check(pair() == 42, "javac's nest");
+  }
+
+  public static void main(String args[])
+    throws Exception
+  {
+    nest();
+    wrong();
+    javac();
+    roundtrip.done("nestmates call each other's private methods");
+  }
+}
@@ -0,0 +1,108 @@
+                                // Assemble classes with their methods
+                                // encoded on a fork-join pool (jasmin
+                                // -parallel), and check that the
+                                // error reported is the one of the
+                                // first broken method, and that every
+                                // class of some jars comes out byte
+                                // for byte as a sequential write
+                                // gives it, and verifies.
+
+import jasmin.ClassFile;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+
+public class parallel
+{
+  static ForkJoinPool pool = new ForkJoinPool(4);
+
+  static ClassFile writing(boolean parallel)
+  {
+    ClassFile cf = new ClassFile();
+    if (parallel)
+      cf.setWritePool(pool);
+    return cf;
+  }
+
+                                // many methods that are quick to
+                                // encode, then two broken ones, so
+                                // the second may well fail first
+  static String broken()
+  {
+    StringBuffer b = new StringBuffer();
+    b.append(".class public Broken\n"
+             + ".super java/lang/Object\n");
+    for (int i = 0; i < 200; i++)
+      b.append(".method public static m" + i + "()V\n"
+               + "  .limit stack 0\n"
+               + "  return\n"
+               + ".end method\n");
+    b.append(".method public static first()V\n"
+             + "  .limit stack 1\n");
+    for (int i = 0; i < 2000; i++)
+      b.append("  iconst_0\n  pop\n");
+    b.append("  goto First\n"
+             + ".end method\n"
+             + ".method public static second()V\n"
+             + "  .limit stack 0\n"
+             + "  goto Second\n"
+             + ".end method\n");
+    return b.toString();
+  }
+
+  static void firstError()
+    throws Exception
+  {
+    String text = broken();
+    for (int i = 0; i < 20; i++)
+      {
+        String msg = null;
+        try
+          { roundtrip.assemble(writing(true), text); }
+        catch (Exception e)
+          { msg = e.getMessage(); }
+        if (msg == null || msg.indexOf("First") < 0)
+          {
+            roundtrip.check(false, "first error in method order: " + msg);
+            return;
+          }
+      }
+  }
+
+  static void jar(String path)
+    throws Exception
+  {
+    Hashtable texts = roundtrip.texts(path);
+    roundtrip.Loader l = new roundtrip.Loader();
+    int bad = 0;
+    for (Enumeration en = texts.keys(); en.hasMoreElements(); )
+      {
+        String name = (String)en.nextElement();
+        String text = (String)texts.get(name);
+        ClassFile cf = writing(true);
+        try
+          {
+            byte b[] = roundtrip.assemble(cf, text);
+            l.put(cf.getClassName(), b);
+            if (!Arrays.equals(b, roundtrip.assemble(writing(false), text))
+                && bad++ < 5)
+              System.err.println(name + ": parallel write differs");
+          }
+        catch (Exception e)
+          { roundtrip.check(false, path + ": " + name + ": " + e.getMessage()); }
+      }
+    roundtrip.check(bad == 0, path + ": " + bad + " classes differ");
+    int n = l.linkAll(path);
+    System.out.println(path + ": " + n + " classes verified");
+  }
+
+  public static void main(String args[])
+    throws Exception
+  {
+    firstError();
+    for (int i = 0; i < args.length; i++)
+      jar(args[i]);
+    pool.shutdown();
+    roundtrip.done("classes written in parallel are the same");
+  }
+}
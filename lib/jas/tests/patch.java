@@ -0,0 +1,162 @@
+                                // Patch the largest method of every
+                                // class of some jars with its own
+                                // disassembled text, and check that
+                                // the class disassembles as before.
+                                // Times patching against assembling
+                                // the whole class again.
+
+import jas.ClassReader;
+import jasmin.ClassFile;
+import jasmin.Disassembler;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.util.*;
+import java.util.zip.*;
+
+public class patch
+{
+  static String text(byte b[])
+    throws Exception
+  {
+    StringWriter w = new StringWriter(b.length * 4);
+    new Disassembler(new ClassReader(ByteBuffer.wrap(b))).write(w);
+    return w.toString();
+  }
+
+  static byte[] assemble(String text, byte orig[])
+    throws Exception
+  {
+    ClassFile cf = new ClassFile();
+    if (orig != null)
+      cf.setPatch(new ClassReader(ByteBuffer.wrap(orig)));
+    cf.readJasmin(new StringReader(text), "patch.j", false);
+    if (cf.errorCount() > 0)
+      throw new Exception(cf.errorCount() + " errors");
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    cf.write(out);
+    return out.toByteArray();
+  }
+
+                                // the header and the longest method
+                                // of a disassembled class, or null
+  static String largest(String text)
+  {
+    StringBuffer head = new StringBuffer();
+    String best = null;
+    int i = 0;
+    while (i < text.length())
+      {
+        int end = text.indexOf('\n', i) + 1;
+        String line = text.substring(i, end);
+        if (line.startsWith(".bytecode") || line.startsWith(".class")
+            || line.startsWith(".interface") || line.startsWith(".super"))
+          head.append(line);
+        if (line.startsWith(".method"))
+          {
+            int stop = text.indexOf("\n.end method\n", i) + 13;
+            String m = text.substring(i, stop);
+            if (m.indexOf(".limit stack") >= 0
+                && (best == null || m.length() > best.length()))
+              best = m;
+            end = stop;
+          }
+        i = end;
+      }
+    return (best == null) ? null : head + best;
+  }
+
+                                // the text without the comments for
+                                // attributes that were left out
+  static String kept(String text)
+  {
+    StringBuffer b = new StringBuffer(text.length());
+    for (int i = 0, end; i < text.length(); i = end)
+      {
+        end = text.indexOf('\n', i) + 1;
+        if (!text.substring(i, end).trim().startsWith("; skipped attribute "))
+          b.append(text, i, end);
+      }
+    return b.toString();
+  }
+
+  public static void main(String args[])
+    throws Exception
+  {
+    if (args.length == 0)
+      {
+        System.err.println("usage: java patch <jar> ...");
+        System.exit(1);
+      }
+    boolean ok = true;
+    for (int a = 0; a < args.length; a++)
+      ok &= jar(args[a]);
+    System.exit(ok ? 0 : 1);
+  }
+
+  static boolean jar(String path)
+    throws Exception
+  {
+    ZipFile zip = new ZipFile(path);
+    Vector names = new Vector();
+    Vector texts = new Vector();
+    Vector classes = new Vector();
+    for (Enumeration en = zip.entries(); en.hasMoreElements(); )
+      {
+        ZipEntry e = (ZipEntry)en.nextElement();
+        if (!e.getName().endsWith(".class")
+            || e.getName().endsWith("module-info.class"))
+          continue;
+        byte b[] = Disassembler.readEntry(zip, e);
+        try
+          {
+            texts.addElement(text(b));
+            names.addElement(e.getName());
+            classes.addElement(b);
+          }
+        catch (Exception ex)
+          { }                   // see disasm.java
+      }
+    zip.close();
+
+    int n = names.size(), patched = 0, bad = 0;
+    long whole = 0, part = 0, in = 0, out = 0;
+    for (int i = 0; i < n; i++)
+      {
+        String text = (String)texts.elementAt(i);
+        byte orig[] = (byte[])classes.elementAt(i);
+        String fix = largest(text);
+        if (fix == null)
+          continue;
+        try
+          {
+            long t0 = System.nanoTime();
+            assemble(text, null);
+            long t1 = System.nanoTime();
+            byte b[] = assemble(fix, orig);
+            long t2 = System.nanoTime();
+            whole += t1 - t0;
+            part += t2 - t1;
+            in += orig.length;
+            out += b.length;
+            patched++;
+            if (!kept(text(b)).equals(kept(text)))
+              {
+                if (bad++ < 5)
+                  System.out.println(names.elementAt(i)
+                                     + ": patched class differs");
+              }
+          }
+        catch (Exception ex)
+          {
+            if (bad++ < 5)
+              System.out.println(names.elementAt(i) + ": " + ex.getMessage());
+          }
+      }
+    System.out.println(path + ": patched " + patched + " classes ("
+                       + in / 1024 + "K, " + out / 1024 + "K after)");
+    System.out.println("  whole class " + whole / 1000000 + " ms, patch "
+                       + part / 1000000 + " ms, " + bad + " differ");
+    return bad == 0;
+  }
+}
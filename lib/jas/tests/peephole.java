@@ -0,0 +1,199 @@
+                                // Assemble classes with jasmin -O,
+                                // check that some methods come out
+                                // smaller and still do what they did,
+                                // and that every class of some jars
+                                // verifies, also with -nojsr and
+                                // -frames at version 52, where dead
+                                // code left in a handler range would
+                                // leave no frame to be computed.
+
+import jasmin.ClassFile;
+
+import java.lang.reflect.Method;
+
+public class peephole
+{
+  static ClassFile optimizing(boolean frames)
+  {
+    ClassFile cf = new ClassFile();
+    cf.setOptimize(true);
+    cf.setInlineSubroutines(frames);
+    cf.setAutoFrames(frames);
+    return cf;
+  }
+
+                                // the goto at Spin can't be reached,
+                                // but jumps to itself and is in the
+                                // range of a handler
+  static final String DEAD =
+    ".bytecode 52.0\n"
+    + ".class public Dead\n"
+    + ".super java/lang/Object\n"
+    + ".method public static run(I)I\n"
+    + "  .limit stack 2\n"
+    + "  .limit locals 1\n"
+    + "  .catch java/lang/ArithmeticException from Try to End using Caught\n"
+    + "Try:\n"
+    + "  bipush 10\n"
+    + "  iload_0\n"
+    + "  idiv\n"
+    + "  goto Out\n"
+    + "Spin:\n"
+    + "  goto Spin\n"
+    + "End:\n"
+    + "Out:\n"
+    + "  ireturn\n"
+    + "Caught:\n"
+    + "  pop\n"
+    + "  iconst_m1\n"
+    + "  ireturn\n"
+    + ".end method\n";
+
+                                // jumps through goto's, a goto to a
+                                // return, and a load and store that
+                                // cancel out
+  static final String JUMPS =
+    ".class public Jumps\n"
+    + ".super java/lang/Object\n"
+    + ".method public static run(I)I\n"
+    + "  .limit stack 2\n"
+    + "  .limit locals 1\n"
+    + "  iload_0\n"
+    + "  istore_0\n"
+    + "  iload_0\n"
+    + "  ifeq First\n"
+    + "  sipush 7\n"
+    + "  goto Done\n"
+    + "First:\n"
+    + "  goto Second\n"
+    + "Second:\n"
+    + "  ldc 3\n"
+    + "  goto Done\n"
+    + "Done:\n"
+    + "  goto Leave\n"
+    + "Leave:\n"
+    + "  ireturn\n"
+    + ".end method\n";
+
+                                // long and double constants that
+                                // have instructions of their own,
+                                // and -0.0, which hasn't
+  static final String WIDE =
+    ".class public Wide\n"
+    + ".super java/lang/Object\n"
+    + ".method public static longs()J\n"
+    + "  .limit stack 4\n"
+    + "  ldc2_w 0\n"
+    + "  ldc2_w 1\n"
+    + "  ladd\n"
+    + "  lreturn\n"
+    + ".end method\n"
+    + ".method public static doubles()D\n"
+    + "  .limit stack 4\n"
+    + "  ldc2_w 0.0\n"
+    + "  ldc2_w 1.0\n"
+    + "  dadd\n"
+    + "  ldc2_w -0.0\n"
+    + "  dmul\n"
+    + "  dreturn\n"
+    + ".end method\n";
+
+                                // a store and a load of the same
+                                // local, with the .var range of the
+                                // local starting before them or
+                                // between them
+  static String stored(boolean labelled)
+  {
+    return ".class public Stored\n"
+      + ".super java/lang/Object\n"
+      + ".method public static run(I)I\n"
+      + "  .var 4 is x I from Start to End\n"
+      + (labelled ? "" : "Start:\n")
+      + "  iload_0\n"
+      + "  istore 4\n"
+      + (labelled ? "Start:\n" : "")
+      + "  iload 4\n"
+      + "  ireturn\n"
+      + "End:\n"
+      + ".end method\n";
+  }
+
+  static ClassFile limiting()
+  {
+    ClassFile cf = optimizing(false);
+    cf.setAutoLimits(true);
+    return cf;
+  }
+
+  static void methods()
+    throws Exception
+  {
+    roundtrip.Loader l = new roundtrip.Loader();
+    l.put("Dead", roundtrip.assemble(optimizing(true), DEAD));
+    Method run = l.load("Dead").getMethod("run", new Class[] { int.class });
+    roundtrip.check(new Integer(5).equals(run.invoke(null, new Object[] { new Integer(2) }))
+                    && new Integer(-1).equals(run.invoke(null, new Object[] { new Integer(0) })),
+                    "dead code in a handler range");
+
+    byte plain[] = roundtrip.assemble(new ClassFile(), JUMPS);
+    byte small[] = roundtrip.assemble(optimizing(false), JUMPS);
+    roundtrip.check(small.length < plain.length, "jumps made shorter");
+    l.put("Jumps", small);
+    run = l.load("Jumps").getMethod("run", new Class[] { int.class });
+    roundtrip.check(new Integer(7).equals(run.invoke(null, new Object[] { new Integer(1) }))
+                    && new Integer(3).equals(run.invoke(null, new Object[] { new Integer(0) })),
+                    "threaded jumps");
+
+    byte wide[] = roundtrip.assemble(optimizing(false), WIDE);
+    String text = roundtrip.text(wide);
+    roundtrip.check(text.indexOf("lconst_0") >= 0 && text.indexOf("lconst_1") >= 0
+                    && text.indexOf("dconst_0") >= 0 && text.indexOf("dconst_1") >= 0
+                    && text.indexOf("ldc2_w") == text.lastIndexOf("ldc2_w")
+                    && text.indexOf("ldc2_w") >= 0,
+                    "long and double constants shortened:\n" + text);
+    l.put("Wide", wide);
+    Class c = l.load("Wide");
+    roundtrip.check(Long.valueOf(1).equals(c.getMethod("longs", new Class[0])
+                                        .invoke(null, new Object[0]))
+                    && Double.valueOf(-0.0).equals(c.getMethod("doubles", new Class[0])
+                                                .invoke(null, new Object[0])),
+                    "shortened constants");
+
+    text = roundtrip.text(roundtrip.assemble(limiting(), stored(false)));
+    roundtrip.check(text.indexOf("dup") >= 0,
+                    "a store and a load made a dup:\n" + text);
+    text = roundtrip.text(roundtrip.assemble(limiting(), stored(true)));
+    roundtrip.check(text.indexOf("dup") < 0 && text.indexOf(".var 4") >= 0,
+                    "no store moved past the start of a .var:\n" + text);
+  }
+
+  static void jar(String path)
+    throws Exception
+  {
+    int n = roundtrip.reassemble(path, new roundtrip.Maker()
+      {
+        ClassFile make()
+        { return optimizing(false); }
+      }).linkAll(path + " -O");
+    roundtrip.Loader l = roundtrip.reassemble(path, new roundtrip.Maker()
+      {
+        ClassFile make()
+        { return optimizing(true); }
+
+        String edit(String text)
+        { return roundtrip.version52(text); }
+      });
+    int m = l.linkAll(path + " -nojsr -frames -O");
+    System.out.println(path + ": " + n + " classes verified with -O, "
+                       + m + " with -nojsr -frames -O");
+  }
+
+  public static void main(String args[])
+    throws Exception
+  {
+    methods();
+    for (int i = 0; i < args.length; i++)
+      jar(args[i]);
+    roundtrip.done("optimized classes verify");
+  }
+}
@@ -0,0 +1,200 @@
+                                // What the round trip tests share:
+                                // the classes of a jar as Jasmin
+                                // text, assembling it again with
+                                // some options set, and a loader that
+                                // links, and so verifies, what that
+                                // gives.
+
+import jas.ClassReader;
+import jasmin.ClassFile;
+import jasmin.Disassembler;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.util.*;
+import java.util.zip.*;
+
+public class roundtrip
+{
+  static int failures = 0;
+
+  static void check(boolean ok, String what)
+  {
+    if (!ok)
+      {
+        System.err.println("failed: " + what);
+        failures++;
+      }
+  }
+
+                                // exits with 1 if a check failed
+  static void done(String what)
+  {
+    if (failures > 0)
+      {
+        System.err.println(failures + " checks failed");
+        System.exit(1);
+      }
+    System.out.println(what);
+  }
+
+  static String text(byte b[])
+    throws Exception
+  {
+    StringWriter w = new StringWriter(b.length * 4);
+    new Disassembler(new ClassReader(ByteBuffer.wrap(b))).write(w);
+    return w.toString();
+  }
+
+                                // the text of every class of a jar
+                                // that disassembles, by entry name
+  static Hashtable texts(String jar)
+    throws Exception
+  {
+    Hashtable res = new Hashtable();
+    ZipFile zip = new ZipFile(jar);
+    for (Enumeration en = zip.entries(); en.hasMoreElements(); )
+      {
+        ZipEntry e = (ZipEntry)en.nextElement();
+        if (!e.getName().endsWith(".class")
+            || e.getName().endsWith("module-info.class"))
+          continue;
+        try
+          { res.put(e.getName(), text(Disassembler.readEntry(zip, e))); }
+        catch (Exception ex)
+          { }                   // see disasm.java
+      }
+    zip.close();
+    return res;
+  }
+
+                                // assembled with whatever cf was set
+                                // up with; errors are an exception
+                                // with the messages
+  static byte[] assemble(ClassFile cf, String text)
+    throws Exception
+  {
+    ByteArrayOutputStream msgs = new ByteArrayOutputStream();
+    cf.setErrorStream(new PrintStream(msgs));
+    cf.readJasmin(new StringReader(text), "roundtrip.j", false);
+    if (cf.errorCount() == 0)
+      {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        cf.write(out);
+        if (cf.errorCount() == 0)
+          return out.toByteArray();
+      }
+    throw new Exception(msgs.toString().trim());
+  }
+
+                                // the text moved to class file
+                                // version 52, without the nest
+                                // directives a later javac writes,
+                                // which need version 55
+  static String version52(String text)
+  {
+    return text.replaceFirst("(?m)^\\.bytecode .*$", ".bytecode 52.0")
+      .replaceAll("(?m)^\\s*\\.(nesthost|nestmember) .*\n", "");
+  }
+
+                                // finds classes among those put in
+                                // it, and by default nowhere else,
+                                // so the ones that are tested can't
+                                // come from the class path instead
+  static class Loader extends ClassLoader
+  {
+    Hashtable classes = new Hashtable();
+
+    Loader()
+    { super(null); }
+
+    Loader(ClassLoader parent)
+    { super(parent); }
+
+    void put(String name, byte b[])
+    { classes.put(name.replace('/', '.'), b); }
+
+    protected Class findClass(String name)
+      throws ClassNotFoundException
+    {
+      byte b[] = (byte[])classes.get(name);
+      if (b == null)
+        throw new ClassNotFoundException(name);
+      return defineClass(name, b, 0, b.length);
+    }
+
+    Class load(String name)
+      throws ClassNotFoundException
+    {
+      Class c = Class.forName(name.replace('/', '.'), false, this);
+      c.getDeclaredMethods();   // links it
+      return c;
+    }
+
+                                // links every class, and reports
+                                // those that the JVM rejects; a
+                                // class that needs one the jar
+                                // doesn't have is left out
+    int linkAll(String what)
+    {
+      int bad = 0;
+      for (Enumeration en = classes.keys(); en.hasMoreElements(); )
+        {
+          String name = (String)en.nextElement();
+          try
+            { load(name); }
+          catch (NoClassDefFoundError e)
+            { }
+          catch (ClassNotFoundException e)
+            { }
+          catch (LinkageError e)
+            {
+              if (bad++ < 5)
+                System.err.println(what + ": " + name + ": " + e);
+            }
+        }
+      check(bad == 0, what + ": " + bad + " classes rejected");
+      return classes.size() - bad;
+    }
+  }
+
+                                // how the classes of a jar are
+                                // assembled again: the ClassFile to
+                                // use, and what to change in the text
+                                // first, if anything
+  static abstract class Maker
+  {
+    abstract ClassFile make();
+
+    String edit(String text)
+    { return text; }
+  }
+
+                                // every class of the jar assembled
+                                // again as make says, into a fresh
+                                // loader; a class that needs one the
+                                // class path doesn't have is left
+                                // out, as in linkAll
+  static Loader reassemble(String jar, Maker make)
+    throws Exception
+  {
+    Hashtable texts = texts(jar);
+    Loader l = new Loader();
+    for (Enumeration en = texts.keys(); en.hasMoreElements(); )
+      {
+        String name = (String)en.nextElement();
+        ClassFile cf = make.make();
+        try
+          {
+            byte b[] = assemble(cf, make.edit((String)texts.get(name)));
+            l.put(cf.getClassName(), b);
+          }
+        catch (Exception e)
+          {
+            if (e.getMessage().indexOf("can't find class") < 0)
+              check(false, jar + ": " + name + ": " + e.getMessage());
+          }
+      }
+    return l;
+  }
+}
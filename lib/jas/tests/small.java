@@ -0,0 +1,186 @@
+                                // Assemble files with jasmin -small,
+                                // and check that the size and saving
+                                // it reports are those of the class
+                                // written and of the class assembled
+                                // without it, that the class has no
+                                // debugging information left, has the
+                                // short forms of its instructions and
+                                // runs as before, and that the
+                                // classes of some jars are measured
+                                // the same way, are no larger and
+                                // verify.
+
+import jas.ClassReader;
+import jasmin.ClassFile;
+import jasmin.Main;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.util.*;
+
+public class small
+{
+                                // written with long forms and with
+                                // debugging information
+  static final String SHORTER =
+    ".source Shorter.j\n"
+    + ".class public Shorter\n"
+    + ".super java/lang/Object\n"
+    + ".method public static run(I)I\n"
+    + "  .limit stack 2\n"
+    + "  .limit locals 2\n"
+    + "  .var 0 is n I from Start to End\n"
+    + "  .var 1 is r I from Start to End\n"
+    + "Start:\n"
+    + "  .line 1\n"
+    + "  ldc_w 40\n"
+    + "  istore_w 1\n"
+    + "  .line 2\n"
+    + "  iload_w 0\n"
+    + "  ifne Add\n"
+    + "  goto_w Done\n"
+    + "Add:\n"
+    + "  .line 3\n"
+    + "  iload_w 1\n"
+    + "  iload_w 0\n"
+    + "  iadd\n"
+    + "  istore_w 1\n"
+    + "Done:\n"
+    + "  .line 4\n"
+    + "  iload_w 1\n"
+    + "  ireturn\n"
+    + "End:\n"
+    + ".end method\n"
+    + ".method public static wide()D\n"
+    + "  .limit stack 4\n"
+    + "  ldc2_w 0\n"
+    + "  l2d\n"
+    + "  ldc2_w 1.0\n"
+    + "  dadd\n"
+    + "  dreturn\n"
+    + ".end method\n";
+
+  static String[] LONG = { ".source", ".line", ".var", "ldc_w", "_w " };
+
+  static File dir(String name)
+    throws IOException
+  {
+    File d = File.createTempFile(name, "");
+    d.delete();
+    d.mkdirs();
+    return d;
+  }
+
+                                // the length of the code of the
+                                // method of that name
+  static int codeLength(byte b[], String name)
+    throws Exception
+  {
+    ClassReader r = new ClassReader(ByteBuffer.wrap(b));
+    for (int i = 0; i < r.getMethodCount(); i++)
+      if (name.equals(r.memberName(r.getMethod(i))))
+        {                       // after max_stack and max_locals
+          int code = r.findAttribute(r.memberAttributes(r.getMethod(i)),
+                                     "Code");
+          return r.u4(code + 4);
+        }
+    return -1;
+  }
+
+  static void file()
+    throws Exception
+  {
+    File src = dir("src"), out = dir("out");
+    File f = new File(src, "Shorter.j");
+    Writer w = new OutputStreamWriter(new FileOutputStream(f), "UTF-8");
+    w.write(SHORTER);
+    w.close();
+    PrintStream stdout = System.out;
+    ByteArrayOutputStream msg = new ByteArrayOutputStream();
+    System.setOut(new PrintStream(msg, true));
+    try
+      { new Main().run(new String[] { "-d", out.getPath(), "-small",
+                                      f.getPath() }); }
+    finally
+      { System.setOut(stdout); }
+
+    File c = new File(out, "Shorter.class");
+    byte b[] = new byte[(int)c.length()];
+    DataInputStream in = new DataInputStream(new FileInputStream(c));
+    in.readFully(b);
+    in.close();
+    int normal = roundtrip.assemble(new ClassFile(), SHORTER).length;
+    String note = "(" + b.length + " bytes, " + (normal - b.length)
+      + " saved)";
+    roundtrip.check(b.length < normal && msg.toString().indexOf(note) >= 0,
+                    "size and saving reported as " + note + ": " + msg);
+
+    String text = roundtrip.text(b);
+    for (int i = 0; i < LONG.length; i++)
+      roundtrip.check(text.indexOf(LONG[i]) < 0,
+                      "no " + LONG[i].trim() + " left:\n" + text);
+                                // the two ldc2_w's of three bytes
+                                // each become instructions of one,
+                                // five bytes in all
+    roundtrip.check(text.indexOf("lconst_0") >= 0
+                    && text.indexOf("dconst_1") >= 0
+                    && codeLength(b, "wide") == 5,
+                    "long and double constants of one byte:\n" + text);
+    roundtrip.Loader l = new roundtrip.Loader();
+    l.put("Shorter", b);
+    java.lang.reflect.Method run =
+      l.load("Shorter").getMethod("run", new Class[] { int.class });
+    roundtrip.check(Double.valueOf(1.0).equals(
+                      l.load("Shorter").getMethod("wide", new Class[0])
+                                       .invoke(null, new Object[0]))
+                    && new Integer(40).equals(run.invoke(null, new Object[] {
+                                                        new Integer(0) }))
+                    && new Integer(42).equals(run.invoke(null, new Object[] {
+                                                           new Integer(2) })),
+                    "the small class runs as before");
+  }
+
+  static void jar(String path)
+    throws Exception
+  {
+    Hashtable texts = roundtrip.texts(path);
+    roundtrip.Loader l = new roundtrip.Loader();
+    int bad = 0;
+    long normal = 0, shrunk = 0;
+    for (Enumeration en = texts.keys(); en.hasMoreElements(); )
+      {
+        String name = (String)en.nextElement();
+        String text = (String)texts.get(name);
+        ClassFile cf = new ClassFile();
+        cf.setMinimize(true);
+        try
+          {
+            byte plain[] = roundtrip.assemble(new ClassFile(), text);
+            byte b[] = roundtrip.assemble(cf, text);
+            normal += plain.length;
+            shrunk += b.length;
+            if ((cf.getNormalSize() != plain.length || b.length > plain.length)
+                && bad++ < 5)
+              System.err.println(name + ": " + b.length + " bytes, measured "
+                                 + cf.getNormalSize() + " for "
+                                 + plain.length);
+            l.put(cf.getClassName(), b);
+          }
+        catch (Exception e)
+          { roundtrip.check(false, path + ": " + name + ": " + e.getMessage()); }
+      }
+    roundtrip.check(bad == 0, path + ": " + bad + " classes measured wrong");
+    int n = l.linkAll(path);
+    System.out.println(path + ": " + n + " classes verified, " + shrunk
+                       + " bytes for " + normal);
+  }
+
+  public static void main(String args[])
+    throws Exception
+  {
+    file();
+    for (int i = 0; i < args.length; i++)
+      jar(args[i]);
+    roundtrip.done("small classes are measured and run as before");
+  }
+}
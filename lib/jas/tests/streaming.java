@@ -0,0 +1,124 @@
+                                // Assemble classes with each method
+                                // written out as soon as it ends
+                                // (jasmin -stream), and check that an
+                                // error in a method written early is
+                                // still reported, and that every
+                                // class of some jars comes out the
+                                // same apart from the order of its
+                                // pool and the ldc_w's that gives,
+                                // with and without -O -limits, and
+                                // verifies.
+
+import jasmin.ClassFile;
+
+import java.util.*;
+import java.util.regex.*;
+
+public class streaming
+{
+  static ClassFile streamed(boolean stream, boolean passes)
+  {
+    ClassFile cf = new ClassFile();
+    cf.setStreamMethods(stream);
+    cf.setOptimize(passes);
+    cf.setAutoLimits(passes);
+    return cf;
+  }
+
+                                // the first method is written before
+                                // the second is read
+  static final String BROKEN =
+    ".class public Broken\n"
+    + ".super java/lang/Object\n"
+    + ".method public static run()V\n"
+    + "  .limit stack 0\n"
+    + "  goto Nowhere\n"
+    + ".end method\n"
+    + ".method public static other()V\n"
+    + "  .limit stack 0\n"
+    + "  return\n"
+    + ".end method\n";
+
+  static void broken()
+    throws Exception
+  {
+    String msg = null;
+    try
+      { roundtrip.assemble(streamed(true, false), BROKEN); }
+    catch (Exception e)
+      { msg = e.getMessage(); }
+    roundtrip.check(msg != null && msg.indexOf("Nowhere") >= 0,
+                    "error in a streamed method: " + msg);
+  }
+
+                                // the pool is numbered as it is
+                                // filled, so more ldc's may need an
+                                // ldc_w, which moves the labels; they
+                                // are named in the order they come in
+                                // each method
+  static String normal(String text)
+  {
+    Pattern label = Pattern.compile("\\bL[0-9]+\\b");
+    String methods[] = text.replaceAll("\\bldc_w ", "ldc ")
+      .split("\n(?=\\.method )");
+    StringBuffer b = new StringBuffer(text.length());
+    for (int i = 0; i < methods.length; i++)
+      {
+        Matcher m = label.matcher(methods[i]);
+        Hashtable names = new Hashtable();
+        while (m.find())
+          {
+            String name = (String)names.get(m.group());
+            if (name == null)
+              names.put(m.group(), name = "L" + names.size());
+            m.appendReplacement(b, name);
+          }
+        m.appendTail(b);
+        b.append('\n');
+      }
+    return b.toString();
+  }
+
+  static int jar(String path, boolean passes)
+    throws Exception
+  {
+    Hashtable texts = roundtrip.texts(path);
+    roundtrip.Loader l = new roundtrip.Loader();
+    int bad = 0;
+    for (Enumeration en = texts.keys(); en.hasMoreElements(); )
+      {
+        String name = (String)en.nextElement();
+        String text = (String)texts.get(name);
+        ClassFile cf = streamed(true, passes);
+        try
+          {
+            byte b[] = roundtrip.assemble(cf, text);
+            l.put(cf.getClassName(), b);
+            String plain = roundtrip.text(roundtrip.assemble(
+                             streamed(false, passes), text));
+            if (!normal(roundtrip.text(b)).equals(normal(plain))
+                && bad++ < 5)
+              System.err.println(name + ": streamed class differs");
+          }
+        catch (Exception e)
+          { roundtrip.check(false, path + ": " + name + ": " + e.getMessage()); }
+      }
+    String what = path + (passes ? " -O -limits" : "");
+    roundtrip.check(bad == 0, what + ": " + bad + " classes differ");
+    return l.linkAll(what);
+  }
+
+  public static void main(String args[])
+    throws Exception
+  {
+    broken();
+    for (int i = 0; i < args.length; i++)
+      {
+        int n = jar(args[i], false);
+        int m = jar(args[i], true);
+        System.out.println(args[i] + ": " + n + " streamed classes verified, "
+                           + m + " with -O -limits");
+      }
+    roundtrip.done("streamed classes are the same and verify");
+  }
+}
@@ -0,0 +1,131 @@
+                                // Assemble a lot of classes from
+                                // many threads at once, and check
+                                // that every one of them comes out
+                                // byte for byte identical to a plain
+                                // sequential run.
+
+import jasmin.ClassFile;
+
+import java.io.*;
+
+public class stress
+{
+  static final int NCLASSES = 4000;
+  static final int NTHREADS = 16;
+
+  static String[] sources;
+  static byte[][] expected;
+  static int failures = 0;
+
+                                // Classes alternate between old
+                                // (StackMap) and new (StackMapTable)
+                                // versions, and use their own string
+                                // constants and labels, so anything
+                                // shared between ClassEnv's shows up
+                                // as a mismatch.
+  static String source(int n)
+  {
+    StringBuffer b = new StringBuffer();
+    if ((n & 1) == 0)
+      b.append(".bytecode 50.0\n");
+    b.append(".class public stress/C" + n + "\n");
+    b.append(".super java/lang/Object\n");
+    b.append(".field private static f" + n + " I = " + n + "\n");
+    b.append(".method public <init>()V\n");
+    b.append("  aload_0\n");
+    b.append("  invokespecial java/lang/Object/<init>()V\n");
+    b.append("  return\n");
+    b.append(".end method\n");
+    b.append(".method public static m" + n + "(I)Ljava/lang/String;\n");
+    b.append("  .limit stack 2\n");
+    b.append("  .limit locals 1\n");
+    b.append("  iload_0\n");
+    b.append("  ifeq L" + n + "\n");
+    b.append("  ldc \"s" + n + "\"\n");
+    b.append("  areturn\n");
+    b.append("L" + n + ":\n");
+    b.append("  .stack\n");
+    b.append("    locals Integer\n");
+    b.append("  .end stack\n");
+    for (int i = 0; i < (n % 7); i++)
+      b.append("  ldc " + (n * 100 + i) + "\n  pop\n");
+    b.append("  ldc \"t" + n + "\"\n");
+    b.append("  areturn\n");
+    b.append(".end method\n");
+    return b.toString();
+  }
+
+  static byte[] assemble(int n) throws Exception
+  {
+    ClassFile cf = new ClassFile();
+    cf.readJasmin(new StringReader(sources[n]), "C" + n + ".j", (n % 3) == 0);
+    if (cf.errorCount() != 0)
+      throw new Exception("C" + n + ": " + cf.errorCount() + " errors");
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    cf.write(out);
+    return out.toByteArray();
+  }
+
+  static boolean hasTable(byte data[])
+  {
+    String s = new String(data, 0);
+    return s.indexOf("StackMapTable") >= 0;
+  }
+
+  static synchronized void fail(String msg)
+  {
+    System.err.println(msg);
+    failures++;
+  }
+
+  public static void main(String argv[])
+    throws Exception
+  {
+    sources = new String[NCLASSES];
+    expected = new byte[NCLASSES][];
+    for (int i = 0; i < NCLASSES; i++)
+      sources[i] = source(i);
+
+    for (int i = 0; i < NCLASSES; i++)
+      {
+        expected[i] = assemble(i);
+        if (hasTable(expected[i]) != ((i & 1) == 0))
+          fail("C" + i + ": wrong kind of stack map attribute");
+      }
+
+    Thread workers[] = new Thread[NTHREADS];
+    for (int t = 0; t < NTHREADS; t++)
+      {
+        final int first = t;
+        workers[t] = new Thread()
+          {
+            public void run()
+            {
+              for (int i = first; i < NCLASSES; i += NTHREADS)
+                {
+                  try
+                    {
+                      byte got[] = assemble(i);
+                      if (!java.util.Arrays.equals(got, expected[i]))
+                        fail("C" + i + ": concurrent output differs");
+                    }
+                  catch (Exception e)
+                    { fail("C" + i + ": " + e); }
+                }
+            }
+          };
+      }
+    for (int t = 0; t < NTHREADS; t++)
+      workers[t].start();
+    for (int t = 0; t < NTHREADS; t++)
+      workers[t].join();
+
+    if (failures != 0)
+      {
+        System.err.println(failures + " of " + NCLASSES + " classes differ");
+        System.exit(1);
+      }
+    System.out.println(NCLASSES + " classes on " + NTHREADS
+                       + " threads match the sequential output");
+  }
+}
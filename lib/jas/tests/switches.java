@@ -0,0 +1,183 @@
+                                // Assemble switches: a lookupswitch
+                                // with its keys out of order, and,
+                                // with jasmin -switches, switches of
+                                // the wrong kind for their keys.
+                                // Checks what they turn into and what
+                                // they do, and that every class of
+                                // some jars verifies with -switches.
+
+import jasmin.ClassFile;
+
+import java.lang.reflect.Method;
+
+public class switches
+{
+  static ClassFile choosing(boolean choose)
+  {
+    ClassFile cf = new ClassFile();
+    cf.setChooseSwitches(choose);
+    return cf;
+  }
+
+                                // keys out of order, one of them
+                                // twice with the same target
+  static final String UNSORTED =
+    ".class public Unsorted\n"
+    + ".super java/lang/Object\n"
+    + ".method public static run(I)I\n"
+    + "  .limit stack 1\n"
+    + "  .limit locals 1\n"
+    + "  iload_0\n"
+    + "  lookupswitch\n"
+    + "    300 : Three\n"
+    + "    -7 : Minus\n"
+    + "    100 : One\n"
+    + "    300 : Three\n"
+    + "    default : Other\n"
+    + "Three:\n"
+    + "  iconst_3\n"
+    + "  ireturn\n"
+    + "Minus:\n"
+    + "  iconst_m1\n"
+    + "  ireturn\n"
+    + "One:\n"
+    + "  iconst_1\n"
+    + "  ireturn\n"
+    + "Other:\n"
+    + "  iconst_0\n"
+    + "  ireturn\n"
+    + ".end method\n";
+
+                                // a lookupswitch over keys next to
+                                // each other, and a tableswitch that
+                                // is mostly the default
+  static final String KINDS =
+    ".class public Kinds\n"
+    + ".super java/lang/Object\n"
+    + ".method public static dense(I)I\n"
+    + "  .limit stack 1\n"
+    + "  .limit locals 1\n"
+    + "  iload_0\n"
+    + "  lookupswitch\n"
+    + "    1 : A\n"
+    + "    2 : B\n"
+    + "    3 : C\n"
+    + "    4 : D\n"
+    + "    default : E\n"
+    + "A:\n"
+    + "  iconst_1\n"
+    + "  ireturn\n"
+    + "B:\n"
+    + "  iconst_2\n"
+    + "  ireturn\n"
+    + "C:\n"
+    + "  iconst_3\n"
+    + "  ireturn\n"
+    + "D:\n"
+    + "  iconst_4\n"
+    + "  ireturn\n"
+    + "E:\n"
+    + "  iconst_0\n"
+    + "  ireturn\n"
+    + ".end method\n"
+    + ".method public static sparse(I)I\n"
+    + "  .limit stack 1\n"
+    + "  .limit locals 1\n"
+    + "  iload_0\n"
+    + "  tableswitch 0\n"
+    + "    A\n"
+    + "    Z\n"
+    + "    Z\n"
+    + "    Z\n"
+    + "    Z\n"
+    + "    Z\n"
+    + "    Z\n"
+    + "    Z\n"
+    + "    Z\n"
+    + "    Z\n"
+    + "    Z\n"
+    + "    Z\n"
+    + "    B\n"
+    + "    default : Z\n"
+    + "A:\n"
+    + "  iconst_1\n"
+    + "  ireturn\n"
+    + "B:\n"
+    + "  iconst_2\n"
+    + "  ireturn\n"
+    + "Z:\n"
+    + "  iconst_0\n"
+    + "  ireturn\n"
+    + ".end method\n";
+
+  static int call(Method m, int arg)
+    throws Exception
+  {
+    return ((Integer)m.invoke(null, new Object[] { new Integer(arg) }))
+      .intValue();
+  }
+
+  static Method method(String cls, byte b[], String name)
+    throws Exception
+  {
+    roundtrip.Loader l = new roundtrip.Loader();
+    l.put(cls, b);
+    return l.load(cls).getMethod(name, new Class[] { int.class });
+  }
+
+  static void methods()
+    throws Exception
+  {
+    Method run = method("Unsorted",
+                        roundtrip.assemble(choosing(false), UNSORTED), "run");
+    roundtrip.check(call(run, 300) == 3 && call(run, -7) == -1
+                    && call(run, 100) == 1 && call(run, 5) == 0,
+                    "keys out of order");
+
+    boolean refused = false;
+    try
+      {
+        roundtrip.assemble(choosing(false),
+                           UNSORTED.replaceFirst("300 : Three\n    default",
+                                                 "300 : One\n    default"));
+      }
+    catch (Exception e)
+      { refused = true; }
+    roundtrip.check(refused, "a key with two targets");
+
+    byte b[] = roundtrip.assemble(choosing(true), KINDS);
+    String text = roundtrip.text(b);
+    int sparse = text.indexOf("sparse(I)I");
+    roundtrip.check(text.lastIndexOf("tableswitch", sparse) >= 0
+                    && text.indexOf("lookupswitch", sparse) >= 0
+                    && text.indexOf("tableswitch", sparse) < 0,
+                    "switch kinds chosen by density");
+    Method dense = method("Kinds", b, "dense");
+    Method lookup = dense.getDeclaringClass()
+      .getMethod("sparse", new Class[] { int.class });
+    for (int i = -1; i <= 13; i++)
+      roundtrip.check(call(dense, i) == ((i >= 1 && i <= 4) ? i : 0)
+                      && call(lookup, i) == (i == 0 ? 1 : i == 12 ? 2 : 0),
+                      "chosen switches for " + i);
+  }
+
+  static void jar(String path)
+    throws Exception
+  {
+    int n = roundtrip.reassemble(path, new roundtrip.Maker()
+      {
+        ClassFile make()
+        { return choosing(true); }
+      }).linkAll(path);
+    System.out.println(path + ": " + n + " classes verified");
+  }
+
+  public static void main(String args[])
+    throws Exception
+  {
+    methods();
+    for (int i = 0; i < args.length; i++)
+      jar(args[i]);
+    roundtrip.done("switches come out sorted and of the right kind");
+  }
+}
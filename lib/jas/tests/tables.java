@@ -0,0 +1,151 @@
+                                // Assemble methods with more catch,
+                                // line and local variable entries
+                                // than the tables start out with room
+                                // for, and check that they come back
+                                // out of the class file in order and
+                                // work; then check that the tables of
+                                // every class of some jars come back
+                                // as they were, and verify.
+
+import jasmin.ClassFile;
+
+import java.util.*;
+
+public class tables
+{
+  static final int N = 40;
+
+  static final String TYPES[] = {
+    "java/lang/IllegalStateException", "java/lang/NullPointerException",
+    "java/lang/ClassCastException", "java/lang/ArithmeticException"
+  };
+
+                                // N handlers over the same range, the
+                                // first that catches an
+                                // ArithmeticException returning 3, N
+                                // locals and a line for each store
+  static String source()
+  {
+    StringBuffer b = new StringBuffer();
+    b.append(".class public Tables\n"
+             + ".super java/lang/Object\n"
+             + ".method public static run(I)I\n"
+             + "  .limit stack 2\n"
+             + "  .limit locals " + (N + 1) + "\n");
+    for (int i = 0; i < N; i++)
+      b.append("  .catch " + TYPES[i % TYPES.length] + " from Try to End"
+               + " using H" + i + "\n");
+    for (int i = 0; i < N; i++)
+      b.append("  .var " + (i + 1) + " is v" + i + " I from Try to End\n");
+    b.append("Try:\n");
+    for (int i = 0; i < N; i++)
+      b.append("  .line " + (1000 + i) + "\n"
+               + "  iload_0\n"
+               + "  istore " + (i + 1) + "\n");
+    b.append("  bipush 10\n"
+             + "  iload_0\n"
+             + "  idiv\n"
+             + "  ireturn\n"
+             + "End:\n");
+    for (int i = 0; i < N; i++)
+      b.append("H" + i + ":\n"
+               + "  pop\n"
+               + "  bipush " + i + "\n"
+               + "  ireturn\n");
+    b.append(".end method\n");
+    return b.toString();
+  }
+
+                                // the lines of a text for the
+                                // tables, in order
+  static Vector tableLines(String text)
+  {
+    Vector res = new Vector();
+    String l[] = text.split("\n");
+    for (int i = 0; i < l.length; i++)
+      {
+        String s = l[i].trim();
+        if (s.startsWith(".catch ") || s.startsWith(".var ")
+            || s.startsWith(".line "))
+          res.addElement(s);
+      }
+    return res;
+  }
+
+  static int count(Vector lines, String what)
+  {
+    int n = 0;
+    for (int i = 0; i < lines.size(); i++)
+      if (((String)lines.elementAt(i)).startsWith(what))
+        n++;
+    return n;
+  }
+
+  static void method()
+    throws Exception
+  {
+    byte b[] = roundtrip.assemble(new ClassFile(), source());
+    String text = roundtrip.text(b);
+    Vector got = tableLines(text);
+    roundtrip.check(count(got, ".catch ") == N && count(got, ".var ") == N
+                    && count(got, ".line ") == N,
+                    "entries in the tables");
+    boolean in_order = true;
+    for (int i = 0, c = 0, v = 0, n = 0; i < got.size(); i++)
+      {
+        String s = (String)got.elementAt(i);
+        if (s.startsWith(".catch "))
+          in_order &= s.startsWith(".catch " + TYPES[c++ % TYPES.length] + " ");
+        else if (s.startsWith(".var "))
+          in_order &= s.startsWith(".var " + (v + 1) + " is v" + v++ + " ");
+        else
+          in_order &= s.equals(".line " + (1000 + n++));
+      }
+    roundtrip.check(in_order, "entries kept in order");
+    roundtrip.check(tableLines(roundtrip.text(roundtrip.assemble(
+                      new ClassFile(), text))).equals(got),
+                    "tables after a second round");
+
+    roundtrip.Loader l = new roundtrip.Loader();
+    l.put("Tables", b);
+    Object r = l.load("Tables").getMethod("run", new Class[] { int.class })
+      .invoke(null, new Object[] { new Integer(0) });
+    roundtrip.check(new Integer(3).equals(r), "first matching handler");
+  }
+
+  static void jar(String path)
+    throws Exception
+  {
+    Hashtable texts = roundtrip.texts(path);
+    roundtrip.Loader l = new roundtrip.Loader();
+    int bad = 0;
+    for (Enumeration en = texts.keys(); en.hasMoreElements(); )
+      {
+        String name = (String)en.nextElement();
+        String text = (String)texts.get(name);
+        ClassFile cf = new ClassFile();
+        try
+          {
+            byte b[] = roundtrip.assemble(cf, text);
+            l.put(cf.getClassName(), b);
+            if (!tableLines(roundtrip.text(b)).equals(tableLines(text))
+                && bad++ < 5)
+              System.err.println(name + ": tables differ");
+          }
+        catch (Exception e)
+          { roundtrip.check(false, path + ": " + name + ": " + e.getMessage()); }
+      }
+    roundtrip.check(bad == 0, path + ": " + bad + " classes with other tables");
+    int n = l.linkAll(path);
+    System.out.println(path + ": " + n + " classes verified");
+  }
+
+  public static void main(String args[])
+    throws Exception
+  {
+    method();
+    for (int i = 0; i < args.length; i++)
+      jar(args[i]);
+    roundtrip.done("catch, line and local variable tables come back");
+  }
+}
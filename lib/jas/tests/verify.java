@@ -0,0 +1,174 @@
+                                // Check that the verifier reports
+                                // the problems of a small class at
+                                // their lines, and a method with no
+                                // code in a class file. Then verify
+                                // every class of some jars, which
+                                // must have no problems, lower the
+                                // first .limit stack of each and check
+                                // that the verifier notices. Prints
+                                // how long each took.
+
+import jas.AsciiCP;
+import jas.CachedHierarchy;
+import jas.ClassCP;
+import jas.ClassEnv;
+import jas.ClassReader;
+import jas.Method;
+import jas.RuntimeConstants;
+import jasmin.ClassChecker;
+import jasmin.ClassFile;
+import jasmin.Disassembler;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.zip.*;
+
+public class verify
+{
+  public static void main(String args[])
+    throws Exception
+  {
+    boolean ok = methods();
+    for (int a = 0; a < args.length; a++)
+      ok &= jar(args[a]);
+    System.exit(ok ? 0 : 1);
+  }
+
+                                // two problems, at lines 6 and 11
+  static final String BAD =
+    ".class public Bad\n"
+    + ".super java/lang/Object\n"
+    + ".method public static run()I\n"
+    + "  .limit stack 1\n"
+    + "  aconst_null\n"
+    + "  ireturn\n"
+    + ".end method\n"
+    + ".method public static push()V\n"
+    + "  .limit stack 1\n"
+    + "  iconst_1\n"
+    + "  iconst_2\n"
+    + "  return\n"
+    + ".end method\n";
+
+  static boolean methods()
+    throws Exception
+  {
+    ByteArrayOutputStream msgs = new ByteArrayOutputStream();
+    ClassFile cf = new ClassFile();
+    cf.setVerify(true);
+    cf.setErrorStream(new PrintStream(msgs, true));
+    cf.readJasmin(new StringReader(BAD), "Bad.j", false);
+    try
+      { cf.write(new ByteArrayOutputStream()); }
+    catch (Exception e)
+      { }
+    String found = msgs.toString();
+    int run = found.indexOf("Bad.j:6: run()I"),
+      push = found.indexOf("Bad.j:11: push()V");
+    boolean ok = run >= 0 && push > run && cf.errorCount() == 2;
+    if (!ok)
+      System.out.println("problems not reported at their lines:\n" + found);
+
+                                // not abstract, not native, no code
+    ClassEnv env = new ClassEnv();
+    env.setClass(new ClassCP("NoCode"));
+    env.setSuperClass(new ClassCP("java/lang/Object"));
+    env.setClassAccess((short)RuntimeConstants.ACC_PUBLIC);
+    env.addMethod(new Method((short)(RuntimeConstants.ACC_PUBLIC
+                                     | RuntimeConstants.ACC_STATIC),
+                             new AsciiCP("none"), new AsciiCP("()V")));
+    env.addMethod(new Method((short)(RuntimeConstants.ACC_PUBLIC
+                                     | RuntimeConstants.ACC_STATIC
+                                     | RuntimeConstants.ACC_NATIVE),
+                             new AsciiCP("outside"), new AsciiCP("()V")));
+    ByteArrayOutputStream b = new ByteArrayOutputStream();
+    env.write(new DataOutputStream(b));
+    ClassChecker checker = new ClassChecker(
+      ClassChecker.hierarchyFor(new File("NoCode.class"), "NoCode"));
+    found = checker.check(new ClassReader(ByteBuffer.wrap(b.toByteArray())),
+                          "NoCode.class");
+    if (checker.getProblemCount() != 1
+        || found.indexOf("none()V: no Code attribute") < 0)
+      {
+        System.out.println("method without code not reported:\n" + found);
+        ok = false;
+      }
+    return ok;
+  }
+
+                                // the text with the first .limit
+                                // stack that isn't 0 made 0, or null
+  static String broken(String text)
+  {
+    int i = 0;
+    while ((i = text.indexOf(".limit stack ", i)) >= 0)
+      {
+        i += 13;
+        int end = text.indexOf('\n', i);
+        if (!text.substring(i, end).trim().equals("0"))
+          return text.substring(0, i) + "0" + text.substring(end);
+      }
+    return null;
+  }
+
+  static boolean jar(String path)
+    throws Exception
+  {
+    CachedHierarchy hier = ClassChecker.hierarchyFor(new File(path), null);
+    ClassChecker checker = new ClassChecker(hier);
+    ByteArrayOutputStream msgs = new ByteArrayOutputStream();
+    long t0 = System.nanoTime();
+    int n = checker.checkJar(new File(path), ForkJoinPool.commonPool(),
+                             new PrintStream(msgs));
+    long t1 = System.nanoTime();
+    System.out.print(msgs);
+    int found = checker.getProblemCount();
+    System.out.println(path + ": verified " + n + " classes in "
+                       + (t1 - t0) / 1000000 + " ms, " + found + " problems");
+
+    ZipFile zip = new ZipFile(path);
+    int broken = 0, missed = 0;
+    long t2 = System.nanoTime();
+    for (Enumeration en = zip.entries(); en.hasMoreElements(); )
+      {
+        ZipEntry e = (ZipEntry)en.nextElement();
+        if (!e.getName().endsWith(".class")
+            || e.getName().endsWith("module-info.class"))
+          continue;
+        StringWriter w = new StringWriter();
+        try
+          {
+            new Disassembler(new ClassReader(ByteBuffer.wrap(
+                               Disassembler.readEntry(zip, e)))).write(w);
+          }
+        catch (Exception ex)
+          { continue; }         // see disasm.java
+        String text = broken(w.toString());
+        if (text == null)
+          continue;
+        ClassFile cf = new ClassFile();
+        cf.setVerify(true);
+        cf.setClassHierarchy(hier);
+        cf.setErrorStream(new PrintStream(new ByteArrayOutputStream()));
+        cf.readJasmin(new StringReader(text), e.getName(), false);
+        try
+          {
+            if (cf.errorCount() == 0)
+              cf.write(new ByteArrayOutputStream());
+          }
+        catch (Exception ex)
+          { }
+        broken++;
+        if (cf.errorCount() == 0 && missed++ < 5)
+          System.out.println(e.getName() + ": .limit stack 0 not noticed");
+      }
+    zip.close();
+    long t3 = System.nanoTime();
+    System.out.println("  broke " + broken + " classes in "
+                       + (t3 - t2) / 1000000 + " ms, " + missed
+                       + " not noticed");
+    return found == 0 && missed == 0;
+  }
+}
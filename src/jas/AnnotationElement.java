@@ -118,8 +118,8 @@ public class AnnotationElement
         }
         break;
       case type_float:
-        if(value instanceof Float)
-          cp = new FloatCP(((Float)value).floatValue());
+        if(value instanceof Float || value instanceof Double)
+          cp = new FloatCP(((Number)value).floatValue());
         break;
       case type_double:
         if(value instanceof Double) {
@@ -168,6 +168,7 @@ public class AnnotationElement
         if(array) return;
         //pass thru
       case 0:
+        if(array) return;   // an empty array
        Annotation.ParserError();
     }
   }
@@ -211,7 +212,7 @@ public class AnnotationElement
       out.writeByte(type_array);
       out.writeShort((short)values.size());
     }
-    short id = 0;
+    int id = 0;
     if(sign == type_enum) id = e.getCPIndex(exttype);
     for(Enumeration en = values.elements(); en.hasMoreElements(); ) {
       out.writeByte(sign);
@@ -16,7 +16,7 @@ public class AsciiCP extends CP implements RuntimeConstants
    * @param s Name of the ascii constant pool entry
    */
   public AsciiCP(String s)
-  { uniq = s.intern(); }
+  { uniq = s; }
   void resolve(ClassEnv e)
   { return; }
 
@@ -0,0 +1,73 @@
+/**
+ * A bootstrap method and its static arguments, which link an
+ * invokedynamic call site (see InvokeDynamicCP). A class keeps one
+ * entry in its BootstrapMethods attribute for all the call sites
+ * that have the same method with the same arguments.
+ */
+
+package jas;
+
+import java.io.*;
+
+public class BootstrapMethod
+{
+  String uniq;
+  MethodHandleCP method;
+  CP args[];
+
+  /**
+   * @param method Handle of the bootstrap method
+   * @param args Static arguments: IntegerCP, FloatCP, LongCP,
+   *        DoubleCP, StringCP, ClassCP, MethodTypeCP, MethodHandleCP
+   *        or DynamicCP items
+   */
+  public BootstrapMethod(MethodHandleCP method, CP args[])
+    throws jasError
+  {
+    StringBuffer b = new StringBuffer(method.getUniq());
+    for (int i = 0; i < args.length; i++)
+      {
+        CP a = args[i];
+        if (!(a instanceof IntegerCP || a instanceof FloatCP
+              || a instanceof LongCP || a instanceof DoubleCP
+              || a instanceof StringCP || a instanceof ClassCP
+              || a instanceof MethodTypeCP || a instanceof MethodHandleCP
+              || a instanceof DynamicCP))
+          throw new jasError("a bootstrap method can't take "
+                             + a.getClass().getName() + " arguments");
+                                // lengths keep the arguments apart
+        b.append('#').append(a.getUniq().length()).append('$')
+         .append(a.getUniq());
+      }
+    uniq = b.toString();
+    this.method = method;
+    this.args = args;
+  }
+
+                                // a placeholder, for ClassEnv to
+                                // mark a bootstrap method it reads
+  BootstrapMethod()
+  {
+    uniq = "";
+    args = new CP[0];
+  }
+
+  void resolve(ClassEnv e)
+  {
+    e.addCPItem(method);
+    for (int i = 0; i < args.length; i++)
+      e.addCPItem(args[i]);
+  }
+
+  int size()
+  { return 4 + 2*args.length; }
+
+  void write(ClassEnv e, DataOutputStream out)
+    throws IOException, jasError
+  {
+    out.writeShort(e.getCPIndex(method));
+    out.writeShort(args.length);
+    for (int i = 0; i < args.length; i++)
+      out.writeShort(e.getCPIndex(args[i]));
+  }
+}
@@ -0,0 +1,93 @@
+/**
+ * The BootstrapMethods attribute of a class, which ClassEnv fills in
+ * as call sites are added to it. Bootstrap methods that are the same
+ * get one entry.
+ */
+
+package jas;
+
+import java.io.*;
+import java.util.Hashtable;
+import java.util.Vector;
+
+public class BootstrapMethodsAttr
+{
+  static final CP attr = new AsciiCP("BootstrapMethods");
+  private Vector list;
+  private Hashtable index;      // uniq -> Integer
+
+  public BootstrapMethodsAttr()
+  {
+    list = new Vector();
+    index = new Hashtable();
+  }
+
+  /**
+   * @return false if the same bootstrap method is there already
+   */
+  boolean add(BootstrapMethod b)
+  {
+    if (index.containsKey(b.uniq))
+      return false;
+    index.put(b.uniq, Integer.valueOf(list.size()));
+    list.addElement(b);
+    return true;
+  }
+
+                                // an entry of a class that is patched,
+                                // which keeps its place even if it is
+                                // there already, or null if jas can't
+                                // make it
+  void addExisting(BootstrapMethod b)
+  {
+    if (b != null && !index.containsKey(b.uniq))
+      index.put(b.uniq, Integer.valueOf(list.size()));
+    list.addElement(b);
+  }
+
+  int size()
+  { return list.size(); }
+
+  int indexOf(BootstrapMethod b)
+    throws jasError
+  {
+    Integer i = (Integer)index.get(b.uniq);
+    if (i == null)
+      throw new jasError("bootstrap method " + b.method.getUniq()
+                         + " not in the class");
+    return i.intValue();
+  }
+
+  void resolve(ClassEnv e)
+  { e.addCPItem(attr); }
+
+  void write(ClassEnv e, DataOutputStream out) throws IOException, jasError
+  { write(e, out, null); }
+
+  /**
+   * Write the attribute of a patched class, whose own bootstrap
+   * methods come first and are copied as they are.
+   */
+  void write(ClassEnv e, DataOutputStream out, ClassReader orig)
+    throws IOException, jasError
+  {
+    int kept = (orig == null) ? 0 : orig.getBootstrapCount();
+    int from = 0, to = 0;
+    if (kept > 0)
+      {
+        from = orig.getBootstrap(0);
+        to = orig.getBootstrap(kept - 1);
+        to += 4 + 2*orig.u2(to + 2);
+      }
+    int len = 2 + to - from;
+    for (int i = kept; i < list.size(); i++)
+      len += ((BootstrapMethod)list.elementAt(i)).size();
+    out.writeShort(e.getCPIndex(attr));
+    out.writeInt(len);
+    out.writeShort(list.size());
+    if (kept > 0)
+      orig.copy(from, to, out);
+    for (int i = kept; i < list.size(); i++)
+      ((BootstrapMethod)list.elementAt(i)).write(e, out);
+  }
+}
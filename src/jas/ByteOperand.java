@@ -0,0 +1,15 @@
+package jas;
+
+import java.io.*;
+
+class ByteOperand extends InsnOperand
+{
+  int val;
+
+  ByteOperand(int n) { val = n; }
+  int size(ClassEnv ce, CodeAttr code) { return 1; }
+  void resolve(ClassEnv e) { return; }
+  void write(ClassEnv e, CodeAttr ce, DataOutputStream out)
+    throws IOException
+  { out.writeByte((byte)val); }
+}
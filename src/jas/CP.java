@@ -13,6 +13,10 @@
  * @see FloatCP
  * @see DoubleCP
  * @see StringCP
+ * @see MethodHandleCP
+ * @see MethodTypeCP
+ * @see InvokeDynamicCP
+ * @see DynamicCP
  *
  * @author $Author: jonmeyerny $
  * @version $Revision: 1.1 $
@@ -0,0 +1,28 @@
+package jas;
+
+import java.io.*;
+
+class CPOperand extends InsnOperand
+{
+  CP cpe;
+  boolean wide;
+  int size(ClassEnv ce, CodeAttr code) { if (wide) return 2; else return 1; }
+  CPOperand(CP cpe) { this.cpe = cpe; wide = true; }
+  CPOperand(CP cpe, boolean wide)
+  { this.cpe = cpe; this.wide = wide; }
+  void resolve(ClassEnv e)
+  { e.addCPItem(cpe); }
+  void write(ClassEnv e, CodeAttr ce, DataOutputStream out)
+    throws IOException, jasError
+  {
+    int idx = e.getCPIndex(cpe);
+    if (wide)
+      { out.writeShort((short) idx); }
+    else
+      {
+        if (idx > 255)
+          { throw new jasError("exceeded size for small cpidx" + cpe); }
+        out.writeByte((byte) (0xff & (idx)));
+      }
+  }
+}
@@ -0,0 +1,107 @@
+/**
+ * CachedHierarchy remembers everything it is told about classes, so
+ * that a batch of classes sharing one instance looks each type up
+ * only once. Classes that are being assembled, and so can't be found
+ * anywhere yet, are registered with addClass; the rest are asked
+ * of the parent hierarchy.
+ * <p>
+ * The tables are synchronized, so one instance can be shared by
+ * ClassEnv's that are built on different threads.
+ * @see ClassEnv#setClassHierarchy
+ */
+
+package jas;
+
+import java.util.Hashtable;
+
+public class CachedHierarchy implements ClassHierarchy
+{
+  private static final String OBJECT = "java/lang/Object";
+
+  private ClassHierarchy parent;
+  private Hashtable supers;     // name -> superclass, "" for none
+  private Hashtable ifaces;     // name -> Boolean
+  private Hashtable common;     // "a b" -> common superclass
+
+  /**
+   * @param parent where to look up classes that haven't been seen,
+   *        or null if all of them are registered with addClass
+   */
+  public CachedHierarchy(ClassHierarchy parent)
+  {
+    this.parent = parent;
+    supers = new Hashtable();
+    ifaces = new Hashtable();
+    common = new Hashtable();
+  }
+
+  /**
+   * Make a class known without looking it up.
+   * @param name the class
+   * @param superName its superclass, null for java/lang/Object
+   * @param isInterface true if it is an interface
+   */
+  public void addClass(String name, String superName, boolean isInterface)
+  {
+    supers.put(name, (superName == null) ? "" : superName);
+    ifaces.put(name, isInterface ? Boolean.TRUE : Boolean.FALSE);
+  }
+
+  private void lookup(String name)
+    throws jasError
+  {
+    if (supers.containsKey(name)) return;
+    if (parent == null)
+      throw new jasError("can't find class " + name);
+    addClass(name, parent.getSuperclass(name), parent.isInterface(name));
+  }
+
+  public String getSuperclass(String name)
+    throws jasError
+  {
+    lookup(name);
+    String sup = (String)supers.get(name);
+    return (sup.length() == 0) ? null : sup;
+  }
+
+  public boolean isInterface(String name)
+    throws jasError
+  {
+    lookup(name);
+    return ((Boolean)ifaces.get(name)).booleanValue();
+  }
+
+  /**
+   * @return the most specific class that both classes extend, the
+   *         way the verifier sees it: interfaces count as
+   *         java/lang/Object
+   */
+  public String getCommonSuperclass(String a, String b)
+    throws jasError
+  {
+    if (a.equals(b)) return a;
+    if (a.equals(OBJECT) || b.equals(OBJECT)) return OBJECT;
+    String key = a + " " + b;
+    String res = (String)common.get(key);
+    if (res != null) return res;
+
+    if (isInterface(a) || isInterface(b))
+      res = OBJECT;
+    else
+      {
+        Hashtable seen = new Hashtable();
+        for (String c = a; c != null; c = getSuperclass(c))
+          seen.put(c, c);
+        res = OBJECT;
+        for (String c = b; c != null; c = getSuperclass(c))
+          if (seen.containsKey(c))
+            {
+              res = c;
+              break;
+            }
+      }
+    common.put(key, res);
+    common.put(b + " " + a, res);
+    return res;
+  }
+}
@@ -8,8 +8,6 @@
 
 package jas;
 
-import java.io.*;
-
 public class CatchEntry
 {
   Label start_pc, end_pc, handler_pc;
@@ -56,25 +54,4 @@ public class CatchEntry
     handler_off = handler;
     catch_cpe = cat;
   }
-
-  void resolve(ClassEnv e)
-  { if (catch_cpe != null) e.addCPItem(catch_cpe); }
-
-  void write(ClassEnv e, CodeAttr ce, DataOutputStream out)
-    throws IOException, jasError
-  {
-    if(start_pc!=null && end_pc != null && handler_pc != null) {
-      start_pc.writeOffset(ce, null, out);
-      end_pc.writeOffset(ce, null, out);
-      handler_pc.writeOffset(ce, null, out);
-    } else {
-      out.writeShort(start_off);
-      out.writeShort(end_off);
-      out.writeShort(handler_off);
-    }
-    if (catch_cpe != null)
-      { out.writeShort(e.getCPIndex(catch_cpe)); }
-    else
-      { out.writeShort(0); }
-  }
 }
@@ -6,19 +6,53 @@
 package jas;
 
 import java.io.*;
-import java.util.*;
 
 public class Catchtable
 {
-  Vector entries;
+                                // one entry per index, places as
+                                // kept by SideTable
+  SideTable labels;
+  int start[], end[], handler[];
+  CP catch_cpe[];
+  int count;
 
-  public Catchtable() { entries = new Vector(); }
+  public Catchtable()
+  {
+    labels = new SideTable();
+    start = new int[4];
+    end = new int[4];
+    handler = new int[4];
+    catch_cpe = new CP[4];
+  }
 
   /**
    * add an entry to the catch table
    */
 
-  public void addEntry(CatchEntry entry) { entries.addElement(entry); }
+  public void addEntry(CatchEntry entry)
+  {
+    if (count == start.length)
+      {
+        start = SideTable.grow(start, count * 2);
+        end = SideTable.grow(end, count * 2);
+        handler = SideTable.grow(handler, count * 2);
+        catch_cpe = SideTable.grow(catch_cpe, count * 2);
+      }
+    if (entry.start_pc != null && entry.end_pc != null
+        && entry.handler_pc != null)
+      {
+        start[count] = labels.place(entry.start_pc);
+        end[count] = labels.place(entry.end_pc);
+        handler[count] = labels.place(entry.handler_pc);
+      }
+    else
+      {
+        start[count] = entry.start_off;
+        end[count] = entry.end_off;
+        handler[count] = entry.handler_off;
+      }
+    catch_cpe[count++] = entry.catch_cpe;
+  }
 
   /**
    * add an entry to the catch table
@@ -40,26 +74,56 @@ public class Catchtable
   addEntry(int start, int end, int handler, CP cat)
   { addEntry(new CatchEntry(start, end, handler, cat)); }
 
+  void insertEntry(int i, Label start, Label end, Label handler, CP cat)
+  {
+    addEntry(start, end, handler, cat);
+    int n = count - i - 1;
+    int s = this.start[count - 1], e = this.end[count - 1];
+    int h = this.handler[count - 1];
+    System.arraycopy(this.start, i, this.start, i + 1, n);
+    System.arraycopy(this.end, i, this.end, i + 1, n);
+    System.arraycopy(this.handler, i, this.handler, i + 1, n);
+    System.arraycopy(catch_cpe, i, catch_cpe, i + 1, n);
+    this.start[i] = s;
+    this.end[i] = e;
+    this.handler[i] = h;
+    catch_cpe[i] = cat;
+  }
+
+  void removeEntry(int i)
+  {
+    int n = count - i - 1;
+    System.arraycopy(start, i + 1, start, i, n);
+    System.arraycopy(end, i + 1, end, i, n);
+    System.arraycopy(handler, i + 1, handler, i, n);
+    System.arraycopy(catch_cpe, i + 1, catch_cpe, i, n);
+    catch_cpe[--count] = null;
+  }
+
   void resolve(ClassEnv e)
   {
-    for (Enumeration en=entries.elements(); en.hasMoreElements(); )
-      {
-        CatchEntry ce = (CatchEntry)(en.nextElement());
-        ce.resolve(e);
-      }
+    for (int i = 0; i < count; i++)
+      if (catch_cpe[i] != null)
+        e.addCPItem(catch_cpe[i]);
   }
 
   int size()
-  { return (8*entries.size()); } // each entry is 8 bytes
+  { return (8*count); }         // each entry is 8 bytes
 
   void write(ClassEnv e, CodeAttr ce, DataOutputStream out)
     throws IOException, jasError
   {
-    out.writeShort(entries.size());
-    for (Enumeration en = entries.elements(); en.hasMoreElements();)
+    int pcs[] = labels.pcs(ce);
+    byte b[] = new byte[2 + 8*count];
+    SideTable.put16(b, 0, count);
+    for (int i = 0, pos = 2; i < count; i++, pos += 8)
       {
-        CatchEntry entry = (CatchEntry)(en.nextElement());
-        entry.write(e, ce, out);
+        SideTable.put16(b, pos, SideTable.pc(start[i], pcs));
+        SideTable.put16(b, pos + 2, SideTable.pc(end[i], pcs));
+        SideTable.put16(b, pos + 4, SideTable.pc(handler[i], pcs));
+        SideTable.put16(b, pos + 6, (catch_cpe[i] == null)
+                                    ? 0 : e.getCPIndex(catch_cpe[i]));
       }
+    out.write(b);
   }
 }
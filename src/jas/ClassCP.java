@@ -19,7 +19,7 @@ public class ClassCP extends CP implements RuntimeConstants
    */
   public ClassCP(String name)
   {
-    uniq = ("CLASS: #$%^#$" + name).intern();
+    uniq = "CLASS: #$%^#$" + name;
     this.name = new AsciiCP(name);
   }
 
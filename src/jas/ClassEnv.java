@@ -2,9 +2,12 @@
 package jas;
 
 import java.io.*;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Hashtable;
 import java.util.Enumeration;
 import java.util.Vector;
+import java.util.concurrent.ForkJoinPool;
 
 
 
@@ -22,18 +25,40 @@ public class ClassEnv implements RuntimeConstants
   short version_lo, version_hi;
   CP this_class, super_class;
   short class_access;
-  Hashtable cpe, cpe_index;
+  Hashtable cpe;
+  HashMap cpe_index;            // only read while methods are written
   Vector interfaces;
   Vector vars;
-  Vector methods;
+  Vector methods;               // Method's, or the bytes of the
+                                // ones that have been streamed
   SourceAttr source;
   SignatureAttr signature;
   SourceDebugExtensionAttr debug;
   EnclosingMethodAttr enclosing;
   DeprecatedAttr depr;
   InnerClassesAttr innerclasses;
+  NestHostAttr nesthost;
+  NestMembersAttr nestmembers;
+  BootstrapMethodsAttr bootstraps;
   AnnotationAttr annVis, annInvis;
   Vector generic;
+  CachedHierarchy hierarchy;
+  Vector cp_order;              // pool entries by index, once they
+                                // are numbered as they come
+  int next_index;
+  jasError stream_failed;       // first method that couldn't be
+                                // streamed
+  ForkJoinPool write_pool;
+  JitReport jit_report;
+  int inline_size;              // largest method to inline, or 0
+  ClassReader patched;          // class whose methods are replaced,
+                                // or null
+  boolean reusing;              // only the methods given are kept
+  int patched_bootstraps;       // bootstrap methods of the original
+  boolean verify;
+  boolean minimize;
+  int normal_size = -1;         // see getNormalSize()
+  Vector problems;              // jasError's found by the verifier
 
   public ClassEnv()
   {
@@ -47,6 +72,7 @@ public class ClassEnv implements RuntimeConstants
     interfaces = new Vector();
     vars = new Vector();
     methods = new Vector();
+    problems = new Vector();
     annVis = annInvis = null;
     generic = new Vector();
   }
@@ -115,6 +141,50 @@ public class ClassEnv implements RuntimeConstants
    */
   public void write(DataOutputStream out)
     throws IOException, jasError
+  {
+    if (stream_failed != null)
+      throw stream_failed;
+    if (minimize && (cp_order != null || patched != null))
+      throw new jasError("a class can't be minimized when its methods are"
+                         + " streamed or patched");
+    if (patched != null)
+      {
+        writePatch(out);
+        return;
+      }
+                                // older VMs ignore the attributes, and
+                                // private access then fails
+    if ((nesthost != null || nestmembers != null) && version_hi < 55)
+      throw new jasError("nestmates need class file version 55 or later");
+                                // optimized code and computed stack
+                                // maps change what is in the pool,
+                                // so they come before it is laid out
+    if (inline_size > 0 && cp_order == null)
+      new Inliner(this, inline_size).run();
+    for (Enumeration e = methods.elements(); e.hasMoreElements();)
+      {
+        Object m = e.nextElement();
+        if (m instanceof Method)
+          ((Method)m).prepare(this);
+      }
+    if (minimize)
+      {                         // measured before anything is taken
+                                // out or made shorter
+        normal_size = measure();
+        for (Enumeration e = methods.elements(); e.hasMoreElements();)
+          {
+            CodeAttr code = ((Method)e.nextElement()).code;
+            if (code != null)
+              code.shorten(this);
+          }
+        strip();
+      }
+    writeClass(out);
+  }
+
+  // the class as it has been prepared
+  private void writeClass(DataOutputStream out)
+    throws IOException, jasError
   {
 				// Headers
     out.writeInt(magic);
@@ -123,21 +193,30 @@ public class ClassEnv implements RuntimeConstants
 
 				// cpe items
     int curidx = 1;
-				// make up indices for entries
-    cpe_index = new Hashtable();
-    for (Enumeration e = cpe.elements(); e.hasMoreElements();)
-      {
-        CP tmp = (CP)(e.nextElement());
-        cpe_index.put(tmp.getUniq(), new Integer(curidx));
-        curidx++;
-        if ((tmp instanceof LongCP) ||
-            (tmp instanceof DoubleCP))
-          curidx++;
+    Enumeration order;
+    if (cp_order != null)
+      {				// numbered already
+        curidx = next_index;
+        order = cp_order.elements();
+      }
+    else
+      {				// make up indices for entries
+        curidx = numberPool(cpe.elements());
+        order = cpe.elements();
+        if (curidx > 256 || minimize)
+          {			// keep ldc's from becoming ldc_w's
+            Vector pool = ldcFirst();
+            if (pool != null)
+              {
+                curidx = numberPool(pool.elements());
+                order = pool.elements();
+              }
+          }
       }
     out.writeShort((short)curidx);
 
 				// Now write out all the entries
-    for (Enumeration e = cpe.elements(); e.hasMoreElements();)
+    for (Enumeration e = order; e.hasMoreElements();)
       {
         CP now = (CP) (e.nextElement());
         now.write(this, out);
@@ -164,11 +243,25 @@ public class ClassEnv implements RuntimeConstants
 
                                 // methods
     out.writeShort(methods.size());
-    for (Enumeration e = methods.elements(); e.hasMoreElements();)
+    if (verify)
+      getClassHierarchy();
+    if (write_pool != null && methods.size() > 1)
       {
-        Method m = (Method)(e.nextElement());
-        m.write(this, out);
+        Object all[] = new Object[methods.size()];
+        methods.copyInto(all);
+        MethodWriter.write(this, write_pool, all, out);
       }
+    else
+      for (Enumeration e = methods.elements(); e.hasMoreElements();)
+        {
+          Object m = e.nextElement();
+          if (m instanceof Method)
+            ((Method)m).write(this, out);
+          else
+            out.write((byte[])m);
+        }
+    checked(methods);
+    reportAll(methods);
                                 // additional attributes
     short numExtra = 0;
     if (source != null)
@@ -181,6 +274,12 @@ public class ClassEnv implements RuntimeConstants
       { numExtra++; }
     if (innerclasses != null)
       { numExtra++; }
+    if (nesthost != null)
+      { numExtra++; }
+    if (nestmembers != null)
+      { numExtra++; }
+    if (bootstraps != null)
+      { numExtra++; }
     if (depr != null)
       { numExtra++; }
     if (annVis != null)
@@ -200,6 +299,12 @@ public class ClassEnv implements RuntimeConstants
       { signature.write(this, out); }
     if (innerclasses != null)
       { innerclasses.write(this, out); }
+    if (nesthost != null)
+      { nesthost.write(this, out); }
+    if (nestmembers != null)
+      { nestmembers.write(this, out); }
+    if (bootstraps != null)
+      { bootstraps.write(this, out); }
     if (depr != null)
       { depr.write(this, out); }
     if (annVis != null)
@@ -232,6 +337,8 @@ public class ClassEnv implements RuntimeConstants
       {
 				// add it
         cpe.put(uniq, cp);
+        if (cp_order != null)
+          number(cp);
 				// resolve it so it adds anything
 				// which it depends on
         cp.resolve(this);
@@ -313,6 +420,89 @@ public class ClassEnv implements RuntimeConstants
     innerclasses.addInnerClass(ic);
   }
 
+  /**
+   * Make this class a member of the nest of another, which must list
+   * it with addNestMember(). A class is either the host of a nest or
+   * a member of one, and the classes of a nest are in one package.
+   * @param host Name of the host class
+   */
+  public void setNestHost(String host)
+    throws jasError
+  {
+    if (nesthost != null)
+      throw new jasError("the class already has a nest host");
+    if (nestmembers != null)
+      throw new jasError("the host of a nest can't have a nest host");
+    checkNestmate(host);
+    nesthost = new NestHostAttr(host);
+    nesthost.resolve(this);
+  }
+
+  /**
+   * Make this class the host of a nest, and add a class to it.
+   * @param member Name of the member class
+   * @see #setNestHost
+   */
+  public void addNestMember(String member)
+    throws jasError
+  {
+    if (nesthost != null)
+      throw new jasError("a member of a nest can't have nest members");
+    checkNestmate(member);
+    if (nestmembers == null)
+      {
+        nestmembers = new NestMembersAttr();
+        nestmembers.resolve(this);
+      }
+    ClassCP cp = new ClassCP(member);
+    if (!nestmembers.addMember(cp))
+      throw new jasError(member + " is already a nest member");
+    addCPItem(cp);
+  }
+
+  private void checkNestmate(String other)
+    throws jasError
+  {
+    if (this_class == null)
+      return;
+    String name = ((ClassCP)this_class).name.getUniq();
+    if (other.equals(name))
+      throw new jasError("a class can't be its own nestmate");
+    if (!packageOf(other).equals(packageOf(name)))
+      throw new jasError("nestmate " + other + " is not in the package of "
+                         + name);
+  }
+
+  private static String packageOf(String cls)
+  {
+    int i = cls.lastIndexOf('/');
+    return (i < 0) ? "" : cls.substring(0, i);
+  }
+
+  /**
+   * Add a bootstrap method to the BootstrapMethods attribute, unless
+   * it is there already. This is done by the InvokeDynamicCP's and
+   * DynamicCP's that use it when they are added to the class.
+   */
+  void addBootstrap(BootstrapMethod b)
+  {
+    if (bootstraps == null)
+      {
+        bootstraps = new BootstrapMethodsAttr();
+        bootstraps.resolve(this);
+      }
+    if (bootstraps.add(b))
+      b.resolve(this);
+  }
+
+  int getBootstrapIndex(BootstrapMethod b)
+    throws jasError
+  {
+    if (bootstraps == null)
+      throw new jasError("the class has no bootstrap methods");
+    return bootstraps.indexOf(b);
+  }
+
   /*
    * procedure group for annotation description
   */
@@ -342,10 +532,549 @@ public class ClassEnv implements RuntimeConstants
   public void addMethod(Method m)
   {
     m.resolve(this);
+    if (cp_order != null && stream_failed == null && patched == null)
+      {
+        try
+          {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            m.prepare(this);
+            m.write(this, new DataOutputStream(bytes));
+            methods.addElement(bytes.toByteArray());
+            if (verify)
+              addProblems(m);
+            if (jit_report != null)
+              report(m);
+            return;
+          }
+        catch (jasError ex)
+          { stream_failed = ex; }
+        catch (IOException ex)
+          { stream_failed = new jasError(ex.toString()); }
+      }
     methods.addElement(m);
   }
 
-  short getCPIndex(CP cp)
+  /**
+   * Write each method as soon as it is given to addMethod(), and
+   * only keep its bytes, so that the memory taken by a class with
+   * many methods is bounded by its largest method rather than by
+   * all of them. The constant pool is then numbered as it is filled
+   * in, instead of when the class is written; the pool comes out in
+   * a different order, but holds the same entries.
+   * <p>
+   * A method is prepared (see CodeAttr#setOptimize and
+   * CodeAttr#setAutoFrames) when it is added, so the class version
+   * and hierarchy must be set before that. Problems found in a
+   * method are reported by write(). This can't be turned off.
+   */
+  public void streamMethods()
+  {
+    if (cp_order != null)
+      return;
+    cp_order = new Vector();
+    cpe_index = new HashMap();
+    next_index = 1;
+    for (Enumeration e = cpe.elements(); e.hasMoreElements();)
+      number((CP)(e.nextElement()));
+  }
+
+  /**
+   * Make this class a patch of an existing one: write() then copies
+   * the class as it is, except that each method given to addMethod()
+   * takes the place of the one with the same name and descriptor, or
+   * is added after the others. Fields, other methods and attributes
+   * are copied as bytes without being read, and the constant pool
+   * is kept, with only the entries it lacks added at the end. Only
+   * setClass() and setSuperClass() may be used besides, to name the
+   * same classes as the original; the version is the original's
+   * unless it is set again.
+   * <p>
+   * Call this on a new ClassEnv, before anything is added to it.
+   * The original must stay readable until the class is written.
+   */
+  public void patch(ClassReader orig)
+    throws jasError
+  {
+    if (!cpe.isEmpty())
+      throw new jasError("a class can only be patched before it is filled in");
+    patched = orig;
+    version_lo = (short)orig.getMinorVersion();
+    version_hi = (short)orig.getMajorVersion();
+    cp_order = new Vector();
+    cpe_index = new HashMap();
+    BootstrapMethod boot[] = new BootstrapMethod[orig.getBootstrapCount()];
+    int n = orig.getConstantCount();
+    for (int i = 1; i < n; i++)
+      {
+        CP cp = existing(orig, i, boot);
+        if (cp != null && !cpe.containsKey(cp.getUniq()))
+          {
+            cpe.put(cp.getUniq(), cp);
+            cpe_index.put(cp.getUniq(), Integer.valueOf(i));
+          }
+      }
+    next_index = n;
+    if (boot.length > 0)
+      {                         // new call sites share these
+        bootstraps = new BootstrapMethodsAttr();
+        for (int j = 0; j < boot.length; j++)
+          bootstraps.addExisting(bootstrap(orig, j, boot));
+      }
+    patched_bootstraps = boot.length;
+  }
+
+  /**
+   * Make this class over from an earlier version of it, whose
+   * methods can be kept with keepMethod() instead of being assembled
+   * again. As with patch(), the original's constant pool is kept and
+   * added to, and its fields and attributes are copied; everything
+   * but the methods must therefore be as it was, which is for the
+   * caller to make sure of. Unlike patch(), the class gets exactly the
+   * methods given to addMethod() and keepMethod(), in that order.
+   */
+  public void reuse(ClassReader prev)
+    throws jasError
+  {
+    patch(prev);
+    reusing = true;
+  }
+
+  /**
+   * Copy the i'th method of the class given to reuse() as the next
+   * method of this one.
+   */
+  public void keepMethod(int i)
+  {
+    methods.addElement(Integer.valueOf(i));
+  }
+
+  // the entry for an original constant, or null for those jas
+  // doesn't make
+  private static CP existing(ClassReader r, int i, BootstrapMethod boot[])
+  {
+    switch (r.tag(i))
+      {
+      case CONSTANT_UTF8:
+        return new AsciiCP(r.utf8(i));
+      case CONSTANT_CLASS:
+        return new ClassCP(r.className(i));
+      case CONSTANT_STRING:
+        return new StringCP(r.string(i));
+      case CONSTANT_INTEGER:
+        return new IntegerCP(((Integer)r.value(i)).intValue());
+      case CONSTANT_FLOAT:
+        return new FloatCP(((Float)r.value(i)).floatValue());
+      case CONSTANT_LONG:
+        return new LongCP(((Long)r.value(i)).longValue());
+      case CONSTANT_DOUBLE:
+        return new DoubleCP(((Double)r.value(i)).doubleValue());
+      case CONSTANT_NAMEANDTYPE:
+        return new NameTypeCP(r.refName(i), r.refType(i));
+      case CONSTANT_FIELD:
+        return new FieldCP(r.refClass(i), r.refName(i), r.refType(i));
+      case CONSTANT_METHOD:
+        return new MethodCP(r.refClass(i), r.refName(i), r.refType(i));
+      case CONSTANT_INTERFACEMETHOD:
+        return new InterfaceCP(r.refClass(i), r.refName(i), r.refType(i));
+      case CONSTANT_METHODTYPE:
+        return new MethodTypeCP(r.methodType(i));
+      case CONSTANT_METHODHANDLE:
+        {
+          CP ref = existing(r, r.handleRef(i), boot);
+          try
+            {
+              return (ref == null) ? null
+                                   : new MethodHandleCP(r.handleKind(i), ref);
+            }
+          catch (jasError e)
+            { return null; }
+        }
+      case CONSTANT_INVOKEDYNAMIC:
+        {
+          BootstrapMethod b = bootstrap(r, r.bootstrapIndex(i), boot);
+          return (b == null) ? null
+                             : new InvokeDynamicCP(b, r.refName(i),
+                                                   r.refType(i));
+        }
+      case CONSTANT_DYNAMIC:
+        {
+          BootstrapMethod b = bootstrap(r, r.bootstrapIndex(i), boot);
+          try
+            {
+              return (b == null) ? null
+                                 : new DynamicCP(b, r.refName(i),
+                                                 r.refType(i));
+            }
+          catch (jasError e)
+            { return null; }
+        }
+      }
+    return null;
+  }
+
+                                // stands in boot[] for a bootstrap
+                                // method that is being made, or
+                                // can't be
+  private static final BootstrapMethod NO_BOOTSTRAP =
+    new BootstrapMethod();
+
+  // the j'th bootstrap method of the original, made once, or null
+  // if jas can't make it. A dynamic constant among the arguments
+  // brings in another bootstrap method, and those of a bad class
+  // can go round in a circle, which ends at NO_BOOTSTRAP.
+  private static BootstrapMethod bootstrap(ClassReader r, int j,
+                                           BootstrapMethod boot[])
+  {
+    if (j >= boot.length)
+      return null;
+    if (boot[j] == null)
+      {
+        boot[j] = NO_BOOTSTRAP;
+        int pos = r.getBootstrap(j);
+        CP method = existing(r, r.u2(pos), boot);
+        CP args[] = new CP[r.u2(pos + 2)];
+        for (int k = 0; k < args.length; k++)
+          if ((args[k] = existing(r, r.u2(pos + 4 + 2*k), boot)) == null)
+            return null;
+        if (!(method instanceof MethodHandleCP))
+          return null;
+        try
+          { boot[j] = new BootstrapMethod((MethodHandleCP)method, args); }
+        catch (jasError e)
+          { return null; }
+      }
+    return (boot[j] == NO_BOOTSTRAP) ? null : boot[j];
+  }
+
+  private void writePatch(DataOutputStream out)
+    throws IOException, jasError
+  {
+    ClassReader r = patched;
+    String name = ((ClassCP)this_class).name.getUniq();
+    if (!name.equals(r.getClassName()))
+      throw new jasError("the patch is for " + name + ", not "
+                         + r.getClassName());
+    Vector layout;              // Method's, and Integer's for the
+                                // methods of the original kept
+    if (reusing)
+      layout = methods;
+    else
+      {
+        String sup = r.getSuperName();
+        if (super_class != null
+            && !((ClassCP)super_class).name.getUniq().equals(sup))
+          throw new jasError(name + " extends " + sup);
+        if (!interfaces.isEmpty() || !vars.isEmpty() || signature != null
+            || debug != null || enclosing != null || depr != null
+            || innerclasses != null || annVis != null || annInvis != null
+            || !generic.isEmpty())
+          throw new jasError("a patch can only replace and add methods");
+        layout = replaced();
+      }
+                                // preparing methods may add constants
+    for (Enumeration e = layout.elements(); e.hasMoreElements();)
+      {
+        Object m = e.nextElement();
+        if (m instanceof Method)
+          ((Method)m).prepare(this);
+      }
+    if (next_index > 0xffff)
+      throw new jasError("too many constants in the patched class");
+
+    out.writeInt(magic);
+    out.writeShort(version_lo);
+    out.writeShort(version_hi);
+    out.writeShort(next_index);
+    r.copy(10, r.getPoolEnd(), out);
+    for (Enumeration e = cp_order.elements(); e.hasMoreElements();)
+      ((CP)e.nextElement()).write(this, out);
+                                // header, interfaces and fields
+    r.copy(r.getPoolEnd(), r.getMethodTable(), out);
+    out.writeShort(layout.size());
+    for (Enumeration e = layout.elements(); e.hasMoreElements();)
+      {
+        Object m = e.nextElement();
+        if (m instanceof Method)
+          ((Method)m).write(this, out);
+        else
+          {
+            int at = r.getMethod(((Integer)m).intValue());
+            r.copy(at, r.memberEnd(at), out);
+          }
+      }
+    checked(layout);
+    reportAll(layout);
+    if (bootstraps == null || bootstraps.size() == patched_bootstraps)
+      r.copy(r.getAttributes(), r.getLength(), out);
+    else
+      {                         // bootstrap methods were added
+        int attrs = r.getAttributes();
+        int n = r.attributeCount(attrs);
+        int table = r.findAttribute(attrs, "BootstrapMethods");
+        out.writeShort((table < 0) ? n + 1 : n);
+        for (int i = 0; i < n; i++)
+          {
+            int info = r.attribute(attrs, i);
+            if (info == table)
+              bootstraps.write(this, out, r);
+            else
+              r.copy(info - 6, info + r.attributeLength(info), out);
+          }
+        if (table < 0)
+          bootstraps.write(this, out, r);
+      }
+    out.flush();
+  }
+
+  // drop the debugging information, and fill the pool in again with
+  // only what the rest of the class uses. Bootstrap methods are
+  // added back by the constants that use them.
+  private void strip()
+  {
+    source = null;
+    for (Enumeration e = methods.elements(); e.hasMoreElements();)
+      {
+        CodeAttr code = ((Method)e.nextElement()).code;
+        if (code != null)
+          {
+            code.ltab = null;
+            code.lvar = null;
+            code.lvtyp = null;
+          }
+      }
+    cpe = new Hashtable();
+    bootstraps = null;
+    addCPItem(this_class);
+    if (super_class != null) addCPItem(super_class);
+    for (Enumeration e = interfaces.elements(); e.hasMoreElements();)
+      addCPItem((CP)e.nextElement());
+    for (Enumeration e = vars.elements(); e.hasMoreElements();)
+      ((Var)e.nextElement()).resolve(this);
+    for (Enumeration e = methods.elements(); e.hasMoreElements();)
+      ((Method)e.nextElement()).resolve(this);
+    if (signature != null) signature.resolve(this);
+    if (debug != null) debug.resolve(this);
+    if (enclosing != null) enclosing.resolve(this);
+    if (depr != null) depr.resolve(this);
+    if (innerclasses != null) innerclasses.resolve(this);
+    if (nesthost != null) nesthost.resolve(this);
+    if (nestmembers != null) nestmembers.resolve(this);
+    if (annVis != null) annVis.resolve(this);
+    if (annInvis != null) annInvis.resolve(this);
+    for (Enumeration e = generic.elements(); e.hasMoreElements();)
+      ((GenericAttr)e.nextElement()).resolve(this);
+  }
+
+  // the size the class would have without setMinimize(), written
+  // where it goes nowhere; it isn't checked or reported on twice
+  private int measure()
+    throws IOException, jasError
+  {
+    boolean was_verify = verify;
+    JitReport was_report = jit_report;
+    DataOutputStream out = new DataOutputStream(new OutputStream()
+      {
+        public void write(int b) { }
+        public void write(byte b[], int off, int len) { }
+      });
+    verify = false;
+    jit_report = null;
+    minimize = false;
+    try
+      { writeClass(out); }
+    finally
+      {
+        verify = was_verify;
+        jit_report = was_report;
+        minimize = true;
+      }
+    return out.size();
+  }
+
+  // the problems the verifier found in the methods written, which
+  // are reported once all of them have been looked at
+  private void checked(Vector written)
+    throws jasError
+  {
+    if (!verify)
+      return;
+    for (Enumeration e = written.elements(); e.hasMoreElements();)
+      {
+        Object m = e.nextElement();
+        if (m instanceof Method)
+          addProblems((Method)m);
+      }
+    if (!problems.isEmpty())
+      throw new jasError(((ClassCP)this_class).name.getUniq() + ": "
+                         + problems.size() + " problem"
+                         + (problems.size() == 1 ? "" : "s")
+                         + " found by the verifier");
+  }
+
+                                // what the verifier found in m; it
+                                // only looks at code, so a method
+                                // that has none and should have is a
+                                // problem of its own
+  private void addProblems(Method m)
+  {
+    if (m.code != null)
+      {
+        if (m.code.problems != null)
+          problems.addAll(m.code.problems);
+      }
+    else if ((m.acc & (ACC_ABSTRACT | ACC_NATIVE)) == 0)
+      problems.addElement(new jasError(m.name.getUniq() + m.desc.getUniq()
+                                       + ": no Code attribute, but the method"
+                                       + " is neither abstract nor native"));
+  }
+
+  // the methods of the original, with those added in place of the
+  // ones of the same name and descriptor, and the others after them
+  private Vector replaced()
+  {
+    int count = patched.getMethodCount();
+    Vector layout = new Vector();
+    Hashtable at = new Hashtable();
+    for (int i = 0; i < count; i++)
+      {
+        int m = patched.getMethod(i);
+        layout.addElement(Integer.valueOf(i));
+        at.put(patched.memberName(m) + patched.memberDescriptor(m),
+               Integer.valueOf(i));
+      }
+    for (Enumeration e = methods.elements(); e.hasMoreElements();)
+      {
+        Method m = (Method)e.nextElement();
+        Integer i = (Integer)at.get(m.name.getUniq() + m.desc.getUniq());
+        if (i == null)
+          layout.addElement(m);
+        else
+          layout.setElementAt(m, i.intValue());
+      }
+    return layout;
+  }
+
+  /**
+   * Have write() encode the methods in parallel on this pool, once the
+   * constant pool is laid out, and then write them out in order. This
+   * only pays off for classes with many or large methods. Null (the
+   * default) writes them one after the other.
+   */
+  public void setWritePool(ForkJoinPool pool)
+  { write_pool = pool; }
+
+  /**
+   * Replace calls to small static and private methods of this class
+   * by their code, when the class is written. Only methods with at
+   * most max_size bytes of code that call nothing are inlined; see
+   * Inliner for the rest. 0 (the default) inlines nothing. Methods
+   * that have been streamed can't be inlined into.
+   */
+  public void setInline(int max_size)
+  { inline_size = max_size; }
+
+  /**
+   * Add the methods of this class to a report on their size and
+   * shape, as they are written. Null (the default) reports nothing.
+   * @see JitReport
+   */
+  public void setJitReport(JitReport report)
+  { jit_report = report; }
+
+  private void report(Method m)
+  {
+    if (m.code != null)
+      jit_report.add(this, m);
+  }
+
+                                // the Method's among these; streamed
+                                // ones were reported when added, and
+                                // those a patch keeps aren't looked at
+  private void reportAll(Vector methods)
+  {
+    if (jit_report == null)
+      return;
+    for (Enumeration e = methods.elements(); e.hasMoreElements();)
+      {
+        Object m = e.nextElement();
+        if (m instanceof Method)
+          report((Method)m);
+      }
+  }
+
+  private int numberPool(Enumeration en)
+  {
+    int curidx = 1;
+    cpe_index = new HashMap();
+    while (en.hasMoreElements())
+      {
+        CP tmp = (CP)(en.nextElement());
+        cpe_index.put(tmp.getUniq(), Integer.valueOf(curidx));
+        curidx++;
+        if ((tmp instanceof LongCP) ||
+            (tmp instanceof DoubleCP))
+          curidx++;
+      }
+    return curidx;
+  }
+
+  /**
+   * @return the pool, with the constants loaded by ldc's first (the
+   *         most used first), or null if they all have indices that
+   *         fit in a byte already
+   */
+  private Vector ldcFirst()
+    throws jasError
+  {
+    Hashtable uses = new Hashtable();
+    Vector ldcs = new Vector();
+    for (Enumeration e = methods.elements(); e.hasMoreElements();)
+      {
+        Object m = e.nextElement();
+        if (m instanceof Method && ((Method)m).code != null)
+          ((Method)m).code.countLdcs(uses, ldcs);
+      }
+    boolean promoted = false;
+    for (int i = 0; i < ldcs.size() && !promoted; i++)
+      promoted = getCPIndex((CP)ldcs.elementAt(i)) > 255;
+    if (!promoted)
+      return null;
+
+    long key[] = new long[ldcs.size()];
+    for (int i = 0; i < key.length; i++)
+      {                         // most uses first, then first used
+        CP cp = (CP)ldcs.elementAt(i);
+        int n = ((int[])uses.get(cp.getUniq()))[0];
+        key[i] = ((long)(Integer.MAX_VALUE - n) << 32) | i;
+      }
+    Arrays.sort(key);
+    Vector pool = new Vector(cpe.size());
+    Hashtable first = new Hashtable();
+    for (int i = 0; i < key.length; i++)
+      {
+        CP cp = (CP)ldcs.elementAt((int)key[i]);
+        pool.addElement(cp);
+        first.put(cp.getUniq(), cp);
+      }
+    for (Enumeration e = cpe.elements(); e.hasMoreElements();)
+      {
+        CP cp = (CP)(e.nextElement());
+        if (!first.containsKey(cp.getUniq()))
+          pool.addElement(cp);
+      }
+    return pool;
+  }
+
+  private void number(CP cp)
+  {
+    cp_order.addElement(cp);
+    cpe_index.put(cp.getUniq(), Integer.valueOf(next_index));
+    next_index++;
+    if ((cp instanceof LongCP) || (cp instanceof DoubleCP))
+      next_index++;
+  }
+
+  int getCPIndex(CP cp)
     throws jasError
   {
     if (cpe_index == null)
@@ -354,7 +1083,77 @@ public class ClassEnv implements RuntimeConstants
     Integer idx = (Integer)(cpe_index.get(cp.getUniq()));
     if (idx == null)
       throw new jasError("Item " + cp + " not in the class");
-    return ((short)(idx.intValue()));
+    return idx.intValue();
+  }
+
+  /**
+   * Make the class file as small as it can be, for classes that are
+   * shipped rather than debugged: the SourceFile, LineNumberTable,
+   * LocalVariableTable and LocalVariableTypeTable attributes are
+   * left out, along with the constant pool entries nothing else
+   * uses; every instruction gets its shortest encoding (see
+   * CodeAttr#setOptimize), leaving code that refers to fixed pc's
+   * alone; and the constants of ldc's come first in the pool, those
+   * used most ahead of the rest, so that few need ldc_w. This can't
+   * be used with streamMethods(), patch() or
+   * CodeAttr#setCodeBuffer.
+   */
+  public void setMinimize(boolean minimize)
+  { this.minimize = minimize; }
+
+  /**
+   * @return the size the class written last would have had without
+   *         setMinimize(), or -1 if it wasn't minimized
+   */
+  public int getNormalSize()
+  { return normal_size; }
+
+  /**
+   * Have the code of each method checked when it is written, the
+   * way the JVM's verifier checks it when the class is loaded: stack
+   * and local types, branch and handler targets, max_stack and
+   * max_locals, and the frames of the StackMapTable. Classes are
+   * looked up in the class hierarchy. All the problems found are
+   * kept (see getProblems()), and write() then fails, once every
+   * method has been checked. This can't be used with
+   * CodeAttr#setCodeBuffer.
+   * @see #setClassHierarchy
+   * @see CodeAttr#setSourceLines
+   */
+  public void setVerify(boolean verify)
+  { this.verify = verify; }
+
+  /**
+   * @return the problems the verifier found in the methods written
+   *         so far, as jasError's, in the order of the methods and
+   *         of their code. The line of the source each comes from is
+   *         in its line field.
+   */
+  public Vector getProblems()
+  { return problems; }
+
+  /**
+   * Set the class hierarchy used to find common superclasses when
+   * stack map frames are computed. Sharing one CachedHierarchy
+   * between the classes of a batch means each type is looked up
+   * only once. By default classes are found through the class
+   * loader jas itself was loaded by.
+   * @see CodeAttr#setAutoFrames
+   */
+  public void setClassHierarchy(ClassHierarchy h)
+  {
+    if (h == null || h instanceof CachedHierarchy)
+      hierarchy = (CachedHierarchy)h;
+    else
+      hierarchy = new CachedHierarchy(h);
+  }
+
+  CachedHierarchy getClassHierarchy()
+  {
+    if (hierarchy == null)
+      hierarchy = new CachedHierarchy
+        (new ClassLoaderHierarchy(ClassEnv.class.getClassLoader()));
+    return hierarchy;
   }
 
   /**
@@ -0,0 +1,30 @@
+/**
+ * A ClassHierarchy answers the questions about other classes that
+ * come up when stack map frames are computed: where two reference
+ * types meet, the frame has to name their common superclass.
+ * Class names are internal names, like <tt>java/lang/String</tt>.
+ * <p>
+ * Implementations are shared between the ClassEnv's of a batch, so
+ * they must be safe to call from several threads.
+ * @see CachedHierarchy
+ * @see ClassLoaderHierarchy
+ * @see ClassEnv#setClassHierarchy
+ */
+
+package jas;
+
+public interface ClassHierarchy
+{
+  /**
+   * @return the superclass of the named class, or null if it has
+   *         none (java/lang/Object)
+   * @exception jasError if the class cannot be found
+   */
+  String getSuperclass(String name) throws jasError;
+
+  /**
+   * @return true if the named class is an interface
+   * @exception jasError if the class cannot be found
+   */
+  boolean isInterface(String name) throws jasError;
+}
@@ -0,0 +1,110 @@
+/**
+ * ClassLoaderHierarchy looks classes up as <tt>.class</tt> resources
+ * of a ClassLoader. Only the header of the class file is read, so
+ * nothing is loaded or initialized in the running VM. It does no
+ * caching of its own; wrap it in a CachedHierarchy for that.
+ * @see CachedHierarchy
+ */
+
+package jas;
+
+import java.io.*;
+
+public class ClassLoaderHierarchy implements ClassHierarchy
+{
+  private ClassLoader loader;
+
+                                // the last class read, since callers
+                                // tend to ask both questions in a row
+  private String last_name, last_super;
+  private boolean last_iface;
+
+  /**
+   * @param loader where to find the classes; null for the
+   *        system class loader
+   */
+  public ClassLoaderHierarchy(ClassLoader loader)
+  {
+    if (loader == null)
+      loader = ClassLoader.getSystemClassLoader();
+    this.loader = loader;
+  }
+
+  public synchronized String getSuperclass(String name)
+    throws jasError
+  {
+    read(name);
+    return last_super;
+  }
+
+  public synchronized boolean isInterface(String name)
+    throws jasError
+  {
+    read(name);
+    return last_iface;
+  }
+
+  private void read(String name)
+    throws jasError
+  {
+    if (name.equals(last_name)) return;
+    InputStream in = loader.getResourceAsStream(name + ".class");
+    if (in == null)
+      throw new jasError("can't find class " + name);
+    try
+      {
+        DataInputStream din =
+          new DataInputStream(new BufferedInputStream(in));
+        readHeader(din, name);
+        last_name = name;
+      }
+    catch (IOException ex)
+      { throw new jasError("can't read class " + name + ": " + ex); }
+    finally
+      {
+        try { in.close(); } catch (IOException ex) { }
+      }
+  }
+
+  private void readHeader(DataInputStream in, String name)
+    throws IOException, jasError
+  {
+    if (in.readInt() != 0xCAFEBABE)
+      throw new jasError(name + ".class is not a class file");
+    in.readUnsignedShort();     // minor
+    in.readUnsignedShort();     // major
+
+    int cnt = in.readUnsignedShort();
+    String utf[] = new String[cnt];
+    int cls[] = new int[cnt];
+    for (int i = 1; i < cnt; i++)
+      {
+        int tag = in.readUnsignedByte();
+        switch (tag)
+          {
+          case 1:               // Utf8
+            utf[i] = in.readUTF(); break;
+          case 7:               // Class
+            cls[i] = in.readUnsignedShort(); break;
+          case 8: case 16: case 19: case 20:
+            in.skipBytes(2); break;
+          case 15:
+            in.skipBytes(3); break;
+          case 3: case 4: case 9: case 10: case 11: case 12:
+          case 17: case 18:
+            in.skipBytes(4); break;
+          case 5: case 6:       // Long, Double
+            in.skipBytes(8); i++; break;
+          default:
+            throw new jasError(name + ".class has a bad constant pool tag "
+                               + tag);
+          }
+      }
+
+    int access = in.readUnsignedShort();
+    in.readUnsignedShort();     // this_class
+    int sup = in.readUnsignedShort();
+    last_iface = (access & RuntimeConstants.ACC_INTERFACE) != 0;
+    last_super = (sup == 0) ? null : utf[cls[sup]];
+  }
+}
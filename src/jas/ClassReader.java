@@ -0,0 +1,586 @@
+/**
+ * ClassReader gives access to the parts of a class file without
+ * copying or decoding any more of it than is asked for. The bytes
+ * are usually a file mapped into memory (see map()), or a jar entry
+ * read into a buffer.
+ * <p>
+ * Reading a class only finds where each constant, field, method and
+ * attribute starts; a constant is decoded the first time it is asked
+ * for, and then kept. Fields, methods and attributes are given as
+ * offsets into the buffer, so that a reader can walk over the parts
+ * it doesn't care about:
+ * <pre>
+ *     for (int i = 0; i < r.getMethodCount(); i++) {
+ *         int m = r.getMethod(i);
+ *         int code = r.findAttribute(r.memberAttributes(m), "Code");
+ *         ...
+ *     }
+ * </pre>
+ * An attribute offset is that of its info, just past the length.
+ * A ClassReader is meant to be used by one thread.
+ * @see jasmin.Disassembler
+ */
+
+package jas;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+public class ClassReader implements RuntimeConstants
+{
+  private ByteBuffer buf;
+  private int cpos[];           // where each constant starts
+  private Object cval[];        // constants decoded so far
+  private int access;
+  private int this_class, super_class;
+  private int interfaces;       // offset of interfaces_count
+  private int fields[], methods[];
+  private int method_table;     // offset of methods_count
+  private int attrs;            // offset of the class attributes_count
+  private int length;
+  private int bootstraps[];     // where each bootstrap method starts,
+                                // once asked for
+
+  /**
+   * Find the parts of the class in a buffer. Only the absolute get
+   * methods of the buffer are used, so its position doesn't matter.
+   * @exception jasError if the bytes are not a class file
+   */
+  public ClassReader(ByteBuffer buf)
+    throws jasError
+  {
+    this.buf = buf;
+    try
+      {
+        if (buf.getInt(0) != JAVA_MAGIC)
+          throw new jasError("not a class file");
+        int n = u2(8);
+        cpos = new int[n];
+        cval = new Object[n];
+        int pos = 10;
+        for (int i = 1; i < n; i++)
+          {
+            cpos[i] = pos;
+            int tag = u1(pos);
+            switch (tag)
+              {
+              case CONSTANT_UTF8:
+                pos += 3 + u2(pos + 1);
+                break;
+              case CONSTANT_INTEGER:
+              case CONSTANT_FLOAT:
+              case CONSTANT_FIELD:
+              case CONSTANT_METHOD:
+              case CONSTANT_INTERFACEMETHOD:
+              case CONSTANT_NAMEANDTYPE:
+              case CONSTANT_DYNAMIC:
+              case CONSTANT_INVOKEDYNAMIC:
+                pos += 5;
+                break;
+              case CONSTANT_LONG:
+              case CONSTANT_DOUBLE:
+                pos += 9;
+                i++;            // takes two entries
+                break;
+              case CONSTANT_CLASS:
+              case CONSTANT_STRING:
+              case CONSTANT_METHODTYPE:
+              case CONSTANT_MODULE:
+              case CONSTANT_PACKAGE:
+                pos += 3;
+                break;
+              case CONSTANT_METHODHANDLE:
+                pos += 4;
+                break;
+              default:
+                throw new jasError("bad constant pool tag " + tag
+                                   + " at entry " + i);
+              }
+          }
+        access = u2(pos);
+        this_class = u2(pos + 2);
+        super_class = u2(pos + 4);
+        interfaces = pos + 6;
+        pos = interfaces + 2 + 2*u2(interfaces);
+        fields = new int[u2(pos)];
+        pos = members(fields, pos + 2);
+        method_table = pos;
+        methods = new int[u2(pos)];
+        attrs = members(methods, pos + 2);
+        length = skipAttributes(attrs);
+        if (length > buf.limit())
+          throw new jasError("truncated class file");
+      }
+    catch (IndexOutOfBoundsException ex)
+      { throw new jasError("truncated class file"); }
+  }
+
+  /**
+   * Map a class file into memory and read it.
+   */
+  public static ClassReader map(File file)
+    throws IOException, jasError
+  {
+    FileInputStream in = new FileInputStream(file);
+    try
+      {
+        FileChannel ch = in.getChannel();
+        MappedByteBuffer buf = ch.map(FileChannel.MapMode.READ_ONLY,
+                                      0, ch.size());
+        return new ClassReader(buf);
+      }
+    finally
+      { in.close(); }
+  }
+
+  private int members(int where[], int pos)
+  {
+    for (int i = 0; i < where.length; i++)
+      {
+        where[i] = pos;
+        pos = skipAttributes(pos + 6);
+      }
+    return pos;
+  }
+
+  private int skipAttributes(int pos)
+  {
+    int n = u2(pos);
+    pos += 2;
+    for (int i = 0; i < n; i++)
+      pos += 6 + u4(pos + 2);
+    return pos;
+  }
+
+  //
+  // the raw bytes
+  //
+
+  public int u1(int pos)
+  { return buf.get(pos) & 0xff; }
+
+  public int s1(int pos)
+  { return buf.get(pos); }
+
+  public int u2(int pos)
+  { return buf.getShort(pos) & 0xffff; }
+
+  public int s2(int pos)
+  { return buf.getShort(pos); }
+
+  public int u4(int pos)
+  { return buf.getInt(pos); }
+
+  /**
+   * @return bytes from the class file
+   */
+  public byte[] bytes(int pos, int len)
+  {
+    byte b[] = new byte[len];
+    for (int i = 0; i < len; i++)
+      b[i] = buf.get(pos + i);
+    return b;
+  }
+
+  /**
+   * Write bytes of the class file from pos up to end, as they are.
+   */
+  public void copy(int pos, int end, OutputStream out)
+    throws IOException
+  {
+    ByteBuffer src = buf.duplicate();
+    src.position(pos);
+    byte b[] = new byte[Math.min(end - pos, 8192)];
+    while (pos < end)
+      {
+        int n = Math.min(b.length, end - pos);
+        src.get(b, 0, n);
+        out.write(b, 0, n);
+        pos += n;
+      }
+  }
+
+  /**
+   * @return the length of the class file
+   */
+  public int getLength()
+  { return length; }
+
+  //
+  // the class
+  //
+
+  public int getMinorVersion()
+  { return u2(4); }
+
+  public int getMajorVersion()
+  { return u2(6); }
+
+  public int getAccess()
+  { return access; }
+
+  public String getClassName()
+  { return className(this_class); }
+
+  /**
+   * @return the superclass, or null if there is none
+   */
+  public String getSuperName()
+  { return (super_class == 0) ? null : className(super_class); }
+
+  public String[] getInterfaces()
+  {
+    String res[] = new String[u2(interfaces)];
+    for (int i = 0; i < res.length; i++)
+      res[i] = className(u2(interfaces + 2 + 2*i));
+    return res;
+  }
+
+  /**
+   * @return the offset of the access flags, where the constant pool
+   *         ends
+   */
+  public int getPoolEnd()
+  { return interfaces - 6; }
+
+  /**
+   * @return the offset of the class attributes
+   */
+  public int getAttributes()
+  { return attrs; }
+
+  //
+  // fields and methods
+  //
+
+  public int getFieldCount()
+  { return fields.length; }
+
+  public int getMethodCount()
+  { return methods.length; }
+
+  /**
+   * @return the offset of the i'th field
+   */
+  public int getField(int i)
+  { return fields[i]; }
+
+  /**
+   * @return the offset of the i'th method
+   */
+  public int getMethod(int i)
+  { return methods[i]; }
+
+  /**
+   * @return the offset of the method count, where the fields end
+   */
+  public int getMethodTable()
+  { return method_table; }
+
+  /**
+   * @return the offset just past a field or method
+   */
+  public int memberEnd(int member)
+  { return skipAttributes(member + 6); }
+
+  public int memberAccess(int member)
+  { return u2(member); }
+
+  public String memberName(int member)
+  { return utf8(u2(member + 2)); }
+
+  public String memberDescriptor(int member)
+  { return utf8(u2(member + 4)); }
+
+  /**
+   * @return the offset of the attributes of a field or method
+   */
+  public int memberAttributes(int member)
+  { return member + 6; }
+
+  //
+  // attributes, given by the offset of their count
+  //
+
+  public int attributeCount(int attrs)
+  { return u2(attrs); }
+
+  /**
+   * @return the offset of the info of the i'th attribute
+   */
+  public int attribute(int attrs, int i)
+  {
+    int pos = attrs + 2;
+    while (--i >= 0)
+      pos += 6 + u4(pos + 2);
+    return pos + 6;
+  }
+
+  public String attributeName(int info)
+  { return utf8(u2(info - 6)); }
+
+  public int attributeLength(int info)
+  { return u4(info - 4); }
+
+  /**
+   * @return the offset of the info of the first attribute of that
+   *         name, or -1 if there is none
+   */
+  public int findAttribute(int attrs, String name)
+  {
+    int n = u2(attrs);
+    int pos = attrs + 2;
+    for (int i = 0; i < n; i++)
+      {
+        int idx = u2(pos);
+        if (tag(idx) == CONSTANT_UTF8 && utf8(idx).equals(name))
+          return pos + 6;
+        pos += 6 + u4(pos + 2);
+      }
+    return -1;
+  }
+
+  /**
+   * @return the offset of the attributes of a Code attribute
+   */
+  public int codeAttributes(int code)
+  {
+    int pos = code + 8 + u4(code + 4);
+    return pos + 2 + 8*u2(pos);
+  }
+
+  //
+  // the constant pool
+  //
+
+  public int getConstantCount()
+  { return cpos.length; }
+
+  /**
+   * @return the tag of a constant, or 0 if the index is not that of
+   *         one
+   */
+  public int tag(int i)
+  { return (i > 0 && i < cpos.length && cpos[i] != 0) ? u1(cpos[i]) : 0; }
+
+  /**
+   * @return the offset of a constant, just past its tag
+   */
+  public int constant(int i)
+  { return cpos[i] + 1; }
+
+  private void expect(int i, int tag)
+    throws IllegalArgumentException
+  {
+    if (tag(i) != tag)
+      throw new IllegalArgumentException("constant " + i + " has tag "
+                                         + tag(i) + ", not " + tag);
+  }
+
+  /**
+   * @return a Utf8 constant
+   */
+  public String utf8(int i)
+  {
+    String s = (String)cval[i];
+    if (s == null)
+      {
+        expect(i, CONSTANT_UTF8);
+        s = decode(cpos[i] + 3, u2(cpos[i] + 1));
+        cval[i] = s;
+      }
+    return s;
+  }
+
+  /**
+   * Decode modified UTF-8, as found in Utf8 constants.
+   */
+  public String decode(int pos, int len)
+  {
+    char c[] = new char[len];
+    int n = 0;
+    int end = pos + len;
+    while (pos < end)
+      {
+        int b = u1(pos++);
+        if (b < 0x80)
+          c[n++] = (char)b;
+        else if (b < 0xe0)
+          c[n++] = (char)(((b & 0x1f) << 6) | (u1(pos++) & 0x3f));
+        else
+          {
+            int b2 = u1(pos++);
+            c[n++] = (char)(((b & 0x0f) << 12) | ((b2 & 0x3f) << 6)
+                            | (u1(pos++) & 0x3f));
+          }
+      }
+    return new String(c, 0, n);
+  }
+
+  /**
+   * @return the name of a Class constant
+   */
+  public String className(int i)
+  {
+    expect(i, CONSTANT_CLASS);
+    return utf8(u2(cpos[i] + 1));
+  }
+
+  /**
+   * @return the text of a String constant
+   */
+  public String string(int i)
+  {
+    expect(i, CONSTANT_STRING);
+    return utf8(u2(cpos[i] + 1));
+  }
+
+  /**
+   * @return the value of an Integer, Float, Long, Double or String
+   *         constant
+   */
+  public Object value(int i)
+  {
+    Object v = cval[i];
+    if (v != null)
+      return v;
+    int pos = cpos[i] + 1;
+    switch (tag(i))
+      {
+      case CONSTANT_INTEGER:
+        v = Integer.valueOf(u4(pos));
+        break;
+      case CONSTANT_FLOAT:
+        v = Float.valueOf(Float.intBitsToFloat(u4(pos)));
+        break;
+      case CONSTANT_LONG:
+        v = Long.valueOf(buf.getLong(pos));
+        break;
+      case CONSTANT_DOUBLE:
+        v = Double.valueOf(Double.longBitsToDouble(buf.getLong(pos)));
+        break;
+      case CONSTANT_STRING:
+        return string(i);
+      default:
+        throw new IllegalArgumentException("constant " + i + " has tag "
+                                           + tag(i) + ", not a value");
+      }
+    cval[i] = v;
+    return v;
+  }
+
+  /**
+   * @return the class of a Fieldref, Methodref or
+   *         InterfaceMethodref constant
+   */
+  public String refClass(int i)
+  { return className(u2(cpos[i] + 1)); }
+
+  /**
+   * @return the name of a Fieldref, Methodref, InterfaceMethodref,
+   *         NameAndType, Dynamic or InvokeDynamic constant
+   */
+  public String refName(int i)
+  {
+    int nt = (tag(i) == CONSTANT_NAMEANDTYPE) ? i : u2(cpos[i] + 3);
+    expect(nt, CONSTANT_NAMEANDTYPE);
+    return utf8(u2(cpos[nt] + 1));
+  }
+
+  /**
+   * @return the descriptor of a Fieldref, Methodref,
+   *         InterfaceMethodref, NameAndType, Dynamic or InvokeDynamic
+   *         constant
+   */
+  public String refType(int i)
+  {
+    int nt = (tag(i) == CONSTANT_NAMEANDTYPE) ? i : u2(cpos[i] + 3);
+    expect(nt, CONSTANT_NAMEANDTYPE);
+    return utf8(u2(cpos[nt] + 3));
+  }
+
+  /**
+   * @return the kind of a MethodHandle constant, one of the REF_
+   *         constants
+   */
+  public int handleKind(int i)
+  {
+    expect(i, CONSTANT_METHODHANDLE);
+    return u1(cpos[i] + 1);
+  }
+
+  /**
+   * @return the index of the Fieldref, Methodref or
+   *         InterfaceMethodref constant of a MethodHandle constant
+   */
+  public int handleRef(int i)
+  {
+    expect(i, CONSTANT_METHODHANDLE);
+    return u2(cpos[i] + 2);
+  }
+
+  /**
+   * @return the descriptor of a MethodType constant
+   */
+  public String methodType(int i)
+  {
+    expect(i, CONSTANT_METHODTYPE);
+    return utf8(u2(cpos[i] + 1));
+  }
+
+  /**
+   * @return the index into the BootstrapMethods attribute of a
+   *         Dynamic or InvokeDynamic constant
+   */
+  public int bootstrapIndex(int i)
+  {
+    if (tag(i) != CONSTANT_DYNAMIC)
+      expect(i, CONSTANT_INVOKEDYNAMIC);
+    return u2(cpos[i] + 1);
+  }
+
+  //
+  // the BootstrapMethods attribute
+  //
+
+  private void findBootstraps()
+  {
+    int info = findAttribute(attrs, "BootstrapMethods");
+    if (info < 0)
+      {
+        bootstraps = new int[0];
+        return;
+      }
+    bootstraps = new int[u2(info)];
+    int pos = info + 2;
+    for (int j = 0; j < bootstraps.length; j++)
+      {
+        bootstraps[j] = pos;
+        pos += 4 + 2*u2(pos + 2);
+      }
+  }
+
+  /**
+   * @return the number of bootstrap methods of the class
+   */
+  public int getBootstrapCount()
+  {
+    if (bootstraps == null)
+      findBootstraps();
+    return bootstraps.length;
+  }
+
+  /**
+   * @return the offset of the j'th bootstrap method: the index of its
+   *         MethodHandle constant, the number of its arguments, and
+   *         the index of each argument, all two bytes long
+   */
+  public int getBootstrap(int j)
+  {
+    if (j >= getBootstrapCount())
+      throw new IllegalArgumentException("no bootstrap method " + j);
+    return bootstraps[j];
+  }
+}
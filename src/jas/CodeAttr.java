@@ -16,15 +16,26 @@ public class CodeAttr
 {
   static final CP attr = new AsciiCP("Code");
   short stack_size, num_locals;
+  boolean auto_limits;
+  boolean auto_frames;
+  boolean optimize, choose_switches;
+  boolean inline_jsr;
+  String instrument;            // source name, when instrumenting
   int code_size;
   Vector insns;
+  CodeBuffer buf;               // holds the code instead of insns
   Hashtable insn_pc;
+  int insn_pos_pc[];            // pc of each element of insns
   Catchtable ctb;
   LineTableAttr ltab;
+  LineTableAttr src_lines;      // for the verifier only
   LocalVarTableAttr lvar;
   LocalVarTypeTableAttr lvtyp;
   StackMap stackmap;
   Vector generic;
+  int back_edges;               // filled in for a JitReport
+  int switch_sizes[];
+  Vector problems;              // found by the verifier, or null
 
   /**
    * Create a new bag. Add instructions with the addInsn() method,
@@ -55,6 +66,16 @@ public class CodeAttr
   public void setLineTable(LineTableAttr ltab)
   { this.ltab = ltab; }
 
+  /**
+   * Set the lines of the source the instructions come from, which
+   * the verifier reports problems with (see ClassEnv#setVerify)
+   * instead of those of the line table. This table isn't written to
+   * the class file.
+   */
+
+  public void setSourceLines(LineTableAttr lines)
+  { src_lines = lines; }
+
   /**
    * Set the local variable information for this method
    */
@@ -93,7 +114,50 @@ public class CodeAttr
    * can't reorder code fragments after you've added it here.
    */
   public void addInsn(Insn insn)
-  { insns.addElement(insn); }
+  {
+    if (buf != null)
+      buf.add(insn);
+    else
+      insns.addElement(insn);
+  }
+
+  /**
+   * Count how often the code is reached when it runs: calls to
+   * Counters.hit() are inserted at the start of the method and at
+   * every target of a branch or a switch, before the code is written
+   * (after setOptimize(), before setAutoFrames()). The counters are
+   * named by the source file given here and the line table, if there
+   * is one. Null turns this off.
+   * @see Counters
+   */
+  public void setInstrument(String source)
+  { instrument = source; }
+
+  /**
+   * Have instructions encoded into bytes as they are added, instead
+   * of keeping the Insn objects until the class is written. This
+   * takes much less memory for large methods, but the code can't be
+   * looked at again: it can't be used with setAutoLimits(),
+   * setAutoFrames(), setOptimize(), setChooseSwitches(),
+   * setInlineSubroutines(), ClassEnv#setVerify or
+   * ClassEnv#setMinimize. Call it before adding any instruction.
+   */
+  public void setCodeBuffer(boolean use)
+    throws jasError
+  {
+    if (!insns.isEmpty() || (buf != null && buf.length > 0))
+      throw new jasError("the code buffer must be chosen before adding code");
+    buf = use ? new CodeBuffer() : null;
+  }
+
+                                // a position for the next thing
+                                // added to the code, and its pc once
+                                // the code has been laid out
+  int position()
+  { return (buf == null) ? insns.size() : buf.length; }
+
+  int pcAt(int position)
+  { return (buf == null) ? insn_pos_pc[position] : buf.moved(position); }
 
   public void setStackSize(short stack_size)
   { this.stack_size = stack_size; }
@@ -101,6 +165,56 @@ public class CodeAttr
   public void setVarSize(short num_vars)
   { num_locals = num_vars; }
 
+  /**
+   * Have max_stack and max_locals worked out from the code when it
+   * is written, instead of using the values given by setStackSize()
+   * and setVarSize(). Long and double values, wide instructions,
+   * exception handlers and jsr subroutines are all accounted for.
+   */
+  public void setAutoLimits(boolean auto)
+  { auto_limits = auto; }
+
+  /**
+   * Have the StackMapTable of this method worked out from the code
+   * when the class is written, if it is of version 50 or later and
+   * no StackMap has been given with setStackMap(). Common
+   * superclasses are found through the ClassEnv's class hierarchy.
+   * Code that can't be reached is replaced by nop's and an athrow.
+   * @see ClassEnv#setClassHierarchy
+   */
+  public void setAutoFrames(boolean auto)
+  { auto_frames = auto; }
+
+  /**
+   * Run a peephole pass over the code before it is written: shortest
+   * encodings, jump threading, and removal of jumps to the next
+   * instruction, unreachable code and redundant load/store pairs.
+   * Some of the rewrites can raise the stack depth, so they are only
+   * made along with setAutoLimits().
+   */
+  public void setOptimize(boolean opt)
+  { optimize = opt; }
+
+  /**
+   * Turn each switch into a tableswitch or a lookupswitch, whichever
+   * javac would pick for the same cases (a table when it costs no
+   * more than a lookup, counting space and three times the number of
+   * compares). Cases that go to the default are dropped from
+   * lookups. This is also done by setOptimize().
+   */
+  public void setChooseSwitches(boolean choose)
+  { choose_switches = choose; }
+
+  /**
+   * Replace every jsr by a copy of the subroutine it calls before
+   * the code is written (before the other passes), so that frames
+   * can be computed for it by setAutoFrames() and the class can be
+   * given a version of 51 or later, which has no jsr and ret.
+   * @see Subroutines
+   */
+  public void setInlineSubroutines(boolean inline)
+  { inline_jsr = inline; }
+
   void resolve(ClassEnv e)
   {
                                 // propagate this resolution to
@@ -108,6 +222,7 @@ public class CodeAttr
                                 // that any CP's referenced by them
                                 // also get added.
     e.addCPItem(attr);
+    if (buf != null) buf.resolve(e);
     for (Enumeration en = insns.elements(); en.hasMoreElements();)
       {
         Insn i = (Insn)(en.nextElement());
@@ -125,6 +240,35 @@ public class CodeAttr
       }
   }
 
+                                // count the constants of the ldc's
+                                // whose index has to fit in a byte
+  void countLdcs(Hashtable uses, Vector order)
+  {
+    if (buf != null)
+      {
+        buf.countLdcs(uses, order);
+        return;
+      }
+    for (Enumeration en = insns.elements(); en.hasMoreElements();)
+      {
+        Insn i = (Insn)(en.nextElement());
+        if (i.operand instanceof LdcOperand && !((LdcOperand)i.operand).wide)
+          countUse(((LdcOperand)i.operand).cpe, uses, order);
+      }
+  }
+
+  static void countUse(CP cp, Hashtable uses, Vector order)
+  {
+    int n[] = (int[])uses.get(cp.getUniq());
+    if (n == null)
+      {
+        n = new int[1];
+        uses.put(cp.getUniq(), n);
+        order.addElement(cp);
+      }
+    n[0]++;
+  }
+
   int getPc(Insn i) throws jasError
   {
     if (insn_pc == null)
@@ -143,16 +287,21 @@ public class CodeAttr
     return tmp.intValue();
   }
 
-  void write(ClassEnv e, DataOutputStream out)
-    throws IOException, jasError
+                                // resolve all labels and compute
+                                // total size. Before the constant
+                                // pool has been laid out, ldc's are
+                                // assumed not to need promotion.
+  int assignPcs(ClassEnv e)
+    throws jasError
   {
-                                // First, resolve all labels and
-                                // compute total size
     int code_size = 0;
+    int pos = 0;
     insn_pc = new Hashtable();
+    insn_pos_pc = new int[insns.size() + 1];
     for (Enumeration en = insns.elements(); en.hasMoreElements();)
       {
         Insn now = (Insn)(en.nextElement());
+        insn_pos_pc[pos++] = code_size;
         if (now instanceof Label)
           {
             insn_pc.put(((Label)now).id, new Integer(code_size));
@@ -161,9 +310,23 @@ public class CodeAttr
           { insn_pc.put(now, new Integer(code_size)); }
         code_size += now.size(e, this);
       }
+    insn_pos_pc[pos] = code_size;
+    return code_size;
+  }
+
+  void write(ClassEnv e, Method m, DataOutputStream out)
+    throws IOException, jasError
+  {
+                                // First, resolve all labels and
+                                // compute total size
+    int code_size = (buf != null) ? buf.layout(e, this) : assignPcs(e);
+    if (auto_limits)
+      computeLimits(m, code_size);
+    if (e.verify)
+      new Verifier(e, this, m, code_size).run();
     int total_size = code_size;
     if (ctb != null) total_size += ctb.size();
-    if (ltab != null) total_size += ltab.size();
+    if (ltab != null) total_size += ltab.size(this);
     if (lvar != null) total_size += lvar.size();
     if (lvtyp != null) total_size += lvtyp.size();
     if (stackmap != null) total_size += stackmap.size(e, this);
@@ -182,11 +345,17 @@ public class CodeAttr
     out.writeShort(stack_size);
     out.writeShort(num_locals);
     out.writeInt(code_size);
-    for (Enumeration en = insns.elements(); en.hasMoreElements();)
-      {
-        Insn now = (Insn)(en.nextElement());
-        now.write(e, this, out);
+    if (e.jit_report != null)
+      {                         // look at the code as it is written
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(code_size);
+        writeCode(e, new DataOutputStream(bytes));
+        byte code[] = bytes.toByteArray();
+        this.code_size = code_size;
+        JitReport.scan(this, code);
+        out.write(code);
       }
+    else
+      writeCode(e, out);
     if (ctb != null)
       { ctb.write(e, this, out); }
     else
@@ -213,6 +382,76 @@ public class CodeAttr
       }
   }
 
+  private void writeCode(ClassEnv e, DataOutputStream out)
+    throws IOException, jasError
+  {
+    if (buf != null)
+      buf.write(e, out);
+    for (Enumeration en = insns.elements(); en.hasMoreElements();)
+      {
+        Insn now = (Insn)(en.nextElement());
+        now.write(e, this, out);
+      }
+  }
+
+  void prepare(ClassEnv e, Method m)
+    throws jasError
+  {
+    if (buf != null && (auto_limits || auto_frames || optimize || choose_switches
+                        || instrument != null || inline_jsr || e.verify
+                        || e.minimize))
+      throw new jasError("code kept in a code buffer can't be analysed or optimized");
+    if (stackmap != null)
+      stackmap.setInitial(e, m);
+    if (optimize || choose_switches || auto_frames || instrument != null
+        || inline_jsr)
+      LineTableAttr.plantLabels(this);
+    if (inline_jsr)
+      new Subroutines(e, this).run();
+    if (optimize)
+      new Peephole(this).run();
+    else if (choose_switches)
+      new Peephole(this).chooseSwitches();
+    if (instrument != null)
+      new Instrument(e, this, m, instrument).run();
+    if (!auto_frames || stackmap != null || e.version_hi < 50)
+      return;
+    int code_size = assignPcs(e);
+    FrameInference fi = new FrameInference(e, this, m,
+                                           new CodeFlow(this, code_size));
+    if (fi.frames.frames.isEmpty())
+      return;
+    stackmap = fi.frames;
+    stackmap.resolve(e);
+  }
+
+                                // the shortest encoding of every
+                                // instruction, once the class has
+                                // been measured (see ClassEnv#setMinimize)
+  void shorten(ClassEnv e)
+    throws jasError
+  {
+    if (!Peephole.usesFixedOffsets(this))
+      new Peephole(this).shortenAll(assignPcs(e));
+  }
+
+  private void computeLimits(Method m, int code_size)
+    throws jasError
+  {
+    int args_size = Descriptor.argsSize(m.desc.getUniq());
+    if ((m.acc & RuntimeConstants.ACC_STATIC) == 0)
+      args_size++;
+    CodeLimits lim = new CodeLimits(new CodeFlow(this, code_size), args_size);
+    if (lvar != null)
+      for (int i = 0; i < lvar.vars.count; i++)
+        lim.use(lvar.vars.slot[i],
+                Descriptor.typeSize(lvar.vars.sig[i].getUniq().charAt(0)));
+    if (lim.max_stack > 65535 || lim.max_locals > 65535)
+      throw new jasError("method is too large for its stack or locals");
+    stack_size = (short)lim.max_stack;
+    num_locals = (short)lim.max_locals;
+  }
+
   public String toString()
   { return ("<#code-attr>"); }
 }
@@ -0,0 +1,521 @@
+/**
+ * CodeBuffer holds the code of a method as bytes, encoding each
+ * instruction as soon as it is added instead of keeping the Insn and
+ * its operand around until the class is written. What can't be known
+ * yet is left as a fix-up, and patched in place when the code is
+ * written:
+ * <ul>
+ * <li> branch and switch offsets to labels;
+ * <li> constant pool indices, as the pool is laid out last.
+ * </ul>
+ * An ldc whose constant ends up past index 255 has to become an
+ * ldc_w, which moves the code after it. The buffer remembers where
+ * each ldc and each switch (whose padding depends on its pc) is, so
+ * that it can then lay the code out again.
+ * <p>
+ * Only the instructions are given up: passes that need the list of
+ * instructions (computed limits and frames, the peephole pass) can't
+ * be used with a buffer.
+ * @see CodeAttr#setCodeBuffer
+ */
+
+package jas;
+
+import java.io.*;
+import java.util.Hashtable;
+import java.util.Vector;
+
+class CodeBuffer implements RuntimeConstants
+{
+  byte code[];
+  int length;
+
+  private SideTable labels;     // every label seen, bound or not
+  private int bound[];          // position of each label, or -1
+
+                                // label fix-ups: where the offset goes,
+                                // the instruction it is relative to
+                                // (-1 for none), the SideTable place
+                                // of the label, its size, and the
+                                // source line for errors
+  private int jump_at[], jump_from[], jump_to[], jump_size[], jump_line[];
+  private int njumps;
+
+                                // constant pool fix-ups
+  private int cp_at[], cp_size[];
+  private CP cp[];
+  private int ncps;
+
+                                // ldc's and switches, by position.
+                                // A site ends after the ldc operand
+                                // or the switch padding, and is given
+                                // the cp fix-up or the padding
+  private static final int LDC = 0, SWITCH = 1;
+  private int site_kind[], site_at[], site_end[], site_arg[];
+  private int nsites;
+  private int site_shift[];     // growth of the code up to each site's
+                                // end, once laid out, or null
+  private boolean laid_out;
+  private jasError failed;      // first problem found while adding
+
+  CodeBuffer()
+  {
+    code = new byte[256];
+    labels = new SideTable();
+    bound = new int[8];
+    for (int i = 0; i < bound.length; i++)
+      bound[i] = -1;
+    jump_at = new int[16];
+    jump_from = new int[16];
+    jump_to = new int[16];
+    jump_size = new int[16];
+    jump_line = new int[16];
+    cp_at = new int[32];
+    cp_size = new int[32];
+    cp = new CP[32];
+    site_kind = new int[8];
+    site_at = new int[8];
+    site_end = new int[8];
+    site_arg = new int[8];
+  }
+
+  /**
+   * Encode an instruction, or bind a label to the current position.
+   * As CodeAttr.addInsn() doesn't throw anything, an instruction that
+   * can't be encoded is reported when the code is written.
+   */
+  void add(Insn insn)
+  {
+    if (failed != null)
+      return;
+    if (laid_out)
+      {
+        failed = new jasError("code can't be added once it has been written");
+        return;
+      }
+    if (insn instanceof Label)
+      {
+        bind((Label)insn);
+        return;
+      }
+
+    int pc = length;
+    InsnOperand op = insn.operand;
+    int opc = insn.opc;
+    if (op == null)
+      {
+        room(1);
+        put1(opc);
+      }
+    else if (op instanceof UnsignedByteWideOperand)
+      {
+        UnsignedByteWideOperand u = (UnsignedByteWideOperand)op;
+        room(4);
+        if (u.Wide)
+          {
+            put1(opc_wide);
+            put1(opc);
+            put2(u.val);
+          }
+        else
+          {
+            put1(opc);
+            put1(u.val);
+          }
+      }
+    else if (op instanceof IincOperand)
+      {
+        IincOperand i = (IincOperand)op;
+        room(6);
+        if (i.Wide)
+          {
+            put1(opc_wide);
+            put1(opc);
+            put2(i.vindex);
+            put2(i.constt);
+          }
+        else
+          {
+            put1(opc);
+            put1(i.vindex);
+            put1(i.constt);
+          }
+      }
+    else if (op instanceof LabelOperand)
+      {
+        LabelOperand l = (LabelOperand)op;
+        room(5);
+        put1(opc);
+        jump(l.target, (l.source == null) ? -1 : pc, l.wide ? 4 : 2, l.ref);
+      }
+    else if (op instanceof OffsetOperand)
+      {
+        OffsetOperand o = (OffsetOperand)op;
+        room(5);
+        put1(opc);
+        if (o.wide) put4(o.val); else put2(o.val);
+      }
+    else if (op instanceof RelativeOffsetOperand)
+      {
+        RelativeOffsetOperand o = (RelativeOffsetOperand)op;
+        room(5);
+        put1(opc);
+        if (o.wide) put4(o.val); else put2(o.val);
+      }
+    else if (op instanceof UnsignedByteOperand)
+      {
+        int val = ((UnsignedByteOperand)op).val;
+        if (val >= 256)
+          {
+            failed =
+              new jasError("Operand is too large (" +val+ ") for this instruction");
+            return;
+          }
+        room(2);
+        put1(opc);
+        put1(val);
+      }
+    else if (op instanceof ByteOperand)
+      {
+        room(2);
+        put1(opc);
+        put1(((ByteOperand)op).val);
+      }
+    else if (op instanceof ShortOperand)
+      {
+        room(3);
+        put1(opc);
+        put2(((ShortOperand)op).offset);
+      }
+    else if (op instanceof IntegerOperand)
+      {
+        room(5);
+        put1(opc);
+        put4(((IntegerOperand)op).val);
+      }
+    else if (op instanceof InvokedynamicOperand)
+      {
+        room(5);
+        put1(opc);
+        cpRef(((CPOperand)op).cpe, 2);
+        put1(0);
+        put1(0);
+      }
+    else if (op instanceof CPOperand)
+      {
+        CPOperand c = (CPOperand)op;
+        room(3);
+        put1(opc);
+        cpRef(c.cpe, c.wide ? 2 : 1);
+      }
+    else if (op instanceof LdcOperand)
+      {
+        LdcOperand c = (LdcOperand)op;
+        room(3);
+        put1(opc);
+        if (!c.wide)
+          site(LDC, pc, pc + 2, ncps);
+        cpRef(c.cpe, c.wide ? 2 : 1);
+      }
+    else if (op instanceof InvokeinterfaceOperand)
+      {
+        InvokeinterfaceOperand i = (InvokeinterfaceOperand)op;
+        room(5);
+        put1(opc);
+        cpRef(i.cpe, 2);
+        put1(i.nargs);
+        put1(0);
+      }
+    else if (op instanceof MultiarrayOperand)
+      {
+        MultiarrayOperand m = (MultiarrayOperand)op;
+        room(4);
+        put1(opc);
+        cpRef(m.cpe, 2);
+        put1(m.sz);
+      }
+    else if (op instanceof TableswitchOperand)
+      {
+        TableswitchOperand t = (TableswitchOperand)op;
+        int cnt = t.jmp.length;
+        room(16 + 4*cnt);
+        put1(opc);
+        pad(pc);
+        target(t.dflt, pc);
+        put4(t.min);
+        put4(t.max);
+        for (int x = 0; x < cnt; x++)
+          target(t.jmp[x], pc);
+      }
+    else if (op instanceof LookupswitchOperand)
+      {
+        LookupswitchOperand l = (LookupswitchOperand)op;
+        int cnt = (l.jmp == null) ? 0 : l.jmp.length;
+        room(12 + 8*cnt);
+        put1(opc);
+        pad(pc);
+        target(l.dflt, pc);
+        put4(cnt);
+        for (int x = 0; x < cnt; x++)
+          {
+            put4(l.match[x]);
+            target(l.jmp[x], pc);
+          }
+      }
+    else
+      failed = new jasError("can't put " + insn + " in a code buffer");
+  }
+
+  private void bind(Label l)
+  {
+    int n = ~labels.place(l);
+    if (n >= bound.length)
+      {
+        int old = bound.length;
+        bound = SideTable.grow(bound, labels.labels.length);
+        for (int i = old; i < bound.length; i++)
+          bound[i] = -1;
+      }
+    bound[n] = length;          // a label planted twice is where it
+                                // was planted last, as with Insn's
+  }
+
+  private void jump(Label l, int from, int size, int line)
+  {
+    if (njumps == jump_at.length)
+      {
+        int n = njumps * 2;
+        jump_at = SideTable.grow(jump_at, n);
+        jump_from = SideTable.grow(jump_from, n);
+        jump_to = SideTable.grow(jump_to, n);
+        jump_size = SideTable.grow(jump_size, n);
+        jump_line = SideTable.grow(jump_line, n);
+      }
+    jump_at[njumps] = length;
+    jump_from[njumps] = from;
+    jump_to[njumps] = labels.place(l);
+    jump_size[njumps] = size;
+    jump_line[njumps++] = line;
+    length += size;
+  }
+
+  private void target(LabelOrOffset lo, int pc)
+  {
+    if (lo.getLabel() != null)
+      jump(lo.getLabel(), pc, 4, 0);
+    else
+      put4(lo.getOffset());
+  }
+
+  private void cpRef(CP c, int size)
+  {
+    if (ncps == cp.length)
+      {
+        int n = ncps * 2;
+        cp_at = SideTable.grow(cp_at, n);
+        cp_size = SideTable.grow(cp_size, n);
+        cp = SideTable.grow(cp, n);
+      }
+    cp_at[ncps] = length;
+    cp_size[ncps] = size;
+    cp[ncps++] = c;
+    length += size;
+  }
+
+  private void pad(int pc)
+  {
+    int pad = 3 - (pc & 3);
+    site(SWITCH, pc, pc + 1 + pad, pad);
+    length += pad;              // room() left zeros there
+  }
+
+  private void site(int kind, int at, int end, int arg)
+  {
+    if (nsites == site_at.length)
+      {
+        int n = nsites * 2;
+        site_kind = SideTable.grow(site_kind, n);
+        site_at = SideTable.grow(site_at, n);
+        site_end = SideTable.grow(site_end, n);
+        site_arg = SideTable.grow(site_arg, n);
+      }
+    site_kind[nsites] = kind;
+    site_at[nsites] = at;
+    site_end[nsites] = end;
+    site_arg[nsites++] = arg;
+  }
+
+  private void room(int n)
+  {
+    if (length + n > code.length)
+      {
+        byte tmp[] = new byte[Math.max(code.length * 2, length + n)];
+        System.arraycopy(code, 0, tmp, 0, length);
+        code = tmp;
+      }
+  }
+
+  private void put1(int v)
+  { code[length++] = (byte)v; }
+
+  private void put2(int v)
+  {
+    SideTable.put16(code, length, v);
+    length += 2;
+  }
+
+  private void put4(int v)
+  {
+    SideTable.put32(code, length, v);
+    length += 4;
+  }
+
+  void resolve(ClassEnv e)
+  {
+    for (int i = 0; i < ncps; i++)
+      e.addCPItem(cp[i]);
+  }
+
+  void countLdcs(Hashtable uses, Vector order)
+  {
+    for (int k = 0; k < nsites; k++)
+      if (site_kind[k] == LDC && site_shift == null)
+        CodeAttr.countUse(cp[site_arg[k]], uses, order);
+  }
+
+  /**
+   * @return where something that was at position pos while the code
+   *         was being added ends up once it has been laid out
+   */
+  int moved(int pos)
+  {
+    if (site_shift == null)
+      return pos;
+    int lo = 0, hi = nsites;    // first site ending after pos
+    while (lo < hi)
+      {
+        int mid = (lo + hi) >>> 1;
+        if (site_end[mid] <= pos) lo = mid + 1; else hi = mid;
+      }
+    return (lo == 0) ? pos : pos + site_shift[lo - 1];
+  }
+
+  /**
+   * Turn the ldc's whose constant is past index 255 into ldc_w's, and
+   * bind the labels in ce. This is done once, when the class is
+   * first written.
+   * @return the size of the code
+   */
+  int layout(ClassEnv e, CodeAttr ce) throws jasError
+  {
+    if (failed != null)
+      throw failed;
+    if (!laid_out)
+      {
+        laid_out = true;
+        boolean grow = false;
+        for (int k = 0; k < nsites; k++)
+          if (site_kind[k] == LDC && e.getCPIndex(cp[site_arg[k]]) > 255)
+            grow = true;
+        if (grow)
+          relayout(e);
+      }
+    ce.insn_pc = new java.util.Hashtable();
+    for (int i = 0; i < labels.count; i++)
+      if (i < bound.length && bound[i] >= 0)
+        ce.insn_pc.put(labels.labels[i].id, Integer.valueOf(bound[i]));
+    return length;
+  }
+
+  private void relayout(ClassEnv e) throws jasError
+  {
+    boolean promote[] = new boolean[nsites];
+    int delta[] = new int[nsites];
+    site_shift = new int[nsites];
+    int shift = 0;
+    for (int k = 0; k < nsites; k++)
+      {
+        if (site_kind[k] == LDC)
+          {
+            promote[k] = e.getCPIndex(cp[site_arg[k]]) > 255;
+            delta[k] = promote[k] ? 1 : 0;
+          }
+        else
+          delta[k] = (3 - ((site_at[k] + shift) & 3)) - site_arg[k];
+        shift += delta[k];
+        site_shift[k] = shift;
+      }
+
+    byte out[] = new byte[length + shift];
+    int from = 0, to = 0;
+    for (int k = 0; k < nsites; k++)
+      {
+        int at = site_at[k];
+        System.arraycopy(code, from, out, to, at - from);
+        to += at - from;
+        if (site_kind[k] == LDC)
+          {
+            out[to++] = (byte)(promote[k] ? opc_ldc_w : opc_ldc);
+            to += 1 + delta[k];         // the index is patched later
+            if (promote[k])
+              cp_size[site_arg[k]] = 2;
+            from = at + 2;
+          }
+        else
+          {
+            out[to++] = code[at];
+            to += 3 - ((at + site_shift[k] - delta[k]) & 3);
+            from = at + 1 + site_arg[k];
+          }
+      }
+    System.arraycopy(code, from, out, to, length - from);
+
+    for (int i = 0; i < ncps; i++)
+      cp_at[i] = moved(cp_at[i]);
+    for (int i = 0; i < njumps; i++)
+      {
+        jump_at[i] = moved(jump_at[i]);
+        if (jump_from[i] >= 0)
+          jump_from[i] = moved(jump_from[i]);
+      }
+    for (int i = 0; i < bound.length; i++)
+      if (bound[i] >= 0)
+        bound[i] = moved(bound[i]);
+    code = out;
+    length = out.length;
+  }
+
+  /**
+   * Patch the fix-ups and write out the code. layout() must have
+   * been called first.
+   */
+  void write(ClassEnv e, DataOutputStream out)
+    throws IOException, jasError
+  {
+    for (int i = 0; i < ncps; i++)
+      {
+        int idx = e.getCPIndex(cp[i]);
+        if (cp_size[i] == 2)
+          SideTable.put16(code, cp_at[i], idx);
+        else if (idx > 255)
+          throw new jasError("exceeded size for small cpidx" + cp[i]);
+        else
+          code[cp_at[i]] = (byte)idx;
+      }
+    for (int i = 0; i < njumps; i++)
+      {
+        int n = ~jump_to[i];
+        if (n >= bound.length || bound[n] < 0)
+          throw new jasError(labels.labels[n] + " has not been added to the code");
+        int offset = bound[n] - ((jump_from[i] < 0) ? 0 : jump_from[i]);
+        if (jump_size[i] == 4)
+          SideTable.put32(code, jump_at[i], offset);
+        else if (offset > 32767 || offset < -32768)
+          throw new jasError
+            ("reference from line " + jump_line[i] + " exceed size for short");
+        else
+          SideTable.put16(code, jump_at[i], offset);
+      }
+    out.write(code, 0, length);
+  }
+}
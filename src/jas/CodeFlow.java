@@ -0,0 +1,155 @@
+/**
+ * CodeFlow is a flattened view of the instructions held by a
+ * CodeAttr, taken once their pc's have been assigned. Labels are
+ * dropped, and every branch, switch and handler target is turned
+ * into an index in the instruction array, so that the passes which
+ * walk the control flow of a method don't each have to deal with
+ * labels, numeric offsets and relative offsets.
+ * @see CodeAttr
+ */
+
+package jas;
+
+import java.util.Enumeration;
+
+class CodeFlow implements RuntimeConstants
+{
+  Insn insns[];                 // real instructions, in code order
+  int pcs[];                    // pc of each instruction
+  int targets[][];              // branch targets of each instruction
+  int code_size;
+  private int index[];          // pc -> instruction number
+
+                                // exception handlers, as instruction
+                                // numbers; end is exclusive
+  int hstart[], hend[], hpc[];
+  CP htype[];
+
+  CodeFlow(CodeAttr ce, int code_size) throws jasError
+  {
+    int n = 0;
+    for (Enumeration en = ce.insns.elements(); en.hasMoreElements();)
+      if (!(en.nextElement() instanceof Label)) n++;
+
+    this.code_size = code_size;
+    insns = new Insn[n];
+    pcs = new int[n];
+    targets = new int[n][];
+    index = new int[code_size + 1];
+    for (int i = 0; i < index.length; i++)
+      index[i] = -1;
+
+    n = 0;
+    for (Enumeration en = ce.insns.elements(); en.hasMoreElements();)
+      {
+        Insn now = (Insn)(en.nextElement());
+        if (now instanceof Label) continue;
+        insns[n] = now;
+        pcs[n] = ce.getPc(now);
+        index[pcs[n]] = n;
+        n++;
+      }
+    index[code_size] = n;
+
+    for (int i = 0; i < n; i++)
+      targets[i] = findTargets(ce, i);
+
+    Catchtable ctb = ce.ctb;
+    int cnt = (ctb == null) ? 0 : ctb.count;
+    int lpc[] = (ctb == null) ? null : ctb.labels.pcs(ce);
+    hstart = new int[cnt];
+    hend = new int[cnt];
+    hpc = new int[cnt];
+    htype = new CP[cnt];
+    for (int i = 0; i < cnt; i++)
+      {
+        hstart[i] = at(SideTable.pc(ctb.start[i], lpc));
+        hend[i] = at(SideTable.pc(ctb.end[i], lpc));
+        hpc[i] = at(SideTable.pc(ctb.handler[i], lpc));
+        htype[i] = ctb.catch_cpe[i];
+      }
+  }
+
+  /**
+   * @return the number of the instruction starting at pc
+   */
+  int at(int pc) throws jasError
+  {
+    if (pc < 0 || pc > code_size || index[pc] < 0)
+      throw new jasError("offset " + pc + " is not the start of an instruction");
+    return index[pc];
+  }
+
+  /**
+   * @return true if control can go on to the next instruction
+   */
+  boolean fallsThrough(int i)
+  {
+    switch (insns[i].opc)
+      {
+      case opc_goto:
+      case opc_goto_w:
+      case opc_ret:
+      case opc_tableswitch:
+      case opc_lookupswitch:
+      case opc_ireturn:
+      case opc_lreturn:
+      case opc_freturn:
+      case opc_dreturn:
+      case opc_areturn:
+      case opc_return:
+      case opc_athrow:
+        return false;
+      default:
+        return true;
+      }
+  }
+
+  private int target(CodeAttr ce, int i, LabelOrOffset l) throws jasError
+  {
+    if (l.getLabel() != null)
+      return at(ce.getPc(l.getLabel()));
+    return at(pcs[i] + l.getOffset());
+  }
+
+  private int[] findTargets(CodeAttr ce, int i) throws jasError
+  {
+    InsnOperand op = insns[i].operand;
+    int res[];
+    if (op instanceof LabelOperand)
+      {
+        res = new int[1];
+        res[0] = at(ce.getPc(((LabelOperand)op).target));
+      }
+    else if (op instanceof OffsetOperand && insns[i].opc != opc_sipush)
+      {                         // sipush keeps its value in one too
+        res = new int[1];
+        res[0] = at(pcs[i] + ((OffsetOperand)op).val);
+      }
+    else if (op instanceof RelativeOffsetOperand)
+      {
+        res = new int[1];
+        res[0] = at(pcs[i] + ((RelativeOffsetOperand)op).val);
+      }
+    else if (op instanceof TableswitchOperand)
+      {
+        TableswitchOperand t = (TableswitchOperand)op;
+        res = new int[t.jmp.length + 1];
+        res[0] = target(ce, i, t.dflt);
+        for (int j = 0; j < t.jmp.length; j++)
+          res[j+1] = target(ce, i, t.jmp[j]);
+      }
+    else if (op instanceof LookupswitchOperand)
+      {
+        LookupswitchOperand l = (LookupswitchOperand)op;
+        int cnt = (l.jmp == null) ? 0 : l.jmp.length;
+        res = new int[cnt + 1];
+        res[0] = target(ce, i, l.dflt);
+        for (int j = 0; j < cnt; j++)
+          res[j+1] = target(ce, i, l.jmp[j]);
+      }
+    else
+      res = null;
+    return res;
+  }
+}
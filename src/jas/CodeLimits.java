@@ -0,0 +1,199 @@
+/**
+ * CodeLimits works out the max_stack and max_locals values of a
+ * method from its instructions, for code that does not want to
+ * declare them by hand. It is a single pass over the control flow
+ * of the method: each instruction is visited once, with the stack
+ * depth it is entered with, so the cost is linear in code size.
+ * @see CodeAttr#setAutoLimits
+ */
+
+package jas;
+
+class CodeLimits implements RuntimeConstants
+{
+  private static final int VAR = 99;   // effect depends on the operand
+
+                                // change in stack depth caused by
+                                // each opcode
+  private static final int stackDelta[] = {
+     0,  1,  1,  1,  1,  1,  1,  1,  1,  2,  2,  1,  1,  1,  2,  2, //   0
+     1,  1,  1,  1,  2,  1,  2,  1,  2,  1,  1,  1,  1,  1,  2,  2, //  16
+     2,  2,  1,  1,  1,  1,  2,  2,  2,  2,  1,  1,  1,  1, -1,  0, //  32
+    -1,  0, -1, -1, -1, -1, -1, -2, -1, -2, -1, -1, -1, -1, -1, -2, //  48
+    -2, -2, -2, -1, -1, -1, -1, -2, -2, -2, -2, -1, -1, -1, -1, -3, //  64
+    -4, -3, -4, -3, -3, -3, -3, -1, -2,  1,  1,  1,  2,  2,  2,  0, //  80
+    -1, -2, -1, -2, -1, -2, -1, -2, -1, -2, -1, -2, -1, -2, -1, -2, //  96
+    -1, -2, -1, -2,  0,  0,  0,  0, -1, -1, -1, -1, -1, -1, -1, -2, // 112
+    -1, -2, -1, -2,  0,  1,  0,  1, -1, -1,  0,  0,  1,  1, -1,  0, // 128
+    -1,  0,  0,  0, -3, -1, -1, -3, -3, -1, -1, -1, -1, -1, -1, -2, // 144
+    -2, -2, -2, -2, -2, -2, -2,  0,  1,  0, -1, -1, -1, -2, -1, -2, // 160
+    -1,  0,VAR,VAR,VAR,VAR,VAR,VAR,VAR,VAR,VAR,  1,  0,  0,  0, -1, // 176
+     0,  0, -1, -1,  0,VAR, -1, -1,  0,  1,  0                      // 192
+  };
+
+  int max_stack, max_locals;
+
+  private CodeFlow flow;
+  int depth[];                  // stack depth on entry, -1 if not seen
+  private int work[];
+  private int nwork;
+
+  /**
+   * @param flow the instructions of the method
+   * @param args_size number of local slots taken by the arguments
+   *        (including <tt>this</tt>)
+   */
+  CodeLimits(CodeFlow flow, int args_size) throws jasError
+  {
+    this.flow = flow;
+    int n = flow.insns.length;
+    depth = new int[n];
+    work = new int[n];
+    for (int i = 0; i < n; i++)
+      depth[i] = -1;
+
+    max_locals = args_size;
+    for (int i = 0; i < n; i++)
+      useLocals(flow.insns[i]);
+
+    max_stack = 0;
+    if (n == 0) return;
+    push(0, 0);
+    for (int h = 0; h < flow.hpc.length; h++)
+      push(flow.hpc[h], 1);     // the caught exception
+    while (nwork > 0)
+      visit(work[--nwork]);
+  }
+
+  private void push(int i, int d) throws jasError
+  {
+    if (i >= flow.insns.length)
+      throw new jasError("code falls off the end of the method");
+    if (depth[i] == d) return;
+    if (depth[i] >= 0)
+      throw new jasError("inconsistent stack height " + depth[i] + " != " + d
+                         + " at offset " + flow.pcs[i]);
+    depth[i] = d;
+    work[nwork++] = i;
+  }
+
+  private void visit(int i) throws jasError
+  {
+    Insn insn = flow.insns[i];
+    int d = depth[i];
+    int after = d + delta(insn);
+    if (after < 0)
+      throw new jasError("stack underflow at offset " + flow.pcs[i]);
+    if (after > max_stack) max_stack = after;
+
+    int targets[] = flow.targets[i];
+    if (insn.opc == opc_jsr || insn.opc == opc_jsr_w)
+      {                         // the return address is only on the
+                                // stack in the subroutine, which is
+                                // expected to hand back the stack as
+                                // it got it
+        push(targets[0], after);
+        push(i + 1, d);
+        return;
+      }
+    if (targets != null)
+      for (int t = 0; t < targets.length; t++)
+        push(targets[t], after);
+    if (flow.fallsThrough(i))
+      push(i + 1, after);
+  }
+
+  private static int delta(Insn insn) throws jasError
+  {
+    int opc = insn.opc;
+    if (opc < 0 || opc >= stackDelta.length)
+      throw new jasError("unknown opcode " + opc);
+    if (stackDelta[opc] != VAR)
+      return stackDelta[opc];
+
+    switch (opc)
+      {
+      case opc_multianewarray:
+        return 1 - ((MultiarrayOperand)insn.operand).sz;
+      case opc_invokeinterface:
+        return invokeDelta(((InvokeinterfaceOperand)insn.operand).cpe, true);
+      case opc_invokevirtual:
+      case opc_invokespecial:
+        return invokeDelta(((CPOperand)insn.operand).cpe, true);
+      case opc_invokestatic:
+      case opc_invokedynamic:
+        return invokeDelta(((CPOperand)insn.operand).cpe, false);
+      }
+
+    String desc = Descriptor.of(((CPOperand)insn.operand).cpe);
+    if (desc == null)
+      throw new jasError(opcNames[opc] + " needs a field reference");
+    int size = Descriptor.typeSize(desc.charAt(0));
+    switch (opc)
+      {
+      case opc_getstatic: return size;
+      case opc_putstatic: return -size;
+      case opc_getfield:  return size - 1;
+      default:            return -size - 1; // putfield
+      }
+  }
+
+  private static int invokeDelta(CP cp, boolean receiver) throws jasError
+  {
+    String desc = Descriptor.of(cp);
+    if (desc == null)
+      throw new jasError("invoke needs a method reference");
+    return Descriptor.returnSize(desc) - Descriptor.argsSize(desc)
+           - (receiver ? 1 : 0);
+  }
+
+  private void useLocals(Insn insn)
+  {
+    int end = localsEnd(insn);
+    if (end > max_locals)
+      max_locals = end;
+  }
+
+  /**
+   * @return the local variable slot just past the ones an
+   *         instruction reads or writes, or 0 if it doesn't use any
+   */
+  static int localsEnd(Insn insn)
+  {
+    int opc = insn.opc;
+    int slot = -1, size = 1;
+
+    if (insn.operand instanceof UnsignedByteWideOperand)
+      {                         // xload, xstore and ret
+        slot = ((UnsignedByteWideOperand)insn.operand).val;
+        if (opc == opc_lload || opc == opc_dload
+            || opc == opc_lstore || opc == opc_dstore)
+          size = 2;
+      }
+    else if (insn.operand instanceof IincOperand)
+      slot = ((IincOperand)insn.operand).vindex;
+    else if (opc >= opc_iload_0 && opc <= opc_aload_3)
+      {
+        slot = (opc - opc_iload_0) % 4;
+        int kind = (opc - opc_iload_0) / 4;
+        if (kind == 1 || kind == 3) size = 2;
+      }
+    else if (opc >= opc_istore_0 && opc <= opc_astore_3)
+      {
+        slot = (opc - opc_istore_0) % 4;
+        int kind = (opc - opc_istore_0) / 4;
+        if (kind == 1 || kind == 3) size = 2;
+      }
+    return (slot < 0) ? 0 : slot + size;
+  }
+
+  /**
+   * Account for a local variable slot that is used outside of the
+   * instructions, for instance by a LocalVariableTable entry.
+   */
+  void use(int slot, int size)
+  {
+    if (slot >= 0 && slot + size > max_locals)
+      max_locals = slot + size;
+  }
+}
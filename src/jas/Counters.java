@@ -0,0 +1,120 @@
+/**
+ * Counters is the runtime side of instrumented code (see
+ * CodeAttr#setInstrument): every counter call in such code ends up
+ * in hit(), with a string naming the site, and the counts are
+ * printed when the program exits. It has to be on the class path of
+ * the program that runs the instrumented classes.
+ * <p>
+ * Each site has its own LongAdder, so threads that hit the same site
+ * don't fight over one word, and there are no locks on the way. The
+ * counts go to the file named by the system property jas.counters,
+ * or to System.err, one line per site with the count first, the
+ * sites that were hit most first.
+ */
+
+package jas;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class Counters
+{
+  private static final ConcurrentHashMap counts = new ConcurrentHashMap();
+
+  static
+  {
+    Runtime.getRuntime().addShutdownHook(new Thread()
+      {
+        public void run()
+        { dumpAtExit(); }
+      });
+  }
+
+  private Counters()
+  { return; }
+
+  /**
+   * Count one more pass through a site.
+   */
+  public static void hit(String site)
+  {
+    LongAdder n = (LongAdder)counts.get(site);
+    if (n == null)
+      {
+        LongAdder fresh = new LongAdder();
+        n = (LongAdder)counts.putIfAbsent(site, fresh);
+        if (n == null)
+          n = fresh;
+      }
+    n.increment();
+  }
+
+  /**
+   * @return the count of a site so far
+   */
+  public static long count(String site)
+  {
+    LongAdder n = (LongAdder)counts.get(site);
+    return (n == null) ? 0 : n.sum();
+  }
+
+  /**
+   * Forget all the counts.
+   */
+  public static void reset()
+  { counts.clear(); }
+
+  /**
+   * Print the count of every site that has been hit, the highest
+   * first.
+   */
+  public static void dump(PrintStream out)
+  {
+    final Vector sites = new Vector(counts.keySet());
+    final long n[] = new long[sites.size()];
+    Integer order[] = new Integer[n.length];
+    for (int i = 0; i < n.length; i++)
+      {
+        n[i] = count((String)sites.elementAt(i));
+        order[i] = Integer.valueOf(i);
+      }
+    Arrays.sort(order, new Comparator()
+      {
+        public int compare(Object a, Object b)
+        {
+          int i = ((Integer)a).intValue(), j = ((Integer)b).intValue();
+          if (n[i] != n[j])
+            return (n[i] > n[j]) ? -1 : 1;
+          return ((String)sites.elementAt(i)).compareTo((String)sites.elementAt(j));
+        }
+      });
+    for (int i = 0; i < order.length; i++)
+      {
+        int k = order[i].intValue();
+        out.println(n[k] + "\t" + sites.elementAt(k));
+      }
+    out.flush();
+  }
+
+  private static void dumpAtExit()
+  {
+    if (counts.isEmpty())
+      return;
+    String file = System.getProperty("jas.counters");
+    if (file == null)
+      {
+        dump(System.err);
+        return;
+      }
+    try
+      {
+        PrintStream out = new PrintStream(new FileOutputStream(file));
+        dump(out);
+        out.close();
+      }
+    catch (IOException ex)
+      { System.err.println(file + ": " + ex.getMessage()); }
+  }
+}
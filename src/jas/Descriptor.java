@@ -0,0 +1,99 @@
+/**
+ * Small helpers to pick apart field and method descriptors, used
+ * by the passes that need to know how many stack words or local
+ * variable slots a value takes.
+ */
+
+package jas;
+
+abstract class Descriptor
+{
+  /**
+   * @return number of words taken by a value whose descriptor
+   *         starts with this character (0 for void)
+   */
+  static int typeSize(char c)
+  {
+    switch (c)
+      {
+      case 'V': return 0;
+      case 'J':
+      case 'D': return 2;
+      default:  return 1;
+      }
+  }
+
+  /**
+   * @return number of words taken by the arguments of a method
+   *         descriptor, not counting <tt>this</tt>
+   */
+  static int argsSize(String desc) throws jasError
+  {
+    int size = 0;
+    int i = 1;
+    if (!desc.startsWith("(") || desc.indexOf(')') < 0)
+      throw new jasError("bad method descriptor " + desc);
+    try {
+      while (desc.charAt(i) != ')')
+        {
+          size += typeSize(desc.charAt(i));
+          i = skipType(desc, i);
+        }
+    } catch (StringIndexOutOfBoundsException ex) {
+      throw new jasError("bad method descriptor " + desc);
+    }
+    return size;
+  }
+
+  /**
+   * @return number of words taken by the return value of a method
+   *         descriptor
+   */
+  static int returnSize(String desc) throws jasError
+  {
+    int i = desc.indexOf(')');
+    if (i < 0 || i + 1 >= desc.length())
+      throw new jasError("bad method descriptor " + desc);
+    return typeSize(desc.charAt(i + 1));
+  }
+
+  /**
+   * @return position just after the type starting at desc[i]
+   */
+  static int skipType(String desc, int i) throws jasError
+  {
+    try {
+      while (desc.charAt(i) == '[')
+        i++;
+      if (desc.charAt(i) == 'L')
+        {
+          i = desc.indexOf(';', i);
+          if (i < 0)
+            throw new jasError("bad descriptor " + desc);
+        }
+      return i + 1;
+    } catch (StringIndexOutOfBoundsException ex) {
+      throw new jasError("bad descriptor " + desc);
+    }
+  }
+
+  /**
+   * @return the descriptor of the field or method a CP item
+   *         refers to, or of a dynamic constant, or null if it is
+   *         neither.
+   */
+  static String of(CP cp)
+  {
+    if (cp instanceof MethodCP)
+      return ((MethodCP)cp).nt.sig.uniq;
+    if (cp instanceof InterfaceCP)
+      return ((InterfaceCP)cp).nt.sig.uniq;
+    if (cp instanceof FieldCP)
+      return ((FieldCP)cp).nt.sig.uniq;
+    if (cp instanceof InvokeDynamicCP)
+      return ((InvokeDynamicCP)cp).nt.sig.uniq;
+    if (cp instanceof DynamicCP)
+      return ((DynamicCP)cp).nt.sig.uniq;
+    return null;
+  }
+}
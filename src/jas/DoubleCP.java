@@ -19,7 +19,7 @@ public class DoubleCP extends CP implements RuntimeConstants
    */
   public DoubleCP(double n)
   {
-    uniq = ("Double: @#$" + n).intern();
+    uniq = "Double: @#$" + n;
     val = n;
   }
   void resolve(ClassEnv e) { return; }
@@ -0,0 +1,56 @@
+/**
+ * A dynamically computed constant: a name and a field descriptor,
+ * and the bootstrap method that computes the value the first time
+ * ldc (or ldc2_w, for a long or a double) loads it. The value is then
+ * kept, like that of any other constant. As with InvokeDynamicCP, the
+ * bootstrap method goes into the BootstrapMethods attribute of the
+ * class when the constant is added to it.
+ */
+
+package jas;
+
+import java.io.*;
+
+public class DynamicCP extends CP implements RuntimeConstants
+{
+  BootstrapMethod bsm;
+  NameTypeCP nt;
+
+  /**
+   * @param bsm Bootstrap method that computes the constant
+   * @param name Name of the constant, passed to the bootstrap method
+   * @param sig Field descriptor of the constant
+   */
+  public DynamicCP(BootstrapMethod bsm, String name, String sig)
+    throws jasError
+  {
+    if (sig.length() == 0 || sig.startsWith("(") || sig.equals("V"))
+      throw new jasError("a dynamic constant can't have type " + sig);
+    nt = new NameTypeCP(name, sig);
+    uniq = "Dynamic: @#$" + nt.getUniq() + "#$" + bsm.uniq;
+    this.bsm = bsm;
+  }
+
+  /**
+   * @return true for a long or a double, which is loaded by ldc2_w
+   */
+  public boolean isWide()
+  {
+    char c = nt.sig.getUniq().charAt(0);
+    return c == 'J' || c == 'D';
+  }
+
+  void resolve(ClassEnv e)
+  {
+    e.addCPItem(nt);
+    e.addBootstrap(bsm);
+  }
+
+  void write(ClassEnv e, DataOutputStream out)
+    throws IOException, jasError
+  {
+    out.writeByte(CONSTANT_DYNAMIC);
+    out.writeShort(e.getBootstrapIndex(bsm));
+    out.writeShort(e.getCPIndex(nt));
+  }
+}
@@ -30,7 +30,7 @@ public class FieldCP extends CP implements RuntimeConstants
 
   public FieldCP(String clazz, String name, String sig)
   {
-    uniq = (clazz + "&%$#&" + name + "*()#$" + sig).intern();
+    uniq = clazz + "&%$#&" + name + "*()#$" + sig;
     this.clazz = new ClassCP(clazz);
     this.nt = new NameTypeCP(name, sig);
   }
@@ -19,7 +19,7 @@ public class FloatCP extends CP implements RuntimeConstants
    */
   public FloatCP(float n)
   {
-    uniq = ("Float: @#$" + n).intern();
+    uniq = "Float: @#$" + n;
     val = n;
   }
   void resolve(ClassEnv e) { return; }
@@ -0,0 +1,811 @@
+/**
+ * FrameInference works out the StackMapTable frames of a method from
+ * its instructions, for code that does not want to write .stack
+ * directives by hand. The types of the locals and of the stack are
+ * carried along the control flow, and merged where paths meet, until
+ * nothing changes any more; a frame is then made at every
+ * instruction the verifier wants one at. Where two reference types
+ * meet, their common superclass is asked of the class hierarchy.
+ * <p>
+ * Code that can't be reached is replaced by nop's and an athrow, as
+ * the verifier still wants a frame for it.
+ * @see CodeAttr#setAutoFrames
+ * @see ClassHierarchy
+ */
+
+package jas;
+
+import java.util.Enumeration;
+import java.util.Vector;
+
+class FrameInference implements RuntimeConstants
+{
+                                // Types are field descriptors for
+                                // references, "#n" for the result of
+                                // the new at instruction n, and these
+                                // for the rest. Primitive types always
+                                // use these strings, so that they can
+                                // be compared with ==.
+  static final String TOP = "T";
+  static final String INT = "I";
+  static final String FLOAT = "F";
+  static final String LONG = "J";
+  static final String DOUBLE = "D";
+  static final String HALF = "-"; // second word of J or D
+  static final String NULL = "N";
+  static final String UNINIT_THIS = "U";
+  static final String OBJECT = "Ljava/lang/Object;";
+  static final String THROWABLE = "Ljava/lang/Throwable;";
+
+  StackMap frames;
+
+  private CodeAttr ce;
+  private CodeFlow flow;
+  private CachedHierarchy hier;
+  private String this_class;
+  private int n, nlocals;
+
+  private boolean leader[];     // starts a straight run of code
+  private boolean needed[];     // the verifier wants a frame here
+  private boolean reached[];
+  private String in_locals[][]; // entry state of each leader
+  private String in_stack[][];
+  private int work[];
+  private int nwork;
+  private boolean queued[];
+
+                                // state while running through code
+  private String locals[];
+  private String stack[];
+  private int sp;
+  private boolean locals_changed;
+
+  FrameInference(ClassEnv e, CodeAttr ce, Method m, CodeFlow flow)
+    throws jasError
+  {
+    this.ce = ce;
+    this.flow = flow;
+    hier = e.getClassHierarchy();
+    this_class = ((ClassCP)e.this_class).name.getUniq();
+    String sup = (e.super_class == null)
+      ? null : ((ClassCP)e.super_class).name.getUniq();
+    hier.addClass(this_class, sup, (e.class_access & ACC_INTERFACE) != 0);
+    frames = new StackMap(e);
+
+    n = flow.insns.length;
+    if (n == 0) return;
+    findLeaders();
+
+    String desc = m.desc.getUniq();
+    nlocals = Descriptor.argsSize(desc);
+    if ((m.acc & ACC_STATIC) == 0)
+      nlocals++;
+    for (int i = 0; i < n; i++)
+      {
+        int end = CodeLimits.localsEnd(flow.insns[i]);
+        if (end > nlocals) nlocals = end;
+      }
+
+    in_locals = new String[n][];
+    in_stack = new String[n][];
+    reached = new boolean[n];
+    work = new int[n];
+    queued = new boolean[n];
+    locals = new String[nlocals];
+    stack = new String[8];
+
+    initialFrame(m, desc);
+    frames.initial = frame(locals, new String[0]);
+    frames.initial.setOffset(-1);
+    mergeInto(0);
+    while (nwork > 0)
+      {
+        int b = work[--nwork];
+        queued[b] = false;
+        run(b);
+      }
+
+    removeDeadCode();
+    makeFrames();
+  }
+
+  private void findLeaders()
+    throws jasError
+  {
+    leader = new boolean[n + 1];
+    needed = new boolean[n + 1];
+    leader[0] = true;
+    for (int i = 0; i < n; i++)
+      {
+        int opc = flow.insns[i].opc;
+        if (opc == opc_jsr || opc == opc_jsr_w || opc == opc_ret)
+          throw new jasError("can't compute stack map frames for code"
+                             + " using jsr or ret (offset "
+                             + flow.pcs[i] + ")");
+        int targets[] = flow.targets[i];
+        if (targets != null)
+          {
+            for (int t = 0; t < targets.length; t++)
+              leader[targets[t]] = needed[targets[t]] = true;
+            leader[i + 1] = true;
+          }
+        if (!flow.fallsThrough(i))
+          leader[i + 1] = needed[i + 1] = true;
+      }
+    for (int h = 0; h < flow.hpc.length; h++)
+      {
+        leader[flow.hpc[h]] = needed[flow.hpc[h]] = true;
+        leader[flow.hstart[h]] = leader[flow.hend[h]] = true;
+      }
+  }
+
+  private void initialFrame(Method m, String desc)
+    throws jasError
+  {
+    for (int i = 0; i < nlocals; i++)
+      locals[i] = TOP;
+    int slot = 0;
+    if ((m.acc & ACC_STATIC) == 0)
+      {
+        if (m.name.getUniq().equals("<init>")
+            && !this_class.equals("java/lang/Object"))
+          locals[slot++] = UNINIT_THIS;
+        else
+          locals[slot++] = asDesc(this_class);
+      }
+    for (int i = 1; desc.charAt(i) != ')'; )
+      {
+        int next = Descriptor.skipType(desc, i);
+        setLocal(slot, fromDesc(desc.substring(i, next)));
+        slot += Descriptor.typeSize(desc.charAt(i));
+        i = next;
+      }
+    sp = 0;
+  }
+
+                                // Follow the code from leader b until
+                                // control leaves the straight run.
+  private void run(int b)
+    throws jasError
+  {
+    String l[] = in_locals[b];
+    System.arraycopy(l, 0, locals, 0, nlocals);
+    sp = in_stack[b].length;
+    if (sp > stack.length)
+      stack = new String[sp * 2];
+    System.arraycopy(in_stack[b], 0, stack, 0, sp);
+
+    for (int i = b; ; i++)
+      {
+        reached[i] = true;
+        catchAt(i);
+        locals_changed = false;
+        execute(i);
+        if (locals_changed)
+          catchAt(i);
+
+        int targets[] = flow.targets[i];
+        if (targets != null)
+          for (int t = 0; t < targets.length; t++)
+            mergeInto(targets[t]);
+        if (!flow.fallsThrough(i))
+          return;
+        if (i + 1 >= n)
+          throw new jasError("code falls off the end of the method");
+        if (leader[i + 1])
+          {
+            mergeInto(i + 1);
+            return;
+          }
+      }
+  }
+
+                                // the handlers that cover instruction
+                                // i can be entered with its locals
+  private void catchAt(int i)
+    throws jasError
+  {
+    for (int h = 0; h < flow.hpc.length; h++)
+      if (i >= flow.hstart[h] && i < flow.hend[h])
+        {
+          String exc = (flow.htype[h] == null)
+            ? THROWABLE
+            : asDesc(((ClassCP)flow.htype[h]).name.getUniq());
+          String s[] = { exc };
+          merge(flow.hpc[h], locals, s, 1);
+        }
+  }
+
+  private void mergeInto(int t)
+    throws jasError
+  { merge(t, locals, stack, sp); }
+
+  private void merge(int t, String l[], String s[], int ssp)
+    throws jasError
+  {
+    if (t >= n)
+      throw new jasError("code falls off the end of the method");
+    if (in_locals[t] == null)
+      {
+        in_locals[t] = new String[nlocals];
+        System.arraycopy(l, 0, in_locals[t], 0, nlocals);
+        in_stack[t] = new String[ssp];
+        System.arraycopy(s, 0, in_stack[t], 0, ssp);
+        queue(t);
+        return;
+      }
+
+    String old_s[] = in_stack[t];
+    if (old_s.length != ssp)
+      throw new jasError("inconsistent stack height " + old_s.length
+                         + " != " + ssp + " at offset " + flow.pcs[t]);
+    boolean changed = false;
+    for (int j = 0; j < ssp; j++)
+      {
+        String m = mergeTypes(old_s[j], s[j]);
+        if (m != old_s[j])
+          {
+            if (m == TOP)
+              throw new jasError("incompatible types " + old_s[j] + " and "
+                                 + s[j] + " on the stack at offset "
+                                 + flow.pcs[t]);
+            old_s[j] = m;
+            changed = true;
+          }
+      }
+    String old_l[] = in_locals[t];
+    for (int j = 0; j < nlocals; j++)
+      {
+        String m = mergeTypes(old_l[j], l[j]);
+        if (m != old_l[j])
+          {
+            old_l[j] = m;
+            changed = true;
+          }
+      }
+    if (changed)
+      {
+        for (int j = 0; j < nlocals; j++)
+          if (old_l[j] == HALF && (j == 0 || !isWide(old_l[j - 1])))
+            old_l[j] = TOP;
+        queue(t);
+      }
+  }
+
+  private void queue(int t)
+  {
+    if (queued[t]) return;
+    queued[t] = true;
+    work[nwork++] = t;
+  }
+
+                                // returns a itself if nothing changes
+  private String mergeTypes(String a, String b)
+    throws jasError
+  {
+    if (a == b || a.equals(b)) return a;
+    if (a == TOP) return a;
+    if (!isRef(a) || !isRef(b)) return TOP;
+    String m = mergeRefs(a, b);
+    return m.equals(a) ? a : m;
+  }
+
+  private String mergeRefs(String a, String b)
+    throws jasError
+  {
+    if (a == NULL) return b;
+    if (b == NULL) return a;
+    if (a.charAt(0) == 'L' && b.charAt(0) == 'L')
+      return asDesc(hier.getCommonSuperclass(a.substring(1, a.length() - 1),
+                                             b.substring(1, b.length() - 1)));
+    if (a.charAt(0) == '[' && b.charAt(0) == '[')
+      {
+        String ca = fromDesc(a.substring(1));
+        String cb = fromDesc(b.substring(1));
+        if (isRef(ca) && isRef(cb))
+          return "[" + mergeRefs(ca, cb);
+      }
+    return OBJECT;
+  }
+
+  static boolean isRef(String t)
+  {
+    char c = t.charAt(0);
+    return c == 'L' || c == '[' || t == NULL;
+  }
+
+  static boolean isWide(String t)
+  { return t == LONG || t == DOUBLE; }
+
+  static String asDesc(String cls)
+  { return cls.startsWith("[") ? cls : "L" + cls + ";"; }
+
+                                // type of a value with the given
+                                // field descriptor
+  static String fromDesc(String d)
+  {
+    switch (d.charAt(0))
+      {
+      case 'Z': case 'B': case 'C': case 'S': case 'I':
+        return INT;
+      case 'F': return FLOAT;
+      case 'J': return LONG;
+      case 'D': return DOUBLE;
+      default:  return d;
+      }
+  }
+
+  static String className(CP cp)
+    throws jasError
+  {
+    if (!(cp instanceof ClassCP))
+      throw new jasError("class reference expected");
+    return ((ClassCP)cp).name.getUniq();
+  }
+
+  static CP cpOf(Insn insn)
+  {
+    if (insn.operand instanceof LdcOperand)
+      return ((LdcOperand)insn.operand).cpe;
+    if (insn.operand instanceof CPOperand)
+      return ((CPOperand)insn.operand).cpe;
+    if (insn.operand instanceof InvokeinterfaceOperand)
+      return ((InvokeinterfaceOperand)insn.operand).cpe;
+    if (insn.operand instanceof MultiarrayOperand)
+      return ((MultiarrayOperand)insn.operand).cpe;
+    return null;
+  }
+
+  private void push(String t)
+  {
+    if (sp + 2 > stack.length)
+      {
+        String s[] = new String[stack.length * 2];
+        System.arraycopy(stack, 0, s, 0, sp);
+        stack = s;
+      }
+    stack[sp++] = t;
+    if (isWide(t))
+      stack[sp++] = HALF;
+  }
+
+  private String pop(int words, int i)
+    throws jasError
+  {
+    sp -= words;
+    if (sp < 0)
+      throw new jasError("stack underflow at offset " + flow.pcs[i]);
+    return stack[sp];
+  }
+
+  private void setLocal(int slot, String t)
+  {
+    if (slot > 0 && isWide(locals[slot - 1]))
+      locals[slot - 1] = TOP;
+    if (slot + 1 < nlocals && locals[slot + 1] == HALF)
+      locals[slot + 1] = TOP;
+    locals[slot] = t;
+    if (isWide(t))
+      {
+        if (slot + 2 < nlocals && locals[slot + 2] == HALF)
+          locals[slot + 2] = TOP;
+        locals[slot + 1] = HALF;
+      }
+    locals_changed = true;
+  }
+
+                                // a constructor has been called on
+                                // t, so every copy of it is now a
+                                // real object
+  private void initialize(String t)
+    throws jasError
+  {
+    String init;
+    if (t == UNINIT_THIS)
+      init = asDesc(this_class);
+    else if (t.charAt(0) == '#')
+      init = asDesc(className(cpOf(flow.insns[Integer.parseInt(t.substring(1))])));
+    else
+      return;
+    for (int j = 0; j < nlocals; j++)
+      if (locals[j].equals(t))
+        {
+          locals[j] = init;
+          locals_changed = true;
+        }
+    for (int j = 0; j < sp; j++)
+      if (stack[j].equals(t))
+        stack[j] = init;
+  }
+
+                                // the type an _n, load or store form
+                                // works with, and the slot it uses
+  private static final String loadTypes[] =
+    { INT, LONG, FLOAT, DOUBLE, null };
+
+  private void execute(int i)
+    throws jasError
+  {
+    Insn insn = flow.insns[i];
+    int opc = insn.opc;
+    String t, desc;
+    CP cp;
+
+    if (opc >= opc_iload_0 && opc <= opc_aload_3)
+      {
+        int slot = (opc - opc_iload_0) % 4;
+        t = loadTypes[(opc - opc_iload_0) / 4];
+        push((t == null) ? locals[slot] : t);
+        return;
+      }
+    if (opc >= opc_istore_0 && opc <= opc_astore_3)
+      {
+        int slot = (opc - opc_istore_0) % 4;
+        t = loadTypes[(opc - opc_istore_0) / 4];
+        if (t == null)
+          t = pop(1, i);
+        else
+          pop(isWide(t) ? 2 : 1, i);
+        setLocal(slot, t);
+        return;
+      }
+
+    switch (opc)
+      {
+      case opc_nop:
+      case opc_iinc:
+      case opc_goto:
+      case opc_goto_w:
+      case opc_return:
+      case opc_breakpoint:
+        break;
+
+      case opc_aconst_null: push(NULL); break;
+      case opc_iconst_m1: case opc_iconst_0: case opc_iconst_1:
+      case opc_iconst_2: case opc_iconst_3: case opc_iconst_4:
+      case opc_iconst_5: case opc_bipush: case opc_sipush:
+        push(INT); break;
+      case opc_lconst_0: case opc_lconst_1: push(LONG); break;
+      case opc_fconst_0: case opc_fconst_1: case opc_fconst_2:
+        push(FLOAT); break;
+      case opc_dconst_0: case opc_dconst_1: push(DOUBLE); break;
+
+      case opc_ldc: case opc_ldc_w: case opc_ldc2_w:
+        cp = cpOf(insn);
+        if (cp instanceof IntegerCP) push(INT);
+        else if (cp instanceof FloatCP) push(FLOAT);
+        else if (cp instanceof LongCP) push(LONG);
+        else if (cp instanceof DoubleCP) push(DOUBLE);
+        else if (cp instanceof StringCP) push("Ljava/lang/String;");
+        else if (cp instanceof ClassCP) push("Ljava/lang/Class;");
+        else if (cp instanceof MethodHandleCP)
+          push("Ljava/lang/invoke/MethodHandle;");
+        else if (cp instanceof MethodTypeCP)
+          push("Ljava/lang/invoke/MethodType;");
+        else if (cp instanceof DynamicCP)
+          push(fromDesc(Descriptor.of(cp)));
+        else
+          throw new jasError("can't tell the type loaded by "
+                             + opcNames[opc] + " at offset " + flow.pcs[i]);
+        break;
+
+      case opc_iload: case opc_lload: case opc_fload: case opc_dload:
+      case opc_aload:
+        {
+          int slot = ((UnsignedByteWideOperand)insn.operand).val;
+          t = loadTypes[opc - opc_iload];
+          push((t == null) ? locals[slot] : t);
+          break;
+        }
+      case opc_istore: case opc_lstore: case opc_fstore: case opc_dstore:
+      case opc_astore:
+        {
+          int slot = ((UnsignedByteWideOperand)insn.operand).val;
+          t = loadTypes[opc - opc_istore];
+          if (t == null)
+            t = pop(1, i);
+          else
+            pop(isWide(t) ? 2 : 1, i);
+          setLocal(slot, t);
+          break;
+        }
+
+      case opc_iaload: case opc_baload: case opc_caload: case opc_saload:
+        pop(2, i); push(INT); break;
+      case opc_laload: pop(2, i); push(LONG); break;
+      case opc_faload: pop(2, i); push(FLOAT); break;
+      case opc_daload: pop(2, i); push(DOUBLE); break;
+      case opc_aaload:
+        t = pop(2, i);
+        if (t.charAt(0) == '[')
+          push(fromDesc(t.substring(1)));
+        else if (t == NULL)
+          push(NULL);
+        else
+          push(OBJECT);
+        break;
+
+      case opc_iastore: case opc_fastore: case opc_aastore:
+      case opc_bastore: case opc_castore: case opc_sastore:
+        pop(3, i); break;
+      case opc_lastore: case opc_dastore:
+        pop(4, i); break;
+
+      case opc_pop: pop(1, i); break;
+      case opc_pop2: pop(2, i); break;
+      case opc_dup:
+        t = pop(1, i);
+        push1(t); push1(t);
+        break;
+      case opc_dup_x1:
+        {
+          String w1 = pop(1, i), w2 = pop(1, i);
+          push1(w1); push1(w2); push1(w1);
+          break;
+        }
+      case opc_dup_x2:
+        {
+          String w1 = pop(1, i), w2 = pop(1, i), w3 = pop(1, i);
+          push1(w1); push1(w3); push1(w2); push1(w1);
+          break;
+        }
+      case opc_dup2:
+        {
+          String w1 = pop(1, i), w2 = pop(1, i);
+          push1(w2); push1(w1); push1(w2); push1(w1);
+          break;
+        }
+      case opc_dup2_x1:
+        {
+          String w1 = pop(1, i), w2 = pop(1, i), w3 = pop(1, i);
+          push1(w2); push1(w1); push1(w3); push1(w2); push1(w1);
+          break;
+        }
+      case opc_dup2_x2:
+        {
+          String w1 = pop(1, i), w2 = pop(1, i);
+          String w3 = pop(1, i), w4 = pop(1, i);
+          push1(w2); push1(w1); push1(w4); push1(w3); push1(w2); push1(w1);
+          break;
+        }
+      case opc_swap:
+        {
+          String w1 = pop(1, i), w2 = pop(1, i);
+          push1(w1); push1(w2);
+          break;
+        }
+
+      case opc_iadd: case opc_isub: case opc_imul: case opc_idiv:
+      case opc_irem: case opc_ishl: case opc_ishr: case opc_iushr:
+      case opc_iand: case opc_ior: case opc_ixor:
+      case opc_fcmpl: case opc_fcmpg:
+        pop(2, i); push(INT); break;
+      case opc_ladd: case opc_lsub: case opc_lmul: case opc_ldiv:
+      case opc_lrem: case opc_land: case opc_lor: case opc_lxor:
+        pop(4, i); push(LONG); break;
+      case opc_lshl: case opc_lshr: case opc_lushr:
+        pop(3, i); push(LONG); break;
+      case opc_fadd: case opc_fsub: case opc_fmul: case opc_fdiv:
+      case opc_frem:
+        pop(2, i); push(FLOAT); break;
+      case opc_dadd: case opc_dsub: case opc_dmul: case opc_ddiv:
+      case opc_drem:
+        pop(4, i); push(DOUBLE); break;
+      case opc_lcmp: case opc_dcmpl: case opc_dcmpg:
+        pop(4, i); push(INT); break;
+
+      case opc_ineg: case opc_fneg: case opc_lneg: case opc_dneg:
+      case opc_i2b: case opc_i2c: case opc_i2s:
+        break;
+      case opc_i2l: pop(1, i); push(LONG); break;
+      case opc_i2f: pop(1, i); push(FLOAT); break;
+      case opc_i2d: pop(1, i); push(DOUBLE); break;
+      case opc_l2i: pop(2, i); push(INT); break;
+      case opc_l2f: pop(2, i); push(FLOAT); break;
+      case opc_l2d: pop(2, i); push(DOUBLE); break;
+      case opc_f2i: pop(1, i); push(INT); break;
+      case opc_f2l: pop(1, i); push(LONG); break;
+      case opc_f2d: pop(1, i); push(DOUBLE); break;
+      case opc_d2i: pop(2, i); push(INT); break;
+      case opc_d2l: pop(2, i); push(LONG); break;
+      case opc_d2f: pop(2, i); push(FLOAT); break;
+
+      case opc_ifeq: case opc_ifne: case opc_iflt: case opc_ifge:
+      case opc_ifgt: case opc_ifle: case opc_ifnull: case opc_ifnonnull:
+      case opc_tableswitch: case opc_lookupswitch:
+      case opc_ireturn: case opc_freturn: case opc_areturn:
+      case opc_athrow: case opc_monitorenter: case opc_monitorexit:
+        pop(1, i); break;
+      case opc_if_icmpeq: case opc_if_icmpne: case opc_if_icmplt:
+      case opc_if_icmpge: case opc_if_icmpgt: case opc_if_icmple:
+      case opc_if_acmpeq: case opc_if_acmpne:
+      case opc_lreturn: case opc_dreturn:
+        pop(2, i); break;
+
+      case opc_getstatic: case opc_putstatic:
+      case opc_getfield: case opc_putfield:
+        desc = Descriptor.of(cpOf(insn));
+        if (desc == null)
+          throw new jasError(opcNames[opc] + " needs a field reference");
+        t = fromDesc(desc);
+        if (opc == opc_putstatic || opc == opc_putfield)
+          pop(Descriptor.typeSize(desc.charAt(0)), i);
+        if (opc == opc_getfield || opc == opc_putfield)
+          pop(1, i);
+        if (opc == opc_getstatic || opc == opc_getfield)
+          push(t);
+        break;
+
+      case opc_invokevirtual: case opc_invokespecial:
+      case opc_invokestatic: case opc_invokeinterface:
+      case opc_invokedynamic:
+        {
+          cp = cpOf(insn);
+          desc = Descriptor.of(cp);
+          if (desc == null)
+            throw new jasError(opcNames[opc] + " needs a method reference");
+          pop(Descriptor.argsSize(desc), i);
+          if (opc != opc_invokestatic && opc != opc_invokedynamic)
+            {
+              t = pop(1, i);
+              if (opc == opc_invokespecial && cp instanceof MethodCP
+                  && ((MethodCP)cp).nt.name.getUniq().equals("<init>"))
+                initialize(t);
+            }
+          String ret = desc.substring(desc.indexOf(')') + 1);
+          if (!ret.equals("V"))
+            push(fromDesc(ret));
+          break;
+        }
+
+      case opc_new:
+        push("#" + i);
+        break;
+      case opc_newarray:
+        pop(1, i);
+        push("[" + "ZCFDBSIJ".charAt
+             (((UnsignedByteOperand)insn.operand).val - T_BOOLEAN));
+        break;
+      case opc_anewarray:
+        pop(1, i);
+        push("[" + asDesc(className(cpOf(insn))));
+        break;
+      case opc_multianewarray:
+        pop(((MultiarrayOperand)insn.operand).sz, i);
+        push(asDesc(className(cpOf(insn))));
+        break;
+      case opc_checkcast:
+        pop(1, i);
+        push(asDesc(className(cpOf(insn))));
+        break;
+      case opc_arraylength:
+      case opc_instanceof:
+        pop(1, i);
+        push(INT);
+        break;
+
+      default:
+        throw new jasError("can't compute stack map frames for "
+                           + opcNames[opc]);
+      }
+  }
+
+                                // push a single word, for the dup's
+  private void push1(String w)
+  {
+    if (sp + 1 > stack.length)
+      {
+        String s[] = new String[stack.length * 2];
+        System.arraycopy(stack, 0, s, 0, sp);
+        stack = s;
+      }
+    stack[sp++] = w;
+  }
+
+                                // Code that is never reached still
+                                // needs a frame, but nothing can be
+                                // said about its types. Replace it by
+                                // nop's ending in an athrow, which
+                                // checks out against a frame holding
+                                // just a Throwable.
+  private void removeDeadCode()
+    throws jasError
+  {
+    boolean dead = false;
+    for (int i = 0; i < n; i++)
+      if (!reached[i]) dead = true;
+    if (!dead) return;
+
+    for (int h = 0; h < flow.hpc.length; h++)
+      for (int i = flow.hstart[h]; i < flow.hend[h]; i++)
+        if (!reached[i])
+          throw new jasError("can't compute stack map frames for"
+                             + " unreachable code inside a .catch range"
+                             + " (offset " + flow.pcs[i] + ")");
+
+    Vector code = new Vector(ce.insns.size());
+    int i = 0;
+    for (Enumeration en = ce.insns.elements(); en.hasMoreElements();)
+      {
+        Insn now = (Insn)(en.nextElement());
+        if (now instanceof Label || reached[i])
+          {
+            code.addElement(now);
+            if (!(now instanceof Label)) i++;
+            continue;
+          }
+        int len = ((i + 1 < n) ? flow.pcs[i + 1] : flow.code_size)
+                  - flow.pcs[i];
+        boolean last = (i + 1 == n) || reached[i + 1];
+        for (int j = 0; j < len; j++)
+          {
+            Insn fill = new Insn((last && j == len - 1) ? opc_athrow : opc_nop);
+            if (j == 0) flow.insns[i] = fill;
+            code.addElement(fill);
+          }
+                                // the start of dead code follows an
+                                // instruction that doesn't fall
+                                // through, so it is needed already
+        if (needed[i])
+          {
+            in_locals[i] = new String[nlocals];
+            for (int k = 0; k < nlocals; k++)
+              in_locals[i][k] = TOP;
+            in_stack[i] = new String[1];
+            in_stack[i][0] = THROWABLE;
+          }
+        i++;
+      }
+    ce.insns = code;
+  }
+
+  private void makeFrames()
+    throws jasError
+  {
+    for (int i = 0; i < n; i++)
+      if (needed[i] && in_locals[i] != null)
+        {
+          VerifyFrame f = frame(in_locals[i], in_stack[i]);
+          f.setOffset(flow.insns[i]);
+          frames.addFrame(f);
+        }
+  }
+
+  private VerifyFrame frame(String l[], String s[])
+    throws jasError
+  {
+    VerifyFrame f = new VerifyFrame(null);
+    int end = nlocals;
+    while (end > 0 && l[end - 1] == TOP)
+      end--;
+    for (int j = 0; j < end; j++)
+      if (l[j] != HALF || j == 0 || !isWide(l[j - 1]))
+        f.addLocalsItem(info(l[j]));
+    for (int j = 0; j < s.length; j++)
+      if (s[j] != HALF)
+        f.addStackItem(info(s[j]));
+    return f;
+  }
+
+  private VerificationTypeInfo info(String t)
+    throws jasError
+  {
+    switch (t.charAt(0))
+      {
+      case 'I': return new VerificationTypeInfo("Integer");
+      case 'F': return new VerificationTypeInfo("Float");
+      case 'J': return new VerificationTypeInfo("Long");
+      case 'D': return new VerificationTypeInfo("Double");
+      case 'N': return new VerificationTypeInfo("Null");
+      case 'U': return new VerificationTypeInfo("UninitializedThis");
+      case '#':
+        return new VerificationTypeInfo(flow.insns[Integer.parseInt(t.substring(1))]);
+      case 'L':
+        return new VerificationTypeInfo("Object", t.substring(1, t.length() - 1));
+      case '[':
+        return new VerificationTypeInfo("Object", t);
+      default:
+        return new VerificationTypeInfo("Top");
+      }
+  }
+}
@@ -10,11 +10,16 @@
 package jas;
 
 import java.io.*;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 
 public class GenericAttr
 {
   CP attr_name;
   byte data[];
+  File file;                    // where the bytes are, if not in data
+  int length;
 
   /**
    * Make up a new attribute
@@ -26,6 +31,7 @@ public class GenericAttr
   {
     attr_name = new AsciiCP(name);
     this.data = data;
+    length = data.length;
   }
   /**
    * Make up a new attribute
@@ -38,23 +44,24 @@ public class GenericAttr
   {
     attr_name = name;
     this.data = data;
+    length = data.length;
   }
   /**
-   * Make up a new attribute
+   * Make up a new attribute. The contents of the file are not read
+   * in: they are copied straight to the class file when it is
+   * written, so the file must not change in the meantime.
    * @param name Name to be associated with the attribute
    * @param file name of file with attribute contens
    */
   public GenericAttr(String name, String file) throws IOException, jasError
   {
-    FileInputStream inp;
-    try {
-      inp = new FileInputStream(file);
-    } catch(FileNotFoundException e) {
+    this.file = new File(file);
+    if (!this.file.isFile())
       throw new jasError("Generic atribute file " +file+ " not found");
-    }
-    data = new byte[inp.available()];
-    inp.read(data);
-    inp.close();
+    long len = this.file.length();
+    if (len > Integer.MAX_VALUE)
+      throw new jasError("Generic atribute file " +file+ " is too large");
+    length = (int)len;
     attr_name = new AsciiCP(name);
   }
 
@@ -62,14 +69,49 @@ public class GenericAttr
   { e.addCPItem(attr_name); }
 
   int size()
-  { return (2 + 4 + data.length); }
+  { return (2 + 4 + length); }
 
   void write(ClassEnv e, DataOutputStream out)
     throws IOException, jasError
   {
     out.writeShort(e.getCPIndex(attr_name));
-    out.writeInt(data.length);
-    out.write(data);
+    out.writeInt(length);
+    if (data != null)
+      out.write(data);
+    else
+      transfer(out);
+  }
+
+                                // copy the file to out through its
+                                // channel, a chunk at a time
+  private void transfer(DataOutputStream out)
+    throws IOException, jasError
+  {
+    FileInputStream inp;
+    try {
+      inp = new FileInputStream(file);
+    } catch(FileNotFoundException ex) {
+      throw new jasError("Generic atribute file " +file+ " not found");
+    }
+    try
+      {
+        FileChannel in = inp.getChannel();
+        if (in.size() != length)
+          throw new jasError("Generic atribute file " +file+
+                             " changed size from " +length+ " to " +in.size());
+        WritableByteChannel to = Channels.newChannel(out);
+        long pos = 0;
+        while (pos < length)
+          {
+            long n = in.transferTo(pos, length - pos, to);
+            if (n <= 0)
+              throw new jasError("Generic atribute file " +file+
+                                 " is shorter than " +length+ " bytes");
+            pos += n;
+          }
+      }
+    finally
+      { inp.close(); }
   }
 }
 
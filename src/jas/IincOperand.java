@@ -0,0 +1,49 @@
+package jas;
+
+import java.io.*;
+
+class IincOperand extends InsnOperand
+  implements RuntimeConstants
+{
+  int vindex, constt;
+  boolean Wide;
+
+  IincOperand(int vindex, int constt, boolean Wide)
+  {
+    this.vindex = vindex;
+    this.constt = constt;
+    this.Wide = (Wide ||
+                 vindex > 255 ||
+                 constt > 127 ||
+                 constt < -128);
+  }
+
+  int size(ClassEnv ce, CodeAttr code)
+  {
+    return Wide ? 5 : 2;
+  }
+
+  void resolve(ClassEnv e) { return; }
+
+  void writePrefix(ClassEnv e, CodeAttr ce, DataOutputStream out)
+    throws IOException
+  {
+    if (Wide)
+      out.writeByte((byte)opc_wide);
+  }
+
+  void write(ClassEnv e, CodeAttr ce, DataOutputStream out)
+    throws IOException
+  {
+    if (Wide)
+      {
+        out.writeShort((short)(0xffff & vindex));
+        out.writeShort((short)(0xffff & constt));
+      }
+    else
+      {
+        out.writeByte((byte) (0xff & vindex));
+        out.writeByte((byte) (0xff & constt));
+      }
+  }
+}
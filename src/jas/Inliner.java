@@ -0,0 +1,411 @@
+/**
+ * Inliner is an optional pass that replaces calls to small methods
+ * of the class being written by the code of those methods, so that
+ * the code runs without the calls from its first invocation, before
+ * the JIT has had a chance to inline anything.
+ * <p>
+ * A method can be inlined if it is static, or private and not a
+ * constructor, is not synchronized, calls nothing (no invoke, jsr or
+ * ret), has at most the given number of bytes of code, and leaves
+ * nothing but its result on the stack when it returns. At a call
+ * site, the arguments are stored into fresh locals above those of the
+ * caller (a private method's receiver is checked for null the way
+ * javac does, with getClass()), the body follows with its locals
+ * moved up and its labels renamed, and each return becomes a jump
+ * past the end. The callee's handlers go in front of the caller's,
+ * so they are looked at first, as they were.
+ * <p>
+ * A handler empties the stack, so a method with handlers is only
+ * inlined where the stack holds nothing but the arguments. A method
+ * with jumps is only inlined if the caller's frames are computed
+ * (see CodeAttr#setAutoFrames) or the class is older than version 50.
+ * The inlined methods themselves are kept. Code that refers to fixed
+ * pc's is left alone, on either side.
+ * @see ClassEnv#setInline
+ */
+
+package jas;
+
+import java.util.Enumeration;
+import java.util.Hashtable;
+import java.util.Vector;
+
+class Inliner implements RuntimeConstants
+{
+  static final CP getClass = new MethodCP("java/lang/Object", "getClass",
+                                          "()Ljava/lang/Class;");
+
+  private ClassEnv env;
+  private int max_size;
+  private Hashtable callees;    // name + descriptor -> Method
+  private Hashtable shapes;     // name + descriptor -> int[], see below
+  private int serial;           // keeps copied labels apart
+
+                                // what is known about a callee
+  private static final int STACK = 0, LOCALS = 1, JUMPS = 2, HANDLERS = 3;
+
+  Inliner(ClassEnv env, int max_size)
+  {
+    this.env = env;
+    this.max_size = max_size;
+  }
+
+  void run()
+    throws jasError
+  {
+    callees = new Hashtable();
+    shapes = new Hashtable();
+    for (Enumeration e = env.methods.elements(); e.hasMoreElements();)
+      {
+        Method m = (Method)e.nextElement();
+        int shape[] = shape(m);
+        if (shape != null)
+          {
+            String key = m.name.getUniq() + m.desc.getUniq();
+            callees.put(key, m);
+            shapes.put(key, shape);
+          }
+      }
+    if (callees.isEmpty())
+      return;
+    for (Enumeration e = env.methods.elements(); e.hasMoreElements();)
+      inlineInto((Method)e.nextElement());
+  }
+
+                                // null if m can't be inlined
+  private int[] shape(Method m)
+  {
+    CodeAttr code = m.code;
+    if (code == null || code.buf != null
+        || (m.acc & (ACC_SYNCHRONIZED | ACC_NATIVE | ACC_ABSTRACT)) != 0)
+      return null;
+    if ((m.acc & ACC_STATIC) == 0
+        && ((m.acc & ACC_PRIVATE) == 0 || m.name.getUniq().startsWith("<")))
+      return null;
+    if (Peephole.usesFixedOffsets(code))
+      return null;
+
+    int last = -1;
+    boolean jumps = false;
+    for (int i = 0; i < code.insns.size(); i++)
+      {
+        Insn insn = (Insn)code.insns.elementAt(i);
+        if (insn instanceof Label)
+          continue;
+        switch (insn.opc)
+          {
+          case opc_invokevirtual:
+          case opc_invokenonvirtual:
+          case opc_invokestatic:
+          case opc_invokeinterface:
+          case opc_invokedynamic:
+          case opc_jsr:
+          case opc_jsr_w:
+          case opc_ret:
+            return null;
+          }
+        if (insn.operand instanceof LabelOperand
+            || Peephole.switchTargets(insn) != null)
+          jumps = true;
+        last = i;
+      }
+    if (last < 0)
+      return null;
+
+    try
+      {
+        String desc = m.desc.getUniq();
+        int args = Descriptor.argsSize(desc)
+          + (((m.acc & ACC_STATIC) == 0) ? 1 : 0);
+        int ret = Descriptor.returnSize(desc);
+        int code_size = code.assignPcs(env);
+        if (code_size > max_size)
+          return null;
+        CodeFlow flow = new CodeFlow(code, code_size);
+        CodeLimits lim = new CodeLimits(flow, args);
+        for (int i = 0; i < flow.insns.length; i++)
+          if (isReturn(flow.insns[i].opc))
+            {
+              if (lim.depth[i] >= 0 && lim.depth[i] != ret)
+                return null;    // more than the result to drop
+              if (flow.insns[i] != code.insns.elementAt(last))
+                jumps = true;
+            }
+        int res[] = new int[4];
+        res[STACK] = lim.max_stack;
+        res[LOCALS] = lim.max_locals;
+        res[JUMPS] = jumps ? 1 : 0;
+        res[HANDLERS] = (code.ctb != null && code.ctb.count > 0) ? 1 : 0;
+        if (res[HANDLERS] != 0)
+          res[JUMPS] = 1;
+        return res;
+      }
+    catch (jasError ex)
+      { return null; }          // reported when it is written
+  }
+
+  private static boolean isReturn(int opc)
+  { return opc >= opc_ireturn && opc <= opc_return; }
+
+                                // the method this calls, if it can
+                                // be inlined
+  private Method callee(Insn insn)
+  {
+    if (insn.opc != opc_invokestatic && insn.opc != opc_invokenonvirtual)
+      return null;
+    CP cp = ((CPOperand)insn.operand).cpe;
+    if (!(cp instanceof MethodCP))
+      return null;
+    MethodCP ref = (MethodCP)cp;
+    if (env.this_class == null
+        || !ref.clazz.name.getUniq().equals(
+                ((ClassCP)env.this_class).name.getUniq()))
+      return null;
+    Method m = (Method)callees.get(ref.nt.name.getUniq()
+                                   + ref.nt.sig.getUniq());
+    if (m == null || ((m.acc & ACC_STATIC) != 0)
+                     != (insn.opc == opc_invokestatic))
+      return null;
+    return m;
+  }
+
+  private void inlineInto(Method caller)
+    throws jasError
+  {
+    CodeAttr code = caller.code;
+    if (code == null || code.buf != null)
+      return;
+    boolean calls = false;
+    for (int i = 0; i < code.insns.size() && !calls; i++)
+      calls = callee((Insn)code.insns.elementAt(i)) != null;
+    if (!calls || Peephole.usesFixedOffsets(code))
+      return;
+
+    CodeFlow flow;
+    CodeLimits lim;
+    try
+      {
+        int args = Descriptor.argsSize(caller.desc.getUniq())
+          + (((caller.acc & ACC_STATIC) == 0) ? 1 : 0);
+        flow = new CodeFlow(code, code.assignPcs(env));
+        lim = new CodeLimits(flow, args);
+      }
+    catch (jasError ex)
+      { return; }               // reported when it is written
+    Hashtable depth = new Hashtable();
+    for (int i = 0; i < flow.insns.length; i++)
+      depth.put(flow.insns[i], Integer.valueOf(lim.depth[i]));
+
+    int base = lim.max_locals;
+    if (!code.auto_limits)
+      base = Math.max(base, code.num_locals & 0xffff);
+    if (code.lvar != null)
+      for (int i = 0; i < code.lvar.vars.count; i++)
+        base = Math.max(base, code.lvar.vars.slot[i] + Descriptor.typeSize(
+                                code.lvar.vars.sig[i].getUniq().charAt(0)));
+    int max_stack = Math.max(lim.max_stack, code.stack_size & 0xffff);
+    int max_locals = base;
+    boolean framed = code.stackmap == null
+      && (code.auto_frames || env.version_hi < 50);
+
+    LineTableAttr.plantLabels(code);
+    Vector res = new Vector(code.insns.size());
+    for (int i = 0; i < code.insns.size(); i++)
+      {
+        Insn insn = (Insn)code.insns.elementAt(i);
+        Method m = callee(insn);
+        Integer d = (m == null) ? null : (Integer)depth.get(insn);
+        if (d == null || d.intValue() < 0)
+          {
+            res.addElement(insn);
+            continue;
+          }
+        String key = m.name.getUniq() + m.desc.getUniq();
+        int shape[] = (int[])shapes.get(key);
+        int args = Descriptor.argsSize(m.desc.getUniq())
+          + (((m.acc & ACC_STATIC) == 0) ? 1 : 0);
+        int stack = d.intValue() - args + Math.max(shape[STACK], 1);
+        if ((shape[JUMPS] != 0 && !framed)
+            || (shape[HANDLERS] != 0 && d.intValue() != args)
+            || stack > 65535 || base + shape[LOCALS] > 65535)
+          {
+            res.addElement(insn);
+            continue;
+          }
+        splice(res, m, base, code);
+        max_stack = Math.max(max_stack, stack);
+        max_locals = Math.max(max_locals, base + shape[LOCALS]);
+      }
+    code.insns = res;
+    if (!code.auto_limits)
+      {
+        code.stack_size = (short)max_stack;
+        code.num_locals = (short)max_locals;
+      }
+  }
+
+                                // the code of m, to run in place of
+                                // a call to it
+  private void splice(Vector res, Method m, int base, CodeAttr into)
+    throws jasError
+  {
+    String tag = "jas_inline:" + (serial++) + ":";
+    Hashtable labels = new Hashtable();
+    Label end = new Label(tag);
+    boolean is_static = (m.acc & ACC_STATIC) != 0;
+
+                                // arguments, from the top of the stack
+    String desc = m.desc.getUniq();
+    Vector stores = new Vector();
+    int slot = is_static ? 0 : 1;
+    for (int i = 1; desc.charAt(i) != ')'; i = Descriptor.skipType(desc, i))
+      {
+        stores.insertElementAt(new Insn(storeOpc(desc.charAt(i)),
+                                        base + slot, false), 0);
+        slot += Descriptor.typeSize(desc.charAt(i));
+      }
+    for (int i = 0; i < stores.size(); i++)
+      res.addElement(stores.elementAt(i));
+    if (!is_static)
+      {
+        res.addElement(new Insn(opc_astore, base, false));
+        res.addElement(new Insn(opc_aload, base, false));
+        res.addElement(new Insn(opc_invokevirtual, getClass));
+        res.addElement(new Insn(opc_pop));
+        env.addCPItem(getClass);
+      }
+
+    Vector body = m.code.insns;
+    int last = body.size() - 1;
+    while (body.elementAt(last) instanceof Label)
+      last--;
+    for (int i = 0; i < body.size(); i++)
+      {
+        Insn insn = (Insn)body.elementAt(i);
+        if (insn instanceof Label)
+          res.addElement(label(labels, tag, (Label)insn));
+        else if (isReturn(insn.opc))
+          {
+            if (i != last)
+              res.addElement(new Insn(opc_goto, end, 0));
+          }
+        else
+          res.addElement(copy(insn, labels, tag, base));
+      }
+    res.addElement(end);
+
+    Catchtable ctb = m.code.ctb;
+    if (ctb == null || ctb.count == 0)
+      return;
+    if (into.ctb == null)
+      into.setCatchtable(new Catchtable());
+    for (int i = 0; i < ctb.count; i++)
+      into.ctb.insertEntry(i, label(labels, tag, ctb.labels.label(ctb.start[i])),
+                           label(labels, tag, ctb.labels.label(ctb.end[i])),
+                           label(labels, tag, ctb.labels.label(ctb.handler[i])),
+                           ctb.catch_cpe[i]);
+  }
+
+  static Label label(Hashtable labels, String tag, Label l)
+  {
+    Label res = (Label)labels.get(l.id);
+    if (res == null)
+      {
+        res = new Label(tag + l.id);
+        labels.put(l.id, res);
+      }
+    return res;
+  }
+
+  private static int storeOpc(char type)
+  {
+    switch (type)
+      {
+      case 'J': return opc_lstore;
+      case 'F': return opc_fstore;
+      case 'D': return opc_dstore;
+      case 'L':
+      case '[': return opc_astore;
+      default:  return opc_istore;
+      }
+  }
+
+                                // a copy of insn, with its locals
+                                // moved up by base (if it isn't 0)
+                                // and its labels renamed
+  static Insn copy(Insn insn, Hashtable labels, String tag, int base)
+    throws jasError
+  {
+    int opc = insn.opc;
+    InsnOperand op = insn.operand;
+    if (base != 0 && opc >= opc_iload_0 && opc <= opc_aload_3)
+      return new Insn(opc_iload + (opc - opc_iload_0) / 4,
+                      base + (opc - opc_iload_0) % 4, false);
+    if (base != 0 && opc >= opc_istore_0 && opc <= opc_astore_3)
+      return new Insn(opc_istore + (opc - opc_istore_0) / 4,
+                      base + (opc - opc_istore_0) % 4, false);
+
+    Insn res = new Insn();
+    res.opc = opc;
+    if (op instanceof UnsignedByteWideOperand)
+      {
+        UnsignedByteWideOperand u = (UnsignedByteWideOperand)op;
+        res.operand = new UnsignedByteWideOperand(u.val + base, u.Wide);
+      }
+    else if (op instanceof IincOperand)
+      {
+        IincOperand u = (IincOperand)op;
+        IincOperand v = new IincOperand(u.vindex + base, u.constt, u.Wide);
+        v.Wide = u.Wide || v.vindex > 255;
+        res.operand = v;
+      }
+    else if (op instanceof LabelOperand)
+      {
+        LabelOperand l = (LabelOperand)op;
+        res.operand = new LabelOperand(label(labels, tag, l.target), res,
+                                       l.wide, l.ref);
+      }
+    else if (op instanceof LdcOperand)
+      {
+        LdcOperand l = (LdcOperand)op;
+        res.operand = new LdcOperand(res, l.cpe, l.wide);
+      }
+    else if (op instanceof OffsetOperand)
+      {
+        OffsetOperand o = (OffsetOperand)op;
+        res.operand = new OffsetOperand(res, o.val, o.wide);
+      }
+    else if (op instanceof TableswitchOperand)
+      {
+        TableswitchOperand t = (TableswitchOperand)op;
+        res.operand = new TableswitchOperand(res, t.min, t.max,
+                                             target(labels, tag, t.dflt),
+                                             targets(labels, tag, t.jmp));
+      }
+    else if (op instanceof LookupswitchOperand)
+      {
+        LookupswitchOperand t = (LookupswitchOperand)op;
+        res.operand = new LookupswitchOperand(res, target(labels, tag, t.dflt),
+                                              t.match,
+                                              targets(labels, tag, t.jmp));
+      }
+    else
+      res.operand = op;         // nothing in it refers to the insn
+    return res;
+  }
+
+  private static LabelOrOffset target(Hashtable labels, String tag,
+                                      LabelOrOffset l)
+  { return new LabelOrOffset(label(labels, tag, l.getLabel())); }
+
+  private static LabelOrOffset[] targets(Hashtable labels, String tag,
+                                         LabelOrOffset l[])
+  {
+    if (l == null)
+      return null;
+    LabelOrOffset res[] = new LabelOrOffset[l.length];
+    for (int i = 0; i < l.length; i++)
+      res[i] = target(labels, tag, l[i]);
+    return res;
+  }
+}
@@ -45,7 +45,7 @@ public class InnerClass
 
   void write(ClassEnv e, DataOutputStream out) throws IOException, jasError
   {
-    short id = 0;
+    int id = 0;
     if(inner != null) id = e.getCPIndex(inner);
     out.writeShort(id);
     id = 0;
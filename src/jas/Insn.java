@@ -271,7 +271,6 @@ public class Insn implements RuntimeConstants
     switch(opc)
       {
       case opc_anewarray:
-      case opc_invokedynamic:
       case opc_invokenonvirtual:
       case opc_invokestatic:
       case opc_invokevirtual:
@@ -284,12 +283,20 @@ public class Insn implements RuntimeConstants
       case opc_putfield:
         operand = new CPOperand(arg);
         break;
+      case opc_invokedynamic:
+        if (!(arg instanceof InvokeDynamicCP))
+          throw new jasError("invokedynamic needs an InvokeDynamicCP");
+        operand = new InvokedynamicOperand(arg);
+        break;
       case opc_ldc2_w:
       case opc_ldc_w:
-        operand = new LdcOperand(this, arg);
-        break;
       case opc_ldc:
-        operand = new LdcOperand(this, arg, false);
+        if (arg instanceof DynamicCP
+            && ((DynamicCP)arg).isWide() != (opc == opc_ldc2_w))
+          throw new jasError(((opc == opc_ldc2_w) ? "only a long or double"
+                                                  : "a long or double")
+                             + " dynamic constant is loaded by ldc2_w");
+        operand = new LdcOperand(this, arg, opc != opc_ldc);
         break;
       default:
         throw new jasError
@@ -0,0 +1,204 @@
+/**
+ * Instrument is an optional pass that makes a method count how often
+ * its code is reached when it runs: at the start of the method, and
+ * at every place a branch or a switch arm can jump to, it inserts
+ * <pre>
+ *     ldc_w "Foo.j:12 pkg/Foo.bar(I)V branch Loop"
+ *     invokestatic jas/Counters/hit(Ljava/lang/String;)V
+ * </pre>
+ * The string names the site by source file and line, method, and
+ * what is counted, so the counts printed by Counters can be read
+ * without anything else. The call leaves the stack and the locals as
+ * they were, so a frame given for a label stays right; it takes one
+ * more stack slot. ldc_w is used so that the site names don't push
+ * the program's own constants out of the low pool indices.
+ * <p>
+ * Labels are never moved, and the counter for a place goes after all
+ * of its labels. An Uninitialized item of a frame given by hand has to
+ * name the new itself, so when it names such a label it is moved to a
+ * label of its own, after the counter. If anything in the method
+ * refers to a fixed pc, the method is left alone.
+ * @see CodeAttr#setInstrument
+ * @see Counters
+ */
+
+package jas;
+
+import java.util.Hashtable;
+import java.util.Vector;
+
+class Instrument implements RuntimeConstants
+{
+  static final CP hit = new MethodCP("jas/Counters", "hit",
+                                     "(Ljava/lang/String;)V");
+
+  private ClassEnv env;
+  private CodeAttr code;
+  private String source;
+  private String where;         // "pkg/Foo.bar(I)V"
+  private Hashtable kinds;      // label id -> "branch" or "switch"
+  private Hashtable lines;      // label id -> Integer, for line labels
+  private Hashtable uninit;     // label id -> Vector of Uninitialized
+                                // items naming it
+
+  Instrument(ClassEnv env, CodeAttr code, Method m, String source)
+  {
+    this.env = env;
+    this.code = code;
+    this.source = source;
+    where = ((env.this_class == null) ? ""
+             : ((ClassCP)env.this_class).name.getUniq() + ".")
+      + m.name.getUniq() + m.desc.getUniq();
+  }
+
+  void run()
+    throws jasError
+  {
+    Vector insns = code.insns;
+    if (Peephole.usesFixedOffsets(code) || !hasCode(insns))
+      return;
+    findTargets(insns);
+    findLines();
+    findUninitialized();
+
+    int n = insns.size();
+    Vector res = new Vector(n + 2*kinds.size() + 2);
+    int line = -1;
+    for (int i = 0; i <= n; )
+      {
+        int j = i;
+        String target = null;
+        for (; j < n && insns.elementAt(j) instanceof Label; j++)
+          {                     // a place, with all its labels
+            String id = ((Label)insns.elementAt(j)).id;
+            Integer ln = (Integer)lines.get(id);
+            if (ln != null)
+              line = ln.intValue();
+            String kind = (String)kinds.get(id);
+            if (kind != null && (target == null || kind.equals("switch")))
+              target = kind + " " + id;
+          }
+        if (i == 0)
+          count(res, line, "entry");
+        for (int k = i; k < j; k++)
+          res.addElement(insns.elementAt(k));
+        if (target != null && j < n)
+          {
+            count(res, line, target);
+            moveUninitialized(res, insns, i, j);
+          }
+        if (j < n)
+          res.addElement(insns.elementAt(j));
+        i = j + 1;
+      }
+    code.insns = res;
+    if (!code.auto_limits && code.stack_size != -1)
+      code.stack_size++;
+  }
+
+  private static boolean hasCode(Vector insns)
+  {
+    for (int i = 0; i < insns.size(); i++)
+      if (!(insns.elementAt(i) instanceof Label))
+        return true;
+    return false;
+  }
+
+  private void findTargets(Vector insns)
+  {
+    kinds = new Hashtable();
+    for (int i = 0; i < insns.size(); i++)
+      {
+        Insn insn = (Insn)insns.elementAt(i);
+        if (insn.operand instanceof LabelOperand)
+          {
+            String id = ((LabelOperand)insn.operand).target.id;
+            if (!kinds.containsKey(id))
+              kinds.put(id, "branch");
+          }
+        LabelOrOffset sw[] = Peephole.switchTargets(insn);
+        if (sw != null)
+          for (int k = 0; k < sw.length; k++)
+            kinds.put(sw[k].getLabel().id, "switch");
+      }
+  }
+
+                                // the line table has labels by now
+  private void findLines()
+  {
+    lines = new Hashtable();
+    LineTableAttr ltab = code.ltab;
+    if (ltab == null)
+      return;
+    for (int i = 0; i < ltab.count; i++)
+      if (ltab.where[i] < 0)
+        lines.put(ltab.labels.label(ltab.where[i]).id,
+                  Integer.valueOf(ltab.line[i]));
+  }
+
+                                // frames given by hand, which are
+                                // the only ones there are yet
+  private void findUninitialized()
+  {
+    uninit = new Hashtable();
+    if (code.stackmap == null)
+      return;
+    Vector frames = code.stackmap.frames;
+    for (int i = 0; i < frames.size(); i++)
+      {
+        VerifyFrame f = (VerifyFrame)frames.elementAt(i);
+        findUninitialized(f.stack);
+        findUninitialized(f.locals);
+      }
+  }
+
+  private void findUninitialized(Vector items)
+  {
+    for (int i = 0; i < items.size(); i++)
+      {
+        VerificationTypeInfo v = (VerificationTypeInfo)items.elementAt(i);
+        Label l = v.uninitLabel();
+        if (l == null)
+          continue;
+        Vector refs = (Vector)uninit.get(l.id);
+        if (refs == null)
+          uninit.put(l.id, refs = new Vector());
+        refs.addElement(v);
+      }
+  }
+
+                                // Uninitialized items naming one of
+                                // the labels i..j-1 now name a label
+                                // put after the counter, just before
+                                // the new
+  private void moveUninitialized(Vector res, Vector insns, int i, int j)
+  {
+    Label moved = null;
+    for (int k = i; k < j; k++)
+      {
+        String id = ((Label)insns.elementAt(k)).id;
+        Vector refs = (Vector)uninit.get(id);
+        if (refs == null)
+          continue;
+        if (moved == null)
+          {
+            moved = new Label("jas_new:" + id);
+            res.addElement(moved);
+          }
+        for (int r = 0; r < refs.size(); r++)
+          ((VerificationTypeInfo)refs.elementAt(r)).setUninitLabel(moved);
+      }
+  }
+
+  private void count(Vector res, int line, String what)
+    throws jasError
+  {
+    String site = source + ((line < 0) ? "" : ":" + line)
+      + " " + where + " " + what;
+    CP name = new StringCP(site);
+    env.addCPItem(name);
+    env.addCPItem(hit);
+    res.addElement(new Insn(opc_ldc_w, name));
+    res.addElement(new Insn(opc_invokestatic, hit));
+  }
+}
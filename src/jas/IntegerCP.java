@@ -19,7 +19,7 @@ public class IntegerCP extends CP implements RuntimeConstants
    */
   public IntegerCP(int n)
   {
-    uniq = ("Integer: @#$" + n).intern();
+    uniq = "Integer: @#$" + n;
     val = n;
   }
   void resolve(ClassEnv e) { return; }
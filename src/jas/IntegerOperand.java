@@ -0,0 +1,15 @@
+package jas;
+
+import java.io.*;
+
+class IntegerOperand extends InsnOperand
+{
+  int val;
+
+  IntegerOperand(int n) { val = n; }
+  int size(ClassEnv ce, CodeAttr code) { return 4; }
+  void resolve(ClassEnv e) { return; }
+  void write(ClassEnv e, CodeAttr ce, DataOutputStream out)
+    throws IOException
+  { out.writeInt(val); }
+}
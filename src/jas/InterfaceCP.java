@@ -22,7 +22,7 @@ public class InterfaceCP extends CP implements RuntimeConstants
    */
   public InterfaceCP(String cname, String varname, String sig)
   {
-    uniq = (cname + "&%$#&" + varname + "*()#$" + sig).intern();
+    uniq = cname + "&%$#&" + varname + "*()#$" + sig;
     clazz = new ClassCP(cname);
     nt = new NameTypeCP(varname, sig);
   }
@@ -0,0 +1,42 @@
+/**
+ * The call site of an invokedynamic instruction: a name and a method
+ * descriptor, and the bootstrap method that links it. The bootstrap
+ * method goes into the BootstrapMethods attribute of the class when
+ * the call site is added to it.
+ */
+
+package jas;
+
+import java.io.*;
+
+public class InvokeDynamicCP extends CP implements RuntimeConstants
+{
+  BootstrapMethod bsm;
+  NameTypeCP nt;
+
+  /**
+   * @param bsm Bootstrap method of the call site
+   * @param name Name of the call site
+   * @param sig Method descriptor of the call site
+   */
+  public InvokeDynamicCP(BootstrapMethod bsm, String name, String sig)
+  {
+    nt = new NameTypeCP(name, sig);
+    uniq = "InvokeDynamic: @#$" + nt.getUniq() + "#$" + bsm.uniq;
+    this.bsm = bsm;
+  }
+
+  void resolve(ClassEnv e)
+  {
+    e.addCPItem(nt);
+    e.addBootstrap(bsm);
+  }
+
+  void write(ClassEnv e, DataOutputStream out)
+    throws IOException, jasError
+  {
+    out.writeByte(CONSTANT_INVOKEDYNAMIC);
+    out.writeShort(e.getBootstrapIndex(bsm));
+    out.writeShort(e.getCPIndex(nt));
+  }
+}
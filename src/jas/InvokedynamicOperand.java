@@ -0,0 +1,17 @@
+                                // invokedynamic, which has two zero
+                                // bytes after the index
+package jas;
+
+import java.io.*;
+
+class InvokedynamicOperand extends CPOperand
+{
+  InvokedynamicOperand(CP cpe) { super(cpe); }
+  int size(ClassEnv ce, CodeAttr code) { return 4; }
+  void write(ClassEnv e, CodeAttr ce, DataOutputStream out)
+    throws IOException, jasError
+  {
+    out.writeShort(e.getCPIndex(cpe));
+    out.writeShort(0);
+  }
+}
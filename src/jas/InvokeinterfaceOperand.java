@@ -0,0 +1,25 @@
+package jas;
+
+import java.io.*;
+
+class InvokeinterfaceOperand extends InsnOperand
+{
+  CP cpe;
+  int nargs;
+
+  InvokeinterfaceOperand(CP cpe, int nargs)
+  { this.cpe = cpe; this.nargs = nargs; }
+
+  int size(ClassEnv ce, CodeAttr code) { return 4; }
+
+  void resolve(ClassEnv e)
+  { e.addCPItem(cpe); }
+
+  void write (ClassEnv e, CodeAttr ce, DataOutputStream out)
+    throws IOException, jasError
+  {
+    out.writeShort(e.getCPIndex(cpe));
+    out.writeByte((byte) (0xff & nargs));
+    out.writeByte(0);
+  }
+}
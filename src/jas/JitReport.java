@@ -0,0 +1,158 @@
+/**
+ * JitReport collects the shape of every method written by the
+ * ClassEnv's it is given to: the final code size, max_stack and
+ * max_locals, how many branches go backwards (loops), the number of
+ * cases of each switch, and which of HotSpot's size limits the code
+ * goes over. It is written as a JSON array with one object per
+ * method, so that a build can check it.
+ * <p>
+ * The limits are the defaults of HotSpot's MaxInlineSize (above it,
+ * a method is only inlined where it is called often), FreqInlineSize
+ * (above it, a method is never inlined) and HugeMethodLimit (above
+ * it, a method is never compiled).
+ * @see ClassEnv#setJitReport
+ */
+
+package jas;
+
+import java.io.*;
+import java.util.*;
+
+public class JitReport implements RuntimeConstants
+{
+  public static final int MAX_INLINE_SIZE = 35;
+  public static final int FREQ_INLINE_SIZE = 325;
+  public static final int HUGE_METHOD_LIMIT = 8000;
+
+  private Vector rows;          // JSON objects, one per method
+
+  public JitReport()
+  { rows = new Vector(); }
+
+  /**
+   * @return the number of methods reported
+   */
+  public int size()
+  { return rows.size(); }
+
+  /**
+   * Write the report as a JSON array.
+   */
+  public void write(Writer out)
+    throws IOException
+  {
+    out.write("[");
+    for (int i = 0; i < rows.size(); i++)
+      {
+        out.write(i == 0 ? "\n" : ",\n");
+        out.write((String)rows.elementAt(i));
+      }
+    out.write("\n]\n");
+    out.flush();
+  }
+
+                                // called once the method's code
+                                // has been written
+  synchronized void add(ClassEnv e, Method m)
+  {
+    CodeAttr c = m.code;
+    StringBuffer row = new StringBuffer("  {\"class\": ");
+    quote(row, (e.this_class == null) ? ""
+               : ((ClassCP)e.this_class).name.getUniq());
+    row.append(", \"method\": ");
+    quote(row, m.name.getUniq());
+    row.append(", \"descriptor\": ");
+    quote(row, m.desc.getUniq());
+    row.append(", \"code_size\": ").append(c.code_size);
+    row.append(", \"max_stack\": ").append(c.stack_size & 0xffff);
+    row.append(", \"max_locals\": ").append(c.num_locals & 0xffff);
+    row.append(", \"back_edges\": ").append(c.back_edges);
+    row.append(", \"switches\": [");
+    for (int i = 0; i < c.switch_sizes.length; i++)
+      row.append(i == 0 ? "" : ", ").append(c.switch_sizes[i]);
+    row.append("], \"exceeds\": [");
+    String sep = "";
+    if (c.code_size > MAX_INLINE_SIZE)
+      { row.append("\"MaxInlineSize\""); sep = ", "; }
+    if (c.code_size > FREQ_INLINE_SIZE)
+      { row.append(sep).append("\"FreqInlineSize\""); }
+    if (c.code_size > HUGE_METHOD_LIMIT)
+      { row.append(sep).append("\"HugeMethodLimit\""); }
+    row.append("]}");
+    rows.addElement(row.toString());
+  }
+
+  private static void quote(StringBuffer sb, String s)
+  {
+    sb.append('"');
+    for (int i = 0; i < s.length(); i++)
+      {
+        char c = s.charAt(i);
+        if (c == '"' || c == '\\')
+          sb.append('\\').append(c);
+        else if (c < ' ')
+          {
+            String hex = Integer.toHexString(c);
+            sb.append("\\u0000", 0, 6 - hex.length()).append(hex);
+          }
+        else
+          sb.append(c);
+      }
+    sb.append('"');
+  }
+
+  /**
+   * Count the backward branches and the cases of each switch in
+   * some code, and store them in its CodeAttr.
+   */
+  static void scan(CodeAttr c, byte code[])
+  {
+    int back = 0;
+    int sizes[] = new int[0];
+    int pc = 0;
+    while (pc < code.length)
+      {
+        int opc = code[pc] & 0xff;
+        int len = opcLengths[opc];
+        if (opc == opc_tableswitch || opc == opc_lookupswitch)
+          {
+            int base = (pc + 4) & ~3;
+            boolean table = (opc == opc_tableswitch);
+            int n = table ? get32(code, base + 8) - get32(code, base + 4) + 1
+                          : get32(code, base + 4);
+            if (get32(code, base) <= 0)
+              back++;
+            for (int i = 0; i < n; i++)
+              if (get32(code, table ? base + 12 + 4*i : base + 12 + 8*i) <= 0)
+                back++;
+            sizes = SideTable.grow(sizes, sizes.length + 1);
+            sizes[sizes.length - 1] = n;
+            len = base - pc + (table ? 12 + 4*n : 8 + 8*n);
+          }
+        else if (opc == opc_wide)
+          len = ((code[pc + 1] & 0xff) == opc_iinc) ? 6 : 4;
+        else if ((opc >= opc_ifeq && opc <= opc_goto)
+                 || opc == opc_ifnull || opc == opc_ifnonnull)
+          {
+            if ((short)((code[pc + 1] << 8) | (code[pc + 2] & 0xff)) <= 0)
+              back++;
+          }
+        else if (opc == opc_goto_w)
+          {
+            if (get32(code, pc + 1) <= 0)
+              back++;
+          }
+        if (len <= 0)
+          break;                // not an instruction we write
+        pc += len;
+      }
+    c.back_edges = back;
+    c.switch_sizes = sizes;
+  }
+
+  private static int get32(byte b[], int pos)
+  {
+    return (b[pos] << 24) | ((b[pos + 1] & 0xff) << 16)
+      | ((b[pos + 2] & 0xff) << 8) | (b[pos + 3] & 0xff);
+  }
+}
@@ -24,7 +24,7 @@ public class Label extends Insn implements RuntimeConstants
    */
   public Label(String tag)
   {
-    id = tag.intern();
+    id = tag;
     opc = opc_label;
     operand = null;
   }
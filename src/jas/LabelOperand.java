@@ -0,0 +1,32 @@
+                                // Used to implement targets of Insns
+package jas;
+
+import java.io.*;
+
+class LabelOperand extends InsnOperand
+{
+  Label target;
+  Insn source;
+  boolean wide;
+  int ref;
+
+  LabelOperand(Label l, Insn source, int line)
+  { target = l; this.source = source; this.wide = false; this.ref = line; }
+  LabelOperand(Label l, Insn source, boolean wide, int line)
+  { target = l; this.source = source; this.wide = wide; this.ref = line; }
+  int size(ClassEnv ce, CodeAttr code) { if (wide) return 4; else return 2; }
+  void resolve(ClassEnv e) { return; }
+  void write(ClassEnv e, CodeAttr ce, DataOutputStream out)
+    throws IOException, jasError
+  {
+    if (wide) { target.writeWideOffset(ce, source, out); }
+    else {
+      int offset = ce.getPc(target);
+      if (source != null)
+        offset -= ce.getPc(source);
+      if (offset > 32767 || offset < -32768)
+        throw new jasError
+          ("reference from line " +ref+ " exceed size for short");
+      target.writeOffset(ce, source, out); }
+    }
+  }
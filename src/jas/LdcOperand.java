@@ -0,0 +1,51 @@
+                                // these are unique enough that
+                                // they need a separate handler for their
+                                // args
+package jas;
+
+import java.io.*;
+
+class LdcOperand extends InsnOperand implements RuntimeConstants
+{
+  CP cpe;
+  Insn source;
+  boolean wide;
+
+  int size(ClassEnv ce, CodeAttr code) throws jasError
+  {
+    if (wide)
+      { return 2; }
+    else if (ce.cpe_index == null)
+      { return 1; }             // pool not laid out yet
+    else
+      {
+                                // Should we promote it?
+        int idx = ce.getCPIndex(cpe);
+        if (idx > 255)
+          {
+            wide = true;
+            source.opc = opc_ldc_w;
+            return 2;
+          }
+        return 1;
+      }
+  }
+  LdcOperand(Insn s, CP cpe) { source = s; this.cpe = cpe; wide = true; }
+  LdcOperand(Insn s, CP cpe, boolean wide)
+  { source = s; this.cpe = cpe; this.wide = wide; }
+  void resolve(ClassEnv e)
+  { e.addCPItem(cpe); }
+  void write(ClassEnv e, CodeAttr ce, DataOutputStream out)
+    throws IOException, jasError
+  {
+    int idx = e.getCPIndex(cpe);
+    if (wide)
+      { out.writeShort((short) idx); }
+    else
+      {
+        if (idx > 255)
+          { throw new jasError("exceeded size for small cpidx" + cpe); }
+        out.writeByte((byte) (0xff & (idx)));
+      }
+  }
+}
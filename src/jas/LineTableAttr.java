@@ -9,13 +9,20 @@
 package jas;
 
 import java.io.*;
-import java.util.*;
 
 public class LineTableAttr
 {
   static final CP attr = new AsciiCP("LineNumberTable");
 
-  Vector line, pc;
+                                // entries are kept in parallel
+                                // arrays. An entry is either for a
+                                // label (a SideTable place), or for
+                                // the instruction at a position in
+                                // the code.
+  SideTable labels;
+  int where[];
+  int line[];
+  int count;
 
   /**
    * Note: A line table is associated with a <em>method</em>, so you
@@ -24,7 +31,11 @@ public class LineTableAttr
    * @see CodeAttr#setLineTable
    */
   public LineTableAttr()
-  { line = new Vector(); pc = new Vector(); }
+  {
+    labels = new SideTable();
+    where = new int[16];
+    line = new int[16];
+  }
 
   /**
    * Add a pc to line number entry to the line table.
@@ -33,35 +44,119 @@ public class LineTableAttr
    */
 
   public void addEntry(Label l, int line)
+  { add(labels.place(l), line); }
+
+  /**
+   * Add a line number entry for the next instruction that is added
+   * to the code. No label has to be made and planted for it, and
+   * if the previous entry was made the same way for the same line,
+   * it already covers this instruction and nothing is added.
+   * @param ce Code the instruction will be added to
+   * @param line Corresponding line number in the source file
+   */
+
+  public void addEntry(CodeAttr ce, int line)
+  {
+    if (count > 0 && where[count-1] >= 0 && this.line[count-1] == line)
+      return;
+    add(ce.position(), line);
+  }
+
+  private void add(int w, int ln)
+  {
+    if (count == line.length)
+      {
+        where = SideTable.grow(where, count * 2);
+        line = SideTable.grow(line, count * 2);
+      }
+    where[count] = w;
+    line[count++] = ln;
+  }
+
+                                // plant labels for the entries that
+                                // are kept by position, so that they
+                                // follow their instructions when
+                                // the code is rewritten. The source
+                                // lines of CodeAttr.setSourceLines
+                                // are kept by position in the same
+                                // code, so both tables are planted
+                                // together, last position first.
+  static void plantLabels(CodeAttr ce)
   {
-    pc.addElement(l);
-    this.line.addElement(new Integer(line));
+    LineTableAttr a = ce.ltab, b = ce.src_lines;
+    int i = (a == null) ? -1 : a.count - 1;
+    int j = (b == null) ? -1 : b.count - 1;
+    while (true)
+      {
+        while (i >= 0 && a.where[i] < 0) i--;
+        while (j >= 0 && b.where[j] < 0) j--;
+        if (i < 0 && j < 0)
+          return;
+        if (j < 0 || (i >= 0 && a.where[i] >= b.where[j]))
+          a.plant(ce, i--, "jas_reserved_line:");
+        else
+          b.plant(ce, j--, "jas_source_line:");
+      }
+  }
+
+  private void plant(CodeAttr ce, int i, String tag)
+  {
+    Label l = new Label(tag + i);
+    ce.insns.insertElementAt(l, where[i]);
+    where[i] = labels.place(l);
   }
 
   void resolve(ClassEnv e)
   { e.addCPItem(attr); }
 
-  int size()
+                                // pc of each entry. Code that was
+                                // dropped at the end of a method can
+                                // leave some at the code length,
+                                // where there is no instruction
+  int[] entryPcs(CodeAttr ce) throws jasError
+  {
+    int lpc[] = labels.pcs(ce);
+    int res[] = new int[count];
+    for (int i = 0; i < count; i++)
+      res[i] = (where[i] < 0) ? lpc[~where[i]] : ce.pcAt(where[i]);
+    return res;
+  }
+
+  private int live(CodeAttr ce, int pcs[])
+  {
+    int end = ce.pcAt(ce.position());
+    int n = 0;
+    for (int i = 0; i < count; i++)
+      if (pcs[i] < end) n++;
+    return n;
+  }
+
+  int size(CodeAttr ce) throws jasError
   { return	
       (2 +			// name_idx
        4 +			// attr_len
        2 +			// line table len spec
-       4*(pc.size()));		// table
+       4*live(ce, entryPcs(ce)));	// table
   }
 
   void write(ClassEnv e, CodeAttr ce, DataOutputStream out)
     throws IOException, jasError
   {
-    out.writeShort(e.getCPIndex(attr));
-    out.writeInt(2 + 4*(pc.size()));
-    out.writeShort(pc.size());
-    for (Enumeration en = pc.elements(), ien = line.elements();
-	 en.hasMoreElements();)
-      {
-	Label l = (Label)(en.nextElement());
-	Integer i = (Integer)(ien.nextElement());
-	l.writeOffset(ce, null, out);
-	out.writeShort((int) i.intValue());
-      }
+    int pcs[] = entryPcs(ce);
+    int n = live(ce, pcs);
+    int end = ce.pcAt(ce.position());
+    byte b[] = new byte[8 + 4*n];
+    SideTable.put16(b, 0, e.getCPIndex(attr));
+    SideTable.put32(b, 2, 2 + 4*n);
+    SideTable.put16(b, 6, n);
+    int pos = 8;
+    for (int i = 0; i < count; i++)
+      if (pcs[i] < end)
+        {
+          SideTable.put16(b, pos, pcs[i]);
+          SideTable.put16(b, pos + 2, line[i]);
+          pos += 4;
+        }
+    out.write(b);
   }
 }
@@ -6,8 +6,6 @@
 
 package jas;
 
-import java.io.*;
-
 public class LocalVarEntry
 {
   Label start, end;
@@ -73,24 +71,4 @@ public class LocalVarEntry
     this.sig = sig;
     this.slot = slot;
   }
-
-  void resolve(ClassEnv e)
-  { e.addCPItem(name); e.addCPItem(sig); }
-
-  void write(ClassEnv e, CodeAttr ce, DataOutputStream out)
-    throws IOException, jasError
-  {
-    if(start!=null && end!=null) {
-        start.writeOffset(ce, null, out);
-        end.writeOffset(ce, start, out); // This is the *length*,
-				// not another offset
-    } else {
-        out.writeShort(starto);
-        out.writeShort(endo - starto);
-    }
-
-    out.writeShort(e.getCPIndex(name));
-    out.writeShort(e.getCPIndex(sig));
-    out.writeShort((short)slot);
-  }
 }
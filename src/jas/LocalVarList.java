@@ -0,0 +1,104 @@
+/**
+ * LocalVarList holds the entries of a LocalVarTableAttr or of a
+ * LocalVarTypeTableAttr in int arrays, with their places in the code
+ * kept as described for SideTable. The two attributes only differ in
+ * their name, and in the kind of signature their entries carry.
+ * @see LocalVarEntry
+ */
+
+package jas;
+
+import java.io.*;
+
+class LocalVarList
+{
+  SideTable labels;
+  int start[], end[], slot[];
+  CP name[], sig[];
+  int count;
+
+  LocalVarList()
+  {
+    labels = new SideTable();
+    start = new int[8];
+    end = new int[8];
+    slot = new int[8];
+    name = new CP[8];
+    sig = new CP[8];
+  }
+
+  void add(LocalVarEntry e)
+  {
+    if (count == start.length)
+      {
+        start = SideTable.grow(start, count * 2);
+        end = SideTable.grow(end, count * 2);
+        slot = SideTable.grow(slot, count * 2);
+        name = SideTable.grow(name, count * 2);
+        sig = SideTable.grow(sig, count * 2);
+      }
+    if (e.start != null && e.end != null)
+      {
+        start[count] = labels.place(e.start);
+        end[count] = labels.place(e.end);
+      }
+    else
+      {
+        start[count] = e.starto;
+        end[count] = e.endo;
+      }
+    slot[count] = e.slot;
+    name[count] = e.name;
+    sig[count++] = e.sig;
+  }
+
+  /**
+   * @return true if an entry is given by offsets rather than labels
+   */
+  boolean hasFixedOffset()
+  {
+    for (int i = 0; i < count; i++)
+      if (start[i] >= 0)
+        return true;
+    return false;
+  }
+
+  void resolve(ClassEnv e)
+  {
+    for (int i = 0; i < count; i++)
+      {
+        e.addCPItem(name[i]);
+        e.addCPItem(sig[i]);
+      }
+  }
+
+  int size()
+  { return
+      (2 +                      // name_idx
+       4 +                      // attr_len
+       2 +                      // table len spec
+       10*count);               // table
+  }
+
+  void write(ClassEnv e, CP attr, CodeAttr ce, DataOutputStream out)
+    throws IOException, jasError
+  {
+    int pcs[] = labels.pcs(ce);
+    byte b[] = new byte[size()];
+    SideTable.put16(b, 0, e.getCPIndex(attr));
+    SideTable.put32(b, 2, 2 + 10*count);
+    SideTable.put16(b, 6, count);
+    for (int i = 0, pos = 8; i < count; i++, pos += 10)
+      {
+        int from = SideTable.pc(start[i], pcs);
+        SideTable.put16(b, pos, from);
+                                // this is the *length*, not
+                                // another offset
+        SideTable.put16(b, pos + 2, SideTable.pc(end[i], pcs) - from);
+        SideTable.put16(b, pos + 4, e.getCPIndex(name[i]));
+        SideTable.put16(b, pos + 6, e.getCPIndex(sig[i]));
+        SideTable.put16(b, pos + 8, slot[i]);
+      }
+    out.write(b);
+  }
+}
@@ -9,13 +9,12 @@
 package jas;
 
 import java.io.*;
-import java.util.*;
 
 public class LocalVarTypeTableAttr
 {
   static final CP attr = new AsciiCP("LocalVariableTypeTable");
 
-  Vector vars;
+  LocalVarList vars;
 
 
   /**
@@ -25,7 +24,7 @@ public class LocalVarTypeTableAttr
    * @see CodeAttr#setLocalVarTypeTable
    */
   public LocalVarTypeTableAttr()
-  { vars = new Vector(); }
+  { vars = new LocalVarList(); }
 
   /**
    * Add a LocalVar Entry to the attribute
@@ -33,37 +32,18 @@ public class LocalVarTypeTableAttr
    */
 
   public void addEntry(LocalVarEntry e)
-  { vars.addElement(e); }
+  { vars.add(e); }
 
   void resolve(ClassEnv e)
   {
     e.addCPItem(attr);
-
-    for (Enumeration en = vars.elements(); en.hasMoreElements();)
-      {
-        LocalVarEntry lv = (LocalVarEntry)(en.nextElement());
-        lv.resolve(e);
-      }
+    vars.resolve(e);
   }
 
   int size()
-  { return      
-      (2 +                      // name_idx
-       4 +                      // attr_len
-       2 +                      // line table len spec
-       10*(vars.size()));       // table
-  }
+  { return vars.size(); }
 
   void write(ClassEnv e, CodeAttr ce, DataOutputStream out)
     throws IOException, jasError
-  {
-    out.writeShort(e.getCPIndex(attr));
-    out.writeInt(2 + 10*(vars.size()));
-    out.writeShort(vars.size());
-    for (Enumeration en = vars.elements(); en.hasMoreElements();)
-      {
-	LocalVarEntry lv = (LocalVarEntry)(en.nextElement());
-	lv.write(e, ce, out);
-      }
-  }
+  { vars.write(e, attr, ce, out); }
 }
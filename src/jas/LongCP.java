@@ -19,7 +19,7 @@ public class LongCP extends CP implements RuntimeConstants
    */
   public LongCP(long n)
   {
-    uniq = ("Long: @#$" + n).intern();
+    uniq = "Long: @#$" + n;
     val = n;
   }
   void resolve(ClassEnv e) { return; }
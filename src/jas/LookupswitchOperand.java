@@ -0,0 +1,58 @@
+package jas;
+
+import java.io.*;
+
+class LookupswitchOperand extends InsnOperand
+{
+  LabelOrOffset dflt;
+  Insn source;
+  int match[];
+  LabelOrOffset jmp[];
+
+  LookupswitchOperand(Insn s, LabelOrOffset def, int m[], LabelOrOffset j[])
+  { dflt = def; jmp = j;  match = m;  source = s; }
+
+  void resolve (ClassEnv e) { return; }
+  int size(ClassEnv ce, CodeAttr code) throws jasError
+  {
+    int sz = 8;			// 4 + 4 + padding + jumptable
+    int source_pc = code.getPc(source);
+    if (((source_pc+1) % 4) != 0)
+      {
+				// need padding
+	sz += (4 - ((source_pc+1) % 4));
+      }
+
+    if (jmp != null)
+      { sz += 8*(jmp.length); }
+    return sz;
+  }
+
+  void write(ClassEnv e, CodeAttr ce, DataOutputStream out)
+    throws IOException, jasError
+  {
+    int pad;
+    int source_pc = ce.getPc(source);
+
+    if (((source_pc+1) % 4) != 0)
+      {				// need padding
+	pad = (4 - ((source_pc+1) % 4));
+	for (int x=0; x<pad; x++) out.writeByte(0);
+      }
+
+				// write offset to default
+				// as a 4 byte signed value
+    dflt.writeWideOffset(ce, source, out);
+    if (jmp == null)
+      { out.writeInt(0); }
+    else
+      {
+	out.writeInt(jmp.length);
+	for (int x=0; x<jmp.length; x++)
+	  {
+	    out.writeInt(match[x]);
+	    jmp[x].writeWideOffset(ce, source, out);
+	  }
+      }
+  }
+}
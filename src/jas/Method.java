@@ -122,6 +122,12 @@ public class Method
     }
   }
 
+  void prepare(ClassEnv e)
+    throws jasError
+  {
+    if (code != null) code.prepare(e, this);
+  }
+
   void write(ClassEnv e, DataOutputStream out)
     throws IOException, jasError
   {
@@ -139,7 +145,7 @@ public class Method
     if (annParamInvis != null) cnt++;
     if (annDef != null) cnt++;
     out.writeShort(cnt);
-    if (code != null) code.write(e, out);
+    if (code != null) code.write(e, this, out);
     if (excepts != null) excepts.write(e, out);
     if (sig != null) sig.write(e, out);
     if (depr != null) depr.write(e, out);
@@ -0,0 +1,67 @@
+/**
+ * A method handle constant, which loads a handle to a field or a
+ * method, for bootstrap methods and their arguments, or for ldc.
+ *
+ * @see RuntimeConstants#REF_invokeStatic
+ */
+
+package jas;
+
+import java.io.*;
+
+public class MethodHandleCP extends CP implements RuntimeConstants
+{
+  int kind;
+  CP ref;
+
+  /**
+   * @param kind One of the REF_ constants, which tells what the
+   *        handle does with the field or method
+   * @param ref A FieldCP for the kinds that get or put a field, an
+   *        InterfaceCP for REF_invokeInterface, and a MethodCP (or an
+   *        InterfaceCP, for a static or private method of an
+   *        interface) for the others
+   */
+  public MethodHandleCP(int kind, CP ref)
+    throws jasError
+  {
+    if (kind < REF_getField || kind > REF_invokeInterface)
+      throw new jasError("bad method handle kind " + kind);
+    boolean field = ref instanceof FieldCP;
+    if (field != (kind <= REF_putStatic)
+        || (kind == REF_invokeInterface) != (ref instanceof InterfaceCP)
+           && kind != REF_invokeStatic && kind != REF_invokeSpecial)
+      throw new jasError("a method handle of kind " + kind
+                         + " can't refer to "
+                         + (field ? "a field"
+                            : (ref instanceof InterfaceCP)
+                              ? "an interface method" : "a method"));
+    if (!field
+        && name(ref).equals("<init>") != (kind == REF_newInvokeSpecial))
+      throw new jasError("only a method handle of kind "
+                         + REF_newInvokeSpecial + " refers to <init>");
+    uniq = "Handle: @#$" + kind + "#$" + ref.getUniq();
+    this.kind = kind;
+    this.ref = ref;
+  }
+
+  private static String name(CP ref)
+  {
+    if (ref instanceof MethodCP)
+      return ((MethodCP)ref).nt.name.getUniq();
+    if (ref instanceof InterfaceCP)
+      return ((InterfaceCP)ref).nt.name.getUniq();
+    return "";
+  }
+
+  void resolve(ClassEnv e)
+  { e.addCPItem(ref); }
+
+  void write(ClassEnv e, DataOutputStream out)
+    throws IOException, jasError
+  {
+    out.writeByte(CONSTANT_METHODHANDLE);
+    out.writeByte(kind);
+    out.writeShort(e.getCPIndex(ref));
+  }
+}
@@ -0,0 +1,32 @@
+/**
+ * A method type constant, which loads the java.lang.invoke.MethodType
+ * of a method descriptor.
+ */
+
+package jas;
+
+import java.io.*;
+
+public class MethodTypeCP extends CP implements RuntimeConstants
+{
+  AsciiCP desc;
+
+  /**
+   * @param desc Method descriptor, such as (I)V
+   */
+  public MethodTypeCP(String desc)
+  {
+    uniq = "MethodType: @#$" + desc;
+    this.desc = new AsciiCP(desc);
+  }
+
+  void resolve(ClassEnv e)
+  { e.addCPItem(desc); }
+
+  void write(ClassEnv e, DataOutputStream out)
+    throws IOException, jasError
+  {
+    out.writeByte(CONSTANT_METHODTYPE);
+    out.writeShort(e.getCPIndex(desc));
+  }
+}
@@ -0,0 +1,81 @@
+/**
+ * MethodWriter encodes the methods of a class into separate byte
+ * arrays on a fork-join pool, once the constant pool has been laid
+ * out. By then all a method needs from its ClassEnv are the pool
+ * indices, which no longer change, so methods can be written
+ * independently of each other. The arrays are then written out in
+ * the order the methods were added.
+ * @see ClassEnv#setWritePool
+ */
+
+package jas;
+
+import java.io.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+class MethodWriter extends RecursiveAction
+{
+  private static final long serialVersionUID = 1L;
+
+  private ClassEnv env;
+  private Object methods[];     // Method's, or bytes already
+  private byte bytes[][];
+  private Exception failed[];
+  private int lo, hi;
+
+  private MethodWriter(ClassEnv env, Object methods[], byte bytes[][],
+                       Exception failed[], int lo, int hi)
+  {
+    this.env = env;
+    this.methods = methods;
+    this.bytes = bytes;
+    this.failed = failed;
+    this.lo = lo;
+    this.hi = hi;
+  }
+
+  static void write(ClassEnv e, ForkJoinPool pool, Object methods[],
+                    DataOutputStream out)
+    throws IOException, jasError
+  {
+    int n = methods.length;
+    byte bytes[][] = new byte[n][];
+    Exception failed[] = new Exception[n];
+    pool.invoke(new MethodWriter(e, methods, bytes, failed, 0, n));
+    for (int i = 0; i < n; i++)
+      {                         // the first failure, in method order
+        if (failed[i] instanceof jasError)
+          throw (jasError)failed[i];
+        if (failed[i] instanceof IOException)
+          throw (IOException)failed[i];
+        if (failed[i] != null)
+          throw (RuntimeException)failed[i];
+        out.write(bytes[i]);
+      }
+  }
+
+  protected void compute()
+  {
+    if (hi - lo > 1)
+      {
+        int mid = (lo + hi) >>> 1;
+        invokeAll(new MethodWriter(env, methods, bytes, failed, lo, mid),
+                  new MethodWriter(env, methods, bytes, failed, mid, hi));
+        return;
+      }
+    if (!(methods[lo] instanceof Method))
+      {
+        bytes[lo] = (byte[])methods[lo];
+        return;
+      }
+    try
+      {
+        ByteArrayOutputStream b = new ByteArrayOutputStream();
+        ((Method)methods[lo]).write(env, new DataOutputStream(b));
+        bytes[lo] = b.toByteArray();
+      }
+    catch (Exception ex)
+      { failed[lo] = ex; }
+  }
+}
@@ -0,0 +1,20 @@
+package jas;
+
+import java.io.*;
+
+class MultiarrayOperand extends InsnOperand
+{
+  CP cpe;
+  int sz;
+
+  MultiarrayOperand(CP cpe, int sz)
+  { this.cpe = cpe; this.sz = sz; }
+  void resolve(ClassEnv e) { e.addCPItem(cpe); }
+  int size(ClassEnv ce, CodeAttr code) { return 3; }
+  void write(ClassEnv e, CodeAttr ce, DataOutputStream out)
+    throws IOException, jasError
+  {
+    out.writeShort(e.getCPIndex(cpe));
+    out.writeByte((byte)(0xff & sz));
+  }
+}
@@ -23,7 +23,7 @@ public class NameTypeCP extends CP implements RuntimeConstants
    */
   public NameTypeCP(String name, String sig)
   {
-    uniq = ("NT : @#$%" + name + "SD#$"+ sig).intern();
+    uniq = "NT : @#$%" + name + "SD#$"+ sig;
     this.name = new AsciiCP(name);
     this.sig = new AsciiCP(sig);
   }
@@ -0,0 +1,39 @@
+/**
+ * The NestHost attribute of a class, which names the class whose
+ * nest it belongs to. The members of a nest can use each other's
+ * private fields and methods (from class file version 55 on), which
+ * saves the accessor methods that would otherwise be needed.
+ *
+ * @see NestMembersAttr
+ * @see ClassEnv#setNestHost
+ */
+
+package jas;
+
+import java.io.*;
+
+public class NestHostAttr
+{
+  static final CP attr = new AsciiCP("NestHost");
+  CP host;
+
+  /**
+   * @param host Name of the host class
+   */
+  public NestHostAttr(String host)
+  { this.host = new ClassCP(host); }
+
+  void resolve(ClassEnv e)
+  {
+    e.addCPItem(attr);
+    e.addCPItem(host);
+  }
+
+  void write(ClassEnv e, DataOutputStream out)
+    throws IOException, jasError
+  {
+    out.writeShort(e.getCPIndex(attr));
+    out.writeInt(2);
+    out.writeShort(e.getCPIndex(host));
+  }
+}
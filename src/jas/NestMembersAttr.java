@@ -0,0 +1,57 @@
+/**
+ * The NestMembers attribute of the host of a nest, which lists the
+ * other classes in it. Each of them names the host in its NestHost
+ * attribute.
+ *
+ * @see NestHostAttr
+ * @see ClassEnv#addNestMember
+ */
+
+package jas;
+
+import java.io.*;
+import java.util.Enumeration;
+import java.util.Hashtable;
+import java.util.Vector;
+
+public class NestMembersAttr
+{
+  static final CP attr = new AsciiCP("NestMembers");
+  private Vector list;
+  private Hashtable members;    // uniq -> ClassCP
+
+  public NestMembersAttr()
+  {
+    list = new Vector();
+    members = new Hashtable();
+  }
+
+  /**
+   * @return false if the class is a member already
+   */
+  boolean addMember(ClassCP member)
+  {
+    if (members.containsKey(member.getUniq()))
+      return false;
+    members.put(member.getUniq(), member);
+    list.addElement(member);
+    return true;
+  }
+
+  void resolve(ClassEnv e)
+  {
+    e.addCPItem(attr);
+    for (Enumeration en = list.elements(); en.hasMoreElements(); )
+      e.addCPItem((CP)en.nextElement());
+  }
+
+  void write(ClassEnv e, DataOutputStream out)
+    throws IOException, jasError
+  {
+    out.writeShort(e.getCPIndex(attr));
+    out.writeInt(2 + 2*list.size());
+    out.writeShort(list.size());
+    for (Enumeration en = list.elements(); en.hasMoreElements(); )
+      out.writeShort(e.getCPIndex((CP)en.nextElement()));
+  }
+}
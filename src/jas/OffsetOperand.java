@@ -0,0 +1,33 @@
+package jas;
+
+import java.io.*;
+
+class OffsetOperand extends InsnOperand {
+  int val;
+  boolean wide;
+  Insn parent;
+
+  OffsetOperand(Insn parent, int val) {
+    this(parent, val, false);
+  }
+
+  OffsetOperand(Insn parent, int val, boolean wide) {
+    this.parent = parent;
+    this.val = val;
+    this.wide = wide;
+  }
+
+  void resolve(ClassEnv e) { return; }
+
+  int size(ClassEnv e, CodeAttr ce) {
+    return wide ? 4 : 2;
+  }
+
+  void write(ClassEnv e, CodeAttr ce, DataOutputStream out)
+                              throws IOException, jasError {
+    if(wide)
+      out.writeInt(val);
+    else
+      out.writeShort(val);
+  }
+}
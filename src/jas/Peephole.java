@@ -0,0 +1,763 @@
+/**
+ * Peephole is an optional pass that makes the code of a method
+ * smaller without changing what it does. It works on the list of
+ * instructions and labels held by a CodeAttr, before pc's are
+ * assigned:
+ * <ul>
+ * <li> every instruction gets its shortest encoding (iload_0 for
+ *      iload 0, iconst_3 for sipush 3 or ldc 3, ldc for ldc_w, ...);
+ * <li> each switch becomes a tableswitch or a lookupswitch, by the
+ *      same space and time estimate javac uses;
+ * <li> jumps to a goto go straight to where the goto leads, and a
+ *      goto to a return or athrow becomes that instruction;
+ * <li> jumps to the next instruction are dropped;
+ * <li> code that can't be reached is dropped, also inside a handler
+ *      range;
+ * <li> a load and a store of the same local, and a push followed by
+ *      a pop, cancel out.
+ * </ul>
+ * Labels are never removed, so line numbers and local variable
+ * ranges stay attached to the code. If anything in the method refers
+ * to a fixed pc (numeric branch offsets, say), only the encodings
+ * are changed, as that keeps every instruction where it is.
+ * @see CodeAttr#setOptimize
+ */
+
+package jas;
+
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.Hashtable;
+import java.util.Vector;
+
+class Peephole implements RuntimeConstants
+{
+  private CodeAttr code;
+  private Vector insns;
+  private Hashtable where;      // label id -> position in insns
+  private Hashtable pinned;     // ids of labels control can reach
+                                // other than by falling through, or
+                                // that bound a handler range
+  private boolean changed;
+
+  Peephole(CodeAttr code)
+  { this.code = code; }
+
+  void run()
+    throws jasError
+  {
+    insns = code.insns;
+    for (int i = 0; i < insns.size(); i++)
+      shorten((Insn)insns.elementAt(i));
+    if (usesFixedOffsets(code))
+      return;
+    pickSwitches();
+
+    do
+      {
+        changed = false;
+        findLabels();
+        threadJumps();
+        dropJumpsToNext();
+        if (code.stackmap == null)
+          dropDeadCode();
+        collapsePairs(false);
+        dropEmptyCatches();
+                                // only once nothing cancels out any
+                                // more, or x = x would be missed
+        if (!changed && code.auto_limits)
+          collapsePairs(true);
+      }
+    while (changed);
+    code.insns = insns;
+  }
+
+  /**
+   * Only choose the kind of each switch, leaving the rest of the
+   * code alone.
+   */
+  void chooseSwitches()
+    throws jasError
+  {
+    insns = code.insns;
+    if (!usesFixedOffsets(code))
+      pickSwitches();
+  }
+
+  /**
+   * Only give every instruction its shortest encoding. When the code
+   * is short enough for any jump to reach, goto_w and jsr_w become
+   * goto and jsr as well. The caller makes sure nothing refers to a
+   * fixed pc.
+   * @param code_size size of the code as it is now
+   */
+  void shortenAll(int code_size)
+    throws jasError
+  {
+    insns = code.insns;
+    for (int i = 0; i < insns.size(); i++)
+      {
+        Insn insn = (Insn)insns.elementAt(i);
+        shorten(insn);
+        if ((insn.opc == opc_goto_w || insn.opc == opc_jsr_w)
+            && code_size <= 32767)
+          {
+            insn.opc = (insn.opc == opc_goto_w) ? opc_goto : opc_jsr;
+            ((LabelOperand)insn.operand).wide = false;
+          }
+      }
+  }
+
+  //
+  // shortest encodings; these don't move anything but the
+  // instruction itself, so they are always safe
+  //
+  private void shorten(Insn insn)
+    throws jasError
+  {
+    int opc = insn.opc;
+    InsnOperand op = insn.operand;
+
+    if (op instanceof UnsignedByteWideOperand)
+      {
+        UnsignedByteWideOperand u = (UnsignedByteWideOperand)op;
+        if (opc >= opc_iload && opc <= opc_aload && u.val <= 3)
+          setShort(insn, opc_iload_0 + (opc - opc_iload) * 4 + u.val);
+        else if (opc >= opc_istore && opc <= opc_astore && u.val <= 3)
+          setShort(insn, opc_istore_0 + (opc - opc_istore) * 4 + u.val);
+        else if (u.val <= 255)
+          u.Wide = false;
+      }
+    else if (op instanceof IincOperand)
+      {
+        IincOperand inc = (IincOperand)op;
+        if (inc.vindex <= 255 && inc.constt >= -128 && inc.constt <= 127)
+          inc.Wide = false;
+      }
+    else if (opc == opc_bipush)
+      shortenInt(insn, ((ByteOperand)op).val);
+    else if (opc == opc_sipush)
+      shortenInt(insn, ((OffsetOperand)op).val);
+    else if (op instanceof LdcOperand)
+      {
+        CP cp = ((LdcOperand)op).cpe;
+        if (cp instanceof IntegerCP
+            && ((IntegerCP)cp).val >= -128 && ((IntegerCP)cp).val <= 127)
+          shortenInt(insn, ((IntegerCP)cp).val);
+        else if (cp instanceof FloatCP && isSmall(((FloatCP)cp).val))
+          setShort(insn, opc_fconst_0 + (int)((FloatCP)cp).val);
+        else if (cp instanceof LongCP
+                 && (((LongCP)cp).val == 0 || ((LongCP)cp).val == 1))
+          setShort(insn, opc_lconst_0 + (int)((LongCP)cp).val);
+        else if (cp instanceof DoubleCP
+                 && Double.doubleToLongBits(((DoubleCP)cp).val)
+                    == Double.doubleToLongBits(0.0))
+          setShort(insn, opc_dconst_0);
+        else if (cp instanceof DoubleCP && ((DoubleCP)cp).val == 1.0)
+          setShort(insn, opc_dconst_1);
+        else if (opc == opc_ldc_w)
+          {                     // promoted back if the index is too
+                                // big when it is written
+            insn.opc = opc_ldc;
+            ((LdcOperand)op).wide = false;
+          }
+      }
+  }
+
+                                // 0.0f (not -0.0f), 1.0f and 2.0f
+  private static boolean isSmall(float f)
+  {
+    return Float.floatToIntBits(f) == Float.floatToIntBits(0.0f)
+      || f == 1.0f || f == 2.0f;
+  }
+
+  private static void shortenInt(Insn insn, int val)
+  {
+    if (val >= -1 && val <= 5)
+      setShort(insn, opc_iconst_0 + val);
+    else if (val >= -128 && val <= 127)
+      {
+        insn.opc = opc_bipush;
+        insn.operand = new ByteOperand(val);
+      }
+    else
+      {
+        insn.opc = opc_sipush;
+        insn.operand = new OffsetOperand(insn, val);
+      }
+  }
+
+  private static void setShort(Insn insn, int opc)
+  {
+    insn.opc = opc;
+    insn.operand = null;
+  }
+
+  static boolean usesFixedOffsets(CodeAttr code)
+  {
+    for (Enumeration en = code.insns.elements(); en.hasMoreElements();)
+      {
+        Insn insn = (Insn)en.nextElement();
+        InsnOperand op = insn.operand;
+        if (op instanceof RelativeOffsetOperand
+            || (op instanceof OffsetOperand && insn.opc != opc_sipush))
+          return true;
+        LabelOrOffset sw[] = switchTargets(insn);
+        if (sw != null)
+          for (int i = 0; i < sw.length; i++)
+            if (sw[i].getLabel() == null)
+              return true;
+      }
+    if (code.ctb != null)
+      for (int i = 0; i < code.ctb.count; i++)
+        if (code.ctb.start[i] >= 0)
+          return true;
+    if (code.lvar != null && code.lvar.vars.hasFixedOffset())
+      return true;
+    if (code.lvtyp != null && code.lvtyp.vars.hasFixedOffset())
+      return true;
+    if (code.stackmap != null)
+      for (Enumeration en = code.stackmap.frames.elements(); en.hasMoreElements();)
+        if (((VerifyFrame)en.nextElement()).hasFixedOffset())
+          return true;
+    return false;
+  }
+
+                                // default first, then the arms
+  static LabelOrOffset[] switchTargets(Insn insn)
+  {
+    LabelOrOffset dflt, jmp[];
+    if (insn.operand instanceof TableswitchOperand)
+      {
+        dflt = ((TableswitchOperand)insn.operand).dflt;
+        jmp = ((TableswitchOperand)insn.operand).jmp;
+      }
+    else if (insn.operand instanceof LookupswitchOperand)
+      {
+        dflt = ((LookupswitchOperand)insn.operand).dflt;
+        jmp = ((LookupswitchOperand)insn.operand).jmp;
+      }
+    else
+      return null;
+    int cnt = (jmp == null) ? 0 : jmp.length;
+    LabelOrOffset res[] = new LabelOrOffset[cnt + 1];
+    res[0] = dflt;
+    for (int i = 0; i < cnt; i++)
+      res[i + 1] = jmp[i];
+    return res;
+  }
+
+  private static void setSwitchTarget(Insn insn, int i, LabelOrOffset l)
+  {
+    if (insn.operand instanceof TableswitchOperand)
+      {
+        TableswitchOperand t = (TableswitchOperand)insn.operand;
+        if (i == 0) t.dflt = l; else t.jmp[i - 1] = l;
+      }
+    else
+      {
+        LookupswitchOperand t = (LookupswitchOperand)insn.operand;
+        if (i == 0) t.dflt = l; else t.jmp[i - 1] = l;
+      }
+  }
+
+  //
+  // tableswitch or lookupswitch, whichever costs less
+  //
+  private void pickSwitches()
+    throws jasError
+  {
+    for (int i = 0; i < insns.size(); i++)
+      {
+        Insn insn = (Insn)insns.elementAt(i);
+        if (insn instanceof Label) continue;
+        Insn pick = pickSwitch(insn);
+        if (pick != null)
+          insns.setElementAt(pick, i);
+      }
+  }
+
+                                // returns the switch to use instead,
+                                // or null to keep this one
+  private static Insn pickSwitch(Insn insn)
+  {
+    LabelOrOffset sw[] = switchTargets(insn);
+    if (sw == null) return null;
+    int keys[];
+    if (insn.operand instanceof TableswitchOperand)
+      {
+        int min = ((TableswitchOperand)insn.operand).min;
+        keys = new int[sw.length - 1];
+        for (int j = 0; j < keys.length; j++)
+          keys[j] = min + j;
+      }
+    else
+      keys = ((LookupswitchOperand)insn.operand).match;
+
+                                // the cases that don't just go to
+                                // the default, in key order
+    Label dflt = sw[0].getLabel();
+    long order[] = new long[sw.length - 1];
+    int n = 0;
+    for (int j = 1; j < sw.length; j++)
+      if (!sw[j].getLabel().id.equals(dflt.id))
+        order[n++] = ((long)keys[j - 1] << 32) | (j - 1);
+    long sorted[] = new long[n];
+    System.arraycopy(order, 0, sorted, 0, n);
+    Arrays.sort(sorted);
+    for (int j = 1; j < n; j++)
+      if ((int)(sorted[j] >> 32) == (int)(sorted[j - 1] >> 32))
+        return null;            // not a valid switch; leave it be
+
+                                // javac's estimate, in words and
+                                // compares
+    boolean table = false;
+    if (n > 0)
+      {
+        long lo = (int)(sorted[0] >> 32);
+        long hi = (int)(sorted[n - 1] >> 32);
+        long table_cost = 4 + (hi - lo + 1) + 3 * 3;
+        long lookup_cost = 3 + 2 * (long)n + 3 * (long)n;
+        table = table_cost <= lookup_cost;
+      }
+
+    if (table)
+      {
+        int lo = (int)(sorted[0] >> 32);
+        int hi = (int)(sorted[n - 1] >> 32);
+        LabelOrOffset jmp[] = new LabelOrOffset[hi - lo + 1];
+        for (int j = 0; j < jmp.length; j++)
+          jmp[j] = sw[0];
+        for (int j = 0; j < n; j++)
+          jmp[(int)(sorted[j] >> 32) - lo] = sw[(int)sorted[j] + 1];
+        if (insn.opc == opc_tableswitch
+            && ((TableswitchOperand)insn.operand).min == lo
+            && ((TableswitchOperand)insn.operand).max == hi)
+          return null;
+        return new TableswitchInsn(lo, hi, sw[0], jmp);
+      }
+
+    if (insn.opc == opc_lookupswitch && n == sw.length - 1)
+      {
+        boolean in_order = true;
+        for (int j = 1; j < n; j++)
+          if (keys[j] < keys[j - 1]) in_order = false;
+        if (in_order)
+          return null;
+      }
+    int match[] = new int[n];
+    LabelOrOffset jmp[] = new LabelOrOffset[n];
+    for (int j = 0; j < n; j++)
+      {
+        match[j] = (int)(sorted[j] >> 32);
+        jmp[j] = sw[(int)sorted[j] + 1];
+      }
+    return new LookupswitchInsn(sw[0], match, jmp);
+  }
+
+  private void findLabels()
+  {
+    where = new Hashtable();
+    pinned = new Hashtable();
+    for (int i = 0; i < insns.size(); i++)
+      {
+        Insn insn = (Insn)insns.elementAt(i);
+        if (insn instanceof Label)
+          where.put(((Label)insn).id, Integer.valueOf(i));
+        else if (insn.operand instanceof LabelOperand)
+          pin(((LabelOperand)insn.operand).target);
+        else
+          {
+            LabelOrOffset sw[] = switchTargets(insn);
+            if (sw != null)
+              for (int j = 0; j < sw.length; j++)
+                pin(sw[j].getLabel());
+          }
+      }
+    if (code.ctb != null)
+      for (int i = 0; i < code.ctb.labels.count; i++)
+        pin(code.ctb.labels.labels[i]);
+  }
+
+  private void pin(Label l)
+  {
+    if (l != null)
+      pinned.put(l.id, l);
+  }
+
+  private boolean isPinned(Insn insn)
+  {
+    return (insn instanceof Label) && pinned.containsKey(((Label)insn).id);
+  }
+
+  private int labelAt(Label l)
+    throws jasError
+  {
+    Integer i = (Integer)where.get(l.id);
+    if (i == null)
+      throw new jasError("label " + l.id + " is not in the code");
+    return i.intValue();
+  }
+
+                                // first instruction at or after i,
+                                // -1 if none
+  private int insnFrom(int i)
+  {
+    for (; i < insns.size(); i++)
+      if (!(insns.elementAt(i) instanceof Label))
+        return i;
+    return -1;
+  }
+
+  private Insn insnAt(Label l)
+    throws jasError
+  {
+    int i = insnFrom(labelAt(l));
+    return (i < 0) ? null : (Insn)insns.elementAt(i);
+  }
+
+  private static boolean isGoto(Insn insn)
+  {
+    return insn != null && insn.opc == opc_goto
+      && (insn.operand instanceof LabelOperand);
+  }
+
+  private static boolean isCondJump(int opc)
+  {
+    return (opc >= opc_ifeq && opc <= opc_if_acmpne)
+      || opc == opc_ifnull || opc == opc_ifnonnull;
+  }
+
+  private static boolean isUnconditional(int opc)
+  {
+    switch (opc)
+      {
+      case opc_goto: case opc_goto_w: case opc_ret:
+      case opc_tableswitch: case opc_lookupswitch:
+      case opc_ireturn: case opc_lreturn: case opc_freturn:
+      case opc_dreturn: case opc_areturn: case opc_return:
+      case opc_athrow:
+        return true;
+      default:
+        return false;
+      }
+  }
+
+                                // where a jump to l really ends up,
+                                // following goto's
+  private Label finalTarget(Label l)
+    throws jasError
+  {
+    Label start = l;
+    for (int n = 0; n < 32; n++)
+      {
+        Insn next = insnAt(l);
+        if (!isGoto(next))
+          break;
+        Label t = ((LabelOperand)next.operand).target;
+        if (t.id.equals(l.id) || t.id.equals(start.id))
+          break;                // loops forever; leave it be
+        l = t;
+      }
+    return l;
+  }
+
+  private void threadJumps()
+    throws jasError
+  {
+    for (int i = 0; i < insns.size(); i++)
+      {
+        Insn insn = (Insn)insns.elementAt(i);
+        if (insn instanceof Label) continue;
+        if (insn.operand instanceof LabelOperand
+            && (insn.opc == opc_goto || isCondJump(insn.opc)))
+          {
+            LabelOperand op = (LabelOperand)insn.operand;
+            Label t = finalTarget(op.target);
+            if (!t.id.equals(op.target.id))
+              {
+                op.target = t;
+                changed = true;
+              }
+            Insn dest = insnAt(t);
+            if (insn.opc == opc_goto && dest != null && dest.operand == null
+                && ((dest.opc >= opc_ireturn && dest.opc <= opc_return)
+                    || dest.opc == opc_athrow))
+              {
+                insns.setElementAt(new Insn(dest.opc), i);
+                changed = true;
+              }
+          }
+        else
+          {
+            LabelOrOffset sw[] = switchTargets(insn);
+            if (sw == null) continue;
+            for (int j = 0; j < sw.length; j++)
+              {
+                Label t = finalTarget(sw[j].getLabel());
+                if (!t.id.equals(sw[j].getLabel().id))
+                  {
+                    setSwitchTarget(insn, j, new LabelOrOffset(t));
+                    changed = true;
+                  }
+              }
+          }
+      }
+  }
+
+                                // nothing but labels between the
+                                // instruction at i and label l
+  private boolean isNext(int i, Label l)
+    throws jasError
+  {
+    int at = labelAt(l);
+    return at > i && insnFrom(i + 1) >= 0
+      && insnFrom(i + 1) == insnFrom(at);
+  }
+
+  private void dropJumpsToNext()
+    throws jasError
+  {
+    Vector res = new Vector(insns.size());
+    for (int i = 0; i < insns.size(); i++)
+      {
+        Insn insn = (Insn)insns.elementAt(i);
+        if (!(insn instanceof Label) && insn.operand instanceof LabelOperand
+            && (insn.opc == opc_goto || isCondJump(insn.opc))
+            && isNext(i, ((LabelOperand)insn.operand).target))
+          {
+            changed = true;
+            if (insn.opc == opc_goto)
+              continue;
+                                // the operands still have to go
+            if (insn.opc >= opc_if_icmpeq && insn.opc <= opc_if_acmpne)
+              res.addElement(new Insn(opc_pop2));
+            else
+              res.addElement(new Insn(opc_pop));
+            continue;
+          }
+        res.addElement(insn);
+      }
+    insns = res;
+    findLabels();
+  }
+
+                                // Everything that can't be reached
+                                // from the start goes: control gets
+                                // somewhere by a jump, a switch, by
+                                // falling through, or to a handler
+                                // whose range has an instruction
+                                // that is reached. Labels stay, so a
+                                // handler range just loses its dead
+                                // code, and dropEmptyCatches takes
+                                // it out if nothing is left.
+  private void dropDeadCode()
+    throws jasError
+  {
+    int n = insns.size();
+    boolean reached[] = new boolean[n + 1];
+    int work[] = new int[n + 1];
+    int nwork = reach(0, reached, work, 0);
+    while (nwork > 0)
+      {
+        while (nwork > 0)
+          {
+            int i = work[--nwork];
+            Insn insn = (Insn)insns.elementAt(i);
+            if (insn instanceof Label)
+              {
+                nwork = reach(i + 1, reached, work, nwork);
+                continue;
+              }
+            if (insn.operand instanceof LabelOperand)
+              nwork = reach(labelAt(((LabelOperand)insn.operand).target),
+                            reached, work, nwork);
+            LabelOrOffset sw[] = switchTargets(insn);
+            if (sw != null)
+              for (int j = 0; j < sw.length; j++)
+                nwork = reach(labelAt(sw[j].getLabel()), reached, work, nwork);
+            if (!isUnconditional(insn.opc))
+              nwork = reach(i + 1, reached, work, nwork);
+          }
+        Catchtable ctb = code.ctb;
+        for (int h = 0; ctb != null && h < ctb.count; h++)
+          {
+            int at = labelAt(ctb.labels.label(ctb.handler[h]));
+            if (reached[at])
+              continue;
+            int end = labelAt(ctb.labels.label(ctb.end[h]));
+            for (int i = labelAt(ctb.labels.label(ctb.start[h])); i < end; i++)
+              if (reached[i] && !(insns.elementAt(i) instanceof Label))
+                {
+                  nwork = reach(at, reached, work, nwork);
+                  break;
+                }
+          }
+      }
+
+    Vector res = new Vector(n);
+    for (int i = 0; i < n; i++)
+      {
+        Insn insn = (Insn)insns.elementAt(i);
+        if (insn instanceof Label || reached[i])
+          res.addElement(insn);
+        else
+          changed = true;
+      }
+    insns = res;
+    findLabels();
+  }
+
+  private static int reach(int i, boolean reached[], int work[], int nwork)
+  {
+    if (reached[i])
+      return nwork;
+    reached[i] = true;
+    if (i < reached.length - 1)
+      work[nwork++] = i;
+    return nwork;
+  }
+
+  //
+  // load/store and push/pop pairs
+  //
+                                // kind (0 int, 1 long, 2 float,
+                                // 3 double, 4 ref) and slot of a load
+                                // or store, or -1
+  private static int kind(Insn insn, int base, int base_0)
+  {
+    int opc = insn.opc;
+    if (opc >= base && opc <= base + 4
+        && insn.operand instanceof UnsignedByteWideOperand)
+      return opc - base;
+    if (opc >= base_0 && opc <= base_0 + 19)
+      return (opc - base_0) / 4;
+    return -1;
+  }
+
+  private static int slot(Insn insn, int base_0)
+  {
+    if (insn.operand instanceof UnsignedByteWideOperand)
+      return ((UnsignedByteWideOperand)insn.operand).val;
+    return (insn.opc - base_0) % 4;
+  }
+
+                                // words pushed by an instruction that
+                                // has no other effect, or 0
+  private static int pureWords(Insn insn)
+  {
+    int opc = insn.opc;
+    if (kind(insn, opc_iload, opc_iload_0) >= 0)
+      {
+        int k = kind(insn, opc_iload, opc_iload_0);
+        return (k == 1 || k == 3) ? 2 : 1;
+      }
+    switch (opc)
+      {
+      case opc_aconst_null:
+      case opc_iconst_m1: case opc_iconst_0: case opc_iconst_1:
+      case opc_iconst_2: case opc_iconst_3: case opc_iconst_4:
+      case opc_iconst_5: case opc_fconst_0: case opc_fconst_1:
+      case opc_fconst_2: case opc_bipush: case opc_sipush:
+      case opc_dup:
+        return 1;
+      case opc_lconst_0: case opc_lconst_1:
+      case opc_dconst_0: case opc_dconst_1:
+      case opc_dup2:
+        return 2;
+      case opc_ldc: case opc_ldc_w:
+        {                       // resolving anything else can fail
+          CP cp = ((LdcOperand)insn.operand).cpe;
+          return (cp instanceof StringCP || cp instanceof IntegerCP
+                  || cp instanceof FloatCP) ? 1 : 0;
+        }
+      case opc_ldc2_w:
+        return (((LdcOperand)insn.operand).cpe instanceof DynamicCP) ? 0 : 2;
+      default:
+        return 0;
+      }
+  }
+
+  private void collapsePairs(boolean dups)
+    throws jasError
+  {
+    for (int i = insnFrom(0); i >= 0; )
+      {
+        int j = insnFrom(i + 1);
+        if (j < 0) break;
+        boolean barrier = false;
+        for (int k = i + 1; k < j; k++)
+          if (isPinned((Insn)insns.elementAt(k)))
+            barrier = true;
+        Insn a = (Insn)insns.elementAt(i);
+        Insn b = (Insn)insns.elementAt(j);
+        if (barrier)
+          {
+            i = j;
+            continue;
+          }
+
+        int la = kind(a, opc_iload, opc_iload_0);
+        int sb = kind(b, opc_istore, opc_istore_0);
+        int sa = kind(a, opc_istore, opc_istore_0);
+        int lb = kind(b, opc_iload, opc_iload_0);
+        int words = pureWords(a);
+
+        if (la >= 0 && la == sb
+            && slot(a, opc_iload_0) == slot(b, opc_istore_0))
+          {                     // x = x
+            drop(i, j);
+            i = insnFrom(i);
+            continue;
+          }
+        if (words > 0 && ((words == 1 && b.opc == opc_pop)
+                          || (words == 2 && b.opc == opc_pop2)))
+          {
+            drop(i, j);
+            i = insnFrom(i);
+            continue;
+          }
+        if (dups && sa >= 0 && sa == lb && j == i + 1
+            && slot(a, opc_istore_0) == slot(b, opc_iload_0)
+            && b.operand != null)
+          {                     // x = ...; x  ->  dup; x = ...
+                                // only with no label between, as
+                                // the store would then come after
+                                // the start of a .var range or a
+                                // frame given by hand
+            insns.setElementAt(new Insn((sa == 1 || sa == 3)
+                                        ? opc_dup2 : opc_dup), i);
+            insns.setElementAt(a, j);
+            changed = true;
+          }
+        i = j;
+      }
+  }
+
+  private void drop(int i, int j)
+    throws jasError
+  {
+    insns.removeElementAt(j);
+    insns.removeElementAt(i);
+    changed = true;
+    findLabels();
+  }
+
+                                // a handler range with nothing left
+                                // in it is not allowed
+  private void dropEmptyCatches()
+    throws jasError
+  {
+    if (code.ctb == null) return;
+    Catchtable ctb = code.ctb;
+    for (int i = ctb.count - 1; i >= 0; i--)
+      {
+        int start = insnFrom(labelAt(ctb.labels.label(ctb.start[i])));
+        if (start < 0 || start > labelAt(ctb.labels.label(ctb.end[i])))
+          {
+            ctb.removeEntry(i);
+            changed = true;
+          }
+      }
+  }
+}
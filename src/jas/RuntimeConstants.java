@@ -23,6 +23,12 @@ public interface RuntimeConstants {
     public static final int CONSTANT_METHOD = 10;
     public static final int CONSTANT_INTERFACEMETHOD = 11;
     public static final int CONSTANT_NAMEANDTYPE = 12;
+    public static final int CONSTANT_METHODHANDLE = 15;
+    public static final int CONSTANT_METHODTYPE = 16;
+    public static final int CONSTANT_DYNAMIC = 17;
+    public static final int CONSTANT_INVOKEDYNAMIC = 18;
+    public static final int CONSTANT_MODULE = 19;
+    public static final int CONSTANT_PACKAGE = 20;
 
     // access flags
     public static final int ACC_PUBLIC       = 0x0001;
@@ -55,6 +61,17 @@ public interface RuntimeConstants {
     public static final int T_INT = 10;
     public static final int T_LONG = 11;
 
+    // kinds of method handles
+    public static final int REF_getField = 1;
+    public static final int REF_getStatic = 2;
+    public static final int REF_putField = 3;
+    public static final int REF_putStatic = 4;
+    public static final int REF_invokeVirtual = 5;
+    public static final int REF_invokeStatic = 6;
+    public static final int REF_invokeSpecial = 7;
+    public static final int REF_newInvokeSpecial = 8;
+    public static final int REF_invokeInterface = 9;
+
     // opcodes
     public static final int opc_try = -3;
     public static final int opc_dead = -2;
@@ -328,6 +345,6 @@ public interface RuntimeConstants {
         1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 3, 1, 1, 1, 1, 1,
         1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 3, 3, 3, 3, 3, 3, 3, 3,
         3, 3, 3, 3, 3, 3, 3, 3, 2, 99, 99, 1, 1, 1, 1, 1, 1, 3, 3, 3, 3, 3, 3,
-        3, 5, 3, 3, 2, 3, 1, 1, 3, 3, 1, 1, 0, 4, 3, 3, 5, 5, 1
+        3, 5, 5, 3, 2, 3, 1, 1, 3, 3, 1, 1, 0, 4, 3, 3, 5, 5, 1
     };
 }
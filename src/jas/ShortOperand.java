@@ -0,0 +1,14 @@
+package jas;
+
+import java.io.*;
+
+class ShortOperand extends InsnOperand
+{
+  int offset;
+  ShortOperand(int n) { offset = n; }
+  void resolve(ClassEnv e) { return; }
+  int size(ClassEnv ce, CodeAttr code) { return 2; }
+  void write(ClassEnv e, CodeAttr ce, DataOutputStream out)
+    throws IOException
+  { out.writeShort((short)offset); }
+}
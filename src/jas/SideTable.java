@@ -0,0 +1,98 @@
+/**
+ * SideTable holds the labels used by one of the tables a Code
+ * attribute carries next to its instructions (the catch table, line
+ * numbers and local variables), so that the table itself can keep its
+ * entries in int arrays rather than in a Vector of entry objects.
+ * <p>
+ * Each label is given a number the first time it is seen. A place in
+ * the code is then stored as an int: an offset if it is zero or more,
+ * or the complement of a label number if it is negative. When the
+ * table is written, every label is looked up once.
+ */
+
+package jas;
+
+import java.util.Hashtable;
+
+class SideTable
+{
+  Label labels[];
+  int count;
+  private Hashtable numbers;    // label id -> Integer
+
+  SideTable()
+  {
+    labels = new Label[8];
+    numbers = new Hashtable();
+  }
+
+  /**
+   * @return the place to store in a table for this label
+   */
+  int place(Label l)
+  {
+    Integer n = (Integer)numbers.get(l.id);
+    if (n == null)
+      {
+        if (count == labels.length)
+          {
+            Label tmp[] = new Label[count * 2];
+            System.arraycopy(labels, 0, tmp, 0, count);
+            labels = tmp;
+          }
+        labels[count] = l;
+        n = Integer.valueOf(count++);
+        numbers.put(l.id, n);
+      }
+    return ~n.intValue();
+  }
+
+  /**
+   * @return the label of a place, or null for an offset
+   */
+  Label label(int place)
+  { return (place < 0) ? labels[~place] : null; }
+
+  /**
+   * @return the pc of every label, by number
+   */
+  int[] pcs(CodeAttr ce) throws jasError
+  {
+    int res[] = new int[count];
+    for (int i = 0; i < count; i++)
+      res[i] = ce.getPc(labels[i]);
+    return res;
+  }
+
+  /**
+   * @return the pc of a place, given the pc's of the labels
+   */
+  static int pc(int place, int pcs[])
+  { return (place < 0) ? pcs[~place] : place; }
+
+  static int[] grow(int a[], int size)
+  {
+    int tmp[] = new int[size];
+    System.arraycopy(a, 0, tmp, 0, a.length);
+    return tmp;
+  }
+
+  static CP[] grow(CP a[], int size)
+  {
+    CP tmp[] = new CP[size];
+    System.arraycopy(a, 0, tmp, 0, a.length);
+    return tmp;
+  }
+
+  static void put16(byte b[], int pos, int v)
+  {
+    b[pos] = (byte)(v >> 8);
+    b[pos + 1] = (byte)v;
+  }
+
+  static void put32(byte b[], int pos, int v)
+  {
+    put16(b, pos, v >> 16);
+    put16(b, pos + 2, v);
+  }
+}
@@ -16,26 +16,31 @@ public class StackMap
 {
   static private final int JDK_SMF_MIN = 50;
 
-  static CP attr = null;
-  static boolean java6 = false;
+  CP attr;
+  boolean java6;
 
   protected Vector frames;
-
+  VerifyFrame initial;          // implicit frame at method entry,
+                                // for computed frames
+
+  /**
+   * The attribute kind is now chosen per instance from the ClassEnv
+   * version, so there is nothing left to reset between classes.
+   * @deprecated no longer needed
+   */
+  @Deprecated
   public static void reinit()
-  { attr = null;
-    java6 = false; }
+  { return; }
 
   protected StackMap(CP attr)
   { this.attr = attr;
+    java6 = false;
     frames = new Vector(); }
 
   public StackMap(ClassEnv e)
   {
-    if(attr == null)
-    {
-        if(e.version_hi >= JDK_SMF_MIN) java6 = true;
-        attr = new AsciiCP(java6 ? "StackMapTable" : "StackMap");
-    }
+    java6 = (e.version_hi >= JDK_SMF_MIN);
+    attr = new AsciiCP(java6 ? "StackMapTable" : "StackMap");
     frames = new Vector();
   }
 
@@ -50,6 +55,52 @@ public class StackMap
       return ((VerifyFrame)frames.lastElement()).getFrame(count);
   }
 
+  // frames given by hand are written relative to the frame the
+  // method starts with, made here from its descriptor
+  void setInitial(ClassEnv e, Method m) throws jasError
+  {
+    if (!java6 || initial != null)
+      return;
+    VerifyFrame f = new VerifyFrame(null);
+    if ((m.acc & RuntimeConstants.ACC_STATIC) == 0)
+      {
+        String cls = (e.this_class == null)
+          ? "" : ((ClassCP)e.this_class).name.getUniq();
+        if (m.name.getUniq().equals("<init>")
+            && !cls.equals("java/lang/Object"))
+          f.addLocalsItem(new VerificationTypeInfo("UninitializedThis"));
+        else
+          f.addLocalsItem(new VerificationTypeInfo("Object", cls));
+      }
+    String desc = m.desc.getUniq();
+    for (int i = 1; desc.charAt(i) != ')'; )
+      {
+        int end = Descriptor.skipType(desc, i);
+        String item;
+        switch (desc.charAt(i))
+          {
+          case 'F': item = "Float"; break;
+          case 'J': item = "Long"; break;
+          case 'D': item = "Double"; break;
+          case 'L':
+            f.addLocalsItem(new VerificationTypeInfo("Object",
+                              desc.substring(i + 1, end - 1)));
+            i = end;
+            continue;
+          case '[':
+            f.addLocalsItem(new VerificationTypeInfo("Object",
+                              desc.substring(i, end)));
+            i = end;
+            continue;
+          default: item = "Integer"; break;
+          }
+        f.addLocalsItem(new VerificationTypeInfo(item));
+        i = end;
+      }
+    f.setOffset(-1);
+    initial = f;
+  }
+
   // this method call BEFORE write method
   public int size(ClassEnv e, CodeAttr ce)
   {
@@ -83,7 +134,7 @@ public class StackMap
 
     // not fully compliant to the CLDC spec !
     bufout.writeShort(frames.size());
-    VerifyFrame prev = null;  // prepare for StackMapFrameAttr
+    VerifyFrame prev = initial;  // prepare for StackMapFrameAttr
     Enumeration en = frames.elements();
     while(en.hasMoreElements())
     {
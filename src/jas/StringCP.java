@@ -19,7 +19,7 @@ public class StringCP extends CP implements RuntimeConstants
    */
   public StringCP(String s)
   {
-    uniq = ("String: @#$" + s).intern();
+    uniq = "String: @#$" + s;
     val = new AsciiCP(s);
   }
   void resolve(ClassEnv e)  { e.addCPItem(val); }
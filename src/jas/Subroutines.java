@@ -0,0 +1,341 @@
+/**
+ * Subroutines is an optional pass that removes jsr and ret from the
+ * code of a method, so that it can be given a StackMapTable and be
+ * checked by the type checking verifier of class files of version 50
+ * and later (which doesn't allow them from version 51 on).
+ * <p>
+ * Every jsr gets its own copy of the subroutine it calls, and
+ * subroutines called from a subroutine get a copy in each copy of
+ * it. A jsr becomes an aconst_null, standing for the return address
+ * its subroutine stores away, and a goto to the copy; the ret of the
+ * copy becomes a goto back past that jump. The local that held the
+ * return address holds a null instead, so no local has to be
+ * renumbered. The handlers covering a subroutine are copied with it,
+ * and so are its line numbers; the local variable tables are left as
+ * they are, and describe the main body only.
+ * <p>
+ * The code of the method proper and of each subroutine is what can
+ * be reached from its start (by way of branches, handlers and the
+ * returns of the jsr's it makes), so code that can't be reached at
+ * all is dropped. A subroutine that calls itself, a ret that isn't
+ * the return of the subroutine it is in, and code that refers to
+ * fixed pc's are reported as errors.
+ * @see CodeAttr#setInlineSubroutines
+ */
+
+package jas;
+
+import java.util.Hashtable;
+import java.util.Vector;
+
+class Subroutines implements RuntimeConstants
+{
+  private ClassEnv env;
+  private CodeAttr code;
+  private CodeFlow flow;
+
+                                // subroutines, by number; the method
+                                // itself is number 0
+  private Vector entries;       // Integer, first instruction
+  private Vector owned;         // boolean[], instructions reached
+  private Hashtable numbers;    // entry -> Integer, the number
+
+                                // copies of subroutines, by number;
+                                // copy 0 is the method itself
+  private Vector copy_sub;      // Integer, subroutine number
+  private Vector copy_parent;   // Integer, copy holding the jsr
+  private Vector copy_labels;   // Hashtable, for Inliner.label()
+  private Vector copy_back;     // Label, where the ret goes to
+
+  private Vector gotos;         // the jumps put in, to make wide
+
+  Subroutines(ClassEnv env, CodeAttr code)
+  {
+    this.env = env;
+    this.code = code;
+  }
+
+  void run()
+    throws jasError
+  {
+    if (!usesJsr())
+      return;
+    if (Peephole.usesFixedOffsets(code))
+      throw new jasError("can't inline subroutines of code that refers to fixed offsets");
+    if (code.stackmap != null)
+      throw new jasError("can't inline subroutines of code with a stack map");
+
+    flow = new CodeFlow(code, code.assignPcs(env));
+    entries = new Vector();
+    owned = new Vector();
+    numbers = new Hashtable();
+    number(0);
+    for (int s = 0; s < entries.size(); s++)
+      owned.addElement(mark(((Integer)entries.elementAt(s)).intValue()));
+
+    copy_sub = new Vector();
+    copy_parent = new Vector();
+    copy_labels = new Vector();
+    copy_back = new Vector();
+    gotos = new Vector();
+    addCopy(0, -1);
+    Hashtable next = nextInsns();
+    Vector res = new Vector();
+    for (int c = 0; c < copy_sub.size(); c++)
+      emit(c, res);
+    code.insns = res;
+
+    if (code.assignPcs(env) > 32767)
+      for (int i = 0; i < gotos.size(); i++)
+        {
+          Insn g = (Insn)gotos.elementAt(i);
+          g.opc = opc_goto_w;
+          ((LabelOperand)g.operand).wide = true;
+        }
+    copyHandlers();
+    if (code.ltab != null)
+      copyLines(next);
+  }
+
+  private boolean usesJsr()
+  {
+    for (int i = 0; i < code.insns.size(); i++)
+      {
+        int opc = ((Insn)code.insns.elementAt(i)).opc;
+        if (opc == opc_jsr || opc == opc_jsr_w || opc == opc_ret)
+          return true;
+      }
+    return false;
+  }
+
+                                // the number of the subroutine
+                                // starting at an instruction
+  private int number(int entry)
+  {
+    Integer key = Integer.valueOf(entry);
+    Integer n = (Integer)numbers.get(key);
+    if (n == null)
+      {
+        n = Integer.valueOf(entries.size());
+        entries.addElement(key);
+        numbers.put(key, n);
+      }
+    return n.intValue();
+  }
+
+                                // the instructions a subroutine
+                                // reaches, noting the subroutines
+                                // it calls
+  private boolean[] mark(int entry)
+  {
+    boolean own[] = new boolean[flow.insns.length];
+    int stack[] = new int[flow.insns.length + 1];
+    int top = 0;
+    stack[top++] = entry;
+    boolean more = true;
+    while (more)
+      {
+        while (top > 0)
+          {
+            int i = stack[--top];
+            if (i >= flow.insns.length || own[i])
+              continue;
+            own[i] = true;
+            int opc = flow.insns[i].opc;
+            if (opc == opc_jsr || opc == opc_jsr_w)
+              number(flow.targets[i][0]);
+            else
+              {
+                int t[] = flow.targets[i];
+                for (int k = 0; t != null && k < t.length; k++)
+                  if (!own[t[k]])
+                    {
+                      if (top == stack.length)
+                        stack = SideTable.grow(stack, top * 2);
+                      stack[top++] = t[k];
+                    }
+                if (!flow.fallsThrough(i))
+                  continue;
+              }
+            if (top == stack.length)
+              stack = SideTable.grow(stack, top * 2);
+            stack[top++] = i + 1;
+          }
+                                // handlers of anything reached
+        more = false;
+        for (int h = 0; h < flow.hpc.length; h++)
+          if (!own[flow.hpc[h]] && covers(own, h))
+            {
+              stack[top++] = flow.hpc[h];
+              more = true;
+              break;
+            }
+      }
+    return own;
+  }
+
+  private boolean covers(boolean own[], int h)
+  {
+    for (int i = flow.hstart[h]; i < flow.hend[h]; i++)
+      if (own[i])
+        return true;
+    return false;
+  }
+
+  private int addCopy(int sub, int parent)
+  {
+    int c = copy_sub.size();
+    copy_sub.addElement(Integer.valueOf(sub));
+    copy_parent.addElement(Integer.valueOf(parent));
+    copy_labels.addElement(new Hashtable());
+    copy_back.addElement(new Label("jas_jsr:" + c));
+    return c;
+  }
+
+  private int sub(int c)
+  { return ((Integer)copy_sub.elementAt(c)).intValue(); }
+
+  private int parent(int c)
+  { return ((Integer)copy_parent.elementAt(c)).intValue(); }
+
+                                // a label as it is in a copy
+  private Label label(int c, Label l)
+  {
+    if (c == 0)
+      return l;
+    return Inliner.label((Hashtable)copy_labels.elementAt(c),
+                         "jas_jsr:" + c + ":", l);
+  }
+
+                                // the code of a copy, with every
+                                // label of the method
+  private void emit(int c, Vector res)
+    throws jasError
+  {
+    boolean own[] = (boolean[])owned.elementAt(sub(c));
+    int i = 0;
+    for (int pos = 0; pos < code.insns.size(); pos++)
+      {
+        Insn insn = (Insn)code.insns.elementAt(pos);
+        if (insn instanceof Label)
+          {
+            res.addElement(label(c, (Label)insn));
+            continue;
+          }
+        if (!own[i++])
+          continue;
+        int opc = insn.opc;
+        if (opc == opc_jsr || opc == opc_jsr_w)
+          {
+            LabelOperand l = (LabelOperand)insn.operand;
+            int sub = number(flow.targets[i - 1][0]);
+            for (int p = c; p >= 0; p = parent(p))
+              if (sub(p) == sub)
+                throw new jasError("subroutine at offset "
+                                   + flow.pcs[flow.targets[i - 1][0]]
+                                   + " calls itself");
+            int d = addCopy(sub, c);
+            res.addElement(new Insn(opc_aconst_null));
+            Insn g = new Insn((opc == opc_jsr) ? opc_goto : opc_goto_w,
+                              label(d, l.target), l.ref);
+            if (opc == opc_jsr)
+              gotos.addElement(g);
+            res.addElement(g);
+            res.addElement(copy_back.elementAt(d));
+          }
+        else if (opc == opc_ret)
+          {
+            checkRet(c, i - 1);
+            Insn g = new Insn(opc_goto, (Label)copy_back.elementAt(c), 0);
+            gotos.addElement(g);
+            res.addElement(g);
+          }
+        else if (c == 0)
+          res.addElement(insn);
+        else
+          res.addElement(Inliner.copy(insn,
+                                      (Hashtable)copy_labels.elementAt(c),
+                                      "jas_jsr:" + c + ":", 0));
+      }
+  }
+
+                                // a ret must return from the
+                                // subroutine of its copy, by the
+                                // local its first instruction stores
+                                // the return address into
+  private void checkRet(int c, int i)
+    throws jasError
+  {
+    int local = ((UnsignedByteWideOperand)flow.insns[i].operand).val;
+    if (c != 0)
+      {
+        int entry = ((Integer)entries.elementAt(sub(c))).intValue();
+        Insn first = flow.insns[entry];
+        if (first.opc >= opc_astore_0 && first.opc <= opc_astore_3
+            && first.opc - opc_astore_0 == local)
+          return;
+        if (first.opc == opc_astore
+            && ((UnsignedByteWideOperand)first.operand).val == local)
+          return;
+      }
+    throw new jasError("ret at offset " + flow.pcs[i] + " doesn't return"
+                       + " from a subroutine that stores its return address"
+                       + " in local " + local);
+  }
+
+                                // each handler in each copy holding
+                                // code it covers
+  private void copyHandlers()
+  {
+    Catchtable old = code.ctb;
+    if (old == null || old.count == 0)
+      return;
+    Catchtable ctb = new Catchtable();
+    for (int c = 0; c < copy_sub.size(); c++)
+      {
+        boolean own[] = (boolean[])owned.elementAt(sub(c));
+        for (int h = 0; h < old.count; h++)
+          if (covers(own, h))
+            ctb.addEntry(label(c, old.labels.label(old.start[h])),
+                         label(c, old.labels.label(old.end[h])),
+                         label(c, old.labels.label(old.handler[h])),
+                         old.catch_cpe[h]);
+      }
+    code.setCatchtable(ctb);
+  }
+
+                                // the line numbers of the copied
+                                // instructions
+  private void copyLines(Hashtable next)
+  {
+    LineTableAttr ltab = code.ltab;
+    int count = ltab.count;
+    for (int k = 0; k < count; k++)
+      {
+        Label l = ltab.labels.label(ltab.where[k]);
+        Integer n = (Integer)next.get(l.id);
+        if (n == null)
+          continue;
+        for (int c = 1; c < copy_sub.size(); c++)
+          if (((boolean[])owned.elementAt(sub(c)))[n.intValue()])
+            ltab.addEntry(label(c, l), ltab.line[k]);
+      }
+  }
+
+                                // label id -> Integer, the number of
+                                // the instruction that follows it
+  private Hashtable nextInsns()
+  {
+    Hashtable res = new Hashtable();
+    int i = 0;
+    for (int pos = 0; pos < code.insns.size(); pos++)
+      {
+        Insn insn = (Insn)code.insns.elementAt(pos);
+        if (!(insn instanceof Label))
+          i++;
+        else if (i < flow.insns.length)
+          res.put(((Label)insn).id, Integer.valueOf(i));
+      }
+    return res;
+  }
+}
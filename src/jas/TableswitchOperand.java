@@ -0,0 +1,55 @@
+package jas;
+
+import java.io.*;
+
+class TableswitchOperand extends InsnOperand
+{
+  int min, max;
+  LabelOrOffset dflt;
+  LabelOrOffset jmp[];
+  Insn source;
+
+  TableswitchOperand(Insn s,int min, int max, LabelOrOffset def,
+                     LabelOrOffset j[])
+  {
+    this.min = min; this.max = max;
+    dflt = def; jmp = j; source = s;
+  }
+
+  void resolve(ClassEnv e) { return; }
+
+  int size(ClassEnv ce, CodeAttr code)
+    throws jasError
+                                // the *real* reason for making it a
+                                // method..
+  {
+    int sz = 12;                // 4+4+4+jmptable+padding...
+    int source_pc = code.getPc(source);
+    if (((source_pc+1) % 4) != 0)
+      {                         // need padding
+        sz += (4 - ((source_pc+1) % 4));
+      }
+    if (jmp != null)
+      { sz += 4*(jmp.length); }
+    return sz;
+  }
+
+  void write(ClassEnv e, CodeAttr ce, DataOutputStream out)
+    throws IOException, jasError
+  {
+    int pad;
+    int source_pc = ce.getPc(source);
+
+    if (((source_pc+1) % 4) != 0)
+      {                         // need padding
+        pad = (4 - ((source_pc+1) % 4));
+        for (int x=0; x<pad; x++) out.writeByte(0);
+      }
+    dflt.writeWideOffset(ce, source, out);
+    out.writeInt(min);
+    out.writeInt(max);
+    int cnt = jmp.length;
+    for (int x=0; x<cnt; x++)
+      { jmp[x].writeWideOffset(ce, source, out); }
+  }
+}
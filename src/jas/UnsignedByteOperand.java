@@ -0,0 +1,20 @@
+package jas;
+
+import java.io.*;
+
+class UnsignedByteOperand extends InsnOperand
+{
+  int val;
+
+  UnsignedByteOperand(int n) { val = n; }
+  int size(ClassEnv ce, CodeAttr code)  { return 1; }
+  void write(ClassEnv e, CodeAttr ce, DataOutputStream out)
+    throws IOException, jasError
+  {
+    if (val >= 256)
+      throw
+        new jasError("Operand is too large (" +val+ ") for this instruction");
+    out.writeByte((byte)(0xff & val));
+  }
+  void resolve(ClassEnv e) { return; }
+}
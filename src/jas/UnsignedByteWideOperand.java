@@ -0,0 +1,39 @@
+                                // This (conditionally) adds a wide
+                                // prefix if the value is larger than
+                                // 256
+package jas;
+
+import java.io.*;
+
+class UnsignedByteWideOperand extends InsnOperand
+  implements RuntimeConstants
+{
+  int val;
+  boolean Wide;
+
+  UnsignedByteWideOperand(int n, boolean Wide)
+  {
+    val = n;
+    this.Wide = (Wide || val > 255);
+  }
+
+  int size(ClassEnv ce, CodeAttr code)
+  { return Wide ? 3: 1; }
+
+  void writePrefix(ClassEnv e, CodeAttr ce, DataOutputStream out)
+    throws IOException
+  {
+    if (Wide)
+      out.writeByte((byte)(opc_wide));
+  }
+
+  void write(ClassEnv e, CodeAttr ce, DataOutputStream out)
+    throws IOException
+  {
+    if (Wide)
+      out.writeShort((short)(0xffff & val));
+    else
+      out.writeByte((byte)(val & 0xff));
+  }
+  void resolve(ClassEnv e) { return; }
+}
@@ -10,10 +10,11 @@ import java.io.*;
 
 public class VerificationTypeInfo
 {
-  private int tag;
-  private ClassCP cls;
+  int tag;
+  ClassCP cls;
   private int index;
   private Label un_label;
+  private Insn un_insn;         // the new, for computed frames
 
   public VerificationTypeInfo(String item) throws jasError
   { this(item, null); }
@@ -52,6 +53,21 @@ public class VerificationTypeInfo
     else throw new jasError("Unknown item verification type : "+item);
   }
 
+  // Uninitialized, made by the given new instruction
+  VerificationTypeInfo(Insn new_insn)
+  { un_insn = new_insn;
+    tag = 8; }
+
+  boolean hasFixedOffset()
+  { return tag == 8 && un_label == null && un_insn == null; }
+
+  // the label of the new an Uninitialized item names, or null
+  Label uninitLabel()
+  { return (tag == 8) ? un_label : null; }
+
+  void setUninitLabel(Label l)
+  { un_label = l; }
+
   void resolve(ClassEnv e)
   {
     if(tag == 7) {
@@ -70,6 +86,8 @@ public class VerificationTypeInfo
 // the following is not fully compliant to the CLDC spec !
       if(un_label != null)
         un_label.writeOffset(ce, null, out);
+      else if(un_insn != null)
+        out.writeShort(ce.getPc(un_insn));
       else {
         if((index&0xFFFF) == index) // fits as a short
           out.writeShort(index);
@@ -80,10 +98,12 @@ public class VerificationTypeInfo
   }
 
 // next methods used for StackMapFrame attribute (jdk1.6)
-  private int getOffset(CodeAttr ce) throws jasError
+  int getOffset(CodeAttr ce) throws jasError
   {
     if(un_label != null)
         return un_label.getOffset(ce);
+    if(un_insn != null)
+        return ce.getPc(un_insn);
     return index;
   }
 
@@ -94,7 +114,7 @@ public class VerificationTypeInfo
         return false;
 
     if(tag == 7)
-        return e.getCPIndex(cls) == e.getCPIndex(cmp.cls);
+        return cls.getUniq().equals(cmp.cls.getUniq());
     if(tag == 8)
         return getOffset(ce) == cmp.getOffset(ce);
     return true;
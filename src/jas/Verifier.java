@@ -0,0 +1,1389 @@
+/**
+ * Verifier checks the code of a method the way the JVM's verifier
+ * would when the class is loaded, once the code has been laid out:
+ * that branches, switches and handlers go to instructions, that every
+ * instruction finds the types it wants on the stack and in the locals,
+ * that max_stack and max_locals are kept to, that constructors are
+ * called before objects are used, and that the code doesn't fall off
+ * its end.
+ * <p>
+ * Classes of version 51 and later (and of version 50 that have a
+ * StackMapTable) are checked as the type checking verifier does: the
+ * code is run through once, and the frames of the StackMapTable must
+ * be there at every branch target, handler and instruction that
+ * follows an unconditional jump, and must agree with the types the
+ * code leaves. Older classes are checked by inferring the types, as
+ * the old verifier does; code with jsr or ret is only checked for its
+ * structure there. Classes that can't be found don't count against
+ * the code, and interfaces are taken for java/lang/Object, as the
+ * verifier does.
+ * <p>
+ * Problems don't stop the check: at most one is kept for each
+ * instruction, and they are put into the CodeAttr in code order, with
+ * the line of the source they come from when it is known.
+ * @see ClassEnv#setVerify
+ */
+
+package jas;
+
+import java.util.Vector;
+
+class Verifier implements RuntimeConstants
+{
+                                // the types of FrameInference, and
+                                // the kinds of value some
+                                // instructions take
+  private static final String TOP = FrameInference.TOP;
+  private static final String INT = FrameInference.INT;
+  private static final String FLOAT = FrameInference.FLOAT;
+  private static final String LONG = FrameInference.LONG;
+  private static final String DOUBLE = FrameInference.DOUBLE;
+  private static final String HALF = FrameInference.HALF;
+  private static final String NULL = FrameInference.NULL;
+  private static final String UNINIT_THIS = FrameInference.UNINIT_THIS;
+  private static final String OBJECT = FrameInference.OBJECT;
+  private static final String THROWABLE = FrameInference.THROWABLE;
+  private static final String REF = "ref";  // any reference
+  private static final String ANY = "any";  // any one word
+  private static final String UNKNOWN = "L?;";  // merge of classes
+                                                // that can't be found
+
+  private ClassEnv env;
+  private CodeAttr ce;
+  private Method m;
+  private int code_size;
+  private CodeFlow flow;
+  private CachedHierarchy hier;
+  private String this_class, super_class, ret;
+  private int n, nlocals, max_stack, max_locals;
+
+  private String problem[];     // by instruction, the last for the
+                                // method as a whole
+  private int at;               // instruction being checked
+  private int reported;         // problems found so far
+
+                                // frames of the StackMapTable, or the
+                                // entry state of each leader
+  private String in_locals[][];
+  private String in_stack[][];
+  private boolean leader[];
+  private int work[];
+  private int nwork;
+  private boolean queued[];
+
+                                // state while running through code
+  private String locals[];
+  private String stack[];
+  private int sp;
+  private boolean locals_changed;
+
+                                // thrown to stop following a path
+                                // that can't be followed any further
+  private static final jasError STOP = new jasError("stop");
+
+  Verifier(ClassEnv e, CodeAttr ce, Method m, int code_size)
+  {
+    env = e;
+    this.ce = ce;
+    this.m = m;
+    this.code_size = code_size;
+  }
+
+  void run()
+    throws jasError
+  {
+    hier = env.getClassHierarchy();
+    this_class = ((ClassCP)env.this_class).name.getUniq();
+    super_class = (env.super_class == null)
+      ? null : ((ClassCP)env.super_class).name.getUniq();
+    hier.addClass(this_class, super_class,
+                  (env.class_access & ACC_INTERFACE) != 0);
+    String desc = m.desc.getUniq();
+    ret = desc.substring(desc.indexOf(')') + 1);
+    max_stack = ce.stack_size & 0xffff;
+    max_locals = ce.num_locals & 0xffff;
+    try
+      {
+        flow = new CodeFlow(ce, code_size);
+        n = flow.insns.length;
+        problem = new String[n + 1];
+        check();
+      }
+    catch (jasError ex)
+      {
+        if (problem == null)
+          problem = new String[1];
+        n = problem.length - 1;
+        at = n;
+        report(ex.getMessage());
+      }
+    ce.problems = problems();
+  }
+
+  private void check()
+    throws jasError
+  {
+    at = n;
+    if (n == 0)
+      {
+        report("the method has no code");
+        return;
+      }
+    if (code_size > 65535)
+      report("the code is longer than 65535 bytes");
+    nlocals = max_locals;
+    for (int i = 0; i < n; i++)
+      {
+        int end = CodeLimits.localsEnd(flow.insns[i]);
+        if (end > nlocals) nlocals = end;
+      }
+    locals = new String[nlocals + 1];
+    stack = new String[max_stack + 2];
+
+    boolean jsr = false;
+    boolean frames = env.version_hi >= 51
+      || (env.version_hi == 50 && ce.stackmap != null);
+    for (int i = 0; i < n; i++)
+      {
+        int opc = flow.insns[i].opc;
+        if (opc == opc_jsr || opc == opc_jsr_w || opc == opc_ret)
+          {
+            jsr = true;
+            at = i;
+            if (env.version_hi >= 51)
+              report(opcNames[opc].substring(4) + " isn't allowed in class"
+                     + " files of version 51 and later");
+          }
+      }
+    for (int h = 0; h < flow.hpc.length; h++)
+      {
+        at = flow.hstart[h];
+        if (flow.hstart[h] >= flow.hend[h])
+          report("a .catch range is empty");
+        else if (flow.htype[h] != null
+                 && !assignable(FrameInference.asDesc(FrameInference.className(flow.htype[h])),
+                                THROWABLE))
+          report("a .catch type isn't a java/lang/Throwable");
+      }
+    if (jsr && frames)
+      return;
+
+    if (initialFrame())
+      return;
+    if (frames)
+      checkFrames();
+    else if (!jsr)
+      infer();
+  }
+
+                                // the problems found, in the order of
+                                // the code
+  private Vector problems()
+  {
+    Vector res = new Vector();
+    int lpc[] = null, lline[] = null;
+    LineTableAttr lines = (ce.src_lines != null) ? ce.src_lines : ce.ltab;
+    if (lines != null)
+      try
+        {
+          lpc = lines.entryPcs(ce);
+          lline = lines.line;
+        }
+      catch (jasError ex)
+        { lpc = null; }
+    for (int i = 0; i < problem.length; i++)
+      if (problem[i] != null)
+        {
+          int pc = (i < n) ? flow.pcs[i] : 0;
+          String name = m.name.getUniq() + m.desc.getUniq();
+          jasError err = (i < n)
+            ? new jasError(name + " at offset " + pc + ": " + problem[i])
+            : new jasError(name + ": " + problem[i]);
+          if (lpc != null)
+            {
+              int best = -1;
+              for (int k = 0; k < lpc.length; k++)
+                if (lpc[k] <= pc && (best < 0 || lpc[k] >= lpc[best]))
+                  best = k;
+              if (best >= 0)
+                err.line = lline[best];
+            }
+          res.addElement(err);
+        }
+    return res;
+  }
+
+                                // keeps the first problem found with
+                                // the instruction being checked
+  private void report(String msg)
+  {
+    reported++;
+    if (problem[at] == null)
+      problem[at] = msg;
+  }
+
+  //
+  // the two ways of following the code
+  //
+
+                                // true if the descriptor is bad
+  private boolean initialFrame()
+  {
+    for (int i = 0; i < nlocals; i++)
+      locals[i] = TOP;
+    int slot = 0;
+    if ((m.acc & ACC_STATIC) == 0)
+      {
+        if (m.name.getUniq().equals("<init>")
+            && !this_class.equals("java/lang/Object"))
+          locals[slot++] = UNINIT_THIS;
+        else
+          locals[slot++] = FrameInference.asDesc(this_class);
+      }
+    String desc = m.desc.getUniq();
+    try
+      {
+        for (int i = 1; desc.charAt(i) != ')'; )
+          {
+            int next = Descriptor.skipType(desc, i);
+            String t = FrameInference.fromDesc(desc.substring(i, next));
+            if (slot + size(t) > max_locals)
+              {
+                at = n;
+                report("the arguments take more than max_locals ("
+                       + max_locals + ")");
+                return true;
+              }
+            setLocal(slot, t);
+            slot += size(t);
+            i = next;
+          }
+      }
+    catch (jasError ex)
+      {
+        at = n;
+        report(ex.getMessage());
+        return true;
+      }
+    sp = 0;
+    return false;
+  }
+
+                                // The type checker: each instruction
+                                // is looked at once, in order, with
+                                // the frame of the StackMapTable
+                                // where there is one
+  private void checkFrames()
+    throws jasError
+  {
+    in_locals = new String[n][];
+    in_stack = new String[n][];
+    if (ce.stackmap != null)
+      readFrames();
+    boolean live = true;
+    boolean quiet = false;      // the code up to the next frame has
+                                // nothing more to report
+    for (int i = 0; i < n; i++)
+      {
+        at = i;
+        if (in_locals[i] != null)
+          {
+            if (live)
+              matchFrame(i, locals, stack, sp, "the code");
+            System.arraycopy(in_locals[i], 0, locals, 0, nlocals);
+            sp = in_stack[i].length;
+            System.arraycopy(in_stack[i], 0, stack, 0, sp);
+            live = true;
+          }
+        else if (!live)
+          {
+            if (!quiet)
+              report("a stack map frame is needed after "
+                     + opcNames[flow.insns[i - 1].opc].substring(4));
+            quiet = true;
+            continue;
+          }
+        try
+          {
+            handlers(i);
+            step(i);
+            if (locals_changed)
+              handlers(i);
+          }
+        catch (jasError ex)
+          {
+            if (ex != STOP) throw ex;
+            live = false;
+            quiet = true;
+            continue;
+          }
+        int targets[] = flow.targets[i];
+        for (int t = 0; targets != null && t < targets.length; t++)
+          if (in_locals[targets[t]] == null)
+            report("there is no stack map frame at the branch target "
+                   + flow.pcs[targets[t]]);
+          else
+            matchFrame(targets[t], locals, stack, sp, "the branch");
+        live = flow.fallsThrough(i);
+        quiet = false;
+        if (live && i + 1 == n)
+          report("the code falls off the end of the method");
+      }
+  }
+
+                                // runs one instruction. The state it
+                                // leaves after a problem can't be
+                                // trusted, so that path isn't
+                                // followed any further.
+  private void step(int i)
+    throws jasError
+  {
+    int before = reported;
+    locals_changed = false;
+    execute(i);
+    if (reported != before)
+      throw STOP;
+  }
+
+                                // the frames, turned into the types
+                                // used here
+  private void readFrames()
+    throws jasError
+  {
+    at = n;
+    Vector frames = ce.stackmap.frames;
+    for (int k = 0; k < frames.size(); k++)
+      {
+        VerifyFrame f = (VerifyFrame)frames.elementAt(k);
+        int i;
+        try
+          { i = flow.at(f.getOffset(ce)); }
+        catch (jasError ex)
+          {
+            report("a stack map frame is at offset " + f.getOffset(ce)
+                   + ", which doesn't start an instruction");
+            continue;
+          }
+        if (i >= n)
+          {
+            at = n;
+            report("a stack map frame is past the end of the code");
+            continue;
+          }
+        at = i;
+        if (in_locals[i] != null)
+          {
+            report("there are two stack map frames for the same offset");
+            continue;
+          }
+        String l[] = new String[nlocals];
+        for (int j = 0; j < nlocals; j++)
+          l[j] = TOP;
+        int j = 0;
+        for (int v = 0; v < f.locals.size(); v++)
+          {
+            String t = type((VerificationTypeInfo)f.locals.elementAt(v));
+            if (j + size(t) > max_locals)
+              {
+                report("the stack map frame has more locals than"
+                       + " max_locals (" + max_locals + ")");
+                break;
+              }
+            l[j++] = t;
+            if (isWide(t))
+              l[j++] = HALF;
+          }
+        Vector s = new Vector();
+        for (int v = 0; v < f.stack.size(); v++)
+          {
+            String t = type((VerificationTypeInfo)f.stack.elementAt(v));
+            s.addElement(t);
+            if (isWide(t))
+              s.addElement(HALF);
+          }
+        if (s.size() > max_stack)
+          report("the stack map frame has more on the stack than"
+                 + " max_stack (" + max_stack + ")");
+        if (s.size() + 2 > stack.length)
+          stack = new String[s.size() + 2];
+        in_locals[i] = l;
+        in_stack[i] = new String[s.size()];
+        s.copyInto(in_stack[i]);
+      }
+  }
+
+  private String type(VerificationTypeInfo v)
+    throws jasError
+  {
+    switch (v.tag)
+      {
+      case 1: return INT;
+      case 2: return FLOAT;
+      case 3: return DOUBLE;
+      case 4: return LONG;
+      case 5: return NULL;
+      case 6: return UNINIT_THIS;
+      case 7: return FrameInference.asDesc(v.cls.name.getUniq());
+      case 8:
+        {
+          int pc = v.getOffset(ce);
+          try
+            {
+              int i = flow.at(pc);
+              if (i < n && flow.insns[i].opc == opc_new)
+                return "#" + i;
+            }
+          catch (jasError ex) { }
+          report("an Uninitialized item of the stack map frame names offset "
+                 + pc + ", where there is no new");
+          return TOP;
+        }
+      default: return TOP;
+      }
+  }
+
+                                // the state that comes to instruction
+                                // t must fit the frame there
+  private void matchFrame(int t, String l[], String s[], int ssp, String from)
+  {
+    String fs[] = in_stack[t];
+    if (fs.length != ssp)
+      {
+        report(from + " leaves " + ssp + " words on the stack, the stack"
+               + " map frame at offset " + flow.pcs[t] + " has "
+               + fs.length);
+        return;
+      }
+    for (int j = 0; j < ssp; j++)
+      if (!assignable(s[j], fs[j]))
+        {
+          report(from + " leaves " + name(s[j]) + " on the stack, the"
+                 + " stack map frame at offset " + flow.pcs[t]
+                 + " has " + name(fs[j]));
+          return;
+        }
+    String fl[] = in_locals[t];
+    for (int j = 0; j < nlocals; j++)
+      if (!assignable(l[j], fl[j]))
+        {
+          report(from + " leaves " + name(l[j]) + " in local " + j
+                 + ", the stack map frame at offset " + flow.pcs[t]
+                 + " has " + name(fl[j]));
+          return;
+        }
+  }
+
+                                // the handlers that cover instruction
+                                // i must take its locals
+  private void handlers(int i)
+    throws jasError
+  {
+    for (int h = 0; h < flow.hpc.length; h++)
+      if (i >= flow.hstart[h] && i < flow.hend[h])
+        {
+          String exc = (flow.htype[h] == null)
+            ? THROWABLE
+            : FrameInference.asDesc(FrameInference.className(flow.htype[h]));
+          String s[] = { exc };
+          int t = flow.hpc[h];
+          if (in_locals == null || in_locals[t] == null)
+            report("there is no stack map frame at the handler "
+                   + flow.pcs[t]);
+          else
+            matchFrame(t, locals, s, 1, "the .catch range");
+        }
+  }
+
+                                // The old verifier: types are
+                                // carried along the control flow
+                                // and merged where paths meet, as
+                                // FrameInference does
+  private void infer()
+    throws jasError
+  {
+    leader = new boolean[n + 1];
+    leader[0] = true;
+    for (int i = 0; i < n; i++)
+      {
+        int targets[] = flow.targets[i];
+        if (targets != null)
+          {
+            for (int t = 0; t < targets.length; t++)
+              leader[targets[t]] = true;
+            leader[i + 1] = true;
+          }
+        if (!flow.fallsThrough(i))
+          leader[i + 1] = true;
+      }
+    for (int h = 0; h < flow.hpc.length; h++)
+      leader[flow.hpc[h]] = leader[flow.hstart[h]]
+        = leader[flow.hend[h]] = true;
+
+    in_locals = new String[n][];
+    in_stack = new String[n][];
+    work = new int[n];
+    queued = new boolean[n];
+    at = 0;
+    merge(0, locals, stack, 0);
+    while (nwork > 0)
+      {
+        int b = work[--nwork];
+        queued[b] = false;
+        try
+          { run(b); }
+        catch (jasError ex)
+          { if (ex != STOP) throw ex; }
+      }
+  }
+
+  private void run(int b)
+    throws jasError
+  {
+    System.arraycopy(in_locals[b], 0, locals, 0, nlocals);
+    sp = in_stack[b].length;
+    System.arraycopy(in_stack[b], 0, stack, 0, sp);
+    for (int i = b; ; i++)
+      {
+        at = i;
+        catchAt(i);
+        step(i);
+        if (locals_changed)
+          catchAt(i);
+        int targets[] = flow.targets[i];
+        if (targets != null)
+          for (int t = 0; t < targets.length; t++)
+            merge(targets[t], locals, stack, sp);
+        if (!flow.fallsThrough(i))
+          return;
+        if (i + 1 >= n)
+          {
+            report("the code falls off the end of the method");
+            return;
+          }
+        if (leader[i + 1])
+          {
+            merge(i + 1, locals, stack, sp);
+            return;
+          }
+      }
+  }
+
+  private void catchAt(int i)
+    throws jasError
+  {
+    for (int h = 0; h < flow.hpc.length; h++)
+      if (i >= flow.hstart[h] && i < flow.hend[h])
+        {
+          String exc = (flow.htype[h] == null)
+            ? THROWABLE
+            : FrameInference.asDesc(FrameInference.className(flow.htype[h]));
+          String s[] = { exc };
+          merge(flow.hpc[h], locals, s, 1);
+        }
+  }
+
+  private void merge(int t, String l[], String s[], int ssp)
+  {
+    if (in_locals[t] == null)
+      {
+        in_locals[t] = new String[nlocals];
+        System.arraycopy(l, 0, in_locals[t], 0, nlocals);
+        in_stack[t] = new String[ssp];
+        System.arraycopy(s, 0, in_stack[t], 0, ssp);
+        queue(t);
+        return;
+      }
+    String old_s[] = in_stack[t];
+    if (old_s.length != ssp)
+      {
+        report("the stack holds " + ssp + " words here, and "
+               + old_s.length + " on another path to offset "
+               + flow.pcs[t]);
+        return;
+      }
+    boolean changed = false;
+    for (int j = 0; j < ssp; j++)
+      {
+        String mt = mergeTypes(old_s[j], s[j]);
+        if (mt != old_s[j])
+          {
+            old_s[j] = mt;
+            changed = true;
+          }
+      }
+    String old_l[] = in_locals[t];
+    for (int j = 0; j < nlocals; j++)
+      {
+        String mt = mergeTypes(old_l[j], l[j]);
+        if (mt != old_l[j])
+          {
+            old_l[j] = mt;
+            changed = true;
+          }
+      }
+    if (changed)
+      queue(t);
+  }
+
+  private void queue(int t)
+  {
+    if (queued[t]) return;
+    queued[t] = true;
+    work[nwork++] = t;
+  }
+
+                                // returns a itself if nothing changes
+  private String mergeTypes(String a, String b)
+  {
+    if (a == b || a.equals(b) || a == TOP) return a;
+    if (!isRef(a) || !isRef(b)) return TOP;
+    if (a == NULL) return b;
+    if (b == NULL) return a;
+    String mt;
+    if (a.charAt(0) == 'L' && b.charAt(0) == 'L')
+      try
+        {
+          mt = FrameInference.asDesc(
+            hier.getCommonSuperclass(a.substring(1, a.length() - 1),
+                                     b.substring(1, b.length() - 1)));
+        }
+      catch (jasError ex)
+        { mt = UNKNOWN; }
+    else if (a.charAt(0) == '[' && b.charAt(0) == '['
+             && isRef(a.substring(1)) && isRef(b.substring(1)))
+      mt = "[" + mergeTypes(a.substring(1), b.substring(1));
+    else
+      mt = OBJECT;
+    return mt.equals(a) ? a : mt;
+  }
+
+  //
+  // types
+  //
+
+  private static boolean isWide(String t)
+  { return t == LONG || t == DOUBLE; }
+
+  private static int size(String t)
+  { return isWide(t) ? 2 : 1; }
+
+                                // an initialized reference, or null
+  private static boolean isRef(String t)
+  {
+    char c = t.charAt(0);
+    return c == 'L' || c == '[' || t == NULL;
+  }
+
+  private static boolean isUninit(String t)
+  { return t == UNINIT_THIS || t.charAt(0) == '#'; }
+
+                                // a type as the messages name it
+  private String name(String t)
+  {
+    switch (t.charAt(0))
+      {
+      case 'I': return "int";
+      case 'F': return "float";
+      case 'J': return "long";
+      case 'D': return "double";
+      case 'N': return "null";
+      case 'U': return "the uninitialized this";
+      case '#':
+        return "an uninitialized object (new at offset "
+          + flow.pcs[Integer.parseInt(t.substring(1))] + ")";
+      case 'L':
+        if (t.equals(UNKNOWN)) return "a class that can't be found";
+        return t.substring(1, t.length() - 1);
+      case '[': return t;
+      case '-': return "half of a long or double";
+      default:
+        if (t == REF) return "a reference";
+        if (t == ANY) return "a value";
+        return "an unusable value";
+      }
+  }
+
+                                // a value of type a can be used where
+                                // one of type b is wanted
+  private boolean assignable(String a, String b)
+  {
+    if (a == b || a.equals(b) || b == TOP) return true;
+    if (b == REF) return isRef(a) || isUninit(a);
+    if (b == ANY) return a != HALF && a != TOP && !isWide(a);
+    if (b == NULL || !isRef(b) || !isRef(a)) return false;
+    if (a == NULL) return true;
+    return isSubtype(a, b);
+  }
+
+  private boolean isSubtype(String a, String b)
+  {
+    if (b.equals(OBJECT) || a.equals(UNKNOWN) || b.equals(UNKNOWN))
+      return true;
+    if (b.charAt(0) == '[')
+      {
+        if (a.charAt(0) != '[') return false;
+        String ca = a.substring(1), cb = b.substring(1);
+        if ((ca.charAt(0) == 'L' || ca.charAt(0) == '[')
+            && (cb.charAt(0) == 'L' || cb.charAt(0) == '['))
+          return isSubtype(ca, cb);
+        return ca.equals(cb);
+      }
+    String bn = b.substring(1, b.length() - 1);
+    if (a.charAt(0) == '[')
+      return bn.equals("java/lang/Cloneable")
+        || bn.equals("java/io/Serializable");
+    try
+      {
+        if (hier.isInterface(bn))
+          return true;
+        for (String c = a.substring(1, a.length() - 1); c != null;
+             c = hier.getSuperclass(c))
+          if (c.equals(bn))
+            return true;
+        return false;
+      }
+    catch (jasError ex)
+      { return true; }
+  }
+
+  //
+  // the stack and the locals
+  //
+
+  private void push(String t)
+  {
+    if (sp + size(t) > max_stack)
+      report("the stack grows past max_stack (" + max_stack + ")");
+    if (sp + 2 > stack.length)
+      {
+        String s[] = new String[stack.length * 2 + 2];
+        System.arraycopy(stack, 0, s, 0, sp);
+        stack = s;
+      }
+    stack[sp++] = t;
+    if (isWide(t))
+      stack[sp++] = HALF;
+  }
+
+                                // pops a value of type t, and returns
+                                // the type it had
+  private String pop(String t)
+    throws jasError
+  {
+    if (isWide(t))
+      {
+        if (sp < 2)
+          underflow();
+        sp -= 2;
+        if (stack[sp] != t || stack[sp + 1] != HALF)
+          {
+            report(name(t) + " expected on the stack, found "
+                   + name(stack[sp + 1] == HALF ? stack[sp] : stack[sp + 1]));
+            return t;
+          }
+        return t;
+      }
+    if (sp < 1)
+      underflow();
+    String w = stack[--sp];
+    if (!assignable(w, t))
+      {
+        report(name(t) + " expected on the stack, found "
+               + name(w == HALF && sp > 0 ? stack[sp - 1] : w));
+        return isRef(t) ? t : w;
+      }
+    return w;
+  }
+
+  private void underflow()
+    throws jasError
+  {
+    report("the stack underflows");
+    throw STOP;
+  }
+
+                                // the top words of the stack, which
+                                // mustn't split a long or double
+  private void words(int k)
+    throws jasError
+  {
+    if (sp < k)
+      underflow();
+    if (stack[sp - k] == HALF)
+      report(opcNames[flow.insns[at].opc].substring(4)
+             + " splits a long or double on the stack");
+  }
+
+  private String word()
+  { return stack[--sp]; }
+
+  private void push1(String w)
+  {
+    if (sp + 1 > max_stack)
+      report("the stack grows past max_stack (" + max_stack + ")");
+    if (sp + 1 > stack.length)
+      {
+        String s[] = new String[stack.length * 2 + 2];
+        System.arraycopy(stack, 0, s, 0, sp);
+        stack = s;
+      }
+    stack[sp++] = w;
+  }
+
+  private boolean slotOk(int slot, String t)
+  {
+    if (slot + size(t) <= max_locals)
+      return true;
+    report("local " + slot + " is past max_locals (" + max_locals + ")");
+    return false;
+  }
+
+  private void load(String t, int slot)
+    throws jasError
+  {
+    if (!slotOk(slot, t == null ? ANY : t))
+      {
+        push(t == null ? NULL : t);
+        return;
+      }
+    String v = locals[slot];
+    if (t == null)
+      {
+        if (!isRef(v) && !isUninit(v))
+          report("aload of local " + slot + ", which holds " + name(v));
+        push(isRef(v) || isUninit(v) ? v : NULL);
+        return;
+      }
+    if (v != t || (isWide(t) && locals[slot + 1] != HALF))
+      report(name(t) + " expected in local " + slot + ", found " + name(v));
+    push(t);
+  }
+
+  private void store(String t, int slot)
+    throws jasError
+  {
+    String v = pop(t == null ? REF : t);
+    if (slotOk(slot, t == null ? ANY : t))
+      setLocal(slot, t == null ? v : t);
+  }
+
+  private void setLocal(int slot, String t)
+  {
+    if (slot > 0 && isWide(locals[slot - 1]))
+      locals[slot - 1] = TOP;
+    if (slot + 1 < nlocals && locals[slot + 1] == HALF)
+      locals[slot + 1] = TOP;
+    locals[slot] = t;
+    if (isWide(t))
+      {
+        if (slot + 2 < nlocals && locals[slot + 2] == HALF)
+          locals[slot + 2] = TOP;
+        locals[slot + 1] = HALF;
+      }
+    locals_changed = true;
+  }
+
+                                // a constructor has been called on
+                                // t, so every copy of it is now a
+                                // real object
+  private void initialize(String t, String cls)
+  {
+    String init = FrameInference.asDesc(cls);
+    for (int j = 0; j < nlocals; j++)
+      if (locals[j].equals(t))
+        {
+          locals[j] = init;
+          locals_changed = true;
+        }
+    for (int j = 0; j < sp; j++)
+      if (stack[j].equals(t))
+        stack[j] = init;
+  }
+
+  //
+  // instructions
+  //
+
+  private static final String loadTypes[] =
+    { INT, LONG, FLOAT, DOUBLE, null };
+
+  private void execute(int i)
+    throws jasError
+  {
+    Insn insn = flow.insns[i];
+    int opc = insn.opc;
+    String t;
+
+    if (opc >= opc_iload_0 && opc <= opc_aload_3)
+      {
+        load(loadTypes[(opc - opc_iload_0) / 4], (opc - opc_iload_0) % 4);
+        return;
+      }
+    if (opc >= opc_istore_0 && opc <= opc_astore_3)
+      {
+        store(loadTypes[(opc - opc_istore_0) / 4], (opc - opc_istore_0) % 4);
+        return;
+      }
+
+    switch (opc)
+      {
+      case opc_nop:
+      case opc_goto:
+      case opc_goto_w:
+        break;
+
+      case opc_aconst_null: push(NULL); break;
+      case opc_iconst_m1: case opc_iconst_0: case opc_iconst_1:
+      case opc_iconst_2: case opc_iconst_3: case opc_iconst_4:
+      case opc_iconst_5: case opc_bipush: case opc_sipush:
+        push(INT); break;
+      case opc_lconst_0: case opc_lconst_1: push(LONG); break;
+      case opc_fconst_0: case opc_fconst_1: case opc_fconst_2:
+        push(FLOAT); break;
+      case opc_dconst_0: case opc_dconst_1: push(DOUBLE); break;
+
+      case opc_ldc: case opc_ldc_w: case opc_ldc2_w:
+        ldc(opc, FrameInference.cpOf(insn));
+        break;
+
+      case opc_iload: case opc_lload: case opc_fload: case opc_dload:
+      case opc_aload:
+        load(loadTypes[opc - opc_iload],
+             ((UnsignedByteWideOperand)insn.operand).val);
+        break;
+      case opc_istore: case opc_lstore: case opc_fstore: case opc_dstore:
+      case opc_astore:
+        store(loadTypes[opc - opc_istore],
+              ((UnsignedByteWideOperand)insn.operand).val);
+        break;
+      case opc_iinc:
+        {
+          int slot = ((IincOperand)insn.operand).vindex;
+          if (slotOk(slot, INT) && locals[slot] != INT)
+            report("int expected in local " + slot + ", found "
+                   + name(locals[slot]));
+          break;
+        }
+
+      case opc_iaload: array(INT, "[I", null); break;
+      case opc_baload: array(INT, "[B", "[Z"); break;
+      case opc_caload: array(INT, "[C", null); break;
+      case opc_saload: array(INT, "[S", null); break;
+      case opc_laload: array(LONG, "[J", null); break;
+      case opc_faload: array(FLOAT, "[F", null); break;
+      case opc_daload: array(DOUBLE, "[D", null); break;
+      case opc_aaload:
+        pop(INT);
+        t = pop(REF);
+        if (t == NULL)
+          push(NULL);
+        else if (t.charAt(0) == '[' && isRef(t.substring(1)))
+          push(t.substring(1));
+        else
+          {
+            report("an array of references expected on the stack, found "
+                   + name(t));
+            push(NULL);
+          }
+        break;
+
+      case opc_iastore: arrayStore(INT, "[I", null); break;
+      case opc_bastore: arrayStore(INT, "[B", "[Z"); break;
+      case opc_castore: arrayStore(INT, "[C", null); break;
+      case opc_sastore: arrayStore(INT, "[S", null); break;
+      case opc_lastore: arrayStore(LONG, "[J", null); break;
+      case opc_fastore: arrayStore(FLOAT, "[F", null); break;
+      case opc_dastore: arrayStore(DOUBLE, "[D", null); break;
+      case opc_aastore:
+        pop(REF);
+        pop(INT);
+        t = pop(REF);
+        if (t != NULL && !(t.charAt(0) == '[' && isRef(t.substring(1))))
+          report("an array of references expected on the stack, found "
+                 + name(t));
+        break;
+
+      case opc_pop: words(1); word(); break;
+      case opc_pop2: words(2); word(); word(); break;
+      case opc_dup:
+        words(1);
+        t = word();
+        push1(t); push1(t);
+        break;
+      case opc_dup_x1:
+        {
+          words(1); words(2);
+          String w1 = word(), w2 = word();
+          push1(w1); push1(w2); push1(w1);
+          break;
+        }
+      case opc_dup_x2:
+        {
+          words(1); words(3);
+          String w1 = word(), w2 = word(), w3 = word();
+          push1(w1); push1(w3); push1(w2); push1(w1);
+          break;
+        }
+      case opc_dup2:
+        {
+          words(2);
+          String w1 = word(), w2 = word();
+          push1(w2); push1(w1); push1(w2); push1(w1);
+          break;
+        }
+      case opc_dup2_x1:
+        {
+          words(2); words(3);
+          String w1 = word(), w2 = word(), w3 = word();
+          push1(w2); push1(w1); push1(w3); push1(w2); push1(w1);
+          break;
+        }
+      case opc_dup2_x2:
+        {
+          words(2); words(4);
+          String w1 = word(), w2 = word();
+          String w3 = word(), w4 = word();
+          push1(w2); push1(w1); push1(w4); push1(w3); push1(w2); push1(w1);
+          break;
+        }
+      case opc_swap:
+        {
+          words(1); words(2);
+          String w1 = word(), w2 = word();
+          push1(w1); push1(w2);
+          break;
+        }
+
+      case opc_iadd: case opc_isub: case opc_imul: case opc_idiv:
+      case opc_irem: case opc_ishl: case opc_ishr: case opc_iushr:
+      case opc_iand: case opc_ior: case opc_ixor:
+        pop(INT); pop(INT); push(INT); break;
+      case opc_ladd: case opc_lsub: case opc_lmul: case opc_ldiv:
+      case opc_lrem: case opc_land: case opc_lor: case opc_lxor:
+        pop(LONG); pop(LONG); push(LONG); break;
+      case opc_lshl: case opc_lshr: case opc_lushr:
+        pop(INT); pop(LONG); push(LONG); break;
+      case opc_fadd: case opc_fsub: case opc_fmul: case opc_fdiv:
+      case opc_frem:
+        pop(FLOAT); pop(FLOAT); push(FLOAT); break;
+      case opc_dadd: case opc_dsub: case opc_dmul: case opc_ddiv:
+      case opc_drem:
+        pop(DOUBLE); pop(DOUBLE); push(DOUBLE); break;
+      case opc_ineg: case opc_i2b: case opc_i2c: case opc_i2s:
+        pop(INT); push(INT); break;
+      case opc_lneg: pop(LONG); push(LONG); break;
+      case opc_fneg: pop(FLOAT); push(FLOAT); break;
+      case opc_dneg: pop(DOUBLE); push(DOUBLE); break;
+      case opc_i2l: pop(INT); push(LONG); break;
+      case opc_i2f: pop(INT); push(FLOAT); break;
+      case opc_i2d: pop(INT); push(DOUBLE); break;
+      case opc_l2i: pop(LONG); push(INT); break;
+      case opc_l2f: pop(LONG); push(FLOAT); break;
+      case opc_l2d: pop(LONG); push(DOUBLE); break;
+      case opc_f2i: pop(FLOAT); push(INT); break;
+      case opc_f2l: pop(FLOAT); push(LONG); break;
+      case opc_f2d: pop(FLOAT); push(DOUBLE); break;
+      case opc_d2i: pop(DOUBLE); push(INT); break;
+      case opc_d2l: pop(DOUBLE); push(LONG); break;
+      case opc_d2f: pop(DOUBLE); push(FLOAT); break;
+      case opc_lcmp: pop(LONG); pop(LONG); push(INT); break;
+      case opc_fcmpl: case opc_fcmpg: pop(FLOAT); pop(FLOAT); push(INT); break;
+      case opc_dcmpl: case opc_dcmpg:
+        pop(DOUBLE); pop(DOUBLE); push(INT); break;
+
+      case opc_ifeq: case opc_ifne: case opc_iflt: case opc_ifge:
+      case opc_ifgt: case opc_ifle:
+      case opc_tableswitch: case opc_lookupswitch:
+        pop(INT); break;
+      case opc_if_icmpeq: case opc_if_icmpne: case opc_if_icmplt:
+      case opc_if_icmpge: case opc_if_icmpgt: case opc_if_icmple:
+        pop(INT); pop(INT); break;
+      case opc_ifnull: case opc_ifnonnull:
+        pop(REF); break;
+      case opc_if_acmpeq: case opc_if_acmpne:
+        pop(REF); pop(REF); break;
+
+      case opc_ireturn: case opc_lreturn: case opc_freturn:
+      case opc_dreturn: case opc_areturn: case opc_return:
+        doReturn(opc);
+        break;
+      case opc_athrow:
+        pop(THROWABLE);
+        break;
+
+      case opc_getstatic: case opc_putstatic:
+      case opc_getfield: case opc_putfield:
+        field(opc, FrameInference.cpOf(insn));
+        break;
+
+      case opc_invokevirtual: case opc_invokespecial:
+      case opc_invokestatic: case opc_invokeinterface:
+      case opc_invokedynamic:
+        invoke(opc, FrameInference.cpOf(insn));
+        break;
+
+      case opc_new:
+        t = FrameInference.className(FrameInference.cpOf(insn));
+        if (t.startsWith("["))
+          report("new of an array class");
+        push("#" + i);
+        break;
+      case opc_newarray:
+        {
+          int type = ((UnsignedByteOperand)insn.operand).val;
+          pop(INT);
+          if (type < T_BOOLEAN || type > T_LONG)
+            {
+              report("newarray of an unknown type " + type);
+              throw STOP;
+            }
+          push("[" + "ZCFDBSIJ".charAt(type - T_BOOLEAN));
+          break;
+        }
+      case opc_anewarray:
+        pop(INT);
+        push("[" + FrameInference.asDesc(
+               FrameInference.className(FrameInference.cpOf(insn))));
+        break;
+      case opc_multianewarray:
+        {
+          int dims = ((MultiarrayOperand)insn.operand).sz;
+          t = FrameInference.className(FrameInference.cpOf(insn));
+          int k = 0;
+          while (k < t.length() && t.charAt(k) == '[')
+            k++;
+          if (dims < 1 || dims > k)
+            report("multianewarray of " + dims + " dimensions of " + t);
+          for (int d = 0; d < dims; d++)
+            pop(INT);
+          push(FrameInference.asDesc(t));
+          break;
+        }
+      case opc_checkcast:
+        pop(REF);
+        push(FrameInference.asDesc(
+               FrameInference.className(FrameInference.cpOf(insn))));
+        break;
+      case opc_instanceof:
+        pop(REF);
+        push(INT);
+        break;
+      case opc_arraylength:
+        t = pop(REF);
+        if (t != NULL && t.charAt(0) != '[')
+          report("an array expected on the stack, found " + name(t));
+        push(INT);
+        break;
+      case opc_monitorenter:
+      case opc_monitorexit:
+        pop(REF);
+        break;
+
+      default:
+        report(opcNames[opc].substring(4) + " isn't allowed in a class file");
+        throw STOP;
+      }
+  }
+
+  private void ldc(int opc, CP cp)
+    throws jasError
+  {
+    String t;
+    int version = 45;
+    if (cp instanceof IntegerCP) t = INT;
+    else if (cp instanceof FloatCP) t = FLOAT;
+    else if (cp instanceof LongCP) t = LONG;
+    else if (cp instanceof DoubleCP) t = DOUBLE;
+    else if (cp instanceof StringCP) t = "Ljava/lang/String;";
+    else if (cp instanceof ClassCP)
+      {
+        t = "Ljava/lang/Class;";
+        version = 49;
+      }
+    else if (cp instanceof MethodHandleCP)
+      {
+        t = "Ljava/lang/invoke/MethodHandle;";
+        version = 51;
+      }
+    else if (cp instanceof MethodTypeCP)
+      {
+        t = "Ljava/lang/invoke/MethodType;";
+        version = 51;
+      }
+    else if (cp instanceof DynamicCP)
+      {
+        t = FrameInference.fromDesc(Descriptor.of(cp));
+        version = 55;
+      }
+    else
+      {
+        report("ldc of a constant that can't be loaded");
+        throw STOP;
+      }
+    if (env.version_hi < version)
+      report("ldc of this constant needs class file version " + version);
+    if ((opc == opc_ldc2_w) != isWide(t))
+      report(isWide(t) ? "a long or double is loaded by ldc2_w"
+                       : "only a long or double is loaded by ldc2_w");
+    push(t);
+  }
+
+                                // an array load, of the given value
+                                // type from an array of one of the
+                                // given types
+  private void array(String t, String a1, String a2)
+    throws jasError
+  {
+    pop(INT);
+    checkArray(pop(REF), a1, a2);
+    push(t);
+  }
+
+  private void arrayStore(String t, String a1, String a2)
+    throws jasError
+  {
+    pop(t);
+    pop(INT);
+    checkArray(pop(REF), a1, a2);
+  }
+
+  private void checkArray(String a, String a1, String a2)
+  {
+    if (a != NULL && !a.equals(a1) && (a2 == null || !a.equals(a2)))
+      report(a1 + " expected on the stack, found " + name(a));
+  }
+
+  private void doReturn(int opc)
+    throws jasError
+  {
+    String want;
+    switch (ret.charAt(0))
+      {
+      case 'V': want = null; break;
+      case 'J': want = LONG; break;
+      case 'F': want = FLOAT; break;
+      case 'D': want = DOUBLE; break;
+      case 'L': case '[': want = ret; break;
+      default: want = INT; break;
+      }
+    int expect = (want == null) ? opc_return
+      : (want == INT) ? opc_ireturn : (want == LONG) ? opc_lreturn
+      : (want == FLOAT) ? opc_freturn : (want == DOUBLE) ? opc_dreturn
+      : opc_areturn;
+    if (opc != expect)
+      {
+        report(opcNames[opc].substring(4) + " in a method that returns "
+               + ret);
+        return;
+      }
+    if (want != null)
+      pop(want);
+    else if (m.name.getUniq().equals("<init>"))
+      for (int j = 0; j < nlocals; j++)
+        if (locals[j] == UNINIT_THIS)
+          {
+            report("the constructor returns without calling another"
+                   + " constructor");
+            break;
+          }
+  }
+
+  private void field(int opc, CP cp)
+    throws jasError
+  {
+    if (!(cp instanceof FieldCP))
+      {
+        report(opcNames[opc].substring(4) + " needs a field reference");
+        throw STOP;
+      }
+    FieldCP f = (FieldCP)cp;
+    String desc = f.nt.sig.getUniq();
+    String t = FrameInference.fromDesc(desc);
+    String owner = f.clazz.name.getUniq();
+    if (opc == opc_putstatic || opc == opc_putfield)
+      pop(t);
+    if (opc == opc_getfield || opc == opc_putfield)
+      {
+        String o = pop(REF);
+                                // a constructor may set the fields
+                                // of its class before calling super
+        if (!(o == UNINIT_THIS && opc == opc_putfield
+              && owner.equals(this_class))
+            && !assignable(o, FrameInference.asDesc(owner)))
+          report(owner + " expected on the stack, found " + name(o));
+      }
+    if (opc == opc_getstatic || opc == opc_getfield)
+      push(t);
+  }
+
+  private void invoke(int opc, CP cp)
+    throws jasError
+  {
+    String desc = Descriptor.of(cp);
+    if (desc == null || !desc.startsWith("("))
+      {
+        report(opcNames[opc].substring(4) + " needs a method reference");
+        throw STOP;
+      }
+    String name = null, owner = null;
+    if (cp instanceof MethodCP)
+      {
+        name = ((MethodCP)cp).nt.name.getUniq();
+        owner = ((MethodCP)cp).clazz.name.getUniq();
+      }
+    else if (cp instanceof InterfaceCP)
+      {
+        name = ((InterfaceCP)cp).nt.name.getUniq();
+        owner = ((InterfaceCP)cp).clazz.name.getUniq();
+      }
+    boolean init = "<init>".equals(name);
+    if (name != null && name.startsWith("<")
+        && !(init && opc == opc_invokespecial))
+      report(opcNames[opc].substring(4) + " of " + name);
+
+                                // the arguments, last first
+    Vector args = new Vector();
+    for (int i = 1; desc.charAt(i) != ')'; )
+      {
+        int next = Descriptor.skipType(desc, i);
+        args.addElement(FrameInference.fromDesc(desc.substring(i, next)));
+        i = next;
+      }
+    for (int k = args.size() - 1; k >= 0; k--)
+      pop((String)args.elementAt(k));
+
+    if (opc != opc_invokestatic && opc != opc_invokedynamic)
+      {
+        String o = pop(REF);
+        if (init)
+          {
+            String cls = null;
+            if (o == UNINIT_THIS)
+              {
+                if (!owner.equals(this_class) && !owner.equals(super_class))
+                  report("the constructor of " + this_class + " calls"
+                         + " the constructor of " + owner);
+                cls = this_class;
+              }
+            else if (o.charAt(0) == '#')
+              {
+                cls = FrameInference.className(FrameInference.cpOf(
+                        flow.insns[Integer.parseInt(o.substring(1))]));
+                if (!cls.equals(owner))
+                  report("the constructor of " + owner + " is called"
+                         + " on a new " + cls);
+              }
+            else
+              report("a constructor is called on " + name(o)
+                     + ", which is already initialized");
+            if (cls != null)
+              initialize(o, cls);
+          }
+        else if (owner != null && !assignable(o, FrameInference.asDesc(owner)))
+          report(owner + " expected on the stack, found " + name(o));
+      }
+    String r = desc.substring(desc.indexOf(')') + 1);
+    if (!r.equals("V"))
+      push(FrameInference.fromDesc(r));
+  }
+}
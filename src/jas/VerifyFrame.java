@@ -25,9 +25,10 @@ public class VerifyFrame
   private static final int APPEND_FRAME_S0_max  = 254;
   private static final int FULL_FRAME           = 255;
 
-  private Vector stack, locals;
+  Vector stack, locals;
   private int offset;
   private Label off_label;
+  private Insn off_insn;
   private boolean offset_defined;
 
   public VerifyFrame(Vector InitialFrame)
@@ -49,6 +50,17 @@ public class VerifyFrame
   { defineOffset();
     off_label = label; }
 
+  // frame at the start of an instruction, for computed frames
+  void setOffset(Insn insn) throws jasError
+  { defineOffset();
+    off_insn = insn; }
+
+  void addStackItem(VerificationTypeInfo vi)
+  { stack.add(vi); }
+
+  void addLocalsItem(VerificationTypeInfo vi)
+  { locals.add(vi); }
+
   public void addStackItem(String item, String val) throws jasError
   { stack.add(new VerificationTypeInfo(item, val)); }
 
@@ -58,6 +70,22 @@ public class VerifyFrame
   public boolean haveOffset()
   { return offset_defined; }
 
+  // true if the frame is tied to a pc rather than to the code
+  boolean hasFixedOffset()
+  {
+    if(offset_defined && off_label == null && off_insn == null)
+      return true;
+    Enumeration en = stack.elements();
+    while(en.hasMoreElements())
+      if(((VerificationTypeInfo)en.nextElement()).hasFixedOffset())
+        return true;
+    en = locals.elements();
+    while(en.hasMoreElements())
+      if(((VerificationTypeInfo)en.nextElement()).hasFixedOffset())
+        return true;
+    return false;
+  }
+
 
 // make copy of locals frame (with type-independed counter)
   public Vector getFrame(int count) throws jasError
@@ -76,6 +104,10 @@ public class VerifyFrame
         offset = ce.getPc(off_label);
         off_label = null; // for speed in next's request
     }
+    if(off_insn != null) {
+        offset = ce.getPc(off_insn);
+        off_insn = null;
+    }
     return offset;
   }
 
@@ -10,6 +10,8 @@ package jas;
 public class jasError extends Exception
 {
   public boolean numTag;
+  public int line;              // source line of a problem found by
+                                // the verifier, or 0 if unknown
   public jasError() { super(); numTag = false; }
   public jasError(String s) { super(s);  numTag = false; }
   public jasError(String s, boolean isNum) { super(s); numTag = true; }
@@ -0,0 +1,168 @@
+/**
+ * ClassChecker verifies class files that have already been written,
+ * for jasmin -verify: each class is disassembled into Jasmin source in
+ * memory and assembled again with ClassFile.setVerify(), without
+ * writing anything. Problems are reported with the lines of the
+ * LineNumberTable, that is of the source the class was compiled
+ * from, where there is one.
+ * <p>
+ * The classes of a jar are checked in parallel, with one task per
+ * class on the pool, and one class hierarchy for all of them, which
+ * finds the other classes of the jar as well as those of the class
+ * path. Messages are printed in the order of the jar.
+ */
+
+package jasmin;
+
+import java.io.*;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.ByteBuffer;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Vector;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import jas.CachedHierarchy;
+import jas.ClassHierarchy;
+import jas.ClassLoaderHierarchy;
+import jas.ClassReader;
+import jas.jasError;
+
+public class ClassChecker {
+
+    private ClassHierarchy hierarchy;
+    private int problems;
+
+    /**
+     * @param hierarchy where the classes the code refers to are
+     *        looked up
+     */
+    public ClassChecker(ClassHierarchy hierarchy) {
+        this.hierarchy = hierarchy;
+    }
+
+    /**
+     * @return the number of problems found in the classes checked
+     *         so far
+     */
+    public synchronized int getProblemCount() {
+        return problems;
+    }
+
+    /**
+     * Check one class.
+     * @param name the name the problems are reported under
+     * @return the problems found, one per line, or an empty string
+     */
+    public String check(ClassReader r, String name) {
+        StringWriter text = new StringWriter();
+        ByteArrayOutputStream msgs = new ByteArrayOutputStream();
+        PrintStream err = new PrintStream(msgs);
+        ClassFile cf = new ClassFile();
+        cf.setVerify(true);
+        cf.setVerifyByLineTable();
+        cf.setClassHierarchy(hierarchy);
+        cf.setErrorStream(err);
+        int found;
+        try {
+            new Disassembler(r).write(text);
+            cf.readJasmin(new StringReader(text.toString()), name, false);
+            if (cf.errorCount() == 0)
+                cf.write(new ByteArrayOutputStream());
+            found = cf.errorCount();
+        } catch (jasError e) {
+            found = Math.max(cf.errorCount(), 1);
+            if (cf.errorCount() == 0)
+                err.println(name + ": " + e.getMessage());
+        } catch (Exception e) {
+            found = cf.errorCount() + 1;
+            err.println(name + ": " + e);
+        }
+        err.flush();
+        synchronized (this) {
+            problems += found;
+        }
+        return msgs.toString();
+    }
+
+    /**
+     * Check every class in a jar, with one task per class on the
+     * pool. The problems are printed to err in the order of the jar.
+     * @return the number of classes checked
+     */
+    public int checkJar(File jar, ForkJoinPool pool, PrintStream err)
+        throws IOException
+    {
+        final ZipFile zip = new ZipFile(jar);
+        try {
+            Vector tasks = new Vector();
+            for (Enumeration en = zip.entries(); en.hasMoreElements(); ) {
+                final ZipEntry entry = (ZipEntry)en.nextElement();
+                String name = entry.getName();
+                if (entry.isDirectory() || !name.endsWith(".class")
+                        || name.endsWith("module-info.class"))
+                    continue;
+                tasks.addElement(new Callable() {
+                    public Object call() {
+                        try {
+                            return check(new ClassReader(ByteBuffer.wrap(
+                                    Disassembler.readEntry(zip, entry))),
+                                         entry.getName());
+                        } catch (jasError e) {
+                            return failed(entry.getName() + ": "
+                                          + e.getMessage());
+                        } catch (IOException e) {
+                            return failed(entry.getName() + ": " + e);
+                        }
+                    }
+                });
+            }
+            List done = pool.invokeAll(tasks);
+            for (int i = 0; i < done.size(); i++) {
+                Object msg;
+                try {
+                    msg = ((Future)done.get(i)).get();
+                } catch (Exception e) {
+                    msg = e.toString() + "\n";
+                }
+                err.print(msg);
+            }
+            return done.size();
+        } finally {
+            zip.close();
+        }
+    }
+
+    // a class that couldn't be read counts as one problem
+    private synchronized String failed(String msg) {
+        problems++;
+        return msg + "\n";
+    }
+
+    /**
+     * @param class_name the name of the class in f, or null if f is
+     *        a jar
+     * @return a hierarchy that finds the classes of the jar, or those
+     *         of the directory tree the class is in, as well as those
+     *         of the class path
+     */
+    public static CachedHierarchy hierarchyFor(File f, String class_name)
+        throws IOException
+    {
+        File root = f.getAbsoluteFile();
+        if (class_name != null) {
+            root = root.getParentFile();
+            for (int i = class_name.indexOf('/'); i >= 0 && root != null;
+                 i = class_name.indexOf('/', i + 1))
+                root = root.getParentFile();
+        }
+        ClassLoader parent = ClassChecker.class.getClassLoader();
+        ClassLoader loader = (root == null) ? parent
+            : new URLClassLoader(new URL[] { root.toURI().toURL() }, parent);
+        return new CachedHierarchy(new ClassLoaderHierarchy(loader));
+    }
+}
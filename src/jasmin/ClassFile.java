@@ -17,6 +17,7 @@ package jasmin;
 import jas.*;
 import java.io.*;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * A ClassFile object is used to represent the binary data that makes up a
@@ -52,6 +53,7 @@ public class ClassFile {
     LocalVarTableAttr var_table;
     LocalVarTypeTableAttr vtype_table;
     LineTableAttr line_table;
+    LineTableAttr source_lines; // .j line of each insn, for -verify
     CodeAttr  code;
     Method cur_method;
     Var    cur_field;
@@ -60,8 +62,21 @@ public class ClassFile {
     VerifyFrame verifyframe;
     Annotation cur_annotation;
 
-    int line_label_count, line_num, stack_map_label_count;
+    int line_num, stack_map_label_count;
+    int pending_line, buffered_line;  // line for the next / buffered insn
+    int buffered_source;              // .j line of the buffered insn
     boolean auto_number, class_header;
+    boolean auto_limits, auto_frames, optimize, choose_switches;
+    boolean inline_jsr, verify, verify_source, minimize;
+    PrintStream err = System.err;
+    boolean no_code_buffer, stream_methods, instrument;
+    int inline_size;
+    ClassHierarchy hierarchy;
+    ForkJoinPool write_pool;
+    JitReport jit_report;
+    ClassReader patch;
+    int reuse[];                // for each method of the file, the
+    int reuse_at;               // one of patch kept, or -1
     Insn buffered_insn;
 
     // state info for lookupswitch and tableswitch instructions
@@ -69,6 +84,11 @@ public class ClassFile {
     int low_value;
     int high_value;
 
+    // the operands of an instruction that takes more than two, as
+    // tokens, and the next one to use
+    Vector operands;
+    int operand_at;
+
 
     static final String BGN_METHOD = "jasmin_reserved_bgnmethod:";
     static final String END_METHOD = "jasmin_reserved_endmethod:";
@@ -88,9 +108,9 @@ public class ClassFile {
         errors++;
 
         // Print out filename/linenumber/message
-        System.err.print(filename + ":");
+        err.print(filename + ":");
         if (scanner == null)
-            System.err.println(" " + msg + ".");
+            err.println(" " + msg + ".");
         else {
             String dia_line;
             int    dia_linnum, dia_charpos;
@@ -104,20 +124,20 @@ public class ClassFile {
               dia_linnum  = scanner.line_num;
               dia_charpos = scanner.char_num;
             }
-            System.err.println(dia_linnum + ": " + msg + ".");
+            err.println(dia_linnum + ": " + msg + ".");
             if (scanner.char_num >= 0) {
-                System.err.println(dia_line);
+                err.println(dia_line);
 
                 // Print out where on the line the scanner got to
                 int i;
                 for (i = 0; i < dia_charpos; i++) {
                     if (dia_line.charAt(i) == '\t') {
-                        System.err.print("\t");
+                        err.print("\t");
                     } else {
-                        System.err.print(" ");
+                        err.print(" ");
                     }
                 }
-                System.err.println("^");
+                err.println("^");
             }
         }
     }
@@ -272,6 +292,15 @@ public class ClassFile {
     public void addInner(short iacc, String name, String inner, String outer)
     { class_env.addInnerClass(iacc, name, inner, outer); }
 
+    //
+    // called by the .nesthost and .nestmember directives
+    //
+    void setNestHost(String host) throws jasError
+    { class_env.setNestHost(host); }
+
+    void addNestMember(String member) throws jasError
+    { class_env.addNestMember(member); }
+
     //
     // procedure group for annotation description
     //
@@ -339,6 +368,16 @@ public class ClassFile {
 
       if (value != null) {
         CP cp;
+        // a number is taken as the type of the field, so that a long
+        // field can be given a small value, and a float a negative one
+        if (value instanceof Number && desc.length() == 1) {
+          Number num = (Number)value;
+          switch (desc.charAt(0)) {
+          case 'J': value = Long.valueOf(num.longValue()); break;
+          case 'F': value = Float.valueOf(num.floatValue()); break;
+          case 'D': value = Double.valueOf(num.doubleValue()); break;
+          }
+        }
         // create a constant pool entry for the initial value
         if (value instanceof Integer) {
           cp = new IntegerCP(((Integer)value).intValue());
@@ -393,7 +432,8 @@ public class ClassFile {
         var_table   = null;
         vtype_table = null;
         line_table  = null;
-        line_label_count  = 0;
+        pending_line = -1;
+        buffered_line = -1;
         stack_map_label_count = 0;
         stackmap = null;
         verifyframe = null;
@@ -435,6 +475,10 @@ public class ClassFile {
             }
         }
         cur_method.setCode(code, except_attr);
+        if (reuse != null) {
+            keepMethods();
+            reuse_at++;
+        }
         class_env.addMethod(cur_method);
 
         // clear method state variables
@@ -538,6 +582,7 @@ public class ClassFile {
     //
     void plant(String name) throws jasError {
         InsnInfo insn = InsnInfo.get(name);
+        _getCode();
         autoNumber();
         flushInsnBuffer();
 
@@ -688,7 +733,12 @@ public class ClassFile {
             bufferInsn(new Insn(insn.opcode,
                          new MethodCP(split[0], split[1], split[2])));
         } else if (insn.args.equals("constant")) {
-            bufferInsn(new Insn(insn.opcode, new ClassCP(val)));
+            if (val.startsWith("("))
+                bufferInsn(new Insn(insn.opcode, new MethodTypeCP(val)));
+            else
+                bufferInsn(new Insn(insn.opcode, new ClassCP(val)));
+        } else if (insn.args.equals("dynamic")) {
+            throw new jasError(name + " needs a bootstrap method");
         } else if (insn.args.equals("atype")) {
             int atype = 0;
             if (val.equals("boolean")) {
@@ -720,6 +770,24 @@ public class ClassFile {
         }
     }
 
+    //
+    // used for invokestatic and invokespecial of a method of an
+    // interface (invokestatic interface pkg/Iface/m()V)
+    //
+    void plantInterfaceMethod(String name, String val) throws jasError {
+        InsnInfo insn = InsnInfo.get(name);
+        autoNumber();
+        flushInsnBuffer();
+
+        if (insn.args.equals("method")) {
+            String split[] = ScannerUtils.splitClassMethodSignature(val);
+            bufferInsn(new Insn(insn.opcode,
+                         new InterfaceCP(split[0], split[1], split[2])));
+        } else {
+            throw new jasError("Bad arguments for instruction " + name);
+        }
+    }
+
     //
     // used for instructions that take a field and a signature as parameters
     // (e.g. getstatic, putstatic)
@@ -743,6 +811,197 @@ public class ClassFile {
         }
     }
 
+    //
+    // operands after the first word of an instruction, or after the
+    // kind of a method handle, are kept as tokens until the end of
+    // the line
+    //
+    void newOperands() {
+        operands = new Vector();
+        operand_at = 0;
+    }
+
+    void addOperand(java_cup.runtime.token t) {
+        operands.addElement(t);
+    }
+
+    private java_cup.runtime.token nextOperand() throws jasError {
+        if (operand_at == operands.size())
+            throw new jasError("missing operand");
+        return (java_cup.runtime.token)operands.elementAt(operand_at++);
+    }
+
+    private String wordOperand() throws jasError {
+        java_cup.runtime.token t = nextOperand();
+        if (t.sym != sym.Word)
+            throw new jasError("a name or descriptor was expected");
+        return ((java_cup.runtime.str_token)t).str_val;
+    }
+
+    //
+    // used for instructions that take a word and more: a count
+    // (invokeinterface, multianewarray), a descriptor (fields), or a
+    // bootstrap method (invokedynamic <name><descriptor> <bootstrap>,
+    // ldc dynamic <name> <descriptor> <bootstrap>)
+    //
+    void plantOperands(String name, String val) throws jasError {
+        InsnInfo insn = InsnInfo.get(name);
+        java_cup.runtime.token t =
+            (java_cup.runtime.token)operands.elementAt(0);
+        if (insn.args.equals("dynamic")) {
+            autoNumber();
+            flushInsnBuffer();
+            int split = val.indexOf('(');
+            if (split < 0)
+                throw new jasError("can't extract descriptor from " + val);
+            BootstrapMethod bsm = bootstrapMethod();
+            bufferInsn(new Insn(insn.opcode,
+                         new InvokeDynamicCP(bsm, val.substring(0, split),
+                                             val.substring(split))));
+        } else if ((insn.args.equals("constant")
+                    || insn.args.equals("bigconstant"))
+                   && val.equals("dynamic")) {
+            autoNumber();
+            flushInsnBuffer();
+            bufferInsn(new Insn(insn.opcode, dynamicConstant()));
+        } else if (operands.size() == 1 && t.sym == sym.Int) {
+            plant(name, val, ((java_cup.runtime.int_token)t).int_val);
+        } else if (operands.size() == 1 && t.sym == sym.Word) {
+            plant(name, val, ((java_cup.runtime.str_token)t).str_val);
+        } else {
+            throw new jasError("Bad arguments for instruction " + name);
+        }
+    }
+
+    //
+    // used for ldc of a method handle (ldc invokestatic pkg/Foo/m()V)
+    //
+    void plantHandle(String name, String kind) throws jasError {
+        InsnInfo insn = InsnInfo.get(name);
+        autoNumber();
+        flushInsnBuffer();
+
+        if (insn.args.equals("constant")) {
+            CP cp = methodHandle(kind);
+            if (operand_at < operands.size())
+                throw new jasError("too many operands for " + name);
+            bufferInsn(new Insn(insn.opcode, cp));
+        } else {
+            throw new jasError("Bad arguments for instruction " + name);
+        }
+    }
+
+    //
+    // a method handle, given by the instruction it stands for, and
+    // then the operands that instruction would take
+    //
+    private MethodHandleCP methodHandle(String kind) throws jasError {
+        int opc = InsnInfo.contains(kind) ? InsnInfo.get(kind).opcode : -1;
+        int ref;
+        switch (opc) {
+        case RuntimeConstants.opc_getfield:
+            ref = RuntimeConstants.REF_getField; break;
+        case RuntimeConstants.opc_getstatic:
+            ref = RuntimeConstants.REF_getStatic; break;
+        case RuntimeConstants.opc_putfield:
+            ref = RuntimeConstants.REF_putField; break;
+        case RuntimeConstants.opc_putstatic:
+            ref = RuntimeConstants.REF_putStatic; break;
+        case RuntimeConstants.opc_invokevirtual:
+            ref = RuntimeConstants.REF_invokeVirtual; break;
+        case RuntimeConstants.opc_invokestatic:
+            ref = RuntimeConstants.REF_invokeStatic; break;
+        case RuntimeConstants.opc_invokespecial:
+            ref = RuntimeConstants.REF_invokeSpecial; break;
+        case RuntimeConstants.opc_invokeinterface:
+            ref = RuntimeConstants.REF_invokeInterface; break;
+        default:
+            throw new jasError(kind + " can't make a method handle");
+        }
+        boolean iface = (ref == RuntimeConstants.REF_invokeInterface);
+        if (operand_at < operands.size()
+            && ((java_cup.runtime.token)operands.elementAt(operand_at)).sym
+               == sym.INTERFACE) {
+            operand_at++;
+            iface = true;
+        }
+        String val = wordOperand();
+        if (ref <= RuntimeConstants.REF_putStatic) {
+            String split[] = ScannerUtils.splitClassField(val);
+            if (split[1] == null || iface)
+                throw new jasError("can't extract field from " + val);
+            return new MethodHandleCP(ref,
+                         new FieldCP(split[0], split[1], wordOperand()));
+        }
+        String split[] = ScannerUtils.splitClassMethodSignature(val);
+        if (ref == RuntimeConstants.REF_invokeSpecial
+            && split[1].equals("<init>"))
+            ref = RuntimeConstants.REF_newInvokeSpecial;
+        return new MethodHandleCP(ref, iface
+                     ? (CP)new InterfaceCP(split[0], split[1], split[2])
+                     : (CP)new MethodCP(split[0], split[1], split[2]));
+    }
+
+    //
+    // a dynamic constant, after the word "dynamic": its name, its
+    // type and the bootstrap method that computes it
+    //
+    private DynamicCP dynamicConstant() throws jasError {
+        String name = wordOperand();
+        String desc = wordOperand();
+        return new DynamicCP(bootstrapMethod(), name, desc);
+    }
+
+    //
+    // a bootstrap method, and its static arguments up to the end of
+    // the line: numbers, strings, classes, method types ("(I)V"),
+    // method handles and dynamic constants, which take the rest of
+    // the line for their own bootstrap method
+    //
+    private BootstrapMethod bootstrapMethod() throws jasError {
+        java_cup.runtime.token t = nextOperand();
+        if (t.sym != sym.Insn)
+            throw new jasError("a bootstrap method was expected");
+        MethodHandleCP bsm =
+            methodHandle(((java_cup.runtime.str_token)t).str_val);
+        Vector args = new Vector();
+        while (operand_at < operands.size())
+            args.addElement(bootstrapArgument());
+        CP arr[] = new CP[args.size()];
+        args.copyInto(arr);
+        return new BootstrapMethod(bsm, arr);
+    }
+
+    private CP bootstrapArgument() throws jasError {
+        java_cup.runtime.token t = nextOperand();
+        switch (t.sym) {
+        case sym.Int:
+            return new IntegerCP(((java_cup.runtime.int_token)t).int_val);
+        case sym.Num: {
+            Number n = ((num_token)t).num_val;
+            if (n instanceof Long)
+                return new LongCP(n.longValue());
+            if (n instanceof Float)
+                return new FloatCP(n.floatValue());
+            return new DoubleCP(n.doubleValue());
+        }
+        case sym.Str:
+            return new StringCP(((java_cup.runtime.str_token)t).str_val);
+        case sym.Word: {
+            String val = ((java_cup.runtime.str_token)t).str_val;
+            if (val.startsWith("("))
+                return new MethodTypeCP(val);
+            if (val.equals("dynamic") && operand_at < operands.size())
+                return dynamicConstant();
+            return new ClassCP(val);
+        }
+        case sym.Insn:
+            return methodHandle(((java_cup.runtime.str_token)t).str_val);
+        default:
+            throw new jasError("bad bootstrap method argument");
+        }
+    }
+
     //
     // Lookupswitch instruction
     //
@@ -751,16 +1010,20 @@ public class ClassFile {
         autoNumber();
     };
 
+    // each case is kept as its value, its target, and a string
+    // naming the target, to spot duplicate keys that disagree
     void addLookupswitch(int val, String label)
             throws jasError {
         switch_vec.addElement(new Integer(val));
         switch_vec.addElement(new LabelOrOffset(getLabel(label)));
+        switch_vec.addElement(label);
     };
 
     void addLookupswitch(int val, int offset)
             throws jasError {
         switch_vec.addElement(new Integer(val));
         switch_vec.addElement(new LabelOrOffset(offset));
+        switch_vec.addElement("$" + offset);
     };
 
     void endLookupswitch(String deflabel) throws jasError {
@@ -783,18 +1046,48 @@ public class ClassFile {
 
 
     //
-    // called by both endLookupswitch() methods
+    // called by both endLookupswitch() methods; the JVM wants the
+    // keys sorted and unique, so they are put in order here and
+    // repeats of a key with the same target are dropped
     //
     private Object[] checkLookupswitch() {
-        int n = switch_vec.size() >> 1;
+        int n = switch_vec.size() / 3;
+                                // key in the high half, position in
+                                // the low half, so equal keys stay in
+                                // source order
+        long order[] = new long[n];
+        for (int i = 0; i < n; i++) {
+            long key = ((Integer)switch_vec.elementAt(3*i)).intValue();
+            order[i] = (key << 32) | i;
+        }
+        Arrays.sort(order);
+
         int offsets[] = new int[n];
         LabelOrOffset labels[] = new LabelOrOffset[n];
-        Enumeration e = switch_vec.elements();
-        int i = 0;
-        while (e.hasMoreElements()) {
-            offsets[i] = ((Integer)e.nextElement()).intValue();
-            labels[i] = (LabelOrOffset)e.nextElement();
-            i++;
+        String prev = null;
+        int cnt = 0;
+        for (int i = 0; i < n; i++) {
+            int at = (int)order[i];
+            int key = (int)(order[i] >> 32);
+            String target = (String)switch_vec.elementAt(3*at + 2);
+            if (cnt > 0 && offsets[cnt - 1] == key) {
+                if (!target.equals(prev))
+                    report_error("lookupswitch - duplicate key " + key
+                                 + " with different targets");
+                continue;
+            }
+            offsets[cnt] = key;
+            labels[cnt] = (LabelOrOffset)switch_vec.elementAt(3*at + 1);
+            prev = target;
+            cnt++;
+        }
+        if (cnt < n) {
+            int o[] = new int[cnt];
+            LabelOrOffset l[] = new LabelOrOffset[cnt];
+            System.arraycopy(offsets, 0, o, 0, cnt);
+            System.arraycopy(labels, 0, l, 0, cnt);
+            offsets = o;
+            labels = l;
         }
         Object result[] = { offsets, labels };
         return result;
@@ -924,12 +1217,24 @@ public class ClassFile {
         if(buffered_insn != null)
             flushInsnBuffer();
         buffered_insn = i;
+        if (!(i instanceof Label)) {
+            buffered_line = pending_line;
+            buffered_source = line_num;
+            pending_line = -1;
+        }
     }
 
 // if the buffer is not empty, add the instruction to the code array
     void flushInsnBuffer() throws jasError {
         if(buffered_insn != null) {
-            _getCode().addInsn(buffered_insn);
+            CodeAttr c = _getCode();
+            if (buffered_line >= 0) {
+                line_table.addEntry(c, buffered_line);
+                buffered_line = -1;
+            }
+            if (source_lines != null && !(buffered_insn instanceof Label))
+                source_lines.addEntry(c, buffered_source);
+            c.addInsn(buffered_insn);
             buffered_insn = null;
         }
     }
@@ -985,15 +1290,15 @@ public class ClassFile {
     }
 
     //
-    // used by .line directive
+    // used by .line directive. The line is given to the next
+    // instruction, when it goes from the buffer into the code.
     //
     void addLineInfo(int line_num) throws jasError {
-        String l = "jasmin_reserved_L:" + (line_label_count++);
         if (line_table == null) {
             line_table = new LineTableAttr();
+            _getCode();
         }
-        plantLabel(l);
-        line_table.addEntry(getLabel(l), line_num);
+        pending_line = line_num;
     }
 
     void addLine(int line_num) throws jasError {
@@ -1095,6 +1400,24 @@ public class ClassFile {
 
         if (code == null) {
             code = new CodeAttr();
+            code.setAutoLimits(auto_limits);
+            code.setAutoFrames(auto_frames);
+            code.setOptimize(optimize);
+            code.setChooseSwitches(choose_switches);
+            code.setInlineSubroutines(inline_jsr);
+            if (instrument)
+                code.setInstrument(source_name);
+            source_lines = null;
+            if (verify && verify_source) {
+                source_lines = new LineTableAttr();
+                code.setSourceLines(source_lines);
+            }
+            // without a pass that looks at the instructions, they can
+            // be encoded as they come
+            if (!no_code_buffer && !auto_limits && !auto_frames
+                && !optimize && !choose_switches && !inline_jsr && !instrument
+                && !verify && !minimize && inline_size == 0)
+                code.setCodeBuffer(true);
             plantLabel(BGN_METHOD);
         }
 
@@ -1149,6 +1472,19 @@ public class ClassFile {
 
         // Parse the input file
         class_env = new ClassEnv();
+        if (hierarchy != null)
+            class_env.setClassHierarchy(hierarchy);
+        if (reuse != null)
+            class_env.reuse(patch);
+        else if (patch != null)
+            class_env.patch(patch);
+        else if (stream_methods)
+            class_env.streamMethods();
+        class_env.setWritePool(write_pool);
+        class_env.setJitReport(jit_report);
+        class_env.setInline(inline_size);
+        class_env.setVerify(verify);
+        class_env.setMinimize(minimize);
 
         scanner = new Scanner(input);
         parser parse_obj = new parser(this, scanner);
@@ -1161,6 +1497,199 @@ public class ClassFile {
         }
     }
 
+    /**
+     * Asks for the .limit stack and .limit locals values of every method
+     * to be computed from its code when the class is written, rather
+     * than taken from the source. Call this before readJasmin().
+     */
+    public void setAutoLimits(boolean auto) {
+        auto_limits = auto;
+    }
+
+    /**
+     * Asks for the StackMapTable of every method without .stack
+     * directives to be computed from its code, for classes of version
+     * 50 and later. Call this before readJasmin().
+     */
+    public void setAutoFrames(boolean auto) {
+        auto_frames = auto;
+    }
+
+    /**
+     * Asks for a peephole pass over the code of every method before
+     * it is written. Call this before readJasmin().
+     * @see jas.CodeAttr#setOptimize
+     */
+    public void setOptimize(boolean opt) {
+        optimize = opt;
+    }
+
+    /**
+     * Asks for every switch to be written as a tableswitch or a
+     * lookupswitch according to its cases, whichever way it was
+     * written in the source. Call this before readJasmin().
+     * @see jas.CodeAttr#setChooseSwitches
+     */
+    public void setChooseSwitches(boolean choose) {
+        choose_switches = choose;
+    }
+
+    /**
+     * Asks for every jsr to be replaced by a copy of the subroutine
+     * it calls, so that frames can be computed for the code and the
+     * class can be of version 51 or later. Call this before
+     * readJasmin().
+     * @see jas.CodeAttr#setInlineSubroutines
+     */
+    public void setInlineSubroutines(boolean inline) {
+        inline_jsr = inline;
+    }
+
+    /**
+     * Asks for the code of every method to be checked the way the
+     * JVM's verifier checks it, when the class is written. Each
+     * problem found is reported as an error, with the line of the
+     * instruction it was found at, and write() then fails. Call this
+     * before readJasmin().
+     * @see jas.ClassEnv#setVerify
+     */
+    public void setVerify(boolean verify) {
+        this.verify = verify;
+        verify_source = true;
+    }
+
+    /**
+     * Asks for the problems found by setVerify() to be reported with
+     * the lines of the .line directives instead, for classes that
+     * were disassembled and are checked against the source they were
+     * compiled from. Call this after setVerify().
+     */
+    public void setVerifyByLineTable() {
+        verify_source = false;
+    }
+
+    /**
+     * Asks for the class to be written as small as it can be: without
+     * debugging information, with the shortest form of each
+     * instruction and with only the constants still used. Call this
+     * before readJasmin().
+     * @see jas.ClassEnv#setMinimize
+     */
+    public void setMinimize(boolean minimize) {
+        this.minimize = minimize;
+    }
+
+    /**
+     * Sends the errors reported to this stream instead of
+     * System.err.
+     */
+    public void setErrorStream(PrintStream err) {
+        this.err = err;
+    }
+
+    /**
+     * Methods whose code doesn't go through any of the passes above
+     * have it encoded into bytes as it is read, which is the default.
+     * Turning this off keeps the instructions until the class is
+     * written instead. Call this before readJasmin().
+     * @see jas.CodeAttr#setCodeBuffer
+     */
+    public void setCodeBuffer(boolean use) {
+        no_code_buffer = !use;
+    }
+
+    /**
+     * Asks for each method to be written out as soon as its
+     * .end method is read, keeping only its bytes until the class is
+     * written. Call this before readJasmin().
+     * @see jas.ClassEnv#streamMethods
+     */
+    public void setStreamMethods(boolean stream) {
+        stream_methods = stream;
+    }
+
+    /**
+     * Sets where computed stack map frames look up other classes.
+     * Assemblers of many classes should share one CachedHierarchy
+     * between their ClassFile's. Call this before readJasmin().
+     */
+    public void setClassHierarchy(ClassHierarchy h) {
+        hierarchy = h;
+    }
+
+    /**
+     * Asks for the methods of the class to be encoded in parallel on
+     * this pool when it is written. Call this before readJasmin().
+     * @see jas.ClassEnv#setWritePool
+     */
+    public void setWritePool(ForkJoinPool pool) {
+        write_pool = pool;
+    }
+
+    /**
+     * Asks for counters to be put into the code of every method, at
+     * its start and at every branch and switch target. They are
+     * named by the .source of the class and, with line numbers, by
+     * the line. Call this before readJasmin().
+     * @see jas.CodeAttr#setInstrument
+     */
+    public void setInstrument(boolean inst) {
+        instrument = inst;
+    }
+
+    /**
+     * Asks for calls to small static and private methods of the class
+     * to be replaced by their code, for methods of at most max_size
+     * bytes. Call this before readJasmin().
+     * @see jas.ClassEnv#setInline
+     */
+    public void setInline(int max_size) {
+        inline_size = max_size;
+    }
+
+    /**
+     * Adds the methods of the class to this report as they are
+     * written. Call this before readJasmin().
+     * @see jas.JitReport
+     */
+    public void setJitReport(JitReport report) {
+        jit_report = report;
+    }
+
+    /**
+     * Asks for the methods read to be put into this existing class,
+     * in place of those with the same name and descriptor, instead of
+     * making a class of their own. The file must name the same class
+     * and superclass, and have nothing but methods besides. Call this
+     * before readJasmin().
+     * @see jas.ClassEnv#patch
+     */
+    public void setPatch(ClassReader orig) {
+        patch = orig;
+    }
+
+    /**
+     * Asks for the class to be made over from an earlier version of
+     * it, in which the methods of the file are found in the order
+     * they are read. Where keep[i] is not -1, the i'th method of the
+     * file has been left out of it, and the method with that index in
+     * the earlier version is copied in its place. Everything outside
+     * the methods must be as it was when the earlier version was
+     * assembled. Call this before readJasmin().
+     * @see jas.ClassEnv#reuse
+     */
+    public void setReuse(ClassReader prev, int keep[]) {
+        patch = prev;
+        reuse = keep;
+        reuse_at = 0;
+    }
+
+    // the methods kept that come before the next one read
+    private void keepMethods() {
+        while (reuse_at < reuse.length && reuse[reuse_at] >= 0)
+            class_env.keepMethod(reuse[reuse_at++]);
+    }
+
     /**
      * Returns the number of warnings/errors encountered while parsing a file.
      * 0 if everything went OK.
@@ -1178,6 +1707,14 @@ public class ClassFile {
         return class_name;
     }
 
+    /**
+     * Returns the size the class written last would have had without
+     * setMinimize(), or -1 if it wasn't minimized.
+     */
+    public int getNormalSize() {
+        return class_env.getNormalSize();
+    }
+
     /**
      * Writes the binary data for the class represented by this ClassFile
      * object to the specified
@@ -1185,8 +1722,28 @@ public class ClassFile {
      * IOException or a jasError if something goes wrong.
      */
     public void write(OutputStream outp) throws IOException, jasError {
-        class_env.setSource(source_name);
-        class_env.write(new DataOutputStream(outp));
+        if (patch == null)      // a patch keeps the original's
+            class_env.setSource(source_name);
+        if (reuse != null)
+            keepMethods();
+        try {
+            class_env.write(new DataOutputStream(outp));
+        } finally {
+            reportProblems();
+        }
+    }
+
+    // each problem the verifier found, as an error of the line
+    // it was found at
+    private void reportProblems() {
+        Vector problems = class_env.getProblems();
+        for (int i = 0; i < problems.size(); i++) {
+            jasError p = (jasError)problems.elementAt(i);
+            errors++;
+            err.println(filename + ":"
+                               + (p.line > 0 ? p.line + ":" : "")
+                               + " " + p.getMessage() + ".");
+        }
     }
 };
 
@@ -0,0 +1,1276 @@
+/**
+ * Disassembler writes a class file out as Jasmin source, which
+ * ClassFile.readJasmin can assemble again. The class is read with a
+ * jas.ClassReader, so nothing is decoded that isn't written, and the
+ * text goes straight to the Writer as it is made.
+ * <p>
+ * Everything the assembler has a directive for is written: the
+ * header, inner classes, fields with their constant values, methods
+ * with their code, limits, exception handlers, line numbers, local
+ * variables and stack map frames, signatures, annotations and
+ * deprecation. Labels are named after the offset they stand for
+ * (L12), and names that the scanner would take for something else
+ * are written with \\u escapes. Attributes the assembler can't make
+ * are left out, with a comment saying so.
+ * <p>
+ * The constant pool is laid out again by the assembler, and frames
+ * are written in their shortest form, so the bytes of a class that
+ * is disassembled and assembled again are not always those of the
+ * original; but disassembling that class again gives the same text.
+ * <p>
+ * disassembleJar does the classes of a jar in parallel.
+ */
+
+package jasmin;
+
+import java.io.*;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Vector;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import jas.ClassReader;
+import jas.RuntimeConstants;
+import jas.jasError;
+
+public class Disassembler implements RuntimeConstants {
+
+    private static final int ACC_MODULE = 0x8000;
+
+    private ClassReader r;
+    private Writer out;
+    private int warnings;
+
+    // the method being written
+    private int code_start;
+    private int code_len;
+    private boolean insn[];     // an instruction starts at this pc
+    private boolean label[];    // and needs a label
+
+    // where annotations and frames are being read
+    private int at;
+
+    // bootstrap methods being written, one inside the other
+    private int nested;
+
+    public Disassembler(ClassReader r) {
+        this.r = r;
+    }
+
+    /**
+     * @return the number of attributes that were left out of the
+     *         last class written
+     */
+    public int getWarningCount() {
+        return warnings;
+    }
+
+    /**
+     * Write the class as Jasmin source.
+     * @exception jasError if the class has something in it that
+     *            can't be written as Jasmin source
+     */
+    public void write(Writer w) throws IOException, jasError {
+        out = w;
+        warnings = 0;
+        try {
+            header();
+            inners();
+            fields();
+            methods();
+        } catch (IllegalArgumentException e) {
+            throw new jasError(e.getMessage());
+        } catch (IndexOutOfBoundsException e) {
+            throw new jasError("truncated class file");
+        }
+        out.flush();
+    }
+
+    /**
+     * Disassemble a class into the file dest/pkg/Name.j.
+     * @return the file written
+     */
+    public static File disassemble(ClassReader r, File dest)
+        throws IOException, jasError
+    {
+        String name = r.getClassName();
+        File file = new File(dest, name.replace('/', File.separatorChar)
+                                   + ".j");
+        File dir = file.getParentFile();
+        if (dir != null && !dir.isDirectory() && !dir.mkdirs()
+                && !dir.isDirectory()) {
+            throw new IOException(dir + ": can't create directory");
+        }
+        Writer w = new BufferedWriter(new OutputStreamWriter(
+                            new FileOutputStream(file), "US-ASCII"), 65536);
+        boolean done = false;
+        try {
+            new Disassembler(r).write(w);
+            done = true;
+        } finally {
+            w.close();
+            if (!done)
+                file.delete();
+        }
+        return file;
+    }
+
+    /**
+     * Disassemble every class in a jar into dest, with one task per
+     * class on the pool. A message for each class that couldn't be
+     * disassembled is printed to err, in the order of the jar.
+     * @return the number of classes written
+     */
+    public static int disassembleJar(File jar, final File dest,
+                                     ForkJoinPool pool, PrintStream err)
+        throws IOException
+    {
+        final ZipFile zip = new ZipFile(jar);
+        try {
+            Vector tasks = new Vector();
+            for (Enumeration en = zip.entries(); en.hasMoreElements(); ) {
+                final ZipEntry entry = (ZipEntry)en.nextElement();
+                String name = entry.getName();
+                if (entry.isDirectory() || !name.endsWith(".class")
+                        || name.endsWith("module-info.class"))
+                    continue;
+                tasks.addElement(new Callable() {
+                    public Object call() {
+                        try {
+                            ClassReader r = new ClassReader(
+                                ByteBuffer.wrap(readEntry(zip, entry)));
+                            disassemble(r, dest);
+                            return null;
+                        } catch (jasError e) {
+                            return entry.getName() + ": " + e.getMessage();
+                        } catch (IOException e) {
+                            return entry.getName() + ": " + e;
+                        }
+                    }
+                });
+            }
+            List done = pool.invokeAll(tasks);
+            int count = 0;
+            for (int i = 0; i < done.size(); i++) {
+                Object msg;
+                try {
+                    msg = ((Future)done.get(i)).get();
+                } catch (Exception e) {
+                    msg = e.toString();
+                }
+                if (msg == null)
+                    count++;
+                else
+                    err.println(msg);
+            }
+            return count;
+        } finally {
+            zip.close();
+        }
+    }
+
+    /**
+     * @return the bytes of a jar entry
+     */
+    public static byte[] readEntry(ZipFile zip, ZipEntry entry)
+        throws IOException
+    {
+        InputStream in = zip.getInputStream(entry);
+        try {
+            long size = entry.getSize();
+            if (size >= 0) {
+                byte b[] = new byte[(int)size];
+                int n = 0;
+                while (n < b.length) {
+                    int k = in.read(b, n, b.length - n);
+                    if (k < 0)
+                        throw new EOFException(entry.getName());
+                    n += k;
+                }
+                return b;
+            }
+            ByteArrayOutputStream b = new ByteArrayOutputStream();
+            byte buf[] = new byte[8192];
+            for (int k; (k = in.read(buf)) > 0; )
+                b.write(buf, 0, k);
+            return b.toByteArray();
+        } finally {
+            in.close();
+        }
+    }
+
+    //
+    // text
+    //
+
+    private void line(String s) throws IOException {
+        out.write(s);
+        out.write('\n');
+    }
+
+    // Class files older than 49.0 mark synthetic members with an
+    // attribute instead of the access flag; the flag is what can be
+    // written back.
+    private int synthetic(int attrs) {
+        return r.findAttribute(attrs, "Synthetic") >= 0 ? ACC_SYNTHETIC : 0;
+    }
+
+    private void skipped(String indent, int info) throws IOException {
+        line(indent + "; skipped attribute " + word(r.attributeName(info))
+             + " (" + r.attributeLength(info) + " bytes)");
+        warnings++;
+    }
+
+    private static void hex(StringBuffer b, char c) {
+        String h = Integer.toHexString(c);
+        b.append("\\u0000", 0, 6 - h.length()).append(h);
+    }
+
+    //
+    // A name as one Word token. Characters the scanner would stop
+    // at, and anything not plain ASCII, are written as \\u escapes;
+    // so is the first character if the name would otherwise be read
+    // as a keyword, an instruction, a number, a string, a comment or
+    // a $ variable.
+    //
+    static String word(String s) {
+        boolean special = ReservedWords.contains(s) || InsnInfo.contains(s);
+        StringBuffer b = null;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            boolean esc = c <= ' ' || c >= 0x7f || c == '\\'
+                       || c == ':' || c == '=';
+            if (i == 0 && !esc)
+                esc = special || "+-.0123456789;\"'$".indexOf(c) != -1;
+            if (esc && b == null)
+                b = new StringBuffer(s.substring(0, i));
+            if (esc)
+                hex(b, c);
+            else if (b != null)
+                b.append(c);
+        }
+        return (b == null) ? s : b.toString();
+    }
+
+    //
+    // a quoted string
+    //
+    static String quote(String s) {
+        StringBuffer b = new StringBuffer(s.length() + 2);
+        b.append('"');
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            switch (c) {
+            case '"':  b.append("\\\""); break;
+            case '\\': b.append("\\\\"); break;
+            case '\n': b.append("\\n"); break;
+            case '\r': b.append("\\r"); break;
+            case '\t': b.append("\\t"); break;
+            case '\f': b.append("\\f"); break;
+            case '\b': b.append("\\b"); break;
+            default:
+                if (c < ' ' || c >= 0x7f)
+                    hex(b, c);
+                else
+                    b.append(c);
+            }
+        }
+        return b.append('"').toString();
+    }
+
+    //
+    // a float, which ScannerUtils.convertNumber reads back exactly
+    //
+    static String number(float f) {
+        if (Float.isNaN(f))
+            return "+NaN";
+        if (Float.isInfinite(f))
+            return (f > 0) ? "+Infinity" : "-Infinity";
+        String s = Float.toString(f);
+        if (Float.floatToIntBits((float)Double.parseDouble(s))
+                != Float.floatToIntBits(f)) {
+            // the shortest form rounds twice on the way back
+            s = new BigDecimal(f).toPlainString();
+            if (s.indexOf('.') < 0)
+                s += ".0";
+        }
+        return s;
+    }
+
+    //
+    // a double, with the suffix that keeps it one
+    //
+    static String number(double d) {
+        if (Double.isNaN(d))
+            return "+NaN";
+        if (Double.isInfinite(d))
+            return (d > 0) ? "+Infinity" : "-Infinity";
+        return Double.toString(d) + "d";
+    }
+
+    private static final String CLASS_FLAGS[] = {
+        "public", "private", "protected", "static", "final",
+        "synchronized", "volatile", "transient", "native", "interface",
+        "abstract", "fpstrict", "synthetic", "annotation", "enum", null
+    };
+
+    private static final String METHOD_FLAGS[] = {
+        "public", "private", "protected", "static", "final",
+        "synchronized", "bridge", "varargs", "native", "interface",
+        "abstract", "fpstrict", "synthetic", "annotation", "enum", null
+    };
+
+    //
+    // access flags as keywords, each with a space in front
+    //
+    private static String access(int acc, String names[]) throws jasError {
+        StringBuffer b = new StringBuffer();
+        for (int i = 0; i < 16; i++) {
+            if ((acc & (1 << i)) == 0)
+                continue;
+            if (names[i] == null)
+                throw new jasError("no keyword for access flag 0x"
+                                   + Integer.toHexString(1 << i));
+            b.append(' ').append(names[i]);
+        }
+        return b.toString();
+    }
+
+    //
+    // the value of a constant, as the operand of ldc or a field value
+    //
+    private String constant(int i) throws jasError {
+        switch (r.tag(i)) {
+        case CONSTANT_INTEGER:
+        case CONSTANT_LONG:
+            return r.value(i).toString();
+        case CONSTANT_FLOAT:
+            return number(((Float)r.value(i)).floatValue());
+        case CONSTANT_DOUBLE:
+            return number(((Double)r.value(i)).doubleValue());
+        case CONSTANT_STRING:
+            return quote(r.string(i));
+        case CONSTANT_CLASS:
+            return className(i);
+        case CONSTANT_METHODTYPE:
+            return word(r.methodType(i));
+        case CONSTANT_METHODHANDLE:
+            return handle(i);
+        case CONSTANT_DYNAMIC:
+            return "dynamic " + word(r.refName(i)) + " " + word(r.refType(i))
+                   + " " + bootstrap(r.bootstrapIndex(i));
+        default:
+            throw new jasError("can't write constant " + i
+                               + " with tag " + r.tag(i));
+        }
+    }
+
+    //
+    // a Class constant, as ldc takes it; a word that starts with a
+    // '(' is a method type
+    //
+    private String className(int i) throws jasError {
+        String s = r.className(i);
+        if (s.startsWith("("))
+            throw new jasError("can't write class " + s);
+        return word(s);
+    }
+
+    private static final String HANDLE_KINDS[] = {
+        null, "getfield", "getstatic", "putfield", "putstatic",
+        "invokevirtual", "invokestatic", "invokespecial", "invokespecial",
+        "invokeinterface"
+    };
+
+    //
+    // a method handle, as the instruction it stands for; a handle
+    // that Jasmin would read back as another kind is refused
+    //
+    private String handle(int i) throws jasError {
+        int kind = r.handleKind(i);
+        int ref = r.handleRef(i);
+        if (kind < REF_getField || kind > REF_invokeInterface)
+            throw new jasError("bad method handle kind " + kind);
+        String s = HANDLE_KINDS[kind] + " ";
+        int tag = r.tag(ref);
+        if (kind <= REF_putStatic) {
+            if (tag != CONSTANT_FIELD)
+                throw new jasError("bad field handle " + i);
+            return s + word(r.refClass(ref) + "/" + r.refName(ref))
+                   + " " + word(r.refType(ref));
+        }
+        boolean iface = (tag == CONSTANT_INTERFACEMETHOD);
+        if (!iface && tag != CONSTANT_METHOD
+                || iface != (kind == REF_invokeInterface)
+                   && kind != REF_invokeStatic && kind != REF_invokeSpecial
+                || r.refName(ref).equals("<init>")
+                   != (kind == REF_newInvokeSpecial))
+            throw new jasError("bad method handle " + i);
+        if (iface && kind != REF_invokeInterface)
+            s += "interface ";
+        return s + word(r.refClass(ref) + "/" + r.refName(ref)
+                        + r.refType(ref));
+    }
+
+    //
+    // a bootstrap method and its arguments, as invokedynamic takes
+    // them
+    //
+    private String bootstrap(int j) throws jasError {
+        if (j >= r.getBootstrapCount())
+            throw new jasError("no bootstrap method " + j);
+        if (nested == r.getBootstrapCount())
+            throw new jasError("bootstrap methods go round in a circle");
+        int pos = r.getBootstrap(j);
+        int m = r.u2(pos);
+        if (r.tag(m) != CONSTANT_METHODHANDLE)
+            throw new jasError("bad bootstrap method " + j);
+        StringBuffer b = new StringBuffer(handle(m));
+        int n = r.u2(pos + 2);
+        nested++;
+        try {
+            for (int k = 0; k < n; k++)
+                b.append(' ').append(argument(r.u2(pos + 4 + 2*k),
+                                              k == n - 1));
+        } finally {
+            nested--;
+        }
+        return b.toString();
+    }
+
+    //
+    // a static argument of a bootstrap method, which unlike the
+    // operand of ldc has to show its type. A dynamic constant takes
+    // the rest of the line, so it has to be the last.
+    //
+    private String argument(int i, boolean last) throws jasError {
+        switch (r.tag(i)) {
+        case CONSTANT_DYNAMIC:
+            if (!last)
+                throw new jasError("can't write dynamic constant " + i
+                                   + " before other arguments");
+            break;
+        case CONSTANT_CLASS:
+            if (!last && r.className(i).equals("dynamic"))
+                throw new jasError("can't write class dynamic"
+                                   + " before other arguments");
+            break;
+        case CONSTANT_LONG:
+            return r.value(i) + "L";
+        case CONSTANT_FLOAT:
+            return number(((Float)r.value(i)).floatValue()) + "f";
+        }
+        return constant(i);
+    }
+
+    //
+    // the class header
+    //
+
+    private void header() throws IOException, jasError {
+        int attrs = r.getAttributes();
+        line(".bytecode " + r.getMajorVersion() + "." + r.getMinorVersion());
+        int info = r.findAttribute(attrs, "SourceFile");
+        if (info >= 0)
+            line(".source " + quote(r.utf8(r.u2(info))));
+
+        int acc = (r.getAccess() | synthetic(attrs)) & ~ACC_SUPER;
+        if ((acc & ACC_MODULE) != 0)
+            throw new jasError("can't write a module");
+        if ((acc & ACC_INTERFACE) != 0)
+            line(".interface" + access(acc & ~ACC_INTERFACE, CLASS_FLAGS)
+                 + " " + word(r.getClassName()));
+        else
+            line(".class" + access(acc, CLASS_FLAGS)
+                 + " " + word(r.getClassName()));
+        String sup = r.getSuperName();
+        if (sup == null)
+            throw new jasError(r.getClassName() + " has no superclass");
+        line(".super " + word(sup));
+        String ifaces[] = r.getInterfaces();
+        for (int i = 0; i < ifaces.length; i++)
+            line(".implements " + word(ifaces[i]));
+
+        info = r.findAttribute(attrs, "Signature");
+        if (info >= 0)
+            line(".signature " + quote(r.utf8(r.u2(info))));
+        info = r.findAttribute(attrs, "EnclosingMethod");
+        if (info >= 0) {
+            String s = r.className(r.u2(info));
+            int nt = r.u2(info + 2);
+            if (nt != 0)
+                s += "/" + r.refName(nt) + r.refType(nt);
+            line(".enclosing method " + word(s));
+        }
+        if (r.findAttribute(attrs, "Deprecated") >= 0)
+            line(".deprecated");
+
+        annotations(attrs, "");
+        int n = r.attributeCount(attrs);
+        for (int i = 0; i < n; i++) {
+            info = r.attribute(attrs, i);
+            String name = r.attributeName(info);
+            if (name.equals("SourceDebugExtension"))
+                line(".debug " + quote(r.decode(info,
+                                                r.attributeLength(info))));
+            else if (!name.equals("SourceFile")
+                    && !name.equals("Signature")
+                    && !name.equals("EnclosingMethod")
+                    && !name.equals("Deprecated")
+                    && !name.equals("Synthetic")
+                    && !name.equals("InnerClasses")
+                    && !name.equals("NestHost")
+                    && !name.equals("NestMembers")
+                    && !name.equals("BootstrapMethods")
+                    && !name.equals("RuntimeVisibleAnnotations")
+                    && !name.equals("RuntimeInvisibleAnnotations"))
+                skipped("", info);
+        }
+    }
+
+    private void inners() throws IOException, jasError {
+        int attrs = r.getAttributes();
+        int host = r.findAttribute(attrs, "NestHost");
+        int members = r.findAttribute(attrs, "NestMembers");
+        int info = r.findAttribute(attrs, "InnerClasses");
+        if (host < 0 && members < 0 && info < 0)
+            return;
+        line("");
+        if (host >= 0)
+            line(".nesthost " + word(r.className(r.u2(host))));
+        if (members >= 0) {
+            int n = r.u2(members);
+            for (int i = 0; i < n; i++)
+                line(".nestmember "
+                     + word(r.className(r.u2(members + 2 + 2*i))));
+        }
+        if (info < 0)
+            return;
+        int n = r.u2(info);
+        for (int i = 0; i < n; i++) {
+            int pos = info + 2 + 8*i;
+            int inner = r.u2(pos);
+            int outer = r.u2(pos + 2);
+            int name = r.u2(pos + 4);
+            StringBuffer b = new StringBuffer(".inner class");
+            b.append(access(r.u2(pos + 6), CLASS_FLAGS));
+            if (name != 0)
+                b.append(' ').append(word(r.utf8(name)));
+            if (inner != 0)
+                b.append(" inner ").append(word(r.className(inner)));
+            if (outer != 0)
+                b.append(" outer ").append(word(r.className(outer)));
+            line(b.toString());
+        }
+    }
+
+    //
+    // annotations
+    //
+
+    // the visible annotations, then the invisible ones, as the
+    // assembler writes them back
+    private void annotations(int attrs, String indent)
+        throws IOException, jasError
+    {
+        int info = r.findAttribute(attrs, "RuntimeVisibleAnnotations");
+        if (info >= 0)
+            annotations(info, "visible", indent);
+        info = r.findAttribute(attrs, "RuntimeInvisibleAnnotations");
+        if (info >= 0)
+            annotations(info, "invisible", indent);
+    }
+
+    private void annotations(int info, String kind, String indent)
+        throws IOException, jasError
+    {
+        at = info;
+        int n = r.u2(at);
+        at += 2;
+        for (int i = 0; i < n; i++) {
+            line(indent + ".annotation " + kind + " "
+                 + word(r.utf8(r.u2(at))));
+            at += 2;
+            elements(indent + "    ");
+            line(indent + ".end annotation");
+        }
+    }
+
+    private void paramAnnotations(int info, String kind)
+        throws IOException, jasError
+    {
+        at = info;
+        int n = r.u1(at++);
+        for (int p = 1; p <= n; p++) {
+            int k = r.u2(at);
+            at += 2;
+            for (int i = 0; i < k; i++) {
+                line("    .annotation " + kind + "param " + p + " "
+                     + word(r.utf8(r.u2(at))));
+                at += 2;
+                elements("        ");
+                line("    .end annotation");
+            }
+        }
+    }
+
+    private void elements(String indent) throws IOException, jasError {
+        int n = r.u2(at);
+        at += 2;
+        for (int i = 0; i < n; i++) {
+            String name = word(r.utf8(r.u2(at)));
+            at += 2;
+            value(indent, name + " ");
+        }
+    }
+
+    //
+    // one element value, as "<type> = <value>" after the prefix
+    //
+    private void value(String indent, String prefix)
+        throws IOException, jasError
+    {
+        int tag = r.u1(at);
+        if (tag == '@') {
+            line(indent + prefix + "@ " + word(r.utf8(r.u2(at + 1)))
+                 + " = .annotation");
+            at += 3;
+            elements(indent + "    ");
+            line(indent + ".end annotation");
+            return;
+        }
+        if (tag != '[') {
+            StringBuffer b = new StringBuffer(indent + prefix);
+            b.append((char)tag);
+            if (tag == 'e')
+                b.append(' ').append(word(r.utf8(r.u2(at + 1))));
+            b.append(" = ");
+            simple(b, tag);
+            line(b.toString());
+            return;
+        }
+
+        int n = r.u2(at + 1);
+        at += 3;
+        if (n == 0) {           // the type is not in the class file
+            line(indent + prefix + "[I =");
+            return;
+        }
+        int etag = r.u1(at);
+        String ext = "";
+        if (etag == 'e' || etag == '@')
+            ext = r.utf8(r.u2(at + 1));
+        if (etag == '@') {
+            out.write(indent + prefix + "[@ " + word(ext) + " = ");
+            for (int i = 0; i < n; i++) {
+                sameType(etag, ext);
+                line((i == 0) ? ".annotation" : indent + ".annotation");
+                at += 3;
+                elements(indent + "    ");
+                line(indent + ".end annotation");
+            }
+            return;
+        }
+        if (etag == '[')
+            throw new jasError("annotation value is an array of arrays");
+        StringBuffer b = new StringBuffer(indent + prefix);
+        b.append('[').append((char)etag);
+        if (etag == 'e')
+            b.append(' ').append(word(ext));
+        b.append(" =");
+        for (int i = 0; i < n; i++) {
+            sameType(etag, ext);
+            b.append(' ');
+            simple(b, etag);
+        }
+        line(b.toString());
+    }
+
+    // the assembler can only make arrays of one type
+    private void sameType(int tag, String ext) throws jasError {
+        if (r.u1(at) != tag
+                || (ext.length() > 0 && !r.utf8(r.u2(at + 1)).equals(ext)))
+            throw new jasError("annotation array has values of"
+                               + " different types");
+    }
+
+    //
+    // a value that is not an array or an annotation
+    //
+    private void simple(StringBuffer b, int tag) throws jasError {
+        int i = r.u2(at + 1);
+        switch (tag) {
+        case 'B': case 'C': case 'I': case 'S': case 'Z':
+        case 'J': case 'F': case 'D':
+            b.append(constant(i));
+            break;
+        case 's': case 'c':
+            b.append(quote(r.utf8(i)));
+            break;
+        case 'e':
+            b.append(quote(r.utf8(r.u2(at + 3))));
+            at += 2;
+            break;
+        default:
+            throw new jasError("bad annotation value tag " + tag);
+        }
+        at += 3;
+    }
+
+    //
+    // fields
+    //
+
+    private void fields() throws IOException, jasError {
+        int n = r.getFieldCount();
+        if (n > 0)
+            line("");
+        for (int i = 0; i < n; i++)
+            field(r.getField(i));
+    }
+
+    private void field(int f) throws IOException, jasError {
+        String desc = r.memberDescriptor(f);
+        StringBuffer head = new StringBuffer(".field");
+        int attrs = r.memberAttributes(f);
+        head.append(access(r.memberAccess(f) | synthetic(attrs), CLASS_FLAGS));
+        head.append(' ').append(word(r.memberName(f)));
+        head.append(' ').append(word(desc));
+        String value = "";
+        String sig = null;
+        boolean simple = true;
+
+        // only what the one-line form can't say needs .end field;
+        // skipped attributes are comments and go either way
+        int n = r.attributeCount(attrs);
+        for (int i = 0; i < n; i++) {
+            int info = r.attribute(attrs, i);
+            String name = r.attributeName(info);
+            if (name.equals("ConstantValue"))
+                value = " = " + constant(r.u2(info));
+            else if (name.equals("Signature"))
+                sig = quote(r.utf8(r.u2(info)));
+            else if (name.equals("Deprecated")
+                     || name.equals("RuntimeVisibleAnnotations")
+                     || name.equals("RuntimeInvisibleAnnotations"))
+                simple = false;
+        }
+        if (simple && sig != null)
+            head.append(" signature ").append(sig);
+        line(head.append(value).toString());
+        if (!simple) {
+            if (sig != null)
+                line("    .signature " + sig);
+            if (r.findAttribute(attrs, "Deprecated") >= 0)
+                line("    .deprecated");
+            annotations(attrs, "    ");
+        }
+        for (int i = 0; i < n; i++) {
+            int info = r.attribute(attrs, i);
+            String name = r.attributeName(info);
+            if (!name.equals("ConstantValue")
+                    && !name.equals("Signature")
+                    && !name.equals("Synthetic")
+                    && !name.equals("Deprecated")
+                    && !name.equals("RuntimeVisibleAnnotations")
+                    && !name.equals("RuntimeInvisibleAnnotations"))
+                skipped("    ", info);
+        }
+        if (!simple)
+            line(".end field");
+    }
+
+    //
+    // methods
+    //
+
+    private void methods() throws IOException, jasError {
+        int n = r.getMethodCount();
+        for (int i = 0; i < n; i++) {
+            line("");
+            method(r.getMethod(i));
+        }
+    }
+
+    private void method(int m) throws IOException, jasError {
+        String name = r.memberName(m);
+        String desc = r.memberDescriptor(m);
+        int attrs = r.memberAttributes(m);
+        int acc = r.memberAccess(m) | synthetic(attrs);
+        line(".method" + access(acc, METHOD_FLAGS) + " " + word(name + desc));
+
+        // in the order the assembler writes them, whatever the
+        // compiler did
+        int info = r.findAttribute(attrs, "Signature");
+        if (info >= 0)
+            line("    .signature " + quote(r.utf8(r.u2(info))));
+        if (r.findAttribute(attrs, "Deprecated") >= 0)
+            line("    .deprecated");
+        info = r.findAttribute(attrs, "Exceptions");
+        if (info >= 0) {
+            int k = r.u2(info);
+            for (int j = 0; j < k; j++)
+                line("    .throws " + word(r.className(r.u2(info + 2 + 2*j))));
+        }
+        annotations(attrs, "    ");
+        info = r.findAttribute(attrs, "RuntimeVisibleParameterAnnotations");
+        if (info >= 0)
+            paramAnnotations(info, "visible");
+        info = r.findAttribute(attrs, "RuntimeInvisibleParameterAnnotations");
+        if (info >= 0)
+            paramAnnotations(info, "invisible");
+        info = r.findAttribute(attrs, "AnnotationDefault");
+        if (info >= 0) {
+            line("    .annotation default");
+            at = info;
+            value("        ", "");
+            line("    .end annotation");
+        }
+
+        int code = -1;
+        int n = r.attributeCount(attrs);
+        for (int i = 0; i < n; i++) {
+            info = r.attribute(attrs, i);
+            String aname = r.attributeName(info);
+            if (aname.equals("Code"))
+                code = info;
+            else if (!aname.equals("Signature")
+                     && !aname.equals("Deprecated")
+                     && !aname.equals("Synthetic")
+                     && !aname.equals("Exceptions")
+                     && !aname.equals("RuntimeVisibleAnnotations")
+                     && !aname.equals("RuntimeInvisibleAnnotations")
+                     && !aname.equals("RuntimeVisibleParameterAnnotations")
+                     && !aname.equals("RuntimeInvisibleParameterAnnotations")
+                     && !aname.equals("AnnotationDefault"))
+                skipped("    ", info);
+        }
+        if (code >= 0)
+            code(code, name, desc, acc);
+        line(".end method");
+    }
+
+    //
+    // the code of a method
+    //
+
+    private void code(int code, String name, String desc, int acc)
+        throws IOException, jasError
+    {
+        code_len = r.u4(code + 4);
+        code_start = code + 8;
+        insn = new boolean[code_len + 1];
+        label = new boolean[code_len + 1];
+        scan();
+
+        line("    .limit stack " + r.u2(code));
+        line("    .limit locals " + r.u2(code + 2));
+
+        int pos = code_start + code_len;
+        int ncatch = r.u2(pos);
+        for (int i = 0; i < ncatch; i++) {
+            int e = pos + 2 + 8*i;
+            target(r.u2(e));
+            target(r.u2(e + 2));
+            target(r.u2(e + 4));
+        }
+
+        int lines[] = new int[code_len];
+        for (int i = 0; i < code_len; i++)
+            lines[i] = -1;
+        String frames[] = new String[code_len];
+        int vars = -1, vtypes = -1;
+        int attrs = r.codeAttributes(code);
+        int n = r.attributeCount(attrs);
+        for (int i = 0; i < n; i++) {
+            int info = r.attribute(attrs, i);
+            String aname = r.attributeName(info);
+            if (aname.equals("LineNumberTable")) {
+                int k = r.u2(info);
+                for (int j = 0; j < k; j++) {
+                    int pc = r.u2(info + 2 + 4*j);
+                    if (pc < code_len && insn[pc])
+                        lines[pc] = r.u2(info + 4 + 4*j);
+                }
+            } else if (aname.equals("LocalVariableTable")) {
+                vars = info;
+            } else if (aname.equals("LocalVariableTypeTable")) {
+                vtypes = info;
+            } else if (aname.equals((r.getMajorVersion() >= 50)
+                                    ? "StackMapTable" : "StackMap")) {
+                frames(info, frames, name, desc, acc);
+            } else {
+                skipped("    ", info);
+            }
+        }
+        if (vars >= 0)
+            vars(vars, vtypes);
+
+        for (int i = 0; i < ncatch; i++) {
+            int e = pos + 2 + 8*i;
+            int type = r.u2(e + 6);
+            line("    .catch " + ((type == 0) ? "all"
+                                              : word(r.className(type)))
+                 + " from L" + r.u2(e) + " to L" + r.u2(e + 2)
+                 + " using L" + r.u2(e + 4));
+        }
+
+        for (int pc = 0; pc < code_len; pc = next(pc)) {
+            if (label[pc])
+                line("L" + pc + ":");
+            if (frames[pc] != null)
+                out.write(frames[pc]);
+            if (lines[pc] >= 0)
+                line("    .line " + lines[pc]);
+            instruction(pc);
+        }
+        if (label[code_len])
+            line("L" + code_len + ":");
+    }
+
+    // mark a label, which has to be at an instruction
+    private void target(int pc) throws jasError {
+        if (pc < 0 || pc > code_len || !insn[pc])
+            throw new jasError("offset " + pc
+                               + " is not that of an instruction");
+        label[pc] = true;
+    }
+
+    private void vars(int info, int types) throws IOException, jasError {
+        int n = r.u2(info);
+        for (int i = 0; i < n; i++) {
+            int e = info + 2 + 10*i;
+            int start = r.u2(e);
+            int end = start + r.u2(e + 2);
+            int slot = r.u2(e + 8);
+            if (end > code_len || !insn[start] || !insn[end]) {
+                line("    ; skipped local variable " + slot + " at " + start);
+                warnings++;
+                continue;
+            }
+            label[start] = label[end] = true;
+            String sig = "";
+            int k = (types < 0) ? 0 : r.u2(types);
+            for (int j = 0; j < k; j++) {
+                int t = types + 2 + 10*j;
+                if (r.u2(t) == start && r.u2(t + 2) == end - start
+                        && r.u2(t + 8) == slot) {
+                    sig = " signature " + quote(r.utf8(r.u2(t + 6)));
+                    break;
+                }
+            }
+            line("    .var " + slot + " is " + word(r.utf8(r.u2(e + 4)))
+                 + " " + word(r.utf8(r.u2(e + 6))) + sig
+                 + " from L" + start + " to L" + end);
+        }
+    }
+
+    //
+    // Stack map frames, as .stack blocks by offset. Each is written
+    // in full, whatever its form in the class file.
+    //
+    private void frames(int info, String frames[], String name,
+                        String desc, int acc)
+        throws IOException, jasError
+    {
+        boolean table = r.getMajorVersion() >= 50;
+        Vector locals = new Vector();
+        if ((acc & ACC_STATIC) == 0)
+            locals.addElement(name.equals("<init>") ? "UninitializedThis"
+                              : "Object " + word(r.getClassName()));
+        for (int i = 1; desc.charAt(i) != ')'; ) {
+            int end = i;
+            while (desc.charAt(end) == '[')
+                end++;
+            if (desc.charAt(end) == 'L')
+                end = desc.indexOf(';', end);
+            locals.addElement(item(desc.substring(i, end + 1)));
+            i = end + 1;
+        }
+        Vector stack = new Vector();
+
+        at = info;
+        int n = r.u2(at);
+        at += 2;
+        int pc = -1;
+        for (int i = 0; i < n; i++) {
+            if (!table) {
+                pc = r.u2(at);
+                at += 2;
+                locals = items(r.u2(at));
+                stack = items(r.u2(at));
+            } else {
+                int type = r.u1(at++);
+                if (type < 247) {
+                    pc += (type & 63) + 1;
+                } else {
+                    pc += r.u2(at) + 1;
+                    at += 2;
+                }
+                stack = new Vector();
+                if (type >= 64 && type < 128 || type == 247) {
+                    stack.addElement(item());
+                } else if (type >= 248 && type <= 250) {
+                    int k = 251 - type;
+                    if (k > locals.size())
+                        throw new jasError("bad stack map frame at " + pc);
+                    locals.setSize(locals.size() - k);
+                } else if (type >= 252 && type <= 254) {
+                    for (int k = type - 251; k > 0; k--)
+                        locals.addElement(item());
+                } else if (type == 255) {
+                    locals = items(r.u2(at));
+                    stack = items(r.u2(at));
+                } else if (type >= 128 && type < 247) {
+                    throw new jasError("bad stack map frame type " + type);
+                }
+            }
+            target(pc);
+            if (pc == code_len)
+                throw new jasError("stack map frame at the end of the code");
+
+            StringBuffer b = new StringBuffer();
+            if (frames[pc] != null)
+                b.append(frames[pc]);
+            b.append("    .stack\n        offset L" + pc + "\n");
+            for (int k = 0; k < locals.size(); k++)
+                b.append("        locals " + locals.elementAt(k) + "\n");
+            for (int k = 0; k < stack.size(); k++)
+                b.append("        stack " + stack.elementAt(k) + "\n");
+            b.append("    .end stack\n");
+            frames[pc] = b.toString();
+        }
+    }
+
+    // a count and that many items
+    private Vector items(int n) throws jasError {
+        at += 2;
+        Vector v = new Vector(n);
+        for (int i = 0; i < n; i++)
+            v.addElement(item());
+        return v;
+    }
+
+    private static final String ITEMS[] = {
+        "Top", "Integer", "Float", "Double", "Long", "Null",
+        "UninitializedThis"
+    };
+
+    private String item() throws jasError {
+        int tag = r.u1(at++);
+        if (tag < ITEMS.length)
+            return ITEMS[tag];
+        int v = r.u2(at);
+        at += 2;
+        if (tag == 7)
+            return "Object " + word(r.className(v));
+        if (tag == 8) {
+            target(v);
+            return "Uninitialized L" + v;
+        }
+        throw new jasError("bad stack map item " + tag);
+    }
+
+    // the item for a parameter type
+    private static String item(String type) {
+        switch (type.charAt(0)) {
+        case 'Z': case 'B': case 'C': case 'S': case 'I':
+            return "Integer";
+        case 'F':
+            return "Float";
+        case 'J':
+            return "Long";
+        case 'D':
+            return "Double";
+        case 'L':
+            return "Object " + word(type.substring(1, type.length() - 1));
+        default:
+            return "Object " + word(type);
+        }
+    }
+
+    //
+    // instructions
+    //
+
+    private int u1(int pc) { return r.u1(code_start + pc); }
+    private int s1(int pc) { return r.s1(code_start + pc); }
+    private int u2(int pc) { return r.u2(code_start + pc); }
+    private int s2(int pc) { return r.s2(code_start + pc); }
+    private int s4(int pc) { return r.u4(code_start + pc); }
+
+    // the offset of the instruction after the one at pc
+    private int next(int pc) throws jasError {
+        int opc = u1(pc);
+        switch (opc) {
+        case opc_tableswitch: {
+            int p = (pc + 4) & ~3;
+            return p + 12 + 4*(s4(p + 8) - s4(p + 4) + 1);
+        }
+        case opc_lookupswitch: {
+            int p = (pc + 4) & ~3;
+            return p + 8 + 8*s4(p + 4);
+        }
+        case opc_wide:
+            return pc + ((u1(pc + 1) == opc_iinc) ? 6 : 4);
+        default:
+            if (opc >= opcLengths.length || opcLengths[opc] == 0)
+                throw new jasError("bad opcode " + opc + " at " + pc);
+            return pc + opcLengths[opc];
+        }
+    }
+
+    //
+    // find where the instructions start, and mark the targets of
+    // branches and switches
+    //
+    private void scan() throws jasError {
+        int pc;
+        for (pc = 0; pc < code_len; pc = next(pc))
+            insn[pc] = true;
+        if (pc != code_len)
+            throw new jasError("the last instruction runs past the code");
+        insn[code_len] = true;
+        for (pc = 0; pc < code_len; pc = next(pc)) {
+            int opc = u1(pc);
+            if ((opc >= opc_ifeq && opc <= opc_jsr)
+                    || opc == opc_ifnull || opc == opc_ifnonnull) {
+                target(pc + s2(pc + 1));
+            } else if (opc == opc_goto_w || opc == opc_jsr_w) {
+                target(pc + s4(pc + 1));
+            } else if (opc == opc_tableswitch || opc == opc_lookupswitch) {
+                int p = (pc + 4) & ~3;
+                target(pc + s4(p));
+                int end = next(pc);
+                int step = (opc == opc_tableswitch) ? 4 : 8;
+                for (p += 12; p < end; p += step)
+                    target(pc + s4(p));
+            }
+        }
+    }
+
+    private void instruction(int pc) throws IOException, jasError {
+        int opc = u1(pc);
+        String name = opcNames[opc].substring(4);
+        String arg;
+        switch (opc) {
+        case opc_bipush:
+            arg = String.valueOf(s1(pc + 1));
+            break;
+        case opc_sipush:
+            arg = String.valueOf(s2(pc + 1));
+            break;
+        case opc_ldc:
+            arg = constant(u1(pc + 1));
+            break;
+        case opc_ldc_w:
+        case opc_ldc2_w:
+            arg = constant(u2(pc + 1));
+            break;
+        case opc_iload: case opc_lload: case opc_fload:
+        case opc_dload: case opc_aload:
+        case opc_istore: case opc_lstore: case opc_fstore:
+        case opc_dstore: case opc_astore:
+        case opc_ret:
+            arg = String.valueOf(u1(pc + 1));
+            break;
+        case opc_iinc:
+            arg = u1(pc + 1) + " " + s1(pc + 2);
+            break;
+        case opc_wide:
+            opc = u1(pc + 1);
+            name = opcNames[opc].substring(4) + "_w";
+            if (opc == opc_iinc)
+                arg = u2(pc + 2) + " " + s2(pc + 4);
+            else
+                arg = String.valueOf(u2(pc + 2));
+            break;
+        case opc_goto_w:
+        case opc_jsr_w:
+            arg = "L" + (pc + s4(pc + 1));
+            break;
+        case opc_getstatic: case opc_putstatic:
+        case opc_getfield: case opc_putfield: {
+            int i = u2(pc + 1);
+            arg = word(r.refClass(i) + "/" + r.refName(i))
+                  + " " + word(r.refType(i));
+            break;
+        }
+        case opc_invokevirtual:
+        case opc_invokespecial:
+        case opc_invokestatic: {
+            int i = u2(pc + 1);
+            arg = word(r.refClass(i) + "/" + r.refName(i) + r.refType(i));
+            if (r.tag(i) == CONSTANT_INTERFACEMETHOD)
+                arg = "interface " + arg;
+            break;
+        }
+        case opc_invokeinterface: {
+            int i = u2(pc + 1);
+            arg = word(r.refClass(i) + "/" + r.refName(i) + r.refType(i))
+                  + " " + u1(pc + 3);
+            break;
+        }
+        case opc_invokedynamic: {
+            int i = u2(pc + 1);
+            if (r.tag(i) != CONSTANT_INVOKEDYNAMIC)
+                throw new jasError("bad invokedynamic (offset " + pc + ")");
+            arg = word(r.refName(i) + r.refType(i)) + " "
+                  + bootstrap(r.bootstrapIndex(i));
+            break;
+        }
+        case opc_new: case opc_anewarray:
+        case opc_checkcast: case opc_instanceof:
+            arg = word(r.className(u2(pc + 1)));
+            break;
+        case opc_newarray:
+            switch (u1(pc + 1)) {
+            case T_BOOLEAN: arg = "boolean"; break;
+            case T_CHAR:    arg = "char"; break;
+            case T_FLOAT:   arg = "float"; break;
+            case T_DOUBLE:  arg = "double"; break;
+            case T_BYTE:    arg = "byte"; break;
+            case T_SHORT:   arg = "short"; break;
+            case T_INT:     arg = "int"; break;
+            case T_LONG:    arg = "long"; break;
+            default:
+                throw new jasError("bad newarray type " + u1(pc + 1));
+            }
+            break;
+        case opc_multianewarray:
+            arg = word(r.className(u2(pc + 1))) + " " + u1(pc + 3);
+            break;
+        case opc_tableswitch: {
+            int p = (pc + 4) & ~3;
+            int low = s4(p + 4);
+            int high = s4(p + 8);
+            line("    tableswitch " + low + " " + high);
+            for (p += 12; p < next(pc); p += 4)
+                line("        L" + (pc + s4(p)));
+            line("        default : L" + (pc + s4((pc + 4) & ~3)));
+            return;
+        }
+        case opc_lookupswitch: {
+            int p = (pc + 4) & ~3;
+            line("    lookupswitch");
+            for (p += 8; p < next(pc); p += 8)
+                line("        " + s4(p) + " : L" + (pc + s4(p + 4)));
+            line("        default : L" + (pc + s4((pc + 4) & ~3)));
+            return;
+        }
+        default:
+            if ((opc >= opc_ifeq && opc <= opc_jsr)
+                    || opc == opc_ifnull || opc == opc_ifnonnull) {
+                arg = "L" + (pc + s2(pc + 1));
+            } else {
+                arg = null;
+            }
+        }
+        line((arg == null) ? "    " + name : "    " + name + " " + arg);
+    }
+}
@@ -193,7 +193,7 @@ class InsnInfo {
         addInfo("i2c", RuntimeConstants.opc_int2char, "");
         // added this synonym
         addInfo("i2s", RuntimeConstants.opc_int2short, "");
-        addInfo("invokedynamic", RuntimeConstants.opc_invokedynamic, "method");
+        addInfo("invokedynamic", RuntimeConstants.opc_invokedynamic, "dynamic");
         addInfo("invokeinterface", RuntimeConstants.opc_invokeinterface, "interface");
         addInfo("invokenonvirtual", RuntimeConstants.opc_invokenonvirtual, "method");
         // added this synonym
@@ -0,0 +1,360 @@
+/**
+ * JasminTask is an Ant task that assembles Jasmin source files in the
+ * JVM Ant runs in, instead of starting jasmin once for each of them:
+ * <pre>
+ *   &lt;taskdef name="jasmin" classname="jasmin.JasminTask"
+ *            classpath="jasmin.jar"/&gt;
+ *   &lt;jasmin srcdir="src" destdir="classes" threads="4" frames="true"/&gt;
+ * </pre>
+ * The .j files under srcdir, or those of them the usual includes and
+ * excludes pick, are assembled into destdir, each at the path the
+ * name of its class gives, as jasmin -d does. A file whose class file
+ * is at least as new as it is left alone; the class is found from the
+ * .class or .interface directive, without parsing the file.
+ * <p>
+ * The files are assembled in parallel, one task per file on a pool of
+ * the given number of threads. The time each took, and its errors,
+ * are logged in the order of the fileset once all are done.
+ */
+
+package jasmin;
+
+import java.io.*;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.List;
+import java.util.Vector;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import org.apache.tools.ant.BuildException;
+import org.apache.tools.ant.DirectoryScanner;
+import org.apache.tools.ant.Project;
+import org.apache.tools.ant.taskdefs.MatchingTask;
+import org.apache.tools.ant.types.Path;
+import org.apache.tools.ant.types.Reference;
+import jas.CachedHierarchy;
+import jas.ClassLoaderHierarchy;
+import jas.jasError;
+
+public class JasminTask extends MatchingTask {
+
+    private File srcdir, destdir;
+    private Path classpath;
+    private String encoding;
+    private int threads = Runtime.getRuntime().availableProcessors();
+    private boolean linenumbers, limits, frames, optimize, switches;
+    private boolean nojsr, verify, small;
+    private boolean failonerror = true;
+
+    private CachedHierarchy hierarchy;
+
+    // what assembling one file came to
+    private static class Result {
+        String messages;
+        boolean ok;
+        long ms;
+    }
+
+    /** Where the .j files are looked for. */
+    public void setSrcdir(File srcdir) {
+        this.srcdir = srcdir;
+    }
+
+    /** Where the class files are written. */
+    public void setDestdir(File destdir) {
+        this.destdir = destdir;
+    }
+
+    /**
+     * Where the classes the code refers to are looked up for
+     * frames="true" and verify="true", besides destdir and the
+     * classes Ant itself can load.
+     */
+    public void setClasspath(Path classpath) {
+        if (this.classpath == null)
+            this.classpath = classpath;
+        else
+            this.classpath.append(classpath);
+    }
+
+    public Path createClasspath() {
+        if (classpath == null)
+            classpath = new Path(getProject());
+        return classpath.createPath();
+    }
+
+    public void setClasspathRef(Reference r) {
+        createClasspath().setRefid(r);
+    }
+
+    /** The encoding of the source files, as jasmin -e. */
+    public void setEncoding(String encoding) {
+        this.encoding = encoding;
+    }
+
+    /**
+     * How many files are assembled at once; the number of processors
+     * by default.
+     */
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
+    /** Number the lines of the source, as jasmin -g. */
+    public void setLinenumbers(boolean linenumbers) {
+        this.linenumbers = linenumbers;
+    }
+
+    /** As jasmin -limits. */
+    public void setLimits(boolean limits) {
+        this.limits = limits;
+    }
+
+    /** As jasmin -frames. */
+    public void setFrames(boolean frames) {
+        this.frames = frames;
+    }
+
+    /** As jasmin -O. */
+    public void setOptimize(boolean optimize) {
+        this.optimize = optimize;
+    }
+
+    /** As jasmin -switches. */
+    public void setSwitches(boolean switches) {
+        this.switches = switches;
+    }
+
+    /** As jasmin -nojsr. */
+    public void setNojsr(boolean nojsr) {
+        this.nojsr = nojsr;
+    }
+
+    /** As jasmin -verify. */
+    public void setVerify(boolean verify) {
+        this.verify = verify;
+    }
+
+    /** As jasmin -small. */
+    public void setSmall(boolean small) {
+        this.small = small;
+    }
+
+    /** Whether the build stops when a file has errors; true by default. */
+    public void setFailonerror(boolean failonerror) {
+        this.failonerror = failonerror;
+    }
+
+    public void execute() throws BuildException {
+        if (srcdir == null)
+            throw new BuildException("srcdir attribute must be set",
+                                     getLocation());
+        if (!srcdir.isDirectory())
+            throw new BuildException("srcdir " + srcdir
+                                     + " is not a directory", getLocation());
+        if (destdir == null)
+            throw new BuildException("destdir attribute must be set",
+                                     getLocation());
+        if (threads < 1)
+            throw new BuildException("threads must be at least 1",
+                                     getLocation());
+
+        DirectoryScanner ds = getDirectoryScanner(srcdir);
+        String names[] = ds.getIncludedFiles();
+        Vector files = new Vector();
+        int current = 0;
+        for (int i = 0; i < names.length; i++) {
+            if (!names[i].endsWith(".j"))
+                continue;
+            File src = new File(srcdir, names[i]);
+            File out = outputFor(src);
+            if (out != null && out.lastModified() >= src.lastModified()) {
+                log(names[i] + " is up to date", Project.MSG_VERBOSE);
+                current++;
+            } else {
+                files.addElement(names[i]);
+            }
+        }
+        if (files.size() == 0) {
+            if (current > 0)
+                log(plural(current, "file") + " up to date",
+                    Project.MSG_VERBOSE);
+            return;
+        }
+        log("Assembling " + plural(files.size(), "file") + " to " + destdir
+            + (current > 0 ? " (" + current + " up to date)" : ""));
+
+        if (frames || verify)
+            hierarchy = new CachedHierarchy(
+                new ClassLoaderHierarchy(outputLoader()));
+        Vector tasks = new Vector();
+        for (int i = 0; i < files.size(); i++) {
+            final String name = (String)files.elementAt(i);
+            tasks.addElement(new Callable() {
+                public Object call() {
+                    return assemble(name);
+                }
+            });
+        }
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        long t0 = System.nanoTime();
+        List done;
+        try {
+            done = pool.invokeAll(tasks);
+        } finally {
+            pool.shutdown();
+        }
+        long t1 = System.nanoTime();
+
+        int failed = 0;
+        for (int i = 0; i < done.size(); i++) {
+            String name = (String)files.elementAt(i);
+            Result r;
+            try {
+                r = (Result)((Future)done.get(i)).get();
+            } catch (Exception e) {
+                r = new Result();
+                r.messages = name + ": " + e + "\n";
+            }
+            if (r.messages.length() > 0)
+                log(r.messages.trim(), Project.MSG_ERR);
+            if (r.ok) {
+                log(name + ": " + r.ms + " ms");
+            } else {
+                failed++;
+            }
+        }
+        log("Assembled " + plural(files.size() - failed, "file") + " in "
+            + (t1 - t0) / 1000000 + " ms on " + plural(threads, "thread"));
+        if (failed > 0) {
+            String msg = plural(failed, "file") + " failed to assemble";
+            if (failonerror)
+                throw new BuildException(msg, getLocation());
+            log(msg, Project.MSG_ERR);
+        }
+    }
+
+    private static String plural(int n, String what) {
+        return n + " " + what + (n == 1 ? "" : "s");
+    }
+
+    // assemble one file, catching its errors
+    private Result assemble(String name) {
+        Result r = new Result();
+        long t0 = System.nanoTime();
+        File src = new File(srcdir, name);
+        ByteArrayOutputStream msgs = new ByteArrayOutputStream();
+        PrintStream err = new PrintStream(msgs);
+        ClassFile classFile = new ClassFile();
+        classFile.setAutoLimits(limits);
+        classFile.setAutoFrames(frames);
+        classFile.setOptimize(optimize);
+        classFile.setChooseSwitches(switches);
+        classFile.setInlineSubroutines(nojsr);
+        classFile.setVerify(verify);
+        classFile.setMinimize(small);
+        classFile.setClassHierarchy(hierarchy);
+        classFile.setErrorStream(err);
+        try {
+            Reader inp = new BufferedReader(encoding == null
+                ? new InputStreamReader(new FileInputStream(src))
+                : new InputStreamReader(new FileInputStream(src), encoding));
+            try {
+                classFile.readJasmin(inp, src.getName(), linenumbers);
+            } finally {
+                inp.close();
+            }
+            if (classFile.errorCount() == 0) {
+                // written in full before the file is created, so that
+                // a class with errors leaves nothing behind
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                classFile.write(bytes);
+                File out = classFileFor(classFile.getClassName());
+                File dir = out.getParentFile();
+                if (dir != null && !dir.isDirectory() && !dir.mkdirs())
+                    throw new IOException("can't create " + dir);
+                OutputStream outp = new FileOutputStream(out);
+                try {
+                    bytes.writeTo(outp);
+                } finally {
+                    outp.close();
+                }
+            }
+        } catch (jasError e) {
+            classFile.report_error("JAS Error: " + e.getMessage(), e.numTag);
+        } catch (Exception e) {
+            classFile.report_error(name + ": exception - <"
+                                   + e.getClass().getName() + "> "
+                                   + e.getMessage() + ".");
+        }
+        if (classFile.errorCount() > 0)
+            err.println(name + ": Found " + classFile.errorCount()
+                        + " errors");
+        err.flush();
+        r.messages = msgs.toString();
+        r.ok = classFile.errorCount() == 0;
+        r.ms = (System.nanoTime() - t0) / 1000000;
+        return r;
+    }
+
+    // where the class of this name is written, as jasmin -d puts it
+    private File classFileFor(String class_name) {
+        String class_path[] = ScannerUtils.splitClassField(class_name);
+        File dir = destdir;
+        if (class_path[0] != null)
+            dir = new File(destdir, ScannerUtils.convertChars(
+                                        class_path[0], "./",
+                                        File.separatorChar));
+        return new File(dir, class_path[1] + ".class");
+    }
+
+    // the class file made from src, going by its .class or .interface
+    // directive, or null if it can't be told that way
+    private File outputFor(File src) {
+        try {
+            BufferedReader inp = new BufferedReader(encoding == null
+                ? new InputStreamReader(new FileInputStream(src))
+                : new InputStreamReader(new FileInputStream(src), encoding));
+            try {
+                for (String s; (s = inp.readLine()) != null; ) {
+                    s = s.trim();
+                    if (s.startsWith(".method") || s.startsWith(".field"))
+                        return null;
+                    if (!s.startsWith(".class") && !s.startsWith(".interface"))
+                        continue;
+                    String words[] = s.split("\\s+");
+                    String name = null;
+                    for (int i = 1; i < words.length
+                                    && !words[i].startsWith(";"); i++)
+                        name = words[i];
+                    if (name == null || name.indexOf('\'') >= 0
+                                     || name.indexOf('"') >= 0)
+                        return null;
+                    return classFileFor(name);
+                }
+                return null;
+            } finally {
+                inp.close();
+            }
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    // finds classes in destdir and the classpath, then where Ant does
+    private ClassLoader outputLoader() {
+        ClassLoader parent = JasminTask.class.getClassLoader();
+        String path[] = (classpath == null) ? new String[0] : classpath.list();
+        URL urls[] = new URL[path.length + 1];
+        try {
+            urls[0] = destdir.toURI().toURL();
+            for (int i = 0; i < path.length; i++)
+                urls[i + 1] = getProject().resolveFile(path[i])
+                                  .toURI().toURL();
+        } catch (java.net.MalformedURLException e) {
+            return parent;
+        }
+        return new URLClassLoader(urls, parent);
+    }
+}
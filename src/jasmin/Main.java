@@ -8,8 +8,14 @@
 package jasmin;
 
 import java.io.*;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.concurrent.ForkJoinPool;
 import jas.jasError;
-import jas.StackMap;
+import jas.CachedHierarchy;
+import jas.ClassReader;
+import jas.ClassLoaderHierarchy;
+import jas.JitReport;
 
 /**
  * Main is the main entry point for Jasmin - it supplies the main()
@@ -32,11 +38,81 @@ public class Main {
     /* Autogenerate linenumbers */
     private boolean generate_linenum = false;
 
+    /* Compute .limit stack/locals from the code */
+    private boolean auto_limits = false;
+
+    /* Run the peephole optimizer */
+    private boolean optimize = false;
+
+    /* Pick tableswitch or lookupswitch from the cases */
+    private boolean choose_switches = false;
+
+    /* Copy jsr subroutines into their callers */
+    private boolean inline_jsr = false;
+
+    /* Check the code the way the JVM's verifier does */
+    private boolean verify = false;
+
+    /* Leave out debugging information and unused constants */
+    private boolean small = false;
+
+    /* Write out each method as soon as it ends */
+    private boolean stream_methods = false;
+
+    /* Compute StackMapTable frames from the code */
+    private boolean auto_frames = false;
+
+    /* Encode the methods of each class in parallel */
+    private boolean parallel = false;
+    private ForkJoinPool write_pool = null;
+
+    /* Inline small static and private methods of the same class */
+    private boolean inline = false;
+
+    /* Count how often the code of each method is reached */
+    private boolean instrument = false;
+
+    /* Turn .class files and jars back into Jasmin source */
+    private boolean disassemble = false;
+
+    /* Class file whose methods are replaced by those assembled */
+    private String patch_path = null;
+
+    /* Where the hashes of the methods of each file are kept */
+    private String cache_path = null;
+
+    /* Where to write the size and shape of every method */
+    private String report_path = null;
+    private JitReport jit_report = null;
+
+    /* Classes looked up for frames, shared by all input files */
+    private CachedHierarchy hierarchy = null;
+
     /* Commandline syntax (help) */
     private static final String help1 =
-"usage: jasmin [-d <outpath>] [-g] [-e <encoding>] <file> [<file> ...]\n";
+"usage: jasmin [-d <outpath>] [-g] [-limits] [-frames] [-O] [-switches]\n" +
+"              [-nojsr] [-verify] [-stream] [-parallel] [-report-jit <file>]\n" +
+"              [-instrument] [-inline] [-patch <class>] [-cache <dir>]\n" +
+"              [-small] [-e <encoding>] <file> [<file> ...]\n" +
+"   or: jasmin -disassemble [-d <outpath>] [-parallel] <class or jar> ...\n" +
+"   or: jasmin -verify [-parallel] <class or jar> ...\n";
     private static final String help2 =
 "           where   -g - autogenerate linenumbers\n" +
+"              -limits - compute .limit stack/locals from the code\n" +
+"              -frames - compute .stack frames for version 50+ classes\n" +
+"                   -O - optimize the bytecode (peephole)\n" +
+"            -switches - choose tableswitch or lookupswitch by density\n" +
+"               -nojsr - replace jsr and ret by copies of the subroutines\n" +
+"              -verify - check the code as the JVM's verifier would\n" +
+"              -stream - write out each method as soon as it ends\n" +
+"            -parallel - encode the methods of a class on all processors\n" +
+"          -report-jit - write method sizes and JIT limits as JSON\n" +
+"          -instrument - count method entries and branches (implies -g)\n" +
+"              -inline - inline small static/private methods of a class\n" +
+"         -disassemble - write .class files and jars out as .j files\n" +
+"               -patch - put the methods assembled into this class file\n" +
+"               -cache - only assemble the methods changed since last time\n" +
+"               -small - make the class files as small as they can be\n" +
 "                   -e - codepage for inputfile encoding\n" +
 "                   -d - path for generated classfiles\n" +
 "                file  - sourcefile (wildcards are allowed)\n";
@@ -55,6 +131,34 @@ public class Main {
         System.err.println("Duplicate option " +opt+ " ignored");
     }
 
+    private static void conflicting_option(String opt, String other)
+    {
+        System.err.println("Invalid command line: option " +opt+
+                           " can't be used with " +other);
+        System.exit(-1);
+    }
+
+    // a ClassFile with the options of the command line
+    private ClassFile newClassFile()
+    {
+        ClassFile classFile = new ClassFile();
+        classFile.setAutoLimits(auto_limits);
+        classFile.setAutoFrames(auto_frames);
+        classFile.setOptimize(optimize);
+        classFile.setChooseSwitches(choose_switches);
+        classFile.setInlineSubroutines(inline_jsr);
+        classFile.setVerify(verify);
+        classFile.setStreamMethods(stream_methods);
+        classFile.setWritePool(write_pool);
+        classFile.setClassHierarchy(hierarchy);
+        classFile.setJitReport(jit_report);
+        classFile.setInstrument(instrument);
+        classFile.setMinimize(small);
+        if (inline)
+            classFile.setInline(JitReport.MAX_INLINE_SIZE);
+        return classFile;
+    }
+
     /**
      * Called to assemble a single file.
      * @param fname is the name of the file containing the Jasmin source code.
@@ -64,10 +168,18 @@ public class Main {
         File out_file = null;
         FileOutputStream outp = null;
         File file = new File(fname);
-        ClassFile classFile = new ClassFile();
+        ClassFile classFile = newClassFile();
+        String source = null;
         String iocause = fname + ": file not found";
+        MethodCache cache = null;
+        int kept = -1;
 
         try {
+            if (patch_path != null) {
+                iocause = patch_path + ": file not found";
+                classFile.setPatch(ClassReader.map(new File(patch_path)));
+                iocause = fname + ": file not found";
+            }
             BufferedReader inp;
             {
               FileInputStream fs = new FileInputStream(fname);
@@ -78,6 +190,26 @@ public class Main {
                 ir = new InputStreamReader(fs, encoding);
               inp = new BufferedReader(ir);
             }
+            if (cache_path != null) {
+                StringBuffer text = new StringBuffer();
+                char buf[] = new char[8192];
+                for (int n; (n = inp.read(buf)) > 0; )
+                    text.append(buf, 0, n);
+                inp.close();
+                source = text.toString();
+                inp = new BufferedReader(new StringReader(source));
+            }
+            if (cache_path != null) {
+                cache = new MethodCache(
+                            MethodCache.forSource(new File(cache_path), file),
+                            source, cacheOptions(), generate_linenum);
+                ClassReader prev = cache.previous();
+                if (prev != null) {
+                    classFile.setReuse(prev, cache.kept());
+                    kept = cache.keptCount();
+                    inp = new BufferedReader(new StringReader(cache.changed()));
+                }
+            }
             classFile.readJasmin(inp, file.getName(), generate_linenum);
             inp.close();
 
@@ -122,11 +254,33 @@ public class Main {
                 }
             }
 
-            outp = new FileOutputStream(out_file);
-            classFile.write(outp);
+            String note = "";
+            if (patch_path != null || cache != null) {
+                // the class patched may be the one written over, so
+                // it is read to the end first
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                classFile.write(bytes);
+                outp = new FileOutputStream(out_file);
+                bytes.writeTo(outp);
+                if (cache != null) {
+                    iocause = cache_path + ": can't write to the cache";
+                    cache.save(out_file, bytes.toByteArray(), kept >= 0);
+                }
+            } else {
+                outp = new FileOutputStream(out_file);
+                classFile.write(outp);
+            }
             outp.close();
             outp = null; // as marker
-            System.out.println("Generated: " + out_file.getPath());
+            if (small) {
+                int normal = classFile.getNormalSize();
+                note = " (" + out_file.length() + " bytes"
+                    + (normal >= 0 ? ", " + (normal - out_file.length())
+                                     + " saved" : "") + ")";
+            }
+            if (kept >= 0)
+                note = " (" + kept + " methods kept)";
+            System.out.println("Generated: " + out_file.getPath() + note);
 
         } catch (java.io.FileNotFoundException e) {
             System.err.println(iocause);
@@ -152,6 +306,102 @@ public class Main {
         }
     }
 
+    /**
+     * Called to disassemble a single class file, or all the classes
+     * of a jar.
+     * @param fname is the name of the .class or .jar file
+     */
+    public final void disassemble(String fname)
+    {
+        File dest = new File(dest_path == null ? "." : dest_path);
+        try {
+            if (fname.endsWith(".jar") || fname.endsWith(".zip")) {
+                ForkJoinPool pool = (write_pool != null)
+                                    ? write_pool : ForkJoinPool.commonPool();
+                int n = Disassembler.disassembleJar(new File(fname), dest,
+                                                    pool, System.err);
+                System.out.println("Disassembled " + n + " classes from "
+                                   + fname);
+            } else {
+                File out = Disassembler.disassemble(
+                                ClassReader.map(new File(fname)), dest);
+                System.out.println("Generated: " + out.getPath());
+            }
+        } catch (java.io.FileNotFoundException e) {
+            System.err.println(fname + ": file not found");
+            System.exit(-1);
+        } catch (jasError e) {
+            System.err.println(fname + ": " + e.getMessage());
+        } catch (IOException e) {
+            System.err.println(fname + ": " + e);
+        }
+    }
+
+    private static boolean isClassFile(String fname)
+    {
+        return fname.endsWith(".class") || fname.endsWith(".jar")
+            || fname.endsWith(".zip");
+    }
+
+    /**
+     * Called to verify a class file, or all the classes of a jar,
+     * without assembling anything.
+     * @param fname is the name of the .class or .jar file
+     */
+    public final void check(String fname)
+    {
+        try {
+            ClassChecker checker;
+            int n = 1;
+            if (fname.endsWith(".jar") || fname.endsWith(".zip")) {
+                ForkJoinPool pool = (write_pool != null)
+                                    ? write_pool : ForkJoinPool.commonPool();
+                checker = new ClassChecker(
+                                ClassChecker.hierarchyFor(new File(fname), null));
+                n = checker.checkJar(new File(fname), pool, System.err);
+            } else {
+                ClassReader r = ClassReader.map(new File(fname));
+                checker = new ClassChecker(ClassChecker.hierarchyFor(
+                                new File(fname), r.getClassName()));
+                System.err.print(checker.check(r, fname));
+            }
+            System.out.println("Verified " + n + " classes from " + fname
+                               + ": " + checker.getProblemCount()
+                               + " problems");
+        } catch (java.io.FileNotFoundException e) {
+            System.err.println(fname + ": file not found");
+            System.exit(-1);
+        } catch (jasError e) {
+            System.err.println(fname + ": " + e.getMessage());
+        } catch (IOException e) {
+            System.err.println(fname + ": " + e);
+        }
+    }
+
+    // what the code of a method depends on besides its text
+    private String cacheOptions()
+    {
+        return version + (generate_linenum ? " -g" : "")
+            + (auto_limits ? " -limits" : "") + (auto_frames ? " -frames" : "")
+            + (optimize ? " -O" : "") + (choose_switches ? " -switches" : "")
+            + (inline_jsr ? " -nojsr" : "") + (verify ? " -verify" : "")
+            + (instrument ? " -instrument" : "");
+    }
+
+    // classes on the class path, and those already in the output
+    // directory, can be looked up for computing frames
+    private ClassLoader outputLoader()
+    {
+        ClassLoader parent = Main.class.getClassLoader();
+        try {
+            URL dir = new File(dest_path == null ? "." : dest_path)
+                            .toURI().toURL();
+            return new URLClassLoader(new URL[] { dir }, parent);
+        } catch (java.net.MalformedURLException e) {
+            return parent;
+        }
+    }
+
     public static void main(String args[])
     {
         new Main().run(args);
@@ -182,6 +432,43 @@ public class Main {
             }
             if (args[i].equals("-g")) {
                 generate_linenum = true;
+            } else if (args[i].equals("-limits")) {
+                auto_limits = true;
+            } else if (args[i].equals("-frames")) {
+                auto_frames = true;
+            } else if (args[i].equals("-O")) {
+                optimize = true;
+            } else if (args[i].equals("-switches")) {
+                choose_switches = true;
+            } else if (args[i].equals("-nojsr")) {
+                inline_jsr = true;
+            } else if (args[i].equals("-verify")) {
+                verify = true;
+            } else if (args[i].equals("-small")) {
+                small = true;
+            } else if (args[i].equals("-stream")) {
+                stream_methods = true;
+            } else if (args[i].equals("-parallel")) {
+                parallel = true;
+            } else if (args[i].equals("-disassemble")) {
+                disassemble = true;
+            } else if (args[i].equals("-inline")) {
+                inline = true;
+            } else if (args[i].equals("-instrument")) {
+                instrument = true;
+                generate_linenum = true;
+            } else if (args[i].equals("-report-jit")) {
+                if (++i >= args.length) unarg_option("-report-jit");
+                if (report_path != null) duplicate_option("-report-jit");
+                else report_path = args[i];
+            } else if (args[i].equals("-patch")) {
+                if (++i >= args.length) unarg_option("-patch");
+                if (patch_path != null) duplicate_option("-patch");
+                else patch_path = args[i];
+            } else if (args[i].equals("-cache")) {
+                if (++i >= args.length) unarg_option("-cache");
+                if (cache_path != null) duplicate_option("-cache");
+                else cache_path = args[i];
             } else if (args[i].equals("-d")) {
                 if (++i >= args.length) unarg_option("-d");
                 if (dest_path != null) duplicate_option("-d");
@@ -195,10 +482,67 @@ public class Main {
             }
         }
 
+        if (auto_frames || verify)
+            hierarchy = new CachedHierarchy(
+                new ClassLoaderHierarchy(outputLoader()));
+        if (parallel)
+            write_pool = new ForkJoinPool();
+
+        if (disassemble) {
+            for (i = 0; i < num_files; i++) {
+                disassemble(files[i]);
+            }
+            return;
+        }
+
+        if (verify) {
+            // classes already written are checked as they are
+            int n = 0;
+            for (i = 0; i < num_files; i++) {
+                if (isClassFile(files[i]))
+                    check(files[i]);
+                else
+                    files[n++] = files[i];
+            }
+            num_files = n;
+        }
+
+        if (report_path != null)
+            jit_report = new JitReport();
+        if (cache_path != null) {
+            // these look at all the methods of a class at once, or
+            // at its whole pool
+            if (patch_path != null) conflicting_option("-cache", "-patch");
+            if (inline) conflicting_option("-cache", "-inline");
+            if (jit_report != null) conflicting_option("-cache", "-report-jit");
+            if (small) conflicting_option("-cache", "-small");
+        }
+        if (small && patch_path != null) {
+            // the pool of the class patched is kept as it is
+            System.err.println("-small ignored with -patch");
+            small = false;
+        }
+        if (small && stream_methods) {
+            // this writes methods out before the pool is collected
+            System.err.println("-stream ignored with -small");
+            stream_methods = false;
+        }
+
         for (i = 0; i < num_files; i++) {
-            StackMap.reinit();
             assemble(files[i]);
         }
+
+        if (jit_report != null) {
+            try {
+                Writer w = new OutputStreamWriter(
+                                new FileOutputStream(report_path), "UTF-8");
+                jit_report.write(w);
+                w.close();
+            } catch (IOException e) {
+                System.err.println(report_path + ": file can't be created");
+                System.exit(-1);
+            }
+        }
     }
 };
 
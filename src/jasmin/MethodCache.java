@@ -0,0 +1,257 @@
+/**
+ * MethodCache lets a class be assembled again after an edit without
+ * going over the methods that didn't change. For each source file it
+ * keeps a hash of every .method ... .end method block, in the order
+ * of the methods of the class made from it, along with a hash of the
+ * rest of the file and the options, and a checksum of the class.
+ * <p>
+ * When the rest of the file is as it was and the class is still the
+ * one that was written, the methods whose blocks are unchanged are
+ * copied from it as bytes (see jas.ClassEnv#reuse). The blocks are
+ * blanked out of the text given to the parser, keeping their lines,
+ * so only the header and the changed methods are read. With line
+ * numbers from the source (-g), a method that has moved to another
+ * line is assembled again, as its line numbers are different.
+ * <p>
+ * Constants that only removed or changed methods used stay in the
+ * pool, so once it has grown by a quarter over the last full
+ * assembly, the class is assembled from scratch again.
+ */
+
+package jasmin;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Hashtable;
+import java.util.Vector;
+import java.util.zip.CRC32;
+import jas.ClassReader;
+import jas.jasError;
+
+class MethodCache {
+
+    private static final String MAGIC = "jasmin method cache 1";
+
+    private File file;          // where the hashes are kept
+    private String text;        // the source
+    private Vector blocks;      // int[] { start, end, line } of each
+                                // method
+    private String hashes[];    // of each method block
+    private String header;      // of the rest, with the options
+
+    // what was read from the cache file
+    private int base_pool;      // pool size at the last full assembly
+    private int keep[];         // method of the old class for each
+                                // block, or -1
+
+    MethodCache(File file, String text, String options, boolean lines)
+                throws IOException {
+        this.file = file;
+        this.text = text;
+        blocks = new Vector();
+        MessageDigest rest = digest();
+        rest.update(bytes(options + "\n"));
+
+        int line = 1, start = -1, start_line = 0, plain = 0;
+        for (int i = 0; i < text.length(); ) {
+            int end = text.indexOf('\n', i);
+            end = (end < 0) ? text.length() : end + 1;
+            String s = text.substring(i, end).trim();
+            if (start < 0 && directive(s, ".method")) {
+                rest.update(bytes(text.substring(plain, i)));
+                start = i;
+                start_line = line;
+            } else if (start >= 0 && directive(s, ".end")
+                       && directive(s.substring(4).trim(), "method")) {
+                blocks.addElement(new int[] { start, end, start_line });
+                start = -1;
+                plain = end;
+            }
+            line++;
+            i = end;
+        }
+        if (start >= 0)         // no .end method; the parser says so
+            plain = start;
+        rest.update(bytes(text.substring(plain)));
+        header = hex(rest.digest());
+
+        hashes = new String[blocks.size()];
+        for (int i = 0; i < hashes.length; i++) {
+            int b[] = (int[])blocks.elementAt(i);
+            MessageDigest d = digest();
+            if (lines)
+                d.update(bytes(b[2] + "\n"));
+            d.update(bytes(text.substring(b[0], b[1])));
+            hashes[i] = hex(d.digest());
+        }
+    }
+
+    private static boolean directive(String s, String name) {
+        return s.startsWith(name) && (s.length() == name.length()
+                       || Character.isWhitespace(s.charAt(name.length())));
+    }
+
+    private static MessageDigest digest() {
+        try {
+            return MessageDigest.getInstance("SHA-1");
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException(e.toString());
+        }
+    }
+
+    private static byte[] bytes(String s) throws IOException {
+        return s.getBytes("UTF-8");
+    }
+
+    private static String hex(byte b[]) {
+        StringBuffer s = new StringBuffer(2 * b.length);
+        for (int i = 0; i < b.length; i++)
+            s.append(Character.forDigit((b[i] >> 4) & 0xf, 16))
+             .append(Character.forDigit(b[i] & 0xf, 16));
+        return s.toString();
+    }
+
+    private static long crc(byte b[]) {
+        CRC32 c = new CRC32();
+        c.update(b, 0, b.length);
+        return c.getValue();
+    }
+
+    /**
+     * Reads what was kept from the last time the file was assembled.
+     * @return the class written then, or null if it can't be reused
+     */
+    ClassReader previous() throws IOException, jasError {
+        if (!file.exists())
+            return null;
+        Vector lines = new Vector();
+        BufferedReader in = new BufferedReader(new InputStreamReader(
+                                new FileInputStream(file), "UTF-8"));
+        try {
+            String s;
+            while ((s = in.readLine()) != null)
+                lines.addElement(s);
+        } finally {
+            in.close();
+        }
+        if (lines.size() < 6 || !MAGIC.equals(lines.elementAt(0))
+                || !header.equals(lines.elementAt(1)))
+            return null;
+
+        File cls = new File((String)lines.elementAt(2));
+        long length, sum;
+        try {
+            length = Long.parseLong((String)lines.elementAt(3));
+            sum = Long.parseLong((String)lines.elementAt(4));
+            base_pool = Integer.parseInt((String)lines.elementAt(5));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        if (!cls.isFile() || cls.length() != length)
+            return null;
+        byte b[] = new byte[(int)length];
+        DataInputStream c = new DataInputStream(new FileInputStream(cls));
+        try {
+            c.readFully(b);
+        } finally {
+            c.close();
+        }
+        if (crc(b) != sum)
+            return null;
+        ClassReader prev = new ClassReader(ByteBuffer.wrap(b));
+        if (prev.getConstantCount() > base_pool + base_pool / 4)
+            return null;        // time to clear out the pool
+
+        Hashtable old = new Hashtable();
+        for (int i = 6; i < lines.size(); i++)
+            old.put(lines.elementAt(i), Integer.valueOf(i - 6));
+        if (old.size() != prev.getMethodCount())
+            return null;
+        keep = new int[hashes.length];
+        for (int i = 0; i < hashes.length; i++) {
+            Integer at = (Integer)old.remove(hashes[i]);
+            keep[i] = (at == null) ? -1 : at.intValue();
+        }
+        return prev;
+    }
+
+    /**
+     * @return for each method block, the method of the previous class
+     *         that can be kept for it, or -1
+     */
+    int[] kept() {
+        return keep;
+    }
+
+    /**
+     * @return the number of methods kept
+     */
+    int keptCount() {
+        int n = 0;
+        for (int i = 0; i < keep.length; i++)
+            if (keep[i] >= 0)
+                n++;
+        return n;
+    }
+
+    /**
+     * @return the source, with the blocks of the methods kept replaced
+     *         by as many empty lines
+     */
+    String changed() {
+        StringBuffer b = new StringBuffer(text.length());
+        int at = 0;
+        for (int i = 0; i < keep.length; i++) {
+            if (keep[i] < 0)
+                continue;
+            int block[] = (int[])blocks.elementAt(i);
+            b.append(text, at, block[0]);
+            for (int j = block[0]; j < block[1]; j++)
+                if (text.charAt(j) == '\n')
+                    b.append('\n');
+            at = block[1];
+        }
+        return b.append(text, at, text.length()).toString();
+    }
+
+    /**
+     * Keeps the hashes for the class that was written. Nothing is kept
+     * if the methods of the class are not those of the file one for
+     * one.
+     */
+    void save(File cls, byte b[], boolean reused)
+                throws IOException, jasError {
+        ClassReader r = new ClassReader(ByteBuffer.wrap(b));
+        if (r.getMethodCount() != hashes.length) {
+            file.delete();
+            return;
+        }
+        file.getParentFile().mkdirs();
+        PrintWriter out = new PrintWriter(new BufferedWriter(
+                            new OutputStreamWriter(
+                              new FileOutputStream(file), "UTF-8")));
+        out.print(MAGIC + "\n" + header + "\n");
+        out.print(cls.getAbsolutePath() + "\n" + b.length + "\n"
+                  + crc(b) + "\n");
+        out.print((reused ? base_pool : r.getConstantCount()) + "\n");
+        for (int i = 0; i < hashes.length; i++)
+            out.print(hashes[i] + "\n");
+        out.close();
+        if (out.checkError())
+            throw new IOException(file + ": can't be written");
+    }
+
+    /**
+     * @return the cache file for a source file, named after it and the
+     *         directory it is in
+     */
+    static File forSource(File dir, File source) throws IOException {
+        String where = source.getCanonicalFile().getParent();
+        MessageDigest d = digest();
+        d.update(bytes(where == null ? "" : where));
+        return new File(dir, source.getName() + "-"
+                        + hex(d.digest()).substring(0, 8) + ".cache");
+    }
+}
@@ -12,8 +12,13 @@ import java_cup.runtime.*;
 abstract class ReservedWords {
     private static Hashtable reserved_words;
 
+    // the parser stores its state in the tokens it is handed, so every
+    // caller gets a fresh copy rather than the shared table entry
     public static token get(String name) {
-    	return (token)reserved_words.get(name);
+    	token tok = (token)reserved_words.get(name);
+    	if (tok == null)
+    	    return null;
+    	return new token(tok.sym);
     }
 
     public static boolean contains(String name) {
@@ -41,6 +46,8 @@ abstract class ReservedWords {
         reserved_words.put(".limit", new token(sym.DLIMIT));
         reserved_words.put(".line", new token(sym.DLINE));
         reserved_words.put(".method", new token(sym.DMETHOD));
+        reserved_words.put(".nesthost", new token(sym.DNESTHOST));
+        reserved_words.put(".nestmember", new token(sym.DNESTMEMBER));
         reserved_words.put(".set", new token(sym.DSET));
         reserved_words.put(".source", new token(sym.DSOURCE));
         reserved_words.put(".super", new token(sym.DSUPER));
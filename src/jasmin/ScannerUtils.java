@@ -29,6 +29,24 @@ abstract class ScannerUtils {
     public static Number convertNumber(String str)
                 throws NumberFormatException
     {
+        // +Infinity, -Infinity and +NaN, the values with no digits
+        if ((str.startsWith("+") || str.startsWith("-"))
+            && (str.endsWith("Infinity") || str.endsWith("NaN"))) {
+            return Double.valueOf(str);
+        }
+        // the same with an 'f' for floats
+        if ((str.startsWith("+") || str.startsWith("-"))
+            && (str.endsWith("Infinityf") || str.endsWith("NaNf"))) {
+            return Float.valueOf(str.substring(0, str.length() - 1));
+        }
+        // an 'L' makes a long of any integer
+        if (str.endsWith("L") || str.endsWith("l")) {
+            String s = str.substring(str.startsWith("+") ? 1 : 0,
+                                     str.length() - 1);
+            if (s.startsWith("0x"))
+                return Long.valueOf(Long.parseLong(s.substring(2), 16));
+            return Long.valueOf(Long.parseLong(s));
+        }
         if(str.startsWith("+")) {
             return new Integer(str.substring(1,str.length()));
         }
@@ -36,6 +54,9 @@ abstract class ScannerUtils {
             // base 16 integer
             return (convertInt(str.substring(2), 16));
         } else if (str.indexOf('.') != -1) {
+            // suffix 'f' forces a float, read as one so it is exact
+            if (str.endsWith("f") || str.endsWith("F"))
+                return Float.valueOf(str);
             // make a double
             Double dc = new Double(str);
             // if number have suffix 'd' force double value